@@ -0,0 +1,55 @@
+package com.meli.distributed_inventory_management_service.benchmark;
+
+import com.meli.distributed_inventory_management_service.benchmark.support.BenchmarkDatabase;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.SpringDataInventoryRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of reading the available stock of one item: the projection that selects only
+ * {@code GREATEST(current_stock - reserved_stock, 0)} versus loading the entity, mapping it to an
+ * {@link InventoryItem} and computing the difference in the domain. Run with {@code -prof gc} to
+ * compare the bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AvailableStockBenchmark {
+
+    private static final String ITEM_ID = "available-item";
+    private static final String PRODUCT_ID = "available-prod";
+    private static final String STORE_ID = "available-store";
+
+    private BenchmarkDatabase database;
+    private SpringDataInventoryRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start("available-stock");
+        database.insertItem(ITEM_ID, PRODUCT_ID, STORE_ID, 100, 10);
+        repository = database.getRepository();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Integer projection() {
+        return repository.findAvailableStock(PRODUCT_ID, STORE_ID).block();
+    }
+
+    @Benchmark
+    public Integer entityMapping() {
+        return repository.findByProductAndStore(PRODUCT_ID, STORE_ID)
+                .flatMap(InventoryItem::getAvailableStock)
+                .block();
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.meli.distributed_inventory_management_service.benchmark;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.STATUS_RESERVED;
+
+/**
+ * Cost of the reactive {@link InventoryItem} operations and of the {@link Reservation} state
+ * transitions as the services call them, each returning a new immutable copy. The default
+ * {@code -prof gc} reports the bytes allocated per call next to the latency.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainModelBenchmark {
+
+    private int quantity = 5;
+    private InventoryItem item;
+    private Reservation reservation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        item = InventoryItem.builder()
+                .id("item-bench")
+                .productId("prod-bench")
+                .storeId("store-bench")
+                .currentStock(1_000)
+                .reservedStock(100)
+                .minimumStockLevel(0)
+                .maximumStockLevel(10_000)
+                .lastUpdated(now)
+                .version(1L)
+                .build();
+        reservation = Reservation.builder()
+                .reservationId("RES-bench")
+                .productId("prod-bench")
+                .storeId("store-bench")
+                .quantity(quantity)
+                .status(STATUS_RESERVED)
+                .createdAt(now)
+                .expiresAt(now.plusYears(1))
+                .correlationId("corr-bench")
+                .build();
+    }
+
+    @Benchmark
+    public InventoryItem reserveStock() {
+        return item.reserveStock(quantity).block();
+    }
+
+    @Benchmark
+    public InventoryItem releaseReservedStock() {
+        return item.releaseReservedStock(quantity).block();
+    }
+
+    @Benchmark
+    public InventoryItem updateStock() {
+        return item.updateStock(quantity, UpdateType.PURCHASE).block();
+    }
+
+    @Benchmark
+    public Reservation confirmReservation() {
+        return reservation.canBeConfirmed() ? reservation.confirm() : reservation;
+    }
+
+    @Benchmark
+    public Reservation releaseReservation() {
+        return reservation.release();
+    }
+
+    @Benchmark
+    public Reservation expireReservation() {
+        return reservation.isExpired() ? reservation : reservation.markAsExpired();
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.meli.distributed_inventory_management_service.benchmark;
+
+import com.meli.distributed_inventory_management_service.domain.model.EventStatus;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryUpdateEvent;
+import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.eventlog.FileEventLogRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append throughput of the file-backed event log with and without an fsync per append. Run with
+ * {@code -t N} to measure contended appends from several threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EventLogAppendBenchmark {
+
+    private static final DataSize SEGMENT_SIZE = DataSize.ofMegabytes(64);
+    private static final Duration RETENTION = Duration.ofDays(1);
+
+    @Param({"false", "true"})
+    public boolean forceOnAppend;
+
+    private Path directory;
+    private FileEventLogRepository repository;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("event-log-bench");
+        repository = new FileEventLogRepository(directory.toString(), SEGMENT_SIZE, RETENTION, forceOnAppend);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.out.printf("%nforceOnAppend=%s segments=%d%n", forceOnAppend, repository.segmentCount());
+        repository.destroy();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public InventoryUpdateEvent append() {
+        long id = sequence.incrementAndGet();
+        return repository.save(InventoryUpdateEvent.builder()
+                .eventId("event-" + id)
+                .productId("prod-" + (id & 1023))
+                .storeId("store-bench")
+                .quantity(1)
+                .updateType(UpdateType.SALE)
+                .source("BENCHMARK")
+                .correlationId("corr-" + id)
+                .timestamp(LocalDateTime.now())
+                .status(EventStatus.PENDING)
+                .build()).block();
+    }
+
+}
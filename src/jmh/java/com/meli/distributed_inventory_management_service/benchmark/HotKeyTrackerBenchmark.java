@@ -0,0 +1,59 @@
+package com.meli.distributed_inventory_management_service.benchmark;
+
+import com.meli.distributed_inventory_management_service.benchmark.support.ZipfSampler;
+import com.meli.distributed_inventory_management_service.domain.hotkey.HotKey;
+import com.meli.distributed_inventory_management_service.domain.hotkey.HotKeyTracker;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of feeding {@link HotKeyTracker} from four threads at once with Zipf-distributed keys,
+ * so the hottest counters and top-K slots are shared the way they are during a flash sale, and
+ * the cost of the query behind {@code /actuator/hotkeys}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class HotKeyTrackerBenchmark {
+
+    private static final int SKUS = 10_000;
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final String STORE_ID = "store-bench";
+    private static final int PREFILLED_SAMPLES = 100_000;
+
+    private HotKeyTracker tracker;
+    private ZipfSampler sampler;
+    private String[] productIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tracker = new HotKeyTracker(true, 32, Duration.ofSeconds(60), 6, 1024, 4);
+        sampler = new ZipfSampler(SKUS, ZIPF_EXPONENT);
+        productIds = new String[SKUS];
+        for (int rank = 0; rank < SKUS; rank++) {
+            productIds[rank] = "prod-" + rank;
+        }
+        for (int sample = 0; sample < PREFILLED_SAMPLES; sample++) {
+            recordMutation();
+        }
+    }
+
+    @Benchmark
+    public void recordMutation() {
+        tracker.mutation(productIds[sampler.next()], STORE_ID);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<HotKey> queryHottest() {
+        return tracker.hottest(32);
+    }
+
+}
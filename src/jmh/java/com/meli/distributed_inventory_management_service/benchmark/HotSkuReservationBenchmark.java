@@ -0,0 +1,81 @@
+package com.meli.distributed_inventory_management_service.benchmark;
+
+import com.meli.distributed_inventory_management_service.benchmark.support.BenchmarkDatabase;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.SpringDataInventoryRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reservations against a single hot SKU: the guarded single-statement UPDATE versus the
+ * read-modify-write path with optimistic locking and the former 5 attempts / 100ms x2 / 1s backoff.
+ * The auxiliary counters report version conflicts and requests that exhausted their retries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class HotSkuReservationBenchmark {
+
+    private static final String ITEM_ID = "hot-item";
+    private static final String PRODUCT_ID = "hot-prod";
+    private static final String STORE_ID = "hot-store";
+    private static final int INITIAL_STOCK = 1_000_000_000;
+    private static final int QUANTITY = 1;
+    private static final long MAX_RETRIES = 4;
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(100);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(1);
+
+    private BenchmarkDatabase database;
+    private SpringDataInventoryRepository repository;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Contention {
+        public long conflicts;
+        public long exhausted;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start("hot-sku-reservation");
+        database.insertItem(ITEM_ID, PRODUCT_ID, STORE_ID, INITIAL_STOCK);
+        repository = database.getRepository();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public InventoryItem guardedUpdate() {
+        return repository.reserveStockIfAvailable(PRODUCT_ID, STORE_ID, QUANTITY).block();
+    }
+
+    @Benchmark
+    public InventoryItem readModifyWrite(Contention contention) {
+        return Mono.defer(() -> repository.findByProductAndStore(PRODUCT_ID, STORE_ID))
+                .flatMap(item -> item.reserveStock(QUANTITY)
+                        .flatMap(reserved -> repository.updateWithVersionCheckNative(reserved, item.getVersion())))
+                .doOnError(OptimisticLockingFailureException.class, ex -> contention.conflicts++)
+                .retryWhen(Retry.backoff(MAX_RETRIES, MIN_BACKOFF)
+                        .maxBackoff(MAX_BACKOFF)
+                        .filter(OptimisticLockingFailureException.class::isInstance))
+                .onErrorResume(Exceptions::isRetryExhausted, ex -> {
+                    contention.exhausted++;
+                    return Mono.empty();
+                })
+                .block();
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.meli.distributed_inventory_management_service.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.meli.distributed_inventory_management_service.application.dto.inventory.InventoryResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Jackson serialization of inventory list responses of increasing size, with the same object mapper
+ * defaults Spring Boot configures (Java time module, ISO dates). The default {@code -prof gc}
+ * reports the bytes allocated per serialized list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InventoryJsonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<InventoryResponseDTO> responses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, InventoryResponseDTO.class));
+        LocalDateTime now = LocalDateTime.now();
+        responses = IntStream.range(0, size)
+                .mapToObj(i -> InventoryResponseDTO.builder()
+                        .id("item-" + i)
+                        .productId("prod-" + i)
+                        .storeId("store-bench")
+                        .currentStock(1_000)
+                        .reservedStock(i)
+                        .minimumStockLevel(0)
+                        .maximumStockLevel(10_000)
+                        .lastUpdated(now)
+                        .version((long) i)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(responses);
+    }
+
+}
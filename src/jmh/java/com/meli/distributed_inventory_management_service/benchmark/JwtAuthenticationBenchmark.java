@@ -0,0 +1,90 @@
+package com.meli.distributed_inventory_management_service.benchmark;
+
+import com.meli.distributed_inventory_management_service.infrastructure.config.security.CachingJwtDecoder;
+import com.meli.distributed_inventory_management_service.infrastructure.config.security.JwtAuthConverter;
+import com.meli.distributed_inventory_management_service.infrastructure.config.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Authentication cost of one request carrying a bearer token: decoding it into a {@link Jwt} and
+ * converting that into an authentication. {@code rebuiltParser} reproduces the path every request
+ * used to take, deriving the key and building a parser per token; {@code cachedParser} verifies
+ * with the shared key and parser; {@code cachedToken} is a hit in the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWTGenerationWithAtLeast256Bits";
+    private static final long EXPIRATION_MILLIS = 3_600_000L;
+    private static final long CACHE_SIZE = 10_000;
+
+    private String token;
+    private CachingJwtDecoder uncachedDecoder;
+    private CachingJwtDecoder cachingDecoder;
+    private JwtAuthConverter converter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", EXPIRATION_MILLIS);
+        token = jwtUtil.generateToken("admin", List.of("ADMIN", "USER"));
+        uncachedDecoder = new CachingJwtDecoder(jwtUtil, false, CACHE_SIZE, null);
+        cachingDecoder = new CachingJwtDecoder(jwtUtil, true, CACHE_SIZE, null);
+        converter = new JwtAuthConverter();
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken rebuiltParser() {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        Jwt jwt = Jwt.withTokenValue(token)
+                .subject(claims.getSubject())
+                .header("alg", "HS256")
+                .issuedAt(Instant.ofEpochSecond(claims.get("iat", Integer.class)))
+                .expiresAt(Instant.ofEpochSecond(claims.get("exp", Integer.class)))
+                .claims(c -> claims.forEach((key, value) -> {
+                    if (!"iat".equals(key) && !"exp".equals(key)) {
+                        c.put(key, value);
+                    }
+                }))
+                .build();
+        List<GrantedAuthority> authorities = jwt.getClaimAsStringList("roles").stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
+                .collect(Collectors.toList());
+        return new JwtAuthenticationToken(jwt, authorities);
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken cachedParser() {
+        return uncachedDecoder.decode(token).flatMap(converter::convert).block();
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken cachedToken() {
+        return cachingDecoder.decode(token).flatMap(converter::convert).block();
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.meli.distributed_inventory_management_service.benchmark;
+
+import com.meli.distributed_inventory_management_service.application.dto.inventory.InventoryResponseDTO;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChange;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChangeType;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.mapper.PersistenceInventoryMapper;
+import com.meli.distributed_inventory_management_service.infrastructure.web.mapper.WebInventoryMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The MapStruct conversions every read and write goes through: domain item to entity and back, and
+ * domain item or outbox change to the web response. The default {@code -prof gc} reports the bytes
+ * allocated per conversion.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final PersistenceInventoryMapper persistenceMapper = Mappers.getMapper(PersistenceInventoryMapper.class);
+    private final WebInventoryMapper webMapper = Mappers.getMapper(WebInventoryMapper.class);
+    private InventoryItem item;
+    private InventoryChange change;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        item = InventoryItem.builder()
+                .id("item-bench")
+                .productId("prod-bench")
+                .storeId("store-bench")
+                .currentStock(1_000)
+                .reservedStock(100)
+                .minimumStockLevel(0)
+                .maximumStockLevel(10_000)
+                .lastUpdated(now)
+                .version(1L)
+                .build();
+        change = InventoryChange.builder()
+                .sequence(1L)
+                .aggregateId("item-bench")
+                .productId("prod-bench")
+                .storeId("store-bench")
+                .changeType(InventoryChangeType.STOCK_RESERVED)
+                .currentStock(1_000)
+                .reservedStock(105)
+                .version(2L)
+                .createdAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public InventoryItem persistenceRoundTrip() {
+        return persistenceMapper.toDomain(persistenceMapper.toEntity(item));
+    }
+
+    @Benchmark
+    public InventoryResponseDTO itemToResponse() {
+        return webMapper.toResponseDTO(item);
+    }
+
+    @Benchmark
+    public InventoryResponseDTO changeToResponse() {
+        return webMapper.toResponseDTO(change);
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.meli.distributed_inventory_management_service.benchmark;
+
+import com.meli.distributed_inventory_management_service.application.port.impl.ReservationRepositoryPortImpl;
+import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-SKU, per-status and per-correlation lookups on the in-memory reservation store holding 1M
+ * reservations: the secondary indexes versus the former scan-and-filter over every value.
+ * About 100 reservations belong to each SKU and 1% of them are RESERVED.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReservationIndexBenchmark {
+
+    private static final int SKUS = 10_000;
+    private static final String STORE_ID = "store-index";
+    private static final int RESERVED_EVERY = 100;
+    private static final String STATUS_RESERVED = "RESERVED";
+    private static final String STATUS_CONFIRMED = "CONFIRMED";
+
+    @Param({"1000000"})
+    public int reservations;
+
+    private ReservationRepositoryPortImpl repository;
+    private String[] productIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new ReservationRepositoryPortImpl();
+        productIds = new String[SKUS];
+        for (int sku = 0; sku < SKUS; sku++) {
+            productIds[sku] = "prod-" + sku;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < reservations; i++) {
+            repository.save(Reservation.builder()
+                    .reservationId("RES_" + i)
+                    .productId(productIds[i % SKUS])
+                    .storeId(STORE_ID)
+                    .quantity(1)
+                    .status(i % RESERVED_EVERY == 0 ? STATUS_RESERVED : STATUS_CONFIRMED)
+                    .createdAt(now)
+                    .expiresAt(now.plusMinutes(15))
+                    .correlationId("corr-" + i)
+                    .build()).block();
+        }
+    }
+
+    @Benchmark
+    public long indexedFindByProductAndStore() {
+        return repository.findByProductAndStore(nextProduct(), STORE_ID).count().block();
+    }
+
+    @Benchmark
+    public long scanFindByProductAndStore() {
+        String productId = nextProduct();
+        return scan().filter(reservation -> productId.equals(reservation.getProductId())
+                        && STORE_ID.equals(reservation.getStoreId()))
+                .count().block();
+    }
+
+    @Benchmark
+    public long indexedFindByStatus() {
+        return repository.findByStatus(STATUS_RESERVED).count().block();
+    }
+
+    @Benchmark
+    public long scanFindByStatus() {
+        return scan().filter(reservation -> STATUS_RESERVED.equals(reservation.getStatus()))
+                .count().block();
+    }
+
+    @Benchmark
+    public long indexedFindByCorrelationId() {
+        return repository.findByCorrelationId(nextCorrelationId()).count().block();
+    }
+
+    @Benchmark
+    public long scanFindByCorrelationId() {
+        String correlationId = nextCorrelationId();
+        return scan().filter(reservation -> correlationId.equals(reservation.getCorrelationId()))
+                .count().block();
+    }
+
+    private Flux<Reservation> scan() {
+        return repository.findAll();
+    }
+
+    private String nextProduct() {
+        return productIds[ThreadLocalRandom.current().nextInt(SKUS)];
+    }
+
+    private String nextCorrelationId() {
+        return "corr-" + ThreadLocalRandom.current().nextInt(reservations);
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.meli.distributed_inventory_management_service.benchmark;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.StockKernel;
+import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stock arithmetic through the primitive {@link StockKernel} versus the reactive
+ * {@link InventoryItem} wrappers, for accepted and rejected reservations and for updates. Run with
+ * {@code -prof gc}: the kernel benchmarks should report close to 0 B/op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StockKernelBenchmark {
+
+    private static final int CURRENT_STOCK = 1_000;
+    private static final int RESERVED_STOCK = 100;
+    private static final int MAXIMUM_STOCK_LEVEL = 10_000;
+
+    private int quantity = 5;
+    private int excessiveQuantity = CURRENT_STOCK;
+    private InventoryItem item;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        item = InventoryItem.builder()
+                .id("item-bench")
+                .productId("prod-bench")
+                .storeId("store-bench")
+                .currentStock(CURRENT_STOCK)
+                .reservedStock(RESERVED_STOCK)
+                .minimumStockLevel(0)
+                .maximumStockLevel(MAXIMUM_STOCK_LEVEL)
+                .lastUpdated(LocalDateTime.now())
+                .version(1L)
+                .build();
+    }
+
+    @Benchmark
+    public long kernelReserve() {
+        return StockKernel.reserve(CURRENT_STOCK, RESERVED_STOCK, quantity);
+    }
+
+    @Benchmark
+    public long kernelReserveRejected() {
+        return StockKernel.reserve(CURRENT_STOCK, RESERVED_STOCK, excessiveQuantity);
+    }
+
+    @Benchmark
+    public long kernelUpdate() {
+        return StockKernel.update(CURRENT_STOCK, MAXIMUM_STOCK_LEVEL, quantity, UpdateType.SALE);
+    }
+
+    @Benchmark
+    public InventoryItem reactiveReserve() {
+        return item.reserveStock(quantity).block();
+    }
+
+    @Benchmark
+    public Throwable reactiveReserveRejected() {
+        return item.reserveStock(excessiveQuantity)
+                .map(reserved -> (Throwable) null)
+                .onErrorResume(error -> Mono.just(error))
+                .block();
+    }
+
+    @Benchmark
+    public InventoryItem reactiveUpdate() {
+        return item.updateStock(quantity, UpdateType.SALE).block();
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.meli.distributed_inventory_management_service.benchmark;
+
+import com.meli.distributed_inventory_management_service.benchmark.support.BenchmarkDatabase;
+import com.meli.distributed_inventory_management_service.domain.hotkey.HotKeyTracker;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.retry.ContentionRetry;
+import com.meli.distributed_inventory_management_service.domain.retry.RetryPolicy;
+import com.meli.distributed_inventory_management_service.domain.service.InventoryDomainService;
+import com.meli.distributed_inventory_management_service.domain.service.ShardedMutationExecutor;
+import com.meli.distributed_inventory_management_service.domain.service.StockMutationListener;
+import com.meli.distributed_inventory_management_service.domain.service.StockOperation;
+import com.meli.distributed_inventory_management_service.domain.service.StockOperationMetrics;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.VersionedWriteMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the write-path metrics, with every meter off and with every meter recording into a
+ * Prometheus registry. {@code reserveAndRelease} runs the instrumented domain service and
+ * repository against H2; {@code instrumentationOnly} wraps an already completed {@link Mono} in
+ * the same operators, so the overhead shows in nanoseconds without the database around it. The
+ * completed Mono is hidden so that blocking on it takes the same path as blocking on a query.
+ * H2 takes about half a minute of reservations to reach a steady state, hence the long warmup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 8, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StockMetricsOverheadBenchmark {
+
+    private static final String PRODUCT_ID = "metrics-prod";
+    private static final String STORE_ID = "metrics-store";
+    private static final int INITIAL_STOCK = 1_000_000_000;
+    private static final int QUANTITY = 1;
+    private static final RetryPolicy RETRY_POLICY = RetryPolicy.builder()
+            .maxAttempts(3)
+            .baseDelay(Duration.ZERO)
+            .maxDelay(Duration.ZERO)
+            .multiplier(2)
+            .build();
+    private static final int RETRY_BUDGET = 50;
+
+    @Param({"false", "true"})
+    public boolean instrumented;
+
+    private BenchmarkDatabase database;
+    private InventoryDomainService domainService;
+    private StockOperationMetrics metrics;
+    private Mono<Integer> completed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        if (instrumented) {
+            beans.addBean("meterRegistry", meterRegistry);
+        }
+        database = BenchmarkDatabase.start("metrics-overhead-" + instrumented,
+                new VersionedWriteMetrics(beans.getBeanProvider(MeterRegistry.class)));
+        database.insertItem("metrics-item", PRODUCT_ID, STORE_ID, INITIAL_STOCK);
+        metrics = instrumented ? new StockOperationMetrics(meterRegistry) : StockOperationMetrics.disabled();
+        domainService = new InventoryDomainService(database.getRepository(), ShardedMutationExecutor.disabled(),
+                ContentionRetry.uniform(RETRY_POLICY, RETRY_BUDGET, meterRegistry),
+                StockMutationListener.NOOP, metrics, HotKeyTracker.disabled());
+        completed = Mono.just(QUANTITY).hide();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public InventoryItem reserveAndRelease() {
+        domainService.reserveStock(PRODUCT_ID, STORE_ID, QUANTITY).block();
+        return domainService.releaseReservedStock(PRODUCT_ID, STORE_ID, QUANTITY).block();
+    }
+
+    @Benchmark
+    public Integer instrumentationOnly() {
+        return completed
+                .transform(metrics.countingConflicts(StockOperation.RESERVE))
+                .transform(metrics.timed(StockOperation.RESERVE))
+                .block();
+    }
+
+}
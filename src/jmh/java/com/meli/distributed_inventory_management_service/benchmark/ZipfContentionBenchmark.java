@@ -0,0 +1,110 @@
+package com.meli.distributed_inventory_management_service.benchmark;
+
+import com.meli.distributed_inventory_management_service.benchmark.support.BenchmarkDatabase;
+import com.meli.distributed_inventory_management_service.benchmark.support.ZipfSampler;
+import com.meli.distributed_inventory_management_service.domain.exception.ConcurrentUpdateException;
+import com.meli.distributed_inventory_management_service.domain.hotkey.HotKeyTracker;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+import com.meli.distributed_inventory_management_service.domain.retry.ContentionRetry;
+import com.meli.distributed_inventory_management_service.domain.retry.RetryPolicy;
+import com.meli.distributed_inventory_management_service.domain.service.InventoryDomainService;
+import com.meli.distributed_inventory_management_service.domain.service.ShardedMutationExecutor;
+import com.meli.distributed_inventory_management_service.domain.service.StockMutationListener;
+import com.meli.distributed_inventory_management_service.domain.service.StockOperationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency percentiles (p50/p99/p999 in the SampleTime output) of reserve, release and update when
+ * SKU popularity follows a Zipf distribution, with sharded single-writer execution on and off.
+ * Updates that still conflict after their retries are counted and printed at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class ZipfContentionBenchmark {
+
+    private static final int SKUS = 256;
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final String STORE_ID = "store-zipf";
+    private static final int INITIAL_STOCK = 1_000_000_000;
+    private static final int INITIAL_RESERVED = 500_000_000;
+    private static final int QUANTITY = 1;
+    private static final RetryPolicy RETRY_POLICY = RetryPolicy.builder()
+            .maxAttempts(5)
+            .baseDelay(Duration.ofMillis(10))
+            .maxDelay(Duration.ofMillis(200))
+            .multiplier(2)
+            .build();
+    private static final int RETRY_BUDGET = 50;
+    private static final int MAILBOX_CAPACITY = 1024;
+    private static final Duration TASK_TIMEOUT = Duration.ofSeconds(5);
+
+    @Param({"false", "true"})
+    public boolean sharded;
+
+    private BenchmarkDatabase database;
+    private ShardedMutationExecutor executor;
+    private InventoryDomainService domainService;
+    private ZipfSampler sampler;
+    private String[] productIds;
+    private final LongAdder conflicts = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start("zipf-contention-" + sharded);
+        productIds = new String[SKUS];
+        for (int rank = 0; rank < SKUS; rank++) {
+            productIds[rank] = "prod-" + rank;
+            database.insertItem("item-" + rank, productIds[rank], STORE_ID, INITIAL_STOCK, INITIAL_RESERVED);
+        }
+        executor = new ShardedMutationExecutor(sharded, 0, MAILBOX_CAPACITY, TASK_TIMEOUT);
+        domainService = new InventoryDomainService(database.getRepository(), executor,
+                ContentionRetry.uniform(RETRY_POLICY, RETRY_BUDGET, new SimpleMeterRegistry()),
+                StockMutationListener.NOOP, StockOperationMetrics.disabled(), HotKeyTracker.disabled());
+        sampler = new ZipfSampler(SKUS, ZIPF_EXPONENT);
+        conflicts.reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%nsharded=%s unresolved version conflicts=%d%n", sharded, conflicts.sum());
+        executor.destroy();
+        database.close();
+    }
+
+    @Benchmark
+    public InventoryItem reserve() {
+        return domainService.reserveStock(nextProduct(), STORE_ID, QUANTITY).block();
+    }
+
+    @Benchmark
+    public InventoryItem release() {
+        return domainService.releaseReservedStock(nextProduct(), STORE_ID, QUANTITY).block();
+    }
+
+    @Benchmark
+    public InventoryItem update() {
+        return domainService.updateStockWithRetry(nextProduct(), STORE_ID, QUANTITY, UpdateType.SALE)
+                .onErrorResume(ConcurrentUpdateException.class, ex -> {
+                    conflicts.increment();
+                    return Mono.empty();
+                })
+                .block();
+    }
+
+    private String nextProduct() {
+        return productIds[sampler.next()];
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.meli.distributed_inventory_management_service.benchmark.support;
+
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.cache.InventoryNearCache;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.mapper.PersistenceInventoryMapper;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.outbox.InventoryOutbox;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.ReactiveInventoryJpaRepository;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.SpringDataInventoryRepository;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.VersionedWriteMetrics;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import lombok.Getter;
+import org.mapstruct.factory.Mappers;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Boots an in-memory H2 database with the production schema and wires the persistence
+ * adapters by hand, so benchmarks measure the repository code without a Spring context.
+ */
+@Getter
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    private static final String URL_TEMPLATE = "r2dbc:h2:mem:///%s?options=DB_CLOSE_DELAY=-1";
+    private static final int POOL_SIZE = 32;
+
+    private final ConnectionPool connectionFactory;
+    private final DatabaseClient databaseClient;
+    private final ReactiveInventoryJpaRepository jpaRepository;
+    private final PersistenceInventoryMapper mapper;
+    private final SpringDataInventoryRepository repository;
+
+    private BenchmarkDatabase(String name, VersionedWriteMetrics versionedWriteMetrics) {
+        this.connectionFactory = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(String.format(URL_TEMPLATE, name)))
+                .initialSize(POOL_SIZE)
+                .maxSize(POOL_SIZE)
+                .build());
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql"))
+                .populate(connectionFactory)
+                .block();
+
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        this.jpaRepository = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(connectionFactory))
+                .getRepository(ReactiveInventoryJpaRepository.class);
+        this.mapper = Mappers.getMapper(PersistenceInventoryMapper.class);
+        this.repository = new SpringDataInventoryRepository(jpaRepository, databaseClient, mapper,
+                InventoryNearCache.disabled(), InventoryOutbox.disabled(), versionedWriteMetrics);
+    }
+
+    public static BenchmarkDatabase start(String name) {
+        return start(name, VersionedWriteMetrics.disabled());
+    }
+
+    public static BenchmarkDatabase start(String name, VersionedWriteMetrics versionedWriteMetrics) {
+        return new BenchmarkDatabase(name, versionedWriteMetrics);
+    }
+
+    public void insertItem(String id, String productId, String storeId, int currentStock) {
+        insertItem(id, productId, storeId, currentStock, 0);
+    }
+
+    public void insertItem(String id, String productId, String storeId, int currentStock, int reservedStock) {
+        databaseClient.sql("""
+                        INSERT INTO inventory_items (id, product_id, store_id, current_stock, reserved_stock,
+                            minimum_stock_level, maximum_stock_level, last_updated, version)
+                        VALUES (:id, :productId, :storeId, :currentStock, :reservedStock, 0, :currentStock,
+                            CURRENT_TIMESTAMP, 0)
+                        """)
+                .bind("id", id)
+                .bind("productId", productId)
+                .bind("storeId", storeId)
+                .bind("currentStock", currentStock)
+                .bind("reservedStock", reservedStock)
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+    @Override
+    public void close() {
+        connectionFactory.dispose();
+    }
+
+}
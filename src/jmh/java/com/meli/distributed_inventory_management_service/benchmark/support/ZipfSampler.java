@@ -0,0 +1,41 @@
+package com.meli.distributed_inventory_management_service.benchmark.support;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws ranks in [0, size) following a Zipf distribution with the given exponent, so a handful of
+ * SKUs receive most of the traffic the way best sellers do. Sampling is a binary search over the
+ * precomputed cumulative distribution.
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int size, double exponent) {
+        cumulative = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    public int next() {
+        double point = ThreadLocalRandom.current().nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulative[middle] < point) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+}
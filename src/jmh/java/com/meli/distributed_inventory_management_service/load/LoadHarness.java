@@ -0,0 +1,410 @@
+package com.meli.distributed_inventory_management_service.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meli.distributed_inventory_management_service.application.dto.inventory.InventoryResponseDTO;
+import com.meli.distributed_inventory_management_service.application.dto.inventory.ReservationRequestDTO;
+import com.meli.distributed_inventory_management_service.application.dto.inventory.ReservationResponseDTO;
+import com.meli.distributed_inventory_management_service.application.dto.inventory.StockUpdateRequestDTO;
+import com.meli.distributed_inventory_management_service.application.dto.security.AuthRequestDTO;
+import com.meli.distributed_inventory_management_service.application.dto.security.AuthResponseDTO;
+import com.meli.distributed_inventory_management_service.benchmark.support.ZipfSampler;
+import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Open-loop load generator for a locally running app. It seeds {@code skus x stores} items, then issues
+ * a weighted mix of reservations, confirmations, releases, stock updates and availability reads at a
+ * fixed arrival rate, picking products from a Zipf distribution so a few best sellers take most of
+ * the traffic, the way a flash sale does. Arrivals are scheduled by the clock, not by completions,
+ * so a slow app builds a queue instead of slowing the load down.
+ *
+ * <p>The report gives throughput, p50/p99/p999 latency and outcome counts per operation, the
+ * app's contention retries from its metrics actuator endpoint, and the keys where acknowledged changes
+ * promised more units than were supplied (oversell) or do not add up to the final stock. A request
+ * that timed out or failed with a server error may still have been applied, so the ledger checks
+ * are only conclusive when no request failed. The process exits with status 1 when the app reports
+ * negative stock, or when a key was oversold in a run where no request failed.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec@load -Dload.args="--rate=1000 --duration=2m --zipf=1.2"
+ * </pre>
+ */
+public final class LoadHarness {
+
+    private static final String INVENTORY_PATH = "/api/v1/inventory";
+    private static final String RESERVATIONS_PATH = INVENTORY_PATH + "/reservations";
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final String BEARER = "Bearer ";
+    private static final String METRICS_PATH = "/actuator/metrics/";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration TICK = Duration.ofMillis(1);
+    private static final int SEED_CONCURRENCY = 64;
+    private static final int VERIFY_PAGE_SIZE = 1000;
+    private static final int QUANTITY = 1;
+    private static final int NO_RESPONSE = 0;
+
+    private final LoadOptions options;
+    private HttpClient client;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ZipfSampler products;
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+    private final Map<LoadOperation, OperationStats> stats = new EnumMap<>(LoadOperation.class);
+    private final Queue<OpenReservation> openReservations = new ConcurrentLinkedQueue<>();
+    private final StockLedger ledger;
+
+    private LoadHarness(LoadOptions options) {
+        this.options = options;
+        this.client = HttpClient.create(ConnectionProvider.builder("load-harness")
+                        .maxConnections(options.maxInFlight())
+                        .pendingAcquireMaxCount(-1)
+                        .build())
+                .baseUrl(options.baseUrl())
+                .headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON));
+        this.products = new ZipfSampler(options.skus(), options.zipfExponent());
+        this.operations = options.mix().keySet().toArray(LoadOperation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += options.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        for (LoadOperation operation : LoadOperation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        this.ledger = new StockLedger(options.keys(), options.initialStock());
+    }
+
+    public static void main(String[] args) {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        int violations = new LoadHarness(options).run();
+        System.exit(violations == 0 ? 0 : 1);
+    }
+
+    private int run() {
+        System.out.printf("Run %s: %d SKUs x %d stores, Zipf %.2f, %d req/s for %s against %s%n",
+                options.runId(), options.skus(), options.stores(), options.zipfExponent(), options.rate(),
+                options.duration(), options.baseUrl());
+        String token = login();
+        client = client.headers(headers -> headers.set(HttpHeaderNames.AUTHORIZATION, BEARER + token));
+        seed();
+        double retriesBefore = serverCount("inventory.retry.attempts");
+        double exhaustedBefore = serverCount("inventory.retry.exhausted");
+
+        long started = System.nanoTime();
+        drive(started);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        double retries = serverCount("inventory.retry.attempts") - retriesBefore;
+        double exhausted = serverCount("inventory.retry.exhausted") - exhaustedBefore;
+        Verification verification = verify();
+        boolean conclusive = stats.values().stream().allMatch(operationStats -> operationStats.failed() == 0);
+        report(elapsedSeconds, retries, exhausted, verification, conclusive);
+        return verification.negative() + (conclusive ? verification.oversold() : 0);
+    }
+
+    private String login() {
+        Reply reply = send(HttpMethod.POST, LOGIN_PATH, new AuthRequestDTO(options.username(), options.password())).block();
+        if (reply == null || !reply.isSuccess()) {
+            throw new IllegalStateException("Login failed at " + options.baseUrl() + LOGIN_PATH + "; is the app running?");
+        }
+        return read(reply.body(), AuthResponseDTO.class).accessToken();
+    }
+
+    private void seed() {
+        Long failures = Flux.range(0, options.keys())
+                .flatMap(key -> send(HttpMethod.PUT, stockUri(key), StockUpdateRequestDTO.builder()
+                        .productId(productOf(key))
+                        .storeId(storeOf(key))
+                        .quantity(options.initialStock())
+                        .updateType(UpdateType.RESTOCK)
+                        .build()), SEED_CONCURRENCY)
+                .filter(reply -> !reply.isSuccess())
+                .count()
+                .block();
+        if (failures != null && failures > 0) {
+            throw new IllegalStateException(failures + " items could not be seeded; is the app running at "
+                    + options.baseUrl() + "?");
+        }
+    }
+
+    private void drive(long started) {
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long total = options.duration().toNanos() / periodNanos;
+        AtomicLong issued = new AtomicLong();
+        Flux.interval(TICK)
+                .onBackpressureDrop()
+                .takeWhile(tick -> issued.get() < total)
+                .concatMapIterable(tick -> {
+                    long due = Math.min(total, (System.nanoTime() - started) / periodNanos + 1);
+                    List<Long> arrivals = new ArrayList<>();
+                    for (long next = issued.get(); next < due; next = issued.incrementAndGet()) {
+                        arrivals.add(started + next * periodNanos);
+                    }
+                    return arrivals;
+                })
+                .flatMap(intendedNanos -> execute(nextOperation(), intendedNanos), options.maxInFlight())
+                .blockLast();
+    }
+
+    private Mono<Void> execute(LoadOperation operation, long intendedNanos) {
+        return switch (operation) {
+            case RESERVE -> reserve(intendedNanos);
+            case CONFIRM -> settle(intendedNanos, true);
+            case RELEASE -> settle(intendedNanos, false);
+            case UPDATE_STOCK -> updateStock(intendedNanos);
+            case READ_AVAILABLE -> readAvailable(intendedNanos);
+        };
+    }
+
+    private Mono<Void> reserve(long intendedNanos) {
+        int key = nextKey();
+        ReservationRequestDTO request = new ReservationRequestDTO(productOf(key), storeOf(key), QUANTITY,
+                null, "load-" + options.runId());
+        return send(HttpMethod.POST, RESERVATIONS_PATH, request)
+                .doOnNext(reply -> {
+                    stats.get(LoadOperation.RESERVE).record(intendedNanos, reply.status());
+                    if (reply.isSuccess()) {
+                        ledger.reserved(key, QUANTITY);
+                        openReservations.offer(new OpenReservation(
+                                read(reply.body(), ReservationResponseDTO.class).reservationId(), key));
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Void> settle(long intendedNanos, boolean confirm) {
+        OpenReservation reservation = openReservations.poll();
+        if (reservation == null) {
+            return reserve(intendedNanos);
+        }
+        LoadOperation operation = confirm ? LoadOperation.CONFIRM : LoadOperation.RELEASE;
+        Mono<Reply> reply = confirm
+                ? send(HttpMethod.PATCH, RESERVATIONS_PATH + "/" + reservation.reservationId() + "/confirm", null)
+                : send(HttpMethod.DELETE, RESERVATIONS_PATH + "/" + reservation.reservationId(), null);
+        return reply.doOnNext(settled -> {
+                    stats.get(operation).record(intendedNanos, settled.status());
+                    if (settled.isSuccess() && confirm) {
+                        ledger.confirmed(reservation.key(), QUANTITY);
+                    } else if (settled.isSuccess()) {
+                        ledger.released(reservation.key(), QUANTITY);
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Void> updateStock(long intendedNanos) {
+        int key = nextKey();
+        UpdateType type = ThreadLocalRandom.current().nextBoolean() ? UpdateType.PURCHASE : UpdateType.SALE;
+        StockUpdateRequestDTO request = StockUpdateRequestDTO.builder()
+                .productId(productOf(key))
+                .storeId(storeOf(key))
+                .quantity(QUANTITY)
+                .updateType(type)
+                .build();
+        return send(HttpMethod.PUT, stockUri(key), request)
+                .doOnNext(reply -> {
+                    stats.get(LoadOperation.UPDATE_STOCK).record(intendedNanos, reply.status());
+                    if (reply.isSuccess() && type == UpdateType.PURCHASE) {
+                        ledger.purchased(key, QUANTITY);
+                    } else if (reply.isSuccess()) {
+                        ledger.sold(key, QUANTITY);
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Void> readAvailable(long intendedNanos) {
+        int key = nextKey();
+        return send(HttpMethod.GET, INVENTORY_PATH + "/" + productOf(key) + "/" + storeOf(key) + "/available", null)
+                .doOnNext(reply -> stats.get(LoadOperation.READ_AVAILABLE).record(intendedNanos, reply.status()))
+                .then();
+    }
+
+    /**
+     * Reads back every seeded item and checks it against the ledger.
+     */
+    private Verification verify() {
+        Map<String, InventoryResponseDTO> items = new HashMap<>();
+        for (int store = 0; store < options.stores(); store++) {
+            String after = null;
+            do {
+                String uri = INVENTORY_PATH + "/store/" + options.storeId(store) + "?limit=" + VERIFY_PAGE_SIZE
+                        + (after == null ? "" : "&after=" + after);
+                Reply page = send(HttpMethod.GET, uri, null).block();
+                if (page == null || !page.isSuccess()) {
+                    throw new IllegalStateException("Could not read back the inventory of " + options.storeId(store));
+                }
+                for (InventoryResponseDTO item : read(page.body(), InventoryResponseDTO[].class)) {
+                    items.put(item.productId() + "/" + item.storeId(), item);
+                }
+                after = page.nextCursor();
+            } while (after != null);
+        }
+        int negative = 0;
+        int oversold = 0;
+        int mismatched = 0;
+        for (int key = 0; key < options.keys(); key++) {
+            InventoryResponseDTO item = items.get(productOf(key) + "/" + storeOf(key));
+            if (item == null) {
+                mismatched++;
+                continue;
+            }
+            if (item.currentStock() < 0 || item.reservedStock() < 0) {
+                negative++;
+            }
+            if (ledger.isOversold(key)) {
+                oversold++;
+            }
+            if (item.currentStock() != ledger.expectedCurrentStock(key)) {
+                mismatched++;
+            }
+        }
+        return new Verification(negative, oversold, mismatched);
+    }
+
+    private void report(double elapsedSeconds, double retries, double exhausted, Verification verification,
+                        boolean conclusive) {
+        OperationStats total = new OperationStats();
+        System.out.printf("%n%-10s %9s %9s %9s %9s %9s %10s %10s %10s%n",
+                "operation", "count", "ok", "409", "4xx", "failed", "p50 ms", "p99 ms", "p999 ms");
+        for (LoadOperation operation : LoadOperation.values()) {
+            OperationStats operationStats = stats.get(operation);
+            if (operationStats.count() > 0) {
+                printRow(operation.optionName(), operationStats);
+                total.add(operationStats);
+            }
+        }
+        printRow("total", total);
+        System.out.printf("%nThroughput: %.1f req/s (%.1f ok/s) over %.1fs%n",
+                total.count() / elapsedSeconds, total.succeeded() / elapsedSeconds, elapsedSeconds);
+        System.out.printf("Conflicts (409): %d%n", total.conflicts());
+        if (Double.isNaN(retries)) {
+            System.out.println("Server retries: n/a (the metrics actuator endpoint is not exposed)");
+        } else {
+            System.out.printf("Server retries: %.0f, exhausted: %.0f%n", retries, exhausted);
+        }
+        String inconclusive = conclusive ? "" : " (inconclusive: some requests failed with an unknown outcome)";
+        System.out.printf("Negative stock: %d of %d keys%n", verification.negative(), options.keys());
+        System.out.printf("Oversell violations: %d of %d keys%s%n", verification.oversold(), options.keys(),
+                inconclusive);
+        System.out.printf("Stock mismatches: %d of %d keys%s%n", verification.mismatched(), options.keys(),
+                inconclusive);
+    }
+
+    private static void printRow(String name, OperationStats row) {
+        System.out.printf("%-10s %9d %9d %9d %9d %9d %10.2f %10.2f %10.2f%n", name, row.count(), row.succeeded(),
+                row.conflicts(), row.rejected(), row.failed(),
+                row.percentileMillis(50), row.percentileMillis(99), row.percentileMillis(99.9));
+    }
+
+    /**
+     * Current count of a counter from the app's metrics endpoint, summed over its tags; NaN when the
+     * endpoint is not exposed.
+     */
+    private double serverCount(String metric) {
+        Reply reply = send(HttpMethod.GET, METRICS_PATH + metric, null).block();
+        if (reply == null || !reply.isSuccess()) {
+            return Double.NaN;
+        }
+        for (JsonNode measurement : read(reply.body(), JsonNode.class).path("measurements")) {
+            if ("COUNT".equals(measurement.path("statistic").asText())) {
+                return measurement.path("value").asDouble();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private Mono<Reply> send(HttpMethod method, String uri, Object body) {
+        HttpClient.RequestSender request = client.request(method).uri(uri);
+        HttpClient.ResponseReceiver<?> receiver = body == null
+                ? request
+                : request.send(ByteBufFlux.fromString(Mono.fromCallable(() -> objectMapper.writeValueAsString(body))));
+        return receiver.responseSingle((response, content) -> content.asString()
+                        .defaultIfEmpty("")
+                        .map(text -> new Reply(response.status().code(), text,
+                                response.responseHeaders().get(NEXT_CURSOR_HEADER))))
+                .timeout(REQUEST_TIMEOUT)
+                .onErrorResume(error -> Mono.just(new Reply(NO_RESPONSE, "", null)));
+    }
+
+    private <T> T read(String body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private LoadOperation nextOperation() {
+        int point = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private int nextKey() {
+        return products.next() * options.stores() + ThreadLocalRandom.current().nextInt(options.stores());
+    }
+
+    private String productOf(int key) {
+        return options.productId(key / options.stores());
+    }
+
+    private String storeOf(int key) {
+        return options.storeId(key % options.stores());
+    }
+
+    private String stockUri(int key) {
+        return INVENTORY_PATH + "/stock?productId=" + productOf(key) + "&storeId=" + storeOf(key);
+    }
+
+    private record Reply(int status, String body, String nextCursor) {
+
+        boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private record OpenReservation(String reservationId, int key) {
+    }
+
+    private record Verification(int negative, int oversold, int mismatched) {
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.meli.distributed_inventory_management_service.load;
+
+/**
+ * Requests the harness mixes. Confirm and release act on a reservation made earlier in the run; when
+ * none is open they are issued as a reservation instead.
+ */
+enum LoadOperation {
+
+    RESERVE("reserve"),
+    CONFIRM("confirm"),
+    RELEASE("release"),
+    UPDATE_STOCK("update"),
+    READ_AVAILABLE("read");
+
+    private final String optionName;
+
+    LoadOperation(String optionName) {
+        this.optionName = optionName;
+    }
+
+    String optionName() {
+        return optionName;
+    }
+
+    static LoadOperation fromName(String name) {
+        for (LoadOperation operation : values()) {
+            if (operation.optionName.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation in mix: " + name);
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.meli.distributed_inventory_management_service.load;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of a load run, parsed from {@code --name=value} arguments. Every setting has a default so
+ * the harness can be started with no arguments against an app on localhost.
+ */
+record LoadOptions(String baseUrl,
+                   Duration duration,
+                   int rate,
+                   int maxInFlight,
+                   int skus,
+                   int stores,
+                   double zipfExponent,
+                   int initialStock,
+                   Map<LoadOperation, Integer> mix,
+                   String runId,
+                   String username,
+                   String password) {
+
+    static final String USAGE = """
+            Options (all optional):
+              --base-url=http://localhost:8080   app under test
+              --duration=60s                     length of the measured run
+              --rate=500                         requests per second, issued on schedule (open loop)
+              --max-in-flight=2048               requests allowed in flight before arrivals queue up
+              --skus=1000                        products per store
+              --stores=10                        stores
+              --zipf=1.1                         Zipf exponent of product popularity
+              --initial-stock=100                stock seeded for every product and store, at most 1000
+              --mix=reserve:40,confirm:15,release:10,update:10,read:25
+              --run-id=<time-based>              prefix of the IDs seeded by this run
+              --username=admin --password=password  credentials for /api/auth/login
+            """;
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unrecognized argument: " + arg + System.lineSeparator() + USAGE);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        LoadOptions options = new LoadOptions(
+                values.getOrDefault("base-url", "http://localhost:8080"),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("rate", "500")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "2048")),
+                Integer.parseInt(values.getOrDefault("skus", "1000")),
+                Integer.parseInt(values.getOrDefault("stores", "10")),
+                Double.parseDouble(values.getOrDefault("zipf", "1.1")),
+                Integer.parseInt(values.getOrDefault("initial-stock", "100")),
+                parseMix(values.getOrDefault("mix", "reserve:40,confirm:15,release:10,update:10,read:25")),
+                values.getOrDefault("run-id", Long.toString(System.currentTimeMillis(), Character.MAX_RADIX)),
+                values.getOrDefault("username", "admin"),
+                values.getOrDefault("password", "password"));
+        options.validate();
+        return options;
+    }
+
+    String productId(int sku) {
+        return "load-" + runId + "-prod-" + sku;
+    }
+
+    String storeId(int store) {
+        return "load-" + runId + "-store-" + store;
+    }
+
+    int keys() {
+        return skus * stores;
+    }
+
+    private void validate() {
+        if (rate <= 0 || maxInFlight <= 0 || skus <= 0 || stores <= 0 || zipfExponent < 0) {
+            throw new IllegalArgumentException("rate, max-in-flight, skus and stores must be positive"
+                    + " and zipf must not be negative");
+        }
+        if (initialStock < 0 || initialStock > 1000) {
+            throw new IllegalArgumentException("initial-stock must be between 0 and 1000");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix needs at least one positive weight");
+        }
+    }
+
+    private static Map<LoadOperation, Integer> parseMix(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            weights.put(LoadOperation.fromName(parts[0]), Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+
+}
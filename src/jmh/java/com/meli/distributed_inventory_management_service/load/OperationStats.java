@@ -0,0 +1,71 @@
+package com.meli.distributed_inventory_management_service.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counts of one operation. Latency runs from the time a request was
+ * scheduled, not from when it was sent, so queueing behind a saturated app is not hidden
+ * (coordinated omission).
+ */
+final class OperationStats {
+
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    void record(long intendedNanos, int status) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos);
+        latency.recordValue(Math.min(Math.max(micros, 0), HIGHEST_LATENCY_MICROS));
+        if (status >= 200 && status < 300) {
+            succeeded.increment();
+        } else if (status == 409) {
+            conflicts.increment();
+        } else if (status >= 400 && status < 500) {
+            rejected.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    long count() {
+        return latency.getTotalCount();
+    }
+
+    long succeeded() {
+        return succeeded.sum();
+    }
+
+    long conflicts() {
+        return conflicts.sum();
+    }
+
+    long rejected() {
+        return rejected.sum();
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+
+    double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    void add(OperationStats other) {
+        latency.add(other.latency);
+        succeeded.add(other.succeeded());
+        conflicts.add(other.conflicts());
+        rejected.add(other.rejected());
+        failed.add(other.failed());
+    }
+
+}
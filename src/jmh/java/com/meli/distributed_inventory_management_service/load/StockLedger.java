@@ -0,0 +1,62 @@
+package com.meli.distributed_inventory_management_service.load;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Client-side record of every stock change the app acknowledged, per (product, store) key. At the end
+ * of a run it is compared with the stock the app reports: promising more units than were ever
+ * supplied is an oversell, and a current stock that differs from the acknowledged changes is a lost
+ * or phantom update.
+ */
+final class StockLedger {
+
+    private final int initialStock;
+    private final AtomicLongArray reserved;
+    private final AtomicLongArray released;
+    private final AtomicLongArray confirmed;
+    private final AtomicLongArray purchased;
+    private final AtomicLongArray sold;
+
+    StockLedger(int keys, int initialStock) {
+        this.initialStock = initialStock;
+        this.reserved = new AtomicLongArray(keys);
+        this.released = new AtomicLongArray(keys);
+        this.confirmed = new AtomicLongArray(keys);
+        this.purchased = new AtomicLongArray(keys);
+        this.sold = new AtomicLongArray(keys);
+    }
+
+    void reserved(int key, int quantity) {
+        reserved.addAndGet(key, quantity);
+    }
+
+    void released(int key, int quantity) {
+        released.addAndGet(key, quantity);
+    }
+
+    void confirmed(int key, int quantity) {
+        confirmed.addAndGet(key, quantity);
+    }
+
+    void purchased(int key, int quantity) {
+        purchased.addAndGet(key, quantity);
+    }
+
+    void sold(int key, int quantity) {
+        sold.addAndGet(key, quantity);
+    }
+
+    /**
+     * Units promised to buyers, held or confirmed reservations plus direct sales, beyond what was
+     * seeded and purchased.
+     */
+    boolean isOversold(int key) {
+        long promised = reserved.get(key) - released.get(key) + sold.get(key);
+        return promised > initialStock + purchased.get(key);
+    }
+
+    long expectedCurrentStock(int key) {
+        return initialStock + purchased.get(key) - sold.get(key) - confirmed.get(key);
+    }
+
+}
@@ -15,6 +15,14 @@ public class ApplicationConstants {
     public static final int RETRY_MAX_ATTEMPTS = 5;
     public static final int RETRY_MAX_DELAY = 1000;
     public static final int RETRY_MULTIPLIER = 2;
+    public static final int RETRY_BUDGET_PER_KEY_PER_SECOND = 50;
+    // Connection Pools
+    public static final int POOL_INITIAL_SIZE = 2;
+    public static final int POOL_MAX_SIZE = 10;
+    public static final int POOL_MAX_ACQUIRE_TIME = 2000;
+    public static final int POOL_MAX_IDLE_TIME_MINUTES = 30;
+    public static final int REPLICA_MAX_STALENESS = 1000;
+    public static final int REPLICA_SYNC_INTERVAL = 250;
     // Versioning
     public static final long INITIAL_VERSION = 0L;
     // Error Messages
@@ -34,12 +42,17 @@ public class ApplicationConstants {
     public static final String VALIDATION_QUANTITY_POSITIVE = "Quantity must be positive";
     public static final String VALIDATION_RESERVATION_ID_REQUIRED = "Reservation ID is required";
     public static final String VALIDATION_EVENT_ID_REQUIRED = "Event ID is required";
+    public static final String VALIDATION_LINES_REQUIRED = "At least one reservation line is required";
+    public static final String VALIDATION_LINES_MAX = "Too many reservation lines";
     // Reservation
     public static final int RESERVATION_TIMEOUT_MINUTES = 30;
     public static final String RESERVATION_PREFIX = "RES_";
+    public static final String RESERVATION_GROUP_PREFIX = "GRP_";
+    public static final int MAX_BATCH_RESERVATION_LINES = 100;
     // Event
     public static final String EVENT_SOURCE_SYSTEM = "SYSTEM";
     public static final String EVENT_SOURCE_API = "API";
+    public static final String EVENT_PREFIX = "EVT_";
     public static final int EVENT_MAX_RETRIES = 3;
     // Reservation Status Constants
     public static final String STATUS_PENDING = "PENDING";
@@ -0,0 +1,18 @@
+package com.meli.distributed_inventory_management_service.application.dto.inventory;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.*;
+
+public record BatchReservationRequestDTO(
+        @NotEmpty(message = VALIDATION_LINES_REQUIRED)
+        @Size(max = MAX_BATCH_RESERVATION_LINES, message = VALIDATION_LINES_MAX)
+        List<@Valid BatchReservationLineDTO> lines,
+
+        String correlationId
+) {
+}
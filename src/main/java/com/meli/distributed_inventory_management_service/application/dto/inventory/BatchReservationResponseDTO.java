@@ -0,0 +1,13 @@
+package com.meli.distributed_inventory_management_service.application.dto.inventory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record BatchReservationResponseDTO(
+        String groupId,
+        String status,
+        LocalDateTime expiresAt,
+        String correlationId,
+        List<ReservationResponseDTO> reservations
+) {
+}
@@ -0,0 +1,14 @@
+package com.meli.distributed_inventory_management_service.application.dto.inventory;
+
+public record BulkStockUpdateResultDTO(
+        long line,
+        String productId,
+        String storeId,
+        boolean success,
+        Integer currentStock,
+        Integer reservedStock,
+        Long version,
+        String error,
+        String correlationId
+) {
+}
@@ -1,16 +1,27 @@
 package com.meli.distributed_inventory_management_service.application.port;
 
 import com.meli.distributed_inventory_management_service.domain.model.InventoryUpdateEvent;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface EventRepositoryPort {
     Mono<InventoryUpdateEvent> save(InventoryUpdateEvent event);
 
+    Flux<InventoryUpdateEvent> saveAll(List<InventoryUpdateEvent> events);
+
     Mono<InventoryUpdateEvent> findById(String eventId);
 
     Flux<InventoryUpdateEvent> findAll();
 
+    /**
+     * Reads at most {@code limit} events in (storeId, productId, eventId) order, strictly after the
+     * cursor when one is given.
+     */
+    Flux<InventoryUpdateEvent> findPage(PageCursor after, int limit);
+
     Flux<InventoryUpdateEvent> findByStatus(String status);
 
     Mono<InventoryUpdateEvent> updateStatus(String eventId, String status, String errorDetails);
@@ -0,0 +1,10 @@
+package com.meli.distributed_inventory_management_service.application.port;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface InventoryChangePublisherPort {
+    Mono<Void> publish(List<InventoryChange> changes);
+}
@@ -1,6 +1,7 @@
 package com.meli.distributed_inventory_management_service.application.port;
 
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -18,6 +19,8 @@ public interface InventoryRepositoryPort {
 
     Flux<InventoryItem> findByProductId(String productId);
 
+    Flux<InventoryItem> findPage(String storeId, String productId, PageCursor after, int limit);
+
     Mono<Boolean> deleteById(String id);
 
     Mono<Boolean> existsByProductIdAndStoreId(String productId, String storeId);
@@ -1,5 +1,6 @@
 package com.meli.distributed_inventory_management_service.application.port;
 
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import com.meli.distributed_inventory_management_service.domain.model.Reservation;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -11,12 +12,31 @@ public interface ReservationRepositoryPort {
 
     Flux<Reservation> findAll();
 
+    /**
+     * Reads at most {@code limit} reservations in (storeId, productId, reservationId) order,
+     * strictly after the cursor when one is given.
+     */
+    Flux<Reservation> findPage(PageCursor after, int limit);
+
     Flux<Reservation> findByStatus(String status);
 
     Flux<Reservation> findByProductAndStore(String productId, String storeId);
 
     Mono<Reservation> updateStatus(String reservationId, String status);
 
+    /**
+     * Moves a reservation from {@code expectedStatus} to {@code status}, emitting nothing when it is
+     * no longer in {@code expectedStatus}. Used to give back a claim made with {@link #updateStatus}
+     * when the stock change that followed it failed.
+     */
+    Mono<Reservation> restoreStatus(String reservationId, String expectedStatus, String status);
+
+    Flux<Reservation> findByGroupId(String groupId);
+
+    Flux<Reservation> findByCorrelationId(String correlationId);
+
+    Flux<Reservation> updateGroupStatus(String groupId, String status);
+
     Flux<Reservation> findExpiredReservations();
 
     Mono<Boolean> existsById(String reservationId);
@@ -1,8 +1,12 @@
 package com.meli.distributed_inventory_management_service.application.port;
 
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface ReservationServicePort {
     Mono<InventoryItem> reserveStock(String productId, String storeId, Integer quantity);
 
@@ -10,7 +14,17 @@ public interface ReservationServicePort {
 
     Mono<InventoryItem> confirmReservation(String reservationId);
 
+    Mono<List<InventoryItem>> reserveStockLines(List<StockLine> lines);
+
+    Mono<List<InventoryItem>> releaseStockLines(List<StockLine> lines);
+
+    Mono<List<InventoryItem>> releaseReservations(List<Reservation> reservations);
+
+    Mono<List<InventoryItem>> confirmReservations(List<Reservation> reservations);
+
     Mono<Boolean> isReservationValid(String reservationId);
 
     Mono<String> generateReservationId();
+
+    Mono<String> generateReservationGroupId();
 }
\ No newline at end of file
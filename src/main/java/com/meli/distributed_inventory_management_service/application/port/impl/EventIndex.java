@@ -0,0 +1,122 @@
+package com.meli.distributed_inventory_management_service.application.port.impl;
+
+import com.meli.distributed_inventory_management_service.domain.model.EventStatus;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryUpdateEvent;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Secondary indexes of an event store: event IDs by status, in an {@link EnumMap} filled with one
+ * concurrent set per status up front, and event IDs by correlation ID. The store calls
+ * {@link #move} while it holds the event's write, so index updates for one event are serialized.
+ * An ID is added under its new key before it is removed from the old one; stores re-check the
+ * current event on lookup, so readers never miss an event or see it under a stale key. Events are
+ * also kept in a sorted set of (storeId, productId, eventId) positions for keyset pages.
+ */
+public final class EventIndex {
+
+    private final Map<EventStatus, Set<String>> byStatus = new EnumMap<>(EventStatus.class);
+    private final Map<String, Set<String>> byCorrelationId = new ConcurrentHashMap<>();
+    private final NavigableSet<PageCursor> positions = new ConcurrentSkipListSet<>();
+
+    public EventIndex() {
+        for (EventStatus status : EventStatus.values()) {
+            byStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Parses a status name, returning null for names that are not an {@link EventStatus}.
+     */
+    public static EventStatus parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return EventStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public Set<String> idsWithStatus(EventStatus status) {
+        return status == null ? Set.of() : byStatus.get(status);
+    }
+
+    public Set<String> idsWithCorrelationId(String correlationId) {
+        return correlationId == null ? Set.of() : byCorrelationId.getOrDefault(correlationId, Set.of());
+    }
+
+    public static PageCursor positionOf(InventoryUpdateEvent event) {
+        return PageCursor.of(event.getStoreId(), event.getProductId(), event.getEventId());
+    }
+
+    /**
+     * Positions strictly after the cursor, or from the start without one, in page order.
+     */
+    public NavigableSet<PageCursor> positionsAfter(PageCursor after) {
+        return after == null ? positions : positions.tailSet(after, false);
+    }
+
+    public void addPosition(PageCursor position) {
+        positions.add(position);
+    }
+
+    public void removePosition(PageCursor position) {
+        positions.remove(position);
+    }
+
+    public void move(String eventId, InventoryUpdateEvent previous, InventoryUpdateEvent current) {
+        move(eventId,
+                previous == null ? null : previous.getStatus(),
+                previous == null ? null : previous.getCorrelationId(),
+                current.getStatus(),
+                current.getCorrelationId());
+    }
+
+    public void move(String eventId, EventStatus fromStatus, String fromCorrelationId,
+                     EventStatus toStatus, String toCorrelationId) {
+        if (fromStatus != toStatus) {
+            if (toStatus != null) {
+                byStatus.get(toStatus).add(eventId);
+            }
+            if (fromStatus != null) {
+                byStatus.get(fromStatus).remove(eventId);
+            }
+        }
+        if (!Objects.equals(fromCorrelationId, toCorrelationId)) {
+            if (toCorrelationId != null) {
+                byCorrelationId.compute(toCorrelationId, (key, ids) -> {
+                    Set<String> target = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                    target.add(eventId);
+                    return target;
+                });
+            }
+            removeCorrelation(eventId, fromCorrelationId);
+        }
+    }
+
+    public void remove(String eventId, EventStatus status, String correlationId) {
+        if (status != null) {
+            byStatus.get(status).remove(eventId);
+        }
+        removeCorrelation(eventId, correlationId);
+    }
+
+    private void removeCorrelation(String eventId, String correlationId) {
+        if (correlationId != null) {
+            byCorrelationId.computeIfPresent(correlationId, (key, ids) -> {
+                ids.remove(eventId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+}
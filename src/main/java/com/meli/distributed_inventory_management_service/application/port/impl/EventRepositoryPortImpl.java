@@ -3,24 +3,69 @@ package com.meli.distributed_inventory_management_service.application.port.impl;
 import com.meli.distributed_inventory_management_service.application.port.EventRepositoryPort;
 import com.meli.distributed_inventory_management_service.domain.model.EventStatus;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryUpdateEvent;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * Heap-only event store, used unless the {@code event-log} profile selects the file-backed log.
+ * Status and correlation lookups go through an {@link EventIndex} updated inside the store's
+ * {@code compute} for the event, so they cost the size of their result.
+ * <p>
+ * The store keeps at most {@code inventory.event-store.max-events} events and evicts the oldest
+ * saved ones beyond that, so recording every stock mutation does not grow the heap with traffic.
+ * Use the {@code event-log} profile to keep the full history.
+ */
 @Component
+@Profile("!event-log")
 public class EventRepositoryPortImpl implements EventRepositoryPort {
 
     private final Map<String, InventoryUpdateEvent> eventStore = new ConcurrentHashMap<>();
+    private final EventIndex eventIndex = new EventIndex();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxEvents;
+
+    public EventRepositoryPortImpl(@Value("${inventory.event-store.max-events:100000}") int maxEvents) {
+        this.maxEvents = maxEvents;
+    }
 
     @Override
     public Mono<InventoryUpdateEvent> save(InventoryUpdateEvent event) {
-        eventStore.put(event.getEventId(), event);
+        boolean[] added = new boolean[1];
+        eventStore.compute(event.getEventId(), (id, current) -> {
+            added[0] = current == null;
+            eventIndex.move(id, current, event);
+            PageCursor position = EventIndex.positionOf(event);
+            if (current == null || !position.equals(EventIndex.positionOf(current))) {
+                eventIndex.addPosition(position);
+                if (current != null) {
+                    eventIndex.removePosition(EventIndex.positionOf(current));
+                }
+            }
+            return event;
+        });
+        if (added[0]) {
+            insertionOrder.offer(event.getEventId());
+            evictOverflow();
+        }
         return Mono.just(event);
     }
 
+    @Override
+    public Flux<InventoryUpdateEvent> saveAll(List<InventoryUpdateEvent> events) {
+        return Flux.fromIterable(events)
+                .concatMap(this::save);
+    }
+
     @Override
     public Mono<InventoryUpdateEvent> findById(String eventId) {
         return Mono.justOrEmpty(eventStore.get(eventId));
@@ -31,33 +76,55 @@ public class EventRepositoryPortImpl implements EventRepositoryPort {
         return Flux.fromIterable(eventStore.values());
     }
 
+    @Override
+    public Flux<InventoryUpdateEvent> findPage(PageCursor after, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(eventIndex.positionsAfter(after)))
+                .concatMapIterable(position -> {
+                    InventoryUpdateEvent event = eventStore.get(position.getId());
+                    return event != null && position.equals(EventIndex.positionOf(event)) ? List.of(event) : List.of();
+                })
+                .take(limit);
+    }
+
     @Override
     public Flux<InventoryUpdateEvent> findByStatus(String status) {
-        return Flux.fromIterable(eventStore.values())
-                .filter(event -> event.getStatus().name().equals(status));
+        EventStatus eventStatus = EventIndex.parseStatus(status);
+        return Flux.defer(() -> Flux.fromIterable(eventIndex.idsWithStatus(eventStatus)))
+                .mapNotNull(eventStore::get)
+                .filter(event -> event.getStatus() == eventStatus);
     }
 
     @Override
     public Mono<InventoryUpdateEvent> updateStatus(String eventId, String status, String errorDetails) {
-        return findById(eventId)
-                .map(existingEvent -> {
-                    EventStatus newStatus = EventStatus.valueOf(status);
-                    InventoryUpdateEvent updatedEvent;
+        return Mono.fromCallable(() -> eventStore.computeIfPresent(eventId, (id, existingEvent) -> {
+            InventoryUpdateEvent updatedEvent;
 
-                    if (errorDetails != null) {
-                        updatedEvent = existingEvent.withError(errorDetails);
-                    } else {
-                        updatedEvent = existingEvent.withStatus(newStatus);
-                    }
+            if (errorDetails != null) {
+                updatedEvent = existingEvent.withError(errorDetails);
+            } else {
+                updatedEvent = existingEvent.withStatus(EventStatus.valueOf(status));
+            }
 
-                    eventStore.put(eventId, updatedEvent);
-                    return updatedEvent;
-                });
+            eventIndex.move(id, existingEvent, updatedEvent);
+            return updatedEvent;
+        }));
     }
 
     @Override
     public Flux<InventoryUpdateEvent> findByCorrelationId(String correlationId) {
-        return Flux.fromIterable(eventStore.values())
-                .filter(event -> correlationId != null && correlationId.equals(event.getCorrelationId()));
+        return Flux.defer(() -> Flux.fromIterable(eventIndex.idsWithCorrelationId(correlationId)))
+                .mapNotNull(eventStore::get)
+                .filter(event -> correlationId.equals(event.getCorrelationId()));
+    }
+
+    private void evictOverflow() {
+        String oldest;
+        while (eventStore.size() > maxEvents && (oldest = insertionOrder.poll()) != null) {
+            eventStore.computeIfPresent(oldest, (id, event) -> {
+                eventIndex.remove(id, event.getStatus(), event.getCorrelationId());
+                eventIndex.removePosition(EventIndex.positionOf(event));
+                return null;
+            });
+        }
     }
-}
\ No newline at end of file
+}
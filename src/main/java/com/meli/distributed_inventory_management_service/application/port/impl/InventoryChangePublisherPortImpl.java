@@ -0,0 +1,36 @@
+package com.meli.distributed_inventory_management_service.application.port.impl;
+
+import com.meli.distributed_inventory_management_service.application.port.InventoryChangePublisherPort;
+import com.meli.distributed_inventory_management_service.application.service.InventoryChangeFeed;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * In-process stand-in for a message broker, used unless the {@code outbox-file} profile selects the
+ * file publisher. Changes go straight to the {@link InventoryChangeFeed} multicast; with no
+ * subscriber they are discarded, like a topic nobody listens to.
+ * <p>
+ * The feed is local to the instance whose outbox relay read the change, and the relay deletes the
+ * rows it publishes. With several instances sharing one {@code inventory_outbox} table, each relay
+ * takes part of the rows and each node's stream subscribers miss the changes relayed by the others,
+ * so this publisher assumes a single instance. Multi-instance deployments need a broadcast
+ * publisher, such as a broker topic every node consumes, in its place.
+ */
+@Component
+@Profile("!outbox-file")
+@RequiredArgsConstructor
+public class InventoryChangePublisherPortImpl implements InventoryChangePublisherPort {
+
+    private final InventoryChangeFeed inventoryChangeFeed;
+
+    @Override
+    public Mono<Void> publish(List<InventoryChange> changes) {
+        return Mono.fromRunnable(() -> inventoryChangeFeed.publish(changes));
+    }
+
+}
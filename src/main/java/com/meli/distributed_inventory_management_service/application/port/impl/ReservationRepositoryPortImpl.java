@@ -1,27 +1,59 @@
 package com.meli.distributed_inventory_management_service.application.port.impl;
 
 import com.meli.distributed_inventory_management_service.application.port.ReservationRepositoryPort;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import com.meli.distributed_inventory_management_service.domain.model.StockKey;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.STATUS_PENDING;
 import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.STATUS_RESERVED;
 
+/**
+ * Heap-only reservation store for tests and single-node experiments, enabled with the
+ * {@code in-memory} profile. Status changes follow the same guard as the database store: only
+ * PENDING or RESERVED reservations move, otherwise nothing is emitted.
+ * <p>
+ * Secondary indexes by status, by (productId, storeId), by correlation ID and by group ID map each
+ * key to the IDs of its reservations, so lookups cost the size of their result. Indexes are changed
+ * inside the primary map's {@code compute} for the reservation, so writes to one reservation are
+ * serialized with its index updates. A reservation is added under its new key before it is removed
+ * from the old one, and lookups re-check the current value, so a reader never misses it or sees it
+ * under a stale key. A sorted set of (storeId, productId, reservationId) positions serves keyset
+ * pages with a seek instead of a sort.
+ */
 @Component
+@Profile("in-memory")
 public class ReservationRepositoryPortImpl implements ReservationRepositoryPort {
 
     private final Map<String, Reservation> reservationStore = new ConcurrentHashMap<>();
+    private final SecondaryIndex<String> statusIndex = new SecondaryIndex<>(Reservation::getStatus);
+    private final SecondaryIndex<StockKey> stockIndex = new SecondaryIndex<>(
+            reservation -> new StockKey(reservation.getProductId(), reservation.getStoreId()));
+    private final SecondaryIndex<String> correlationIndex = new SecondaryIndex<>(Reservation::getCorrelationId);
+    private final SecondaryIndex<String> groupIndex = new SecondaryIndex<>(Reservation::getGroupId);
+    private final NavigableSet<PageCursor> positions = new ConcurrentSkipListSet<>();
 
     @Override
     public Mono<Reservation> save(Reservation reservation) {
-        reservationStore.put(reservation.getReservationId(), reservation);
-        return Mono.just(reservation);
+        return Mono.fromCallable(() -> reservationStore.compute(reservation.getReservationId(), (id, current) -> {
+            reindex(id, current, reservation);
+            return reservation;
+        }));
     }
 
     @Override
@@ -34,49 +66,158 @@ public class ReservationRepositoryPortImpl implements ReservationRepositoryPort
         return Flux.fromIterable(reservationStore.values());
     }
 
+    @Override
+    public Flux<Reservation> findPage(PageCursor after, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(after == null ? positions : positions.tailSet(after, false)))
+                .concatMapIterable(position -> {
+                    Reservation reservation = reservationStore.get(position.getId());
+                    return reservation != null && position.equals(position(reservation))
+                            ? List.of(reservation) : List.of();
+                })
+                .take(limit);
+    }
+
     @Override
     public Flux<Reservation> findByStatus(String status) {
-        return Flux.fromIterable(reservationStore.values())
-                .filter(reservation -> status.equals(reservation.getStatus()));
+        return lookup(statusIndex, status);
     }
 
     @Override
     public Flux<Reservation> findByProductAndStore(String productId, String storeId) {
-        return Flux.fromIterable(reservationStore.values())
-                .filter(reservation -> productId.equals(reservation.getProductId())
-                        && storeId.equals(reservation.getStoreId()));
+        return lookup(stockIndex, new StockKey(productId, storeId));
     }
 
     @Override
     public Mono<Reservation> updateStatus(String reservationId, String status) {
-        return findById(reservationId)
-                .map(reservation -> {
-                    Reservation updatedReservation = Reservation.builder()
-                            .reservationId(reservation.getReservationId())
-                            .productId(reservation.getProductId())
-                            .storeId(reservation.getStoreId())
-                            .quantity(reservation.getQuantity())
-                            .status(status)
-                            .createdAt(reservation.getCreatedAt())
-                            .expiresAt(reservation.getExpiresAt())
-                            .correlationId(reservation.getCorrelationId())
-                            .build();
-                    reservationStore.put(reservationId, updatedReservation);
-                    return updatedReservation;
-                });
+        return moveStatus(reservationId, ReservationRepositoryPortImpl::isActive, status);
+    }
+
+    @Override
+    public Mono<Reservation> restoreStatus(String reservationId, String expectedStatus, String status) {
+        return moveStatus(reservationId, reservation -> expectedStatus.equals(reservation.getStatus()), status);
+    }
+
+    @Override
+    public Flux<Reservation> findByGroupId(String groupId) {
+        return lookup(groupIndex, groupId);
+    }
+
+    @Override
+    public Flux<Reservation> findByCorrelationId(String correlationId) {
+        return lookup(correlationIndex, correlationId);
+    }
+
+    @Override
+    public Flux<Reservation> updateGroupStatus(String groupId, String status) {
+        return findByGroupId(groupId)
+                .concatMap(reservation -> updateStatus(reservation.getReservationId(), status));
     }
 
     @Override
     public Flux<Reservation> findExpiredReservations() {
         LocalDateTime now = LocalDateTime.now();
-        return Flux.fromIterable(reservationStore.values())
-                .filter(reservation -> now.isAfter(reservation.getExpiresAt())
-                        && (STATUS_PENDING.equals(reservation.getStatus())
-                        || STATUS_RESERVED.equals(reservation.getStatus())));
+        return Flux.concat(findByStatus(STATUS_PENDING), findByStatus(STATUS_RESERVED))
+                .filter(reservation -> now.isAfter(reservation.getExpiresAt()));
     }
 
     @Override
     public Mono<Boolean> existsById(String reservationId) {
         return Mono.just(reservationStore.containsKey(reservationId));
     }
+
+    private Mono<Reservation> moveStatus(String reservationId, Predicate<Reservation> guard, String status) {
+        return Mono.fromCallable(() -> {
+            Reservation[] updated = new Reservation[1];
+            reservationStore.computeIfPresent(reservationId, (id, reservation) -> {
+                if (!guard.test(reservation)) {
+                    return reservation;
+                }
+                updated[0] = Reservation.builder()
+                        .reservationId(reservation.getReservationId())
+                        .productId(reservation.getProductId())
+                        .storeId(reservation.getStoreId())
+                        .quantity(reservation.getQuantity())
+                        .status(status)
+                        .createdAt(reservation.getCreatedAt())
+                        .expiresAt(reservation.getExpiresAt())
+                        .correlationId(reservation.getCorrelationId())
+                        .groupId(reservation.getGroupId())
+                        .build();
+                reindex(id, reservation, updated[0]);
+                return updated[0];
+            });
+            return updated[0];
+        });
+    }
+
+    private void reindex(String reservationId, Reservation previous, Reservation current) {
+        statusIndex.move(reservationId, previous, current);
+        stockIndex.move(reservationId, previous, current);
+        correlationIndex.move(reservationId, previous, current);
+        groupIndex.move(reservationId, previous, current);
+        PageCursor oldPosition = previous == null ? null : position(previous);
+        PageCursor newPosition = position(current);
+        if (!newPosition.equals(oldPosition)) {
+            positions.add(newPosition);
+            if (oldPosition != null) {
+                positions.remove(oldPosition);
+            }
+        }
+    }
+
+    private static PageCursor position(Reservation reservation) {
+        return PageCursor.of(reservation.getStoreId(), reservation.getProductId(), reservation.getReservationId());
+    }
+
+    private <K> Flux<Reservation> lookup(SecondaryIndex<K> index, K key) {
+        return Flux.defer(() -> Flux.fromIterable(index.idsOf(key)))
+                .mapNotNull(reservationStore::get)
+                .filter(reservation -> key.equals(index.keyOf(reservation)));
+    }
+
+    private static boolean isActive(Reservation reservation) {
+        return STATUS_PENDING.equals(reservation.getStatus()) || STATUS_RESERVED.equals(reservation.getStatus());
+    }
+
+    private static final class SecondaryIndex<K> {
+
+        private final Map<K, Set<String>> entries = new ConcurrentHashMap<>();
+        private final Function<Reservation, K> keyExtractor;
+
+        private SecondaryIndex(Function<Reservation, K> keyExtractor) {
+            this.keyExtractor = keyExtractor;
+        }
+
+        K keyOf(Reservation reservation) {
+            return keyExtractor.apply(reservation);
+        }
+
+        Set<String> idsOf(K key) {
+            if (key == null) {
+                return Set.of();
+            }
+            return entries.getOrDefault(key, Set.of());
+        }
+
+        void move(String reservationId, Reservation previous, Reservation current) {
+            K oldKey = previous == null ? null : keyOf(previous);
+            K newKey = keyOf(current);
+            if (Objects.equals(oldKey, newKey)) {
+                return;
+            }
+            if (newKey != null) {
+                entries.compute(newKey, (key, ids) -> {
+                    Set<String> target = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                    target.add(reservationId);
+                    return target;
+                });
+            }
+            if (oldKey != null) {
+                entries.computeIfPresent(oldKey, (key, ids) -> {
+                    ids.remove(reservationId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -3,13 +3,17 @@ package com.meli.distributed_inventory_management_service.application.port.impl;
 import com.meli.distributed_inventory_management_service.application.port.ReservationRepositoryPort;
 import com.meli.distributed_inventory_management_service.application.port.ReservationServicePort;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
 import com.meli.distributed_inventory_management_service.domain.service.InventoryDomainService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
+import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.RESERVATION_GROUP_PREFIX;
 import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.RESERVATION_PREFIX;
 import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.STATUS_RESERVED;
 
@@ -42,14 +46,28 @@ public class ReservationServicePortImpl implements ReservationServicePort {
     public Mono<InventoryItem> confirmReservation(String reservationId) {
         return reservationRepositoryPort.findById(reservationId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Reservation not found: " + reservationId)))
-                .flatMap(reservation ->
-                        inventoryDomainService.updateStockWithRetry(
-                                reservation.getProductId(),
-                                reservation.getStoreId(),
-                                reservation.getQuantity(),
-                                com.meli.distributed_inventory_management_service.domain.model.UpdateType.SALE
-                        )
-                );
+                .flatMap(reservation -> inventoryDomainService.commitReservedStockLines(toStockLines(List.of(reservation))))
+                .map(items -> items.get(0));
+    }
+
+    @Override
+    public Mono<List<InventoryItem>> reserveStockLines(List<StockLine> lines) {
+        return inventoryDomainService.reserveStockLines(lines);
+    }
+
+    @Override
+    public Mono<List<InventoryItem>> releaseStockLines(List<StockLine> lines) {
+        return inventoryDomainService.releaseReservedStockLines(lines);
+    }
+
+    @Override
+    public Mono<List<InventoryItem>> releaseReservations(List<Reservation> reservations) {
+        return inventoryDomainService.releaseReservedStockLines(toStockLines(reservations));
+    }
+
+    @Override
+    public Mono<List<InventoryItem>> confirmReservations(List<Reservation> reservations) {
+        return inventoryDomainService.commitReservedStockLines(toStockLines(reservations));
     }
 
     @Override
@@ -67,4 +85,16 @@ public class ReservationServicePortImpl implements ReservationServicePort {
     public Mono<String> generateReservationId() {
         return Mono.fromCallable(() -> RESERVATION_PREFIX + UUID.randomUUID());
     }
+
+    @Override
+    public Mono<String> generateReservationGroupId() {
+        return Mono.fromCallable(() -> RESERVATION_GROUP_PREFIX + UUID.randomUUID());
+    }
+
+    private static List<StockLine> toStockLines(List<Reservation> reservations) {
+        return reservations.stream()
+                .map(reservation -> new StockLine(reservation.getProductId(), reservation.getStoreId(),
+                        reservation.getQuantity()))
+                .toList();
+    }
 }
\ No newline at end of file
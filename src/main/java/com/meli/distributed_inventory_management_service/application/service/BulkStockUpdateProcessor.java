@@ -0,0 +1,128 @@
+package com.meli.distributed_inventory_management_service.application.service;
+
+import com.meli.distributed_inventory_management_service.application.dto.inventory.BulkStockUpdateResultDTO;
+import com.meli.distributed_inventory_management_service.application.dto.inventory.StockUpdateRequestDTO;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.StockDelta;
+import com.meli.distributed_inventory_management_service.domain.model.StockKey;
+import com.meli.distributed_inventory_management_service.domain.model.StockUpdateOutcome;
+import com.meli.distributed_inventory_management_service.domain.service.InventoryDomainService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies a stream of stock updates in bounded chunks. Each chunk is grouped by (productId, storeId)
+ * and written with one read and one batched statement through
+ * {@link InventoryDomainService#applyStockUpdateBatch}. Only {@code concurrency} chunks are in flight,
+ * so demand on the request body follows the database and the body is never held in memory. A chunk
+ * closed by {@code maxWait} while every slot is busy waits for a slot instead of overflowing.
+ * Results are emitted in input order, one per line.
+ */
+@Service
+public class BulkStockUpdateProcessor {
+
+    private final InventoryDomainService inventoryDomainService;
+    private final Validator validator;
+    private final int chunkSize;
+    private final Duration maxWait;
+    private final int concurrency;
+
+    public BulkStockUpdateProcessor(InventoryDomainService inventoryDomainService,
+                                    Validator validator,
+                                    @Value("${inventory.bulk-update.chunk-size:500}") int chunkSize,
+                                    @Value("${inventory.bulk-update.max-wait:50ms}") Duration maxWait,
+                                    @Value("${inventory.bulk-update.concurrency:4}") int concurrency) {
+        this.inventoryDomainService = inventoryDomainService;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxWait = maxWait;
+        this.concurrency = concurrency;
+    }
+
+    public Flux<BulkStockUpdateResultDTO> process(Flux<StockUpdateRequestDTO> requests) {
+        return requests.index()
+                .bufferTimeout(chunkSize, maxWait, true)
+                .flatMapSequential(this::processChunk, concurrency, 1);
+    }
+
+    private Flux<BulkStockUpdateResultDTO> processChunk(List<Tuple2<Long, StockUpdateRequestDTO>> chunk) {
+        BulkStockUpdateResultDTO[] results = new BulkStockUpdateResultDTO[chunk.size()];
+        Map<StockKey, List<Integer>> positionsByKey = new LinkedHashMap<>();
+        Map<StockKey, List<StockDelta>> deltasByKey = new LinkedHashMap<>();
+        for (int position = 0; position < chunk.size(); position++) {
+            long line = chunk.get(position).getT1() + 1;
+            StockUpdateRequestDTO request = chunk.get(position).getT2();
+            String violations = validate(request);
+            if (violations != null) {
+                results[position] = failure(line, request, violations);
+                continue;
+            }
+            StockKey key = new StockKey(request.productId(), request.storeId());
+            positionsByKey.computeIfAbsent(key, ignored -> new ArrayList<>()).add(position);
+            deltasByKey.computeIfAbsent(key, ignored -> new ArrayList<>())
+                    .add(new StockDelta(request.quantity(), request.updateType()));
+        }
+        if (deltasByKey.isEmpty()) {
+            return Flux.fromArray(results);
+        }
+        return inventoryDomainService.applyStockUpdateBatch(deltasByKey)
+                .map(outcomesByKey -> {
+                    positionsByKey.forEach((key, positions) -> {
+                        List<StockUpdateOutcome> outcomes = outcomesByKey.get(key);
+                        for (int i = 0; i < positions.size(); i++) {
+                            int position = positions.get(i);
+                            results[position] = toResult(chunk.get(position), outcomes.get(i));
+                        }
+                    });
+                    return results;
+                })
+                .onErrorResume(error -> {
+                    positionsByKey.values().forEach(positions -> positions.forEach(position ->
+                            results[position] = failure(chunk.get(position).getT1() + 1,
+                                    chunk.get(position).getT2(), error.getMessage())));
+                    return Mono.just(results);
+                })
+                .flatMapMany(Flux::fromArray);
+    }
+
+    private String validate(StockUpdateRequestDTO request) {
+        Set<ConstraintViolation<StockUpdateRequestDTO>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static BulkStockUpdateResultDTO toResult(Tuple2<Long, StockUpdateRequestDTO> entry,
+                                                     StockUpdateOutcome outcome) {
+        if (!outcome.isSuccess()) {
+            return failure(entry.getT1() + 1, entry.getT2(), outcome.getError().getMessage());
+        }
+        InventoryItem item = outcome.getItem();
+        StockUpdateRequestDTO request = entry.getT2();
+        return new BulkStockUpdateResultDTO(entry.getT1() + 1, request.productId(), request.storeId(), true,
+                item.getCurrentStock(), item.getReservedStock(), item.getVersion(), null, request.correlationId());
+    }
+
+    private static BulkStockUpdateResultDTO failure(long line, StockUpdateRequestDTO request, String error) {
+        return new BulkStockUpdateResultDTO(line, request.productId(), request.storeId(), false,
+                null, null, null, error, request.correlationId());
+    }
+
+}
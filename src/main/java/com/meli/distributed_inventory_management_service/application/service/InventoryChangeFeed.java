@@ -0,0 +1,83 @@
+package com.meli.distributed_inventory_management_service.application.service;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Live feed of committed inventory changes for push subscribers. Changes are multicast through one
+ * {@link Sinks.Many} without replay; every subscriber gets its own buffer of at most
+ * {@code bufferSize} changes that passed its filter. A subscriber whose buffer overflows is
+ * detached from the sink at once and counted as dropped; it is completed after reading what was
+ * already buffered, so one slow client cannot hold more memory or slow the publisher down.
+ * Clients reconnect and re-read the current state.
+ * <p>
+ * The feed only carries changes this instance's outbox relay published, so it is complete for a
+ * single instance only; see {@code InventoryChangePublisherPortImpl}.
+ */
+@Component
+public class InventoryChangeFeed {
+
+    private static final String METRIC_PREFIX = "inventory.stream";
+    private static final Duration EMIT_TIMEOUT = Duration.ofMillis(100);
+
+    private final Sinks.Many<InventoryChange> sink = Sinks.many().multicast().directBestEffort();
+    private final int bufferSize;
+    @Getter
+    private final Duration heartbeatInterval;
+    private final Counter droppedCounter;
+    private final Counter publishedCounter;
+
+    public InventoryChangeFeed(MeterRegistry meterRegistry,
+                               @Value("${inventory.stream.buffer-size:256}") int bufferSize,
+                               @Value("${inventory.stream.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.bufferSize = bufferSize;
+        this.heartbeatInterval = heartbeatInterval;
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped")
+                .description("Stream subscribers disconnected because their buffer overflowed")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder(METRIC_PREFIX + ".published")
+                .description("Inventory changes offered to stream subscribers")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".subscribers", sink, Sinks.Many::currentSubscriberCount)
+                .description("Connected inventory stream subscribers")
+                .register(meterRegistry);
+    }
+
+    public void publish(List<InventoryChange> changes) {
+        for (InventoryChange change : changes) {
+            sink.emitNext(change, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+        }
+        publishedCounter.increment(changes.size());
+    }
+
+    /**
+     * Changes from now on, optionally restricted to one store and/or one product.
+     */
+    public Flux<InventoryChange> stream(String storeId, String productId) {
+        return sink.asFlux()
+                .filter(change -> matches(storeId, change.getStoreId()) && matches(productId, change.getProductId()))
+                .onBackpressureBuffer(bufferSize, overflow -> droppedCounter.increment(), BufferOverflowStrategy.ERROR)
+                .onErrorResume(Exceptions::isOverflow, error -> Flux.empty());
+    }
+
+    public int getSubscriberCount() {
+        return sink.currentSubscriberCount();
+    }
+
+    private static boolean matches(String filter, String value) {
+        return filter == null || filter.equals(value);
+    }
+
+}
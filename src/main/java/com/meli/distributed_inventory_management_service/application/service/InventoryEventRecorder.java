@@ -0,0 +1,197 @@
+package com.meli.distributed_inventory_management_service.application.service;
+
+import com.meli.distributed_inventory_management_service.application.port.EventRepositoryPort;
+import com.meli.distributed_inventory_management_service.domain.model.EventStatus;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryUpdateEvent;
+import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+import com.meli.distributed_inventory_management_service.domain.service.StockMutationListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.EVENT_PREFIX;
+import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.EVENT_SOURCE_SYSTEM;
+
+/**
+ * Records an {@link InventoryUpdateEvent} for every successful stock mutation. The request path only
+ * offers a small record to a bounded {@link ArrayBlockingQueue}; a background writer drains it every
+ * flush interval and saves the events in batches through {@link EventRepositoryPort#saveAll}. When
+ * the queue is full the overflow policy either drops the new event or evicts the oldest one, and
+ * every dropped event is counted. Evicting polls the queue from the request thread while the writer
+ * polls it too, which is why the queue must be safe for several consumers. Events still queued at shutdown are flushed before the
+ * writer stops.
+ */
+@Component
+public class InventoryEventRecorder implements StockMutationListener, DisposableBean {
+
+    public enum OverflowPolicy {
+        DROP_NEWEST, DROP_OLDEST
+    }
+
+    private static final String METRIC_PREFIX = "inventory.events";
+
+    private final EventRepositoryPort eventRepositoryPort;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final OverflowPolicy overflowPolicy;
+    private final BlockingQueue<PendingEvent> queue;
+    private final Scheduler scheduler;
+    private final Counter droppedCounter;
+    private final Counter recordedCounter;
+    private final Counter flushFailedCounter;
+    private final Timer flushTimer;
+    private volatile Disposable writer;
+
+    public InventoryEventRecorder(EventRepositoryPort eventRepositoryPort,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${inventory.event-recording.enabled:true}") boolean enabled,
+                                  @Value("${inventory.event-recording.capacity:65536}") int capacity,
+                                  @Value("${inventory.event-recording.batch-size:500}") int batchSize,
+                                  @Value("${inventory.event-recording.flush-interval:50ms}") Duration flushInterval,
+                                  @Value("${inventory.event-recording.overflow:DROP_NEWEST}") OverflowPolicy overflowPolicy) {
+        this.eventRepositoryPort = eventRepositoryPort;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.overflowPolicy = overflowPolicy;
+        this.scheduler = Schedulers.newSingle("inventory-event-writer", true);
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped")
+                .description("Stock mutation events dropped because the recording queue was full")
+                .register(meterRegistry);
+        this.recordedCounter = Counter.builder(METRIC_PREFIX + ".recorded")
+                .description("Stock mutation events saved by the background writer")
+                .register(meterRegistry);
+        this.flushFailedCounter = Counter.builder(METRIC_PREFIX + ".flush.failed")
+                .description("Stock mutation events lost because their batch could not be saved")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .description("Time to save one batch of stock mutation events")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", queue, BlockingQueue::size)
+                .description("Stock mutation events waiting to be saved")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        writer = Flux.interval(flushInterval, scheduler)
+                .onBackpressureDrop()
+                .concatMap(ignored -> flush(), 1)
+                .subscribe();
+    }
+
+    @Override
+    public void onStockMutation(InventoryItem item, Integer quantity, UpdateType updateType) {
+        if (!enabled) {
+            return;
+        }
+        PendingEvent event = new PendingEvent(item.getProductId(), item.getStoreId(), quantity, updateType,
+                LocalDateTime.now());
+        while (!queue.offer(event)) {
+            if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                droppedCounter.increment();
+                return;
+            }
+            if (queue.poll() != null) {
+                droppedCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * Drains the queue in batches of at most {@code batchSize} and emits how many events were saved.
+     * A batch that fails is counted and dropped so it cannot block the events behind it.
+     */
+    public Mono<Long> flush() {
+        return Flux.<List<InventoryUpdateEvent>>generate(sink -> {
+                    List<InventoryUpdateEvent> batch = drain();
+                    if (batch.isEmpty()) {
+                        sink.complete();
+                    } else {
+                        sink.next(batch);
+                    }
+                })
+                .concatMap(batch -> {
+                    Timer.Sample sample = Timer.start();
+                    return eventRepositoryPort.saveAll(batch)
+                            .count()
+                            .doOnNext(saved -> {
+                                sample.stop(flushTimer);
+                                recordedCounter.increment(saved);
+                            })
+                            .onErrorResume(error -> {
+                                flushFailedCounter.increment(batch.size());
+                                return Mono.just(0L);
+                            });
+                })
+                .reduce(0L, Long::sum);
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (writer != null) {
+            writer.dispose();
+        }
+        if (enabled) {
+            flush().block(flushInterval.plusSeconds(5));
+        }
+        scheduler.dispose();
+    }
+
+    private List<InventoryUpdateEvent> drain() {
+        List<PendingEvent> pending = new ArrayList<>(Math.min(batchSize, Math.max(queue.size(), 1)));
+        queue.drainTo(pending, batchSize);
+        List<InventoryUpdateEvent> batch = new ArrayList<>(pending.size());
+        for (PendingEvent event : pending) {
+            batch.add(event.toEvent());
+        }
+        return batch;
+    }
+
+    private record PendingEvent(String productId, String storeId, Integer quantity, UpdateType updateType,
+                                LocalDateTime timestamp) {
+
+        InventoryUpdateEvent toEvent() {
+            return InventoryUpdateEvent.builder()
+                    .eventId(EVENT_PREFIX + UUID.randomUUID())
+                    .productId(productId)
+                    .storeId(storeId)
+                    .quantity(quantity)
+                    .updateType(updateType)
+                    .source(EVENT_SOURCE_SYSTEM)
+                    .timestamp(timestamp)
+                    .status(EventStatus.PROCESSED)
+                    .build();
+        }
+    }
+
+}
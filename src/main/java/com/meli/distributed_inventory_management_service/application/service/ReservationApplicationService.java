@@ -1,29 +1,23 @@
 package com.meli.distributed_inventory_management_service.application.service;
 
+import com.meli.distributed_inventory_management_service.application.dto.inventory.BatchReservationRequestDTO;
+import com.meli.distributed_inventory_management_service.application.dto.inventory.BatchReservationResponseDTO;
 import com.meli.distributed_inventory_management_service.application.dto.inventory.ReservationRequestDTO;
 import com.meli.distributed_inventory_management_service.application.dto.inventory.ReservationResponseDTO;
 import com.meli.distributed_inventory_management_service.application.usecase.ReservationUseCase;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.*;
-
 @Service
 @RequiredArgsConstructor
 public class ReservationApplicationService {
 
     private final ReservationUseCase reservationUseCase;
 
-    @Retryable(
-            retryFor = {OptimisticLockingFailureException.class},
-            maxAttempts = RETRY_MAX_ATTEMPTS,
-            backoff = @Backoff(delay = RETRY_DELAY, multiplier = RETRY_MULTIPLIER, maxDelay = RETRY_MAX_DELAY)
-    )
     public Mono<ReservationResponseDTO> createReservation(ReservationRequestDTO request) {
         return reservationUseCase.createReservation(
                 request.productId(),
@@ -33,48 +27,48 @@ public class ReservationApplicationService {
         );
     }
 
-    @Retryable(
-            retryFor = {OptimisticLockingFailureException.class},
-            maxAttempts = RETRY_MAX_ATTEMPTS,
-            backoff = @Backoff(delay = RETRY_DELAY, multiplier = RETRY_MULTIPLIER, maxDelay = RETRY_MAX_DELAY)
-    )
     public Mono<ReservationResponseDTO> confirmReservation(String reservationId) {
         return reservationUseCase.confirmReservation(reservationId);
     }
 
-    @Retryable(
-            retryFor = {OptimisticLockingFailureException.class},
-            maxAttempts = RETRY_MAX_ATTEMPTS,
-            backoff = @Backoff(delay = RETRY_DELAY, multiplier = RETRY_MULTIPLIER, maxDelay = RETRY_MAX_DELAY)
-    )
     public Mono<ReservationResponseDTO> releaseReservation(String reservationId) {
         return reservationUseCase.releaseReservation(reservationId);
     }
 
-    @Retryable(
-            retryFor = {OptimisticLockingFailureException.class},
-            maxAttempts = RETRY_MAX_ATTEMPTS,
-            backoff = @Backoff(delay = RETRY_DELAY, multiplier = RETRY_MULTIPLIER, maxDelay = RETRY_MAX_DELAY)
-    )
     public Mono<ReservationResponseDTO> getReservationById(String reservationId) {
         return reservationUseCase.getReservation(reservationId);
     }
 
-    @Retryable(
-            retryFor = {OptimisticLockingFailureException.class},
-            maxAttempts = RETRY_MAX_ATTEMPTS,
-            backoff = @Backoff(delay = RETRY_DELAY, multiplier = RETRY_MULTIPLIER, maxDelay = RETRY_MAX_DELAY)
-    )
     public Flux<ReservationResponseDTO> getAllReservations() {
         return reservationUseCase.getAllReservations();
     }
 
-    @Retryable(
-            retryFor = {OptimisticLockingFailureException.class},
-            maxAttempts = RETRY_MAX_ATTEMPTS,
-            backoff = @Backoff(delay = RETRY_DELAY, multiplier = RETRY_MULTIPLIER, maxDelay = RETRY_MAX_DELAY)
-    )
+    public Flux<ReservationResponseDTO> getReservationsPage(PageCursor after, int limit) {
+        return reservationUseCase.getReservationsPage(after, limit);
+    }
+
     public Mono<Boolean> isReservationValid(String reservationId) {
         return reservationUseCase.validateReservation(reservationId);
     }
+
+    public Mono<BatchReservationResponseDTO> createBatchReservation(BatchReservationRequestDTO request) {
+        return reservationUseCase.createBatchReservation(
+                request.lines().stream()
+                        .map(line -> new StockLine(line.productId(), line.storeId(), line.quantity()))
+                        .toList(),
+                request.correlationId()
+        );
+    }
+
+    public Mono<BatchReservationResponseDTO> confirmBatchReservation(String groupId) {
+        return reservationUseCase.confirmBatchReservation(groupId);
+    }
+
+    public Mono<BatchReservationResponseDTO> releaseBatchReservation(String groupId) {
+        return reservationUseCase.releaseBatchReservation(groupId);
+    }
+
+    public Mono<BatchReservationResponseDTO> getBatchReservation(String groupId) {
+        return reservationUseCase.getBatchReservation(groupId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,185 @@
+package com.meli.distributed_inventory_management_service.application.service;
+
+import com.meli.distributed_inventory_management_service.application.port.ReservationRepositoryPort;
+import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import com.meli.distributed_inventory_management_service.domain.model.StockKey;
+import com.meli.distributed_inventory_management_service.domain.service.InventoryDomainService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.STATUS_RESERVED;
+
+/**
+ * Expires RESERVED reservations when their {@code expiresAt} passes. Reservations wait in a
+ * {@link DelayQueue}; each tick drains only the entries that are due, so its cost follows the number
+ * of expiring reservations rather than the number stored. A due reservation is first claimed with
+ * the guarded status update, so one confirmed or released in the meantime is skipped. The stock of
+ * the claimed reservations is then released with one call per SKU. The queue is rebuilt from the
+ * reservation store at startup.
+ * <p>
+ * A failed claim puts the reservation back in the queue, due again one tick later. A failed release
+ * does the same for its already EXPIRED reservations, marked as claimed so the next attempt only
+ * retries the release; such a retry lives in memory and is lost if the node stops first.
+ */
+@Service
+public class ReservationExpiryScheduler implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "inventory.reservation.expiry";
+
+    private final ReservationRepositoryPort reservationRepositoryPort;
+    private final InventoryDomainService inventoryDomainService;
+    private final boolean enabled;
+    private final Duration tick;
+    private final int maxBatchSize;
+    private final DelayQueue<ExpiryEntry> queue = new DelayQueue<>();
+    private final Scheduler scheduler;
+    private final Counter expiredCounter;
+    private final Counter claimFailedCounter;
+    private final Counter releaseFailedCounter;
+    private volatile Disposable ticker;
+
+    public ReservationExpiryScheduler(ReservationRepositoryPort reservationRepositoryPort,
+                                      InventoryDomainService inventoryDomainService,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${inventory.reservation-expiry.enabled:true}") boolean enabled,
+                                      @Value("${inventory.reservation-expiry.tick:1s}") Duration tick,
+                                      @Value("${inventory.reservation-expiry.max-batch-size:1000}") int maxBatchSize) {
+        this.reservationRepositoryPort = reservationRepositoryPort;
+        this.inventoryDomainService = inventoryDomainService;
+        this.enabled = enabled;
+        this.tick = tick;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Schedulers.newSingle("reservation-expiry", true);
+        this.expiredCounter = Counter.builder(METRIC_PREFIX + ".expired")
+                .description("Reservations expired and released by the expiry scheduler")
+                .register(meterRegistry);
+        this.claimFailedCounter = Counter.builder(METRIC_PREFIX + ".claim.failed")
+                .description("Due reservations whose expiry could not be stored, queued again")
+                .register(meterRegistry);
+        this.releaseFailedCounter = Counter.builder(METRIC_PREFIX + ".release.failed")
+                .description("Expired reservations whose stock could not be released, queued again")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".scheduled", queue, DelayQueue::size)
+                .description("Reservations waiting for their expiry")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        rebuild().block();
+        ticker = Flux.interval(tick, scheduler)
+                .onBackpressureDrop()
+                .concatMap(ignored -> expireDue().onErrorReturn(0), 1)
+                .subscribe();
+    }
+
+    public void schedule(Reservation reservation) {
+        if (enabled && STATUS_RESERVED.equals(reservation.getStatus()) && reservation.getExpiresAt() != null) {
+            queue.add(new ExpiryEntry(reservation,
+                    reservation.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), false));
+        }
+    }
+
+    public Mono<Void> rebuild() {
+        return reservationRepositoryPort.findByStatus(STATUS_RESERVED)
+                .doOnNext(this::schedule)
+                .then();
+    }
+
+    /**
+     * Drains the reservations that are due, at most {@code maxBatchSize} per call, and emits how many
+     * were expired.
+     */
+    public Mono<Integer> expireDue() {
+        return Mono.defer(() -> {
+            List<ExpiryEntry> due = new ArrayList<>();
+            queue.drainTo(due, maxBatchSize);
+            if (due.isEmpty()) {
+                return Mono.just(0);
+            }
+            return Flux.fromIterable(due)
+                    .flatMap(this::claim)
+                    .groupBy(reservation -> new StockKey(reservation.getProductId(), reservation.getStoreId()))
+                    .flatMap(sku -> sku.collectList().flatMap(this::releaseSku))
+                    .reduce(0, Integer::sum);
+        });
+    }
+
+    public int getScheduledCount() {
+        return queue.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (ticker != null) {
+            ticker.dispose();
+        }
+        scheduler.dispose();
+    }
+
+    private Mono<Reservation> claim(ExpiryEntry entry) {
+        if (entry.claimed()) {
+            return Mono.just(entry.reservation());
+        }
+        Reservation expired = entry.reservation().markAsExpired();
+        return reservationRepositoryPort.updateStatus(expired.getReservationId(), expired.getStatus())
+                .onErrorResume(error -> {
+                    claimFailedCounter.increment();
+                    retry(entry.reservation(), false);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Integer> releaseSku(List<Reservation> reservations) {
+        Reservation first = reservations.get(0);
+        int quantity = reservations.stream().mapToInt(Reservation::getQuantity).sum();
+        return inventoryDomainService.releaseReservedStock(first.getProductId(), first.getStoreId(), quantity)
+                .doOnSuccess(ignored -> expiredCounter.increment(reservations.size()))
+                .thenReturn(reservations.size())
+                .onErrorResume(error -> {
+                    releaseFailedCounter.increment(reservations.size());
+                    reservations.forEach(reservation -> retry(reservation, true));
+                    return Mono.just(0);
+                });
+    }
+
+    private void retry(Reservation reservation, boolean claimed) {
+        queue.add(new ExpiryEntry(reservation, System.currentTimeMillis() + tick.toMillis(), claimed));
+    }
+
+    private record ExpiryEntry(Reservation reservation, long expiresAtMillis, boolean claimed) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiresAtMillis, ((ExpiryEntry) other).expiresAtMillis);
+        }
+    }
+
+}
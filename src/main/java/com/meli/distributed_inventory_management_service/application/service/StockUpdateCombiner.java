@@ -0,0 +1,215 @@
+package com.meli.distributed_inventory_management_service.application.service;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.StockDelta;
+import com.meli.distributed_inventory_management_service.domain.model.StockUpdateOutcome;
+import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+import com.meli.distributed_inventory_management_service.domain.service.InventoryDomainService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects concurrent stock updates for the same (productId, storeId) and writes them as one
+ * versioned update. A key has at most one write in flight; updates arriving meanwhile are
+ * queued and flushed together as soon as it completes, or when the window elapses or the batch
+ * fills up for an idle key.
+ */
+@Service
+public class StockUpdateCombiner {
+
+    private static final String METRIC_PREFIX = "inventory.stock.combiner";
+
+    private final InventoryDomainService inventoryDomainService;
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Map<LaneKey, Lane> lanes = new ConcurrentHashMap<>();
+    private final Counter requestCounter;
+    private final Counter flushCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    public StockUpdateCombiner(InventoryDomainService inventoryDomainService,
+                               MeterRegistry meterRegistry,
+                               @Value("${inventory.write-combining.enabled:true}") boolean enabled,
+                               @Value("${inventory.write-combining.window:2ms}") Duration window,
+                               @Value("${inventory.write-combining.max-batch-size:64}") int maxBatchSize) {
+        this.inventoryDomainService = inventoryDomainService;
+        this.enabled = enabled;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.requestCounter = Counter.builder(METRIC_PREFIX + ".requests")
+                .description("Stock updates submitted to the write combiner")
+                .register(meterRegistry);
+        this.flushCounter = Counter.builder(METRIC_PREFIX + ".flushes")
+                .description("Combined writes issued to the repository")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                .description("Stock updates folded into a single write")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".ratio", this, StockUpdateCombiner::getCombineRatio)
+                .description("Average number of stock updates per write")
+                .register(meterRegistry);
+    }
+
+    public Mono<InventoryItem> updateStock(String productId, String storeId, Integer quantity, UpdateType updateType) {
+        if (!enabled) {
+            return inventoryDomainService.updateStockWithRetry(productId, storeId, quantity, updateType);
+        }
+        return Mono.defer(() -> {
+            PendingUpdate update = new PendingUpdate(new StockDelta(quantity, updateType));
+            submit(new LaneKey(productId, storeId), update);
+            return update.result().asMono();
+        });
+    }
+
+    public double getCombineRatio() {
+        double flushes = flushCounter.count();
+        return flushes == 0 ? 0 : requestCounter.count() / flushes;
+    }
+
+    private void submit(LaneKey key, PendingUpdate update) {
+        while (true) {
+            Lane lane = lanes.computeIfAbsent(key, Lane::new);
+            List<PendingUpdate> batch = null;
+            boolean arm = false;
+            synchronized (lane) {
+                if (lane.retired) {
+                    continue;
+                }
+                lane.pending.add(update);
+                if (lane.writing) {
+                    return;
+                }
+                if (lane.pending.size() >= maxBatchSize) {
+                    batch = lane.drain(maxBatchSize);
+                } else if (!lane.armed) {
+                    lane.armed = true;
+                    arm = true;
+                }
+            }
+            if (batch != null) {
+                write(lane, batch);
+            } else if (arm) {
+                Mono.delay(window).subscribe(tick -> onWindowElapsed(lane));
+            }
+            return;
+        }
+    }
+
+    private void onWindowElapsed(Lane lane) {
+        List<PendingUpdate> batch;
+        synchronized (lane) {
+            lane.armed = false;
+            if (lane.writing) {
+                return;
+            }
+            if (lane.pending.isEmpty()) {
+                retire(lane);
+                return;
+            }
+            batch = lane.drain(maxBatchSize);
+        }
+        write(lane, batch);
+    }
+
+    private void onWriteCompleted(Lane lane) {
+        List<PendingUpdate> batch;
+        synchronized (lane) {
+            lane.writing = false;
+            if (lane.pending.isEmpty()) {
+                if (!lane.armed) {
+                    retire(lane);
+                }
+                return;
+            }
+            if (lane.armed && lane.pending.size() < maxBatchSize) {
+                return;
+            }
+            batch = lane.drain(maxBatchSize);
+        }
+        write(lane, batch);
+    }
+
+    private void retire(Lane lane) {
+        lane.retired = true;
+        lanes.remove(lane.key, lane);
+    }
+
+    private void write(Lane lane, List<PendingUpdate> batch) {
+        requestCounter.increment(batch.size());
+        flushCounter.increment();
+        batchSizeSummary.record(batch.size());
+
+        List<StockDelta> deltas = batch.stream().map(PendingUpdate::delta).toList();
+        inventoryDomainService.applyStockUpdates(lane.key.productId(), lane.key.storeId(), deltas)
+                .doFinally(signal -> {
+                    batch.forEach(update -> update.result().tryEmitEmpty());
+                    onWriteCompleted(lane);
+                })
+                .subscribe(
+                        outcomes -> deliver(batch, outcomes),
+                        error -> batch.forEach(update -> update.result().tryEmitError(error)));
+    }
+
+    private static void deliver(List<PendingUpdate> batch, List<StockUpdateOutcome> outcomes) {
+        for (int i = 0; i < batch.size(); i++) {
+            StockUpdateOutcome outcome = outcomes.get(i);
+            Sinks.One<InventoryItem> result = batch.get(i).result();
+            if (outcome.isSuccess()) {
+                result.tryEmitValue(outcome.getItem());
+            } else {
+                result.tryEmitError(outcome.getError());
+            }
+        }
+    }
+
+    private record LaneKey(String productId, String storeId) {
+    }
+
+    private record PendingUpdate(StockDelta delta, Sinks.One<InventoryItem> result) {
+
+        PendingUpdate(StockDelta delta) {
+            this(delta, Sinks.one());
+        }
+    }
+
+    private static final class Lane {
+
+        private final LaneKey key;
+        private List<PendingUpdate> pending = new ArrayList<>();
+        private boolean armed;
+        private boolean writing;
+        private boolean retired;
+
+        private Lane(LaneKey key) {
+            this.key = key;
+        }
+
+        private List<PendingUpdate> drain(int limit) {
+            List<PendingUpdate> batch;
+            if (pending.size() <= limit) {
+                batch = pending;
+                pending = new ArrayList<>();
+            } else {
+                List<PendingUpdate> head = pending.subList(0, limit);
+                batch = new ArrayList<>(head);
+                head.clear();
+            }
+            writing = true;
+            return batch;
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.meli.distributed_inventory_management_service.application.usecase;
 
 import com.meli.distributed_inventory_management_service.application.dto.inventory.EventResponseDTO;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -9,6 +10,8 @@ public interface EventUseCase {
 
     Flux<EventResponseDTO> getAllEvents();
 
+    Flux<EventResponseDTO> getEventsPage(PageCursor after, int limit);
+
     Flux<EventResponseDTO> getEventsByStatus(String status);
 
     Flux<EventResponseDTO> getEventsByCorrelationId(String correlationId);
@@ -1,8 +1,11 @@
 package com.meli.distributed_inventory_management_service.application.usecase;
 
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import reactor.core.publisher.Flux;
 
 public interface GetInventoryByProductUseCase {
     Flux<InventoryItem> execute(String productId);
+
+    Flux<InventoryItem> execute(String productId, PageCursor after, int limit);
 }
\ No newline at end of file
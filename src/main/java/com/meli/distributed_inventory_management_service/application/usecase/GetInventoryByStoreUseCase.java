@@ -1,8 +1,11 @@
 package com.meli.distributed_inventory_management_service.application.usecase;
 
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import reactor.core.publisher.Flux;
 
 public interface GetInventoryByStoreUseCase {
     Flux<InventoryItem> execute(String storeId);
+
+    Flux<InventoryItem> execute(String storeId, PageCursor after, int limit);
 }
\ No newline at end of file
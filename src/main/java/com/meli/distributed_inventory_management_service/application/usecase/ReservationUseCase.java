@@ -1,9 +1,14 @@
 package com.meli.distributed_inventory_management_service.application.usecase;
 
+import com.meli.distributed_inventory_management_service.application.dto.inventory.BatchReservationResponseDTO;
 import com.meli.distributed_inventory_management_service.application.dto.inventory.ReservationResponseDTO;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface ReservationUseCase {
     Mono<ReservationResponseDTO> createReservation(String productId, String storeId, Integer quantity, String correlationId);
 
@@ -15,5 +20,15 @@ public interface ReservationUseCase {
 
     Flux<ReservationResponseDTO> getAllReservations();
 
+    Flux<ReservationResponseDTO> getReservationsPage(PageCursor after, int limit);
+
     Mono<Boolean> validateReservation(String reservationId);
+
+    Mono<BatchReservationResponseDTO> createBatchReservation(List<StockLine> lines, String correlationId);
+
+    Mono<BatchReservationResponseDTO> confirmBatchReservation(String groupId);
+
+    Mono<BatchReservationResponseDTO> releaseBatchReservation(String groupId);
+
+    Mono<BatchReservationResponseDTO> getBatchReservation(String groupId);
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.meli.distributed_inventory_management_service.application.dto.invento
 import com.meli.distributed_inventory_management_service.application.port.EventRepositoryPort;
 import com.meli.distributed_inventory_management_service.application.usecase.EventUseCase;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryUpdateEvent;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
@@ -27,6 +28,12 @@ public class EventUseCaseImpl implements EventUseCase {
                 .map(this::toResponseDTO);
     }
 
+    @Override
+    public Flux<EventResponseDTO> getEventsPage(PageCursor after, int limit) {
+        return eventRepositoryPort.findPage(after, limit)
+                .map(this::toResponseDTO);
+    }
+
     @Override
     public Flux<EventResponseDTO> getEventsByStatus(String status) {
         return eventRepositoryPort.findByStatus(status)
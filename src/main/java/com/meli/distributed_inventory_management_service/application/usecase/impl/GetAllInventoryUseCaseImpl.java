@@ -3,6 +3,7 @@ package com.meli.distributed_inventory_management_service.application.usecase.im
 import com.meli.distributed_inventory_management_service.application.port.InventoryRepositoryPort;
 import com.meli.distributed_inventory_management_service.application.usecase.GetAllInventoryUseCase;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
@@ -17,4 +18,9 @@ public class GetAllInventoryUseCaseImpl implements GetAllInventoryUseCase {
     public Flux<InventoryItem> execute() {
         return inventoryRepositoryPort.findAll();
     }
+
+    @Override
+    public Flux<InventoryItem> execute(PageCursor after, int limit) {
+        return inventoryRepositoryPort.findPage(null, null, after, limit);
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.meli.distributed_inventory_management_service.application.usecase.im
 import com.meli.distributed_inventory_management_service.application.port.InventoryRepositoryPort;
 import com.meli.distributed_inventory_management_service.application.usecase.GetInventoryByProductUseCase;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
@@ -17,4 +18,9 @@ public class GetInventoryByProductUseCaseImpl implements GetInventoryByProductUs
     public Flux<InventoryItem> execute(String productId) {
         return inventoryRepositoryPort.findByProductId(productId);
     }
+
+    @Override
+    public Flux<InventoryItem> execute(String productId, PageCursor after, int limit) {
+        return inventoryRepositoryPort.findPage(null, productId, after, limit);
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.meli.distributed_inventory_management_service.application.usecase.im
 import com.meli.distributed_inventory_management_service.application.port.InventoryRepositoryPort;
 import com.meli.distributed_inventory_management_service.application.usecase.GetInventoryByStoreUseCase;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
@@ -17,4 +18,9 @@ public class GetInventoryByStoreUseCaseImpl implements GetInventoryByStoreUseCas
     public Flux<InventoryItem> execute(String storeId) {
         return inventoryRepositoryPort.findByStoreId(storeId);
     }
+
+    @Override
+    public Flux<InventoryItem> execute(String storeId, PageCursor after, int limit) {
+        return inventoryRepositoryPort.findPage(storeId, null, after, limit);
+    }
 }
\ No newline at end of file
@@ -1,16 +1,25 @@
 package com.meli.distributed_inventory_management_service.application.usecase.impl;
 
+import com.meli.distributed_inventory_management_service.application.dto.inventory.BatchReservationResponseDTO;
 import com.meli.distributed_inventory_management_service.application.dto.inventory.ReservationResponseDTO;
 import com.meli.distributed_inventory_management_service.application.port.ReservationRepositoryPort;
 import com.meli.distributed_inventory_management_service.application.port.ReservationServicePort;
+import com.meli.distributed_inventory_management_service.application.service.ReservationExpiryScheduler;
 import com.meli.distributed_inventory_management_service.application.usecase.ReservationUseCase;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.*;
 
@@ -20,6 +29,7 @@ public class ReservationUseCaseImpl implements ReservationUseCase {
 
     private final ReservationServicePort reservationServicePort;
     private final ReservationRepositoryPort reservationRepositoryPort;
+    private final ReservationExpiryScheduler reservationExpiryScheduler;
 
     @Override
     public Mono<ReservationResponseDTO> createReservation(String productId, String storeId, Integer quantity, String correlationId) {
@@ -39,6 +49,7 @@ public class ReservationUseCaseImpl implements ReservationUseCase {
                     return reservationRepositoryPort.save(reservation)
                             .then(reservationServicePort.reserveStock(productId, storeId, quantity))
                             .then(reservationRepositoryPort.updateStatus(reservationId, STATUS_RESERVED))
+                            .doOnNext(reservationExpiryScheduler::schedule)
                             .flatMap(updatedReservation -> reservationRepositoryPort.findById(reservationId))
                             .map(this::toResponseDTO);
                 });
@@ -52,9 +63,11 @@ public class ReservationUseCaseImpl implements ReservationUseCase {
                         return Mono.error(new IllegalStateException("Cannot confirm reservation: " + reservationId));
                     }
 
-                    return reservationServicePort.confirmReservation(reservationId)
-                            .then(reservationRepositoryPort.updateStatus(reservationId, STATUS_CONFIRMED))
-                            .flatMap(updatedReservation -> reservationRepositoryPort.findById(reservationId))
+                    return claim(reservation, STATUS_CONFIRMED, "confirm")
+                            .flatMap(claimed -> reservationServicePort.confirmReservation(reservationId)
+                                    .onErrorResume(error -> restore(List.of(reservation), STATUS_CONFIRMED)
+                                            .then(Mono.error(error)))
+                                    .thenReturn(claimed))
                             .map(this::toResponseDTO);
                 });
     }
@@ -64,18 +77,15 @@ public class ReservationUseCaseImpl implements ReservationUseCase {
         return reservationRepositoryPort.findById(reservationId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Reservation not found: " + reservationId)))
                 .flatMap(reservation -> {
-                    // DEBUG: Verificar el estado de la reserva
-                    System.out.println("Reservation status: " + reservation.getStatus());
-                    System.out.println("Can be released: " + reservation.canBeReleased());
-
                     if (!reservation.canBeReleased()) {
                         return Mono.error(new IllegalStateException("Cannot release reservation: " + reservationId));
                     }
 
-                    return reservationServicePort.releaseReservation(reservationId)
-                            .then(reservationRepositoryPort.updateStatus(reservationId, STATUS_RELEASED))
-                            .then(reservationRepositoryPort.findById(reservationId))
-                            .switchIfEmpty(Mono.error(new IllegalStateException("Reservation not found after update: " + reservationId)))
+                    return claim(reservation, STATUS_RELEASED, "release")
+                            .flatMap(claimed -> reservationServicePort.releaseReservation(reservationId)
+                                    .onErrorResume(error -> restore(List.of(reservation), STATUS_RELEASED)
+                                            .then(Mono.error(error)))
+                                    .thenReturn(claimed))
                             .map(this::toResponseDTO);
                 });
     }
@@ -92,6 +102,12 @@ public class ReservationUseCaseImpl implements ReservationUseCase {
                 .map(this::toResponseDTO);
     }
 
+    @Override
+    public Flux<ReservationResponseDTO> getReservationsPage(PageCursor after, int limit) {
+        return reservationRepositoryPort.findPage(after, limit)
+                .map(this::toResponseDTO);
+    }
+
     @Override
     public Mono<Boolean> validateReservation(String reservationId) {
         return reservationRepositoryPort.findById(reservationId)
@@ -99,6 +115,161 @@ public class ReservationUseCaseImpl implements ReservationUseCase {
                 .defaultIfEmpty(false);
     }
 
+    /**
+     * Reserves all lines of a cart in one transaction. Reservations are stored only after the stock
+     * is held, and all of them share a group ID so the cart can be confirmed or released as a unit.
+     * Holding the stock and storing the reservations are separate writes, so when storing fails or
+     * the caller cancels in between, the stored rows are moved to RELEASED and the stock is given back.
+     */
+    @Override
+    public Mono<BatchReservationResponseDTO> createBatchReservation(List<StockLine> lines, String correlationId) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        LocalDateTime expiresAt = createdAt.plusMinutes(RESERVATION_TIMEOUT_MINUTES);
+        return reservationServicePort.generateReservationGroupId()
+                .flatMap(groupId -> {
+                    AtomicBoolean held = new AtomicBoolean();
+                    AtomicBoolean stored = new AtomicBoolean();
+                    return reservationServicePort.reserveStockLines(lines)
+                            .doOnSuccess(ignored -> held.set(true))
+                            .thenMany(Flux.fromIterable(lines))
+                            .concatMap(line -> reservationServicePort.generateReservationId()
+                                    .map(reservationId -> Reservation.builder()
+                                            .reservationId(reservationId)
+                                            .productId(line.getProductId())
+                                            .storeId(line.getStoreId())
+                                            .quantity(line.getQuantity())
+                                            .status(STATUS_RESERVED)
+                                            .createdAt(createdAt)
+                                            .expiresAt(expiresAt)
+                                            .correlationId(correlationId)
+                                            .groupId(groupId)
+                                            .build()))
+                            .concatMap(reservationRepositoryPort::save)
+                            .collectList()
+                            .doOnSuccess(ignored -> stored.set(true))
+                            .onErrorResume(error -> held.get()
+                                    ? undoBatchReservation(groupId, lines).then(Mono.error(error))
+                                    : Mono.error(error))
+                            .doOnCancel(() -> {
+                                if (held.get() && !stored.get()) {
+                                    undoBatchReservation(groupId, lines).subscribe(ignored -> { }, error -> { });
+                                }
+                            })
+                            .doOnNext(reservations -> reservations.forEach(reservationExpiryScheduler::schedule))
+                            .map(reservations -> toBatchResponseDTO(groupId, reservations));
+                });
+    }
+
+    @Override
+    public Mono<BatchReservationResponseDTO> confirmBatchReservation(String groupId) {
+        return findGroup(groupId)
+                .flatMap(reservations -> requireAll(groupId, reservations, Reservation::canBeConfirmed, "confirm")
+                        .then(Mono.defer(() -> claimGroup(groupId, reservations, STATUS_CONFIRMED, "confirm")))
+                        .flatMap(claimed -> reservationServicePort.confirmReservations(reservations)
+                                .onErrorResume(error -> restore(reservations, STATUS_CONFIRMED).then(Mono.error(error)))
+                                .thenReturn(claimed)))
+                .map(reservations -> toBatchResponseDTO(groupId, reservations));
+    }
+
+    @Override
+    public Mono<BatchReservationResponseDTO> releaseBatchReservation(String groupId) {
+        return findGroup(groupId)
+                .flatMap(reservations -> requireAll(groupId, reservations, Reservation::canBeReleased, "release")
+                        .then(Mono.defer(() -> claimGroup(groupId, reservations, STATUS_RELEASED, "release")))
+                        .flatMap(claimed -> reservationServicePort.releaseReservations(reservations)
+                                .onErrorResume(error -> restore(reservations, STATUS_RELEASED).then(Mono.error(error)))
+                                .thenReturn(claimed)))
+                .map(reservations -> toBatchResponseDTO(groupId, reservations));
+    }
+
+    @Override
+    public Mono<BatchReservationResponseDTO> getBatchReservation(String groupId) {
+        return reservationRepositoryPort.findByGroupId(groupId)
+                .collectList()
+                .filter(reservations -> !reservations.isEmpty())
+                .map(reservations -> toBatchResponseDTO(groupId, reservations));
+    }
+
+    /**
+     * Releases whatever part of the group was stored before the stock held for its lines is given
+     * back, so the expiry scheduler or a caller cannot release the same stock a second time.
+     */
+    private Mono<Void> undoBatchReservation(String groupId, List<StockLine> lines) {
+        return reservationRepositoryPort.updateGroupStatus(groupId, STATUS_RELEASED)
+                .then(reservationServicePort.releaseStockLines(lines))
+                .then();
+    }
+
+    private Mono<List<Reservation>> findGroup(String groupId) {
+        return reservationRepositoryPort.findByGroupId(groupId)
+                .collectList()
+                .filter(reservations -> !reservations.isEmpty())
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("Reservation group not found: " + groupId)));
+    }
+
+    /**
+     * Moves the reservation to {@code status} before any stock is touched. Only one of a confirm, a
+     * release and the expiry scheduler wins the guarded update, so only the winner changes stock.
+     */
+    private Mono<Reservation> claim(Reservation reservation, String status, String action) {
+        return reservationRepositoryPort.updateStatus(reservation.getReservationId(), status)
+                .switchIfEmpty(Mono.error(new IllegalStateException(
+                        "Cannot " + action + " reservation: " + reservation.getReservationId())));
+    }
+
+    /**
+     * Claims every reservation of the group. If another caller took any of them first, the ones
+     * claimed here are given back and the group is left untouched.
+     */
+    private Mono<List<Reservation>> claimGroup(String groupId, List<Reservation> reservations, String status,
+                                               String action) {
+        return reservationRepositoryPort.updateGroupStatus(groupId, status)
+                .collectList()
+                .flatMap(claimed -> {
+                    if (claimed.size() == reservations.size()) {
+                        return Mono.just(claimed);
+                    }
+                    Set<String> claimedIds = claimed.stream()
+                            .map(Reservation::getReservationId)
+                            .collect(Collectors.toSet());
+                    return restore(reservations.stream()
+                                    .filter(reservation -> claimedIds.contains(reservation.getReservationId()))
+                                    .toList(), status)
+                            .then(Mono.error(new IllegalStateException(
+                                    "Cannot " + action + " reservation group: " + groupId)));
+                });
+    }
+
+    /**
+     * Gives back claims whose stock change failed, returning each reservation to the status it had
+     * before and scheduling its expiry again.
+     */
+    private Mono<Void> restore(List<Reservation> originals, String claimedStatus) {
+        return Flux.fromIterable(originals)
+                .concatMap(original -> reservationRepositoryPort.restoreStatus(
+                        original.getReservationId(), claimedStatus, original.getStatus()))
+                .doOnNext(reservationExpiryScheduler::schedule)
+                .then();
+    }
+
+    private static Mono<Void> requireAll(String groupId, List<Reservation> reservations,
+                                         Predicate<Reservation> allowed, String action) {
+        return reservations.stream().allMatch(allowed)
+                ? Mono.empty()
+                : Mono.error(new IllegalStateException("Cannot " + action + " reservation group: " + groupId));
+    }
+
+    private BatchReservationResponseDTO toBatchResponseDTO(String groupId, List<Reservation> reservations) {
+        Reservation first = reservations.get(0);
+        return new BatchReservationResponseDTO(
+                groupId,
+                first.getStatus(),
+                first.getExpiresAt(),
+                first.getCorrelationId(),
+                reservations.stream().map(this::toResponseDTO).toList()
+        );
+    }
+
     private ReservationResponseDTO toResponseDTO(Reservation reservation) {
         return new ReservationResponseDTO(
                 reservation.getReservationId(),
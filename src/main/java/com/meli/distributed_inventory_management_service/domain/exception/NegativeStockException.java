@@ -0,0 +1,13 @@
+package com.meli.distributed_inventory_management_service.domain.exception;
+
+/**
+ * A sale asked for more units than the item has on hand. It stays an
+ * {@link IllegalArgumentException}, as stock updates have always rejected it.
+ */
+public class NegativeStockException extends IllegalArgumentException {
+
+    public NegativeStockException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.meli.distributed_inventory_management_service.domain.exception;
+
+/**
+ * An operation asked for more available or reserved stock than the item holds. It stays an
+ * {@link IllegalStateException}, so callers that map rejections by that type keep working.
+ */
+public class StockShortageException extends IllegalStateException {
+
+    public StockShortageException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.meli.distributed_inventory_management_service.domain.hotkey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch over 64-bit key hashes: {@code depth} rows of {@code width} atomic counters in
+ * one array. Adding increments one counter per row without locking; the estimate is the smallest
+ * of those counters, so it never undercounts and overcounts by at most about {@code e / width} of
+ * everything added, with a probability that shrinks exponentially with the depth.
+ */
+final class CountMinSketch {
+
+    private static final long ROW_SEED = 0x9E3779B97F4A7C15L;
+
+    private final int depth;
+    private final int widthMask;
+    private final AtomicLongArray counters;
+
+    CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("Sketch width and depth must be positive");
+        }
+        this.depth = depth;
+        int roundedWidth = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+        this.widthMask = roundedWidth - 1;
+        this.counters = new AtomicLongArray(roundedWidth * depth);
+    }
+
+    /**
+     * Counts one occurrence and returns the estimate including it.
+     */
+    long add(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    long estimate(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    void clear() {
+        for (int index = 0; index < counters.length(); index++) {
+            counters.set(index, 0L);
+        }
+    }
+
+    private int index(long hash, int row) {
+        long rowHash = mix(hash + ROW_SEED * (row + 1));
+        return row * (widthMask + 1) + (int) (rowHash & widthMask);
+    }
+
+    /**
+     * Finalizer of SplitMix64, so that neighbouring hashes land on unrelated counters in every row.
+     */
+    static long mix(long value) {
+        long mixed = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+        return mixed ^ (mixed >>> 31);
+    }
+
+}
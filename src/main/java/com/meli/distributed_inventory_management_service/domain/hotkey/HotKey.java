@@ -0,0 +1,16 @@
+package com.meli.distributed_inventory_management_service.domain.hotkey;
+
+import lombok.Value;
+
+/**
+ * A (productId, storeId) with its estimated number of occurrences in the tracking window. The
+ * count comes from a count-min sketch, so it errs on the high side.
+ */
+@Value
+public class HotKey {
+
+    String productId;
+    String storeId;
+    long count;
+
+}
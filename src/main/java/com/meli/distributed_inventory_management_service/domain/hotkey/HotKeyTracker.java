@@ -0,0 +1,95 @@
+package com.meli.distributed_inventory_management_service.domain.hotkey;
+
+import com.meli.distributed_inventory_management_service.domain.exception.ConcurrentUpdateException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Tracks the hottest (productId, storeId) keys over a sliding window: the keys mutated most often
+ * and the keys that lost the most version races. Fed by the domain service on the request path;
+ * recording is a few atomic increments and a scan of the top-K slots, with no lock and no memory
+ * growth however many keys are seen.
+ */
+@Component
+public class HotKeyTracker {
+
+    private static final int DEFAULT_TOP_K = 0;
+
+    @Getter
+    private final boolean enabled;
+    @Getter
+    private final int topK;
+    @Getter
+    private final Duration window;
+    private final SlidingHeavyHitters mutations;
+    private final SlidingHeavyHitters conflicts;
+
+    public HotKeyTracker(@Value("${inventory.hot-keys.enabled:true}") boolean enabled,
+                         @Value("${inventory.hot-keys.top-k:32}") int topK,
+                         @Value("${inventory.hot-keys.window:60s}") Duration window,
+                         @Value("${inventory.hot-keys.window-buckets:6}") int windowBuckets,
+                         @Value("${inventory.hot-keys.sketch-width:1024}") int sketchWidth,
+                         @Value("${inventory.hot-keys.sketch-depth:4}") int sketchDepth) {
+        this.enabled = enabled;
+        this.topK = topK;
+        this.window = window;
+        if (enabled) {
+            this.mutations = new SlidingHeavyHitters(window, windowBuckets, sketchWidth, sketchDepth, topK,
+                    System::nanoTime);
+            this.conflicts = new SlidingHeavyHitters(window, windowBuckets, sketchWidth, sketchDepth, topK,
+                    System::nanoTime);
+        } else {
+            this.mutations = null;
+            this.conflicts = null;
+        }
+    }
+
+    public static HotKeyTracker disabled() {
+        return new HotKeyTracker(false, DEFAULT_TOP_K, Duration.ZERO, 0, 0, 0);
+    }
+
+    public void mutation(String productId, String storeId) {
+        if (enabled) {
+            mutations.record(productId, storeId);
+        }
+    }
+
+    public void conflict(String productId, String storeId) {
+        if (enabled) {
+            conflicts.record(productId, storeId);
+        }
+    }
+
+    /**
+     * Records a conflict for the key whenever one attempt fails with a
+     * {@link ConcurrentUpdateException}; apply it to the attempt, inside the retry.
+     */
+    public <T> Function<Mono<T>, Mono<T>> countingConflicts(String productId, String storeId) {
+        if (!enabled) {
+            return Function.identity();
+        }
+        return attempt -> attempt.doOnError(ConcurrentUpdateException.class, error -> conflicts.record(productId, storeId));
+    }
+
+    /**
+     * The most mutated keys in the window, at most {@code limit} and never more than the top-K size.
+     */
+    public List<HotKey> hottest(int limit) {
+        return enabled ? mutations.top(Math.min(limit, topK)) : List.of();
+    }
+
+    /**
+     * The keys with the most lost version races in the window, at most {@code limit} and never
+     * more than the top-K size.
+     */
+    public List<HotKey> mostContended(int limit) {
+        return enabled ? conflicts.top(Math.min(limit, topK)) : List.of();
+    }
+
+}
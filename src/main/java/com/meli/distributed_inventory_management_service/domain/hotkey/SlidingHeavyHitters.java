@@ -0,0 +1,98 @@
+package com.meli.distributed_inventory_management_service.domain.hotkey;
+
+import com.meli.distributed_inventory_management_service.domain.model.StockKey;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Heavy hitters over a sliding time window, in fixed memory. The window is split into buckets
+ * that form a ring; each bucket has its own {@link CountMinSketch} and {@link SpaceSavingTable},
+ * and is cleared by the first writer that reaches it after it went out of the window. A query
+ * merges the buckets still inside the window, so the counts cover between {@code buckets - 1}
+ * and {@code buckets} bucket lengths of history.
+ * <p>
+ * Recording takes no lock. Counts that land in a bucket while it is being cleared may be lost,
+ * which only matters at bucket boundaries and only lowers the estimate of that bucket.
+ */
+final class SlidingHeavyHitters {
+
+    private final long bucketNanos;
+    private final Bucket[] buckets;
+    private final LongSupplier nanoClock;
+
+    SlidingHeavyHitters(Duration window, int bucketCount, int sketchWidth, int sketchDepth, int capacity,
+                        LongSupplier nanoClock) {
+        if (bucketCount <= 0 || window.toNanos() < bucketCount) {
+            throw new IllegalArgumentException("The window needs at least one bucket and must be longer than"
+                    + " one nanosecond per bucket");
+        }
+        this.bucketNanos = window.toNanos() / bucketCount;
+        this.buckets = new Bucket[bucketCount];
+        for (int index = 0; index < bucketCount; index++) {
+            buckets[index] = new Bucket(new CountMinSketch(sketchWidth, sketchDepth), new SpaceSavingTable(capacity));
+        }
+        this.nanoClock = nanoClock;
+    }
+
+    void record(String productId, String storeId) {
+        long epoch = Math.floorDiv(nanoClock.getAsLong(), bucketNanos);
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+        long bucketEpoch = bucket.epoch.get();
+        if (bucketEpoch < epoch && bucket.epoch.compareAndSet(bucketEpoch, epoch)) {
+            bucket.sketch.clear();
+            bucket.table.clear();
+        }
+        long hash = hash(productId, storeId);
+        bucket.table.offer(productId, storeId, hash, bucket.sketch.add(hash));
+    }
+
+    /**
+     * The keys with the highest counts in the window, highest first.
+     */
+    List<HotKey> top(int limit) {
+        long epoch = Math.floorDiv(nanoClock.getAsLong(), bucketNanos);
+        List<Bucket> live = new ArrayList<>(buckets.length);
+        for (Bucket bucket : buckets) {
+            long bucketEpoch = bucket.epoch.get();
+            if (bucketEpoch <= epoch && bucketEpoch > epoch - buckets.length) {
+                live.add(bucket);
+            }
+        }
+        Map<StockKey, Long> counts = new HashMap<>();
+        for (Bucket bucket : live) {
+            bucket.table.forEach((key, ignored) -> counts.computeIfAbsent(key, candidate -> {
+                long hash = hash(candidate.getProductId(), candidate.getStoreId());
+                long count = 0;
+                for (Bucket counted : live) {
+                    count += counted.sketch.estimate(hash);
+                }
+                return count;
+            }));
+        }
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<StockKey, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(entry -> new HotKey(entry.getKey().getProductId(), entry.getKey().getStoreId(), entry.getValue()))
+                .toList();
+    }
+
+    private static long hash(String productId, String storeId) {
+        return ((long) productId.hashCode() << Integer.SIZE) ^ (storeId.hashCode() & 0xFFFFFFFFL);
+    }
+
+    private record Bucket(CountMinSketch sketch, SpaceSavingTable table, AtomicLong epoch) {
+
+        private Bucket(CountMinSketch sketch, SpaceSavingTable table) {
+            this(sketch, table, new AtomicLong(Long.MIN_VALUE));
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.meli.distributed_inventory_management_service.domain.hotkey;
+
+import com.meli.distributed_inventory_management_service.domain.model.StockKey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+/**
+ * The monitored entries of a space-saving top-K: {@code capacity} slots, each a key and its count.
+ * A key already monitored raises its count; a new key replaces the slot with the smallest count
+ * when it has overtaken it. Counts come from a {@link CountMinSketch} instead of being inherited
+ * from the evicted slot, which keeps the overestimate of a newcomer to the sketch's error.
+ * <p>
+ * Slots are swapped with compare-and-set. A writer that loses the race for a slot gives up; the
+ * key is offered again on its next occurrence, so a heavy hitter still gets in.
+ */
+final class SpaceSavingTable {
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final AtomicLongArray counts;
+
+    SpaceSavingTable(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Top-K capacity must be positive");
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.counts = new AtomicLongArray(capacity);
+    }
+
+    void offer(String productId, String storeId, long hash, long count) {
+        int smallest = -1;
+        Entry smallestEntry = null;
+        long smallestCount = Long.MAX_VALUE;
+        for (int slot = 0; slot < entries.length(); slot++) {
+            Entry entry = entries.get(slot);
+            if (entry == null) {
+                if (smallestCount > 0) {
+                    smallest = slot;
+                    smallestEntry = null;
+                    smallestCount = 0;
+                }
+                continue;
+            }
+            if (entry.hash == hash && entry.productId.equals(productId) && entry.storeId.equals(storeId)) {
+                counts.accumulateAndGet(slot, count, Math::max);
+                return;
+            }
+            long slotCount = counts.get(slot);
+            if (slotCount < smallestCount) {
+                smallest = slot;
+                smallestEntry = entry;
+                smallestCount = slotCount;
+            }
+        }
+        if (count > smallestCount) {
+            if (entries.compareAndSet(smallest, smallestEntry, new Entry(productId, storeId, hash))) {
+                counts.set(smallest, count);
+            }
+        }
+    }
+
+    void forEach(BiConsumer<StockKey, Long> action) {
+        for (int slot = 0; slot < entries.length(); slot++) {
+            Entry entry = entries.get(slot);
+            if (entry != null) {
+                action.accept(new StockKey(entry.productId, entry.storeId), counts.get(slot));
+            }
+        }
+    }
+
+    void clear() {
+        for (int slot = 0; slot < entries.length(); slot++) {
+            entries.set(slot, null);
+            counts.set(slot, 0L);
+        }
+    }
+
+    private record Entry(String productId, String storeId, long hash) {
+    }
+
+}
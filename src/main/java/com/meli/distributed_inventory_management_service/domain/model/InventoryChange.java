@@ -0,0 +1,29 @@
+package com.meli.distributed_inventory_management_service.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.LocalDateTime;
+
+/**
+ * State of one inventory item after a committed write, as recorded in the outbox. The sequence is
+ * the outbox row ID: it grows with every write, so consumers can use it to drop redeliveries.
+ * Deletions carry only the aggregate ID.
+ */
+@Value
+@Builder
+@Jacksonized
+public class InventoryChange {
+
+    Long sequence;
+    String aggregateId;
+    String productId;
+    String storeId;
+    InventoryChangeType changeType;
+    Integer currentStock;
+    Integer reservedStock;
+    Long version;
+    LocalDateTime createdAt;
+
+}
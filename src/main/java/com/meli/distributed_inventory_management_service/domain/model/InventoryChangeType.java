@@ -0,0 +1,7 @@
+package com.meli.distributed_inventory_management_service.domain.model;
+
+public enum InventoryChangeType {
+
+    STOCK_SAVED, STOCK_UPDATED, STOCK_RESERVED, STOCK_RELEASED, STOCK_COMMITTED, ITEM_DELETED
+
+}
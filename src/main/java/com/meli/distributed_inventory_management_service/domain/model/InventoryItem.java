@@ -1,5 +1,7 @@
 package com.meli.distributed_inventory_management_service.domain.model;
 
+import com.meli.distributed_inventory_management_service.domain.exception.NegativeStockException;
+import com.meli.distributed_inventory_management_service.domain.exception.StockShortageException;
 import lombok.Builder;
 import lombok.Value;
 import reactor.core.publisher.Mono;
@@ -10,7 +12,6 @@ import java.time.LocalDateTime;
 @Builder
 public class InventoryItem {
 
-    private static final int MIN_AVAILABLE_STOCK = 0;
     private static final int PLUS_VERSION = 1;
 
     String id;
@@ -23,106 +24,82 @@ public class InventoryItem {
     LocalDateTime lastUpdated;
     Long version;
 
-    private static Mono<InventoryItem> getErrorByInsufficientStock(Integer quantity, Integer available) {
-        return Mono.error(new IllegalStateException(
-                String.format("Insufficient stock. Available: %d, Requested: %d", available, quantity)
-        ));
-    }
-
     public Mono<Integer> getAvailableStock() {
-        return Mono.just(Math.max(MIN_AVAILABLE_STOCK, currentStock - reservedStock));
+        return Mono.just(StockKernel.available(currentStock, reservedStock));
     }
 
     public Mono<Boolean> canFulfillOrder(Integer quantity) {
-        return getAvailableStock().map(available -> available >= quantity && available > MIN_AVAILABLE_STOCK);
+        return Mono.just(StockKernel.canFulfill(currentStock, reservedStock, quantity));
     }
 
     public Mono<InventoryItem> reserveStock(Integer quantity) {
-        if (quantity <= MIN_AVAILABLE_STOCK) {
-            return Mono.error(new IllegalArgumentException("Quantity must be positive"));
+        long result = StockKernel.reserve(currentStock, reservedStock, quantity);
+        if (!StockKernel.isOk(result)) {
+            return Mono.error(rejection(result, quantity));
         }
+        return Mono.just(copyWithStock(currentStock, StockKernel.value(result), PLUS_VERSION));
+    }
+
+    public Mono<InventoryItem> releaseReservedStock(Integer quantity) {
+        long result = StockKernel.release(reservedStock, quantity);
+        if (!StockKernel.isOk(result)) {
+            return Mono.error(rejection(result, quantity));
+        }
+        return Mono.just(copyWithStock(currentStock, StockKernel.value(result), PLUS_VERSION));
+    }
 
-        return getAvailableStock().flatMap(available -> {
-            if (available < quantity) {
-                return getErrorByInsufficientStock(quantity, available);
+    public Mono<InventoryItem> updateStock(Integer quantity, UpdateType type) {
+        return Mono.fromCallable(() -> {
+            long result = StockKernel.update(currentStock, maximumStockLevelOrNone(), quantity, type);
+            if (!StockKernel.isOk(result)) {
+                throw rejection(result, quantity);
             }
-            return getInventoryItemMono(quantity);
+            return copyWithStock(StockKernel.value(result), reservedStock, PLUS_VERSION);
         });
     }
 
-    private Mono<InventoryItem> getInventoryItemMono(Integer quantity) {
-        return Mono.just(InventoryItem.builder()
-                .id(this.id)
-                .productId(this.productId)
-                .storeId(this.storeId)
-                .currentStock(this.currentStock)
-                .reservedStock(this.reservedStock + quantity)
-                .minimumStockLevel(this.minimumStockLevel)
-                .maximumStockLevel(this.maximumStockLevel)
-                .lastUpdated(LocalDateTime.now())
-                .version(this.version + PLUS_VERSION)
-                .build());
+    /**
+     * Maximum stock level in the form {@link StockKernel#update} expects.
+     */
+    public int maximumStockLevelOrNone() {
+        return maximumStockLevel == null ? StockKernel.NO_MAXIMUM : maximumStockLevel;
     }
 
-    public Mono<InventoryItem> releaseReservedStock(Integer quantity) {
-        if (quantity <= MIN_AVAILABLE_STOCK) {
-            return Mono.error(new IllegalArgumentException("Quantity must be positive"));
-        }
-        if (this.reservedStock < quantity) {
-            return Mono.error(new IllegalStateException(
-                    String.format("Cannot release more than reserved. Reserved: %d, Requested: %d",
-                            this.reservedStock, quantity)
-            ));
-        }
-        return Mono.just(InventoryItem.builder()
+    /**
+     * Copy with new stock figures, stamped now and advanced by {@code changes} versions, one per
+     * change folded into it.
+     */
+    public InventoryItem copyWithStock(int newCurrentStock, int newReservedStock, int changes) {
+        return InventoryItem.builder()
                 .id(this.id)
                 .productId(this.productId)
                 .storeId(this.storeId)
-                .currentStock(this.currentStock)
-                .reservedStock(this.reservedStock - quantity)
+                .currentStock(newCurrentStock)
+                .reservedStock(newReservedStock)
                 .minimumStockLevel(this.minimumStockLevel)
                 .maximumStockLevel(this.maximumStockLevel)
                 .lastUpdated(LocalDateTime.now())
-                .version(this.version + PLUS_VERSION)
-                .build());
-    }
-
-    public Mono<InventoryItem> updateStock(Integer quantity, UpdateType type) {
-        return Mono.fromCallable(() -> {
-            int newStock = calculateNewStockBasedOnType(quantity, type);
-            validateStockLevels(newStock);
-            return InventoryItem.builder()
-                    .id(this.id)
-                    .productId(this.productId)
-                    .storeId(this.storeId)
-                    .currentStock(newStock)
-                    .reservedStock(this.reservedStock)
-                    .minimumStockLevel(this.minimumStockLevel)
-                    .maximumStockLevel(this.maximumStockLevel)
-                    .lastUpdated(LocalDateTime.now())
-                    .version(this.version + PLUS_VERSION)
-                    .build();
-        });
-    }
-
-    private void validateStockLevels(Integer newStock) {
-        if (newStock < MIN_AVAILABLE_STOCK) {
-            throw new IllegalArgumentException("Stock cannot be negative");
-        }
-        if (maximumStockLevel != null && newStock > maximumStockLevel) {
-            throw new IllegalArgumentException(
-                    String.format("Stock exceeds maximum level. Max: %d, Attempted: %d",
-                            maximumStockLevel, newStock)
-            );
-        }
+                .version(this.version + changes)
+                .build();
     }
 
-    private int calculateNewStockBasedOnType(Integer quantity, UpdateType type) {
-        return switch (type) {
-            case PURCHASE, ADJUSTMENT -> this.currentStock + quantity;
-            case SALE -> this.currentStock - quantity;
-            case RESTOCK -> quantity;
-            default -> throw new IllegalArgumentException("Invalid update type");
+    /**
+     * The exception a rejected {@link StockKernel} result stands for. Only built once an operation
+     * has been rejected, so accepted operations never format a message.
+     */
+    public RuntimeException rejection(long result, int quantity) {
+        int value = StockKernel.value(result);
+        return switch (StockKernel.code(result)) {
+            case StockKernel.INVALID_QUANTITY -> new IllegalArgumentException("Quantity must be positive");
+            case StockKernel.INSUFFICIENT_STOCK -> new StockShortageException(
+                    String.format("Insufficient stock. Available: %d, Requested: %d", value, quantity));
+            case StockKernel.INSUFFICIENT_RESERVED -> new StockShortageException(
+                    String.format("Cannot release more than reserved. Reserved: %d, Requested: %d", value, quantity));
+            case StockKernel.NEGATIVE_STOCK -> new NegativeStockException("Stock cannot be negative");
+            case StockKernel.ABOVE_MAXIMUM -> new IllegalArgumentException(
+                    String.format("Stock exceeds maximum level. Max: %d, Attempted: %d", maximumStockLevel, value));
+            case StockKernel.INVALID_TYPE -> new IllegalArgumentException("Invalid update type");
+            default -> new IllegalStateException("Unexpected stock result code: " + StockKernel.code(result));
         };
     }
 
@@ -0,0 +1,55 @@
+package com.meli.distributed_inventory_management_service.domain.model;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Keyset position of a row in (storeId, productId, id) order. Pages are read strictly after a
+ * cursor, so a page costs an index seek plus its own rows no matter how deep it is. Clients only
+ * see the opaque {@link #encode()} form.
+ */
+@Value
+public class PageCursor implements Comparable<PageCursor> {
+
+    private static final Comparator<String> KEY_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+    private static final Comparator<PageCursor> ORDER = Comparator
+            .comparing(PageCursor::getStoreId, KEY_ORDER)
+            .thenComparing(PageCursor::getProductId, KEY_ORDER)
+            .thenComparing(PageCursor::getId, KEY_ORDER);
+    private static final char SEPARATOR = '\u0000';
+
+    String storeId;
+    String productId;
+    String id;
+
+    public static PageCursor of(String storeId, String productId, String id) {
+        return new PageCursor(storeId, productId, id);
+    }
+
+    public String encode() {
+        String raw = storeId + SEPARATOR + productId + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor made by {@link #encode()}, failing with {@link IllegalArgumentException} for
+     * anything else.
+     */
+    public static PageCursor decode(String encoded) {
+        String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        String[] parts = raw.split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid page cursor: " + encoded);
+        }
+        return new PageCursor(parts[0], parts[1], parts[2]);
+    }
+
+    @Override
+    public int compareTo(PageCursor other) {
+        return ORDER.compare(this, other);
+    }
+
+}
@@ -18,6 +18,7 @@ public class Reservation {
     LocalDateTime createdAt;
     LocalDateTime expiresAt;
     String correlationId;
+    String groupId;
 
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expiresAt);
@@ -47,6 +48,7 @@ public class Reservation {
                 .createdAt(this.createdAt)
                 .expiresAt(this.expiresAt)
                 .correlationId(this.correlationId)
+                .groupId(this.groupId)
                 .build();
     }
 
@@ -60,6 +62,7 @@ public class Reservation {
                 .createdAt(this.createdAt)
                 .expiresAt(this.expiresAt)
                 .correlationId(this.correlationId)
+                .groupId(this.groupId)
                 .build();
     }
 
@@ -73,6 +76,7 @@ public class Reservation {
                 .createdAt(this.createdAt)
                 .expiresAt(this.expiresAt)
                 .correlationId(this.correlationId)
+                .groupId(this.groupId)
                 .build();
     }
 
@@ -0,0 +1,109 @@
+package com.meli.distributed_inventory_management_service.domain.model;
+
+/**
+ * Synchronous stock arithmetic and validation on primitives, shared by {@link InventoryItem} and the
+ * domain service. Nothing here allocates: every operation returns a {@code long} that packs a result
+ * code in the high half and a value in the low half. On {@link #OK} the value is the new stock
+ * figure; on a rejection it is the figure the rejection message reports (the available stock, the
+ * reserved stock or the attempted stock). Callers that need an exception build it from the code only
+ * when an operation is rejected.
+ */
+public final class StockKernel {
+
+    public static final int OK = 0;
+    public static final int INVALID_QUANTITY = 1;
+    public static final int INSUFFICIENT_STOCK = 2;
+    public static final int INSUFFICIENT_RESERVED = 3;
+    public static final int NEGATIVE_STOCK = 4;
+    public static final int ABOVE_MAXIMUM = 5;
+    public static final int INVALID_TYPE = 6;
+
+    public static final int NO_MAXIMUM = Integer.MAX_VALUE;
+
+    private static final int MIN_AVAILABLE_STOCK = 0;
+    private static final long VALUE_MASK = 0xFFFF_FFFFL;
+
+    private StockKernel() {
+    }
+
+    public static int available(int currentStock, int reservedStock) {
+        return Math.max(MIN_AVAILABLE_STOCK, currentStock - reservedStock);
+    }
+
+    public static boolean canFulfill(int currentStock, int reservedStock, int quantity) {
+        int available = available(currentStock, reservedStock);
+        return available >= quantity && available > MIN_AVAILABLE_STOCK;
+    }
+
+    /**
+     * Reserves {@code quantity}; the value of an accepted result is the new reserved stock.
+     */
+    public static long reserve(int currentStock, int reservedStock, int quantity) {
+        if (quantity <= MIN_AVAILABLE_STOCK) {
+            return result(INVALID_QUANTITY, quantity);
+        }
+        int available = available(currentStock, reservedStock);
+        if (available < quantity) {
+            return result(INSUFFICIENT_STOCK, available);
+        }
+        return result(OK, reservedStock + quantity);
+    }
+
+    /**
+     * Releases {@code quantity} of reserved stock; the value of an accepted result is the new
+     * reserved stock.
+     */
+    public static long release(int reservedStock, int quantity) {
+        if (quantity <= MIN_AVAILABLE_STOCK) {
+            return result(INVALID_QUANTITY, quantity);
+        }
+        if (reservedStock < quantity) {
+            return result(INSUFFICIENT_RESERVED, reservedStock);
+        }
+        return result(OK, reservedStock - quantity);
+    }
+
+    /**
+     * Applies a stock update of the given type; the value of an accepted result is the new current
+     * stock. Pass {@link #NO_MAXIMUM} when the item has no maximum level.
+     */
+    public static long update(int currentStock, int maximumStockLevel, int quantity, UpdateType type) {
+        long newStock;
+        switch (type) {
+            case PURCHASE, ADJUSTMENT -> newStock = (long) currentStock + quantity;
+            case SALE -> newStock = (long) currentStock - quantity;
+            case RESTOCK -> newStock = quantity;
+            default -> {
+                return result(INVALID_TYPE, quantity);
+            }
+        }
+        if (newStock < MIN_AVAILABLE_STOCK) {
+            return result(NEGATIVE_STOCK, clamp(newStock));
+        }
+        if (newStock > maximumStockLevel) {
+            return result(ABOVE_MAXIMUM, clamp(newStock));
+        }
+        return result(OK, (int) newStock);
+    }
+
+    public static boolean isOk(long result) {
+        return code(result) == OK;
+    }
+
+    public static int code(long result) {
+        return (int) (result >>> Integer.SIZE);
+    }
+
+    public static int value(long result) {
+        return (int) (result & VALUE_MASK);
+    }
+
+    private static long result(int code, int value) {
+        return ((long) code << Integer.SIZE) | (value & VALUE_MASK);
+    }
+
+    private static int clamp(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+
+}
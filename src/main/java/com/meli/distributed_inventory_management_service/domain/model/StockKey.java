@@ -0,0 +1,11 @@
+package com.meli.distributed_inventory_management_service.domain.model;
+
+import lombok.Value;
+
+@Value
+public class StockKey {
+
+    String productId;
+    String storeId;
+
+}
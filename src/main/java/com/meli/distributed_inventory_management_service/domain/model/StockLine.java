@@ -0,0 +1,12 @@
+package com.meli.distributed_inventory_management_service.domain.model;
+
+import lombok.Value;
+
+@Value
+public class StockLine {
+
+    String productId;
+    String storeId;
+    Integer quantity;
+
+}
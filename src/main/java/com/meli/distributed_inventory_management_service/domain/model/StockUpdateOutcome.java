@@ -0,0 +1,23 @@
+package com.meli.distributed_inventory_management_service.domain.model;
+
+import lombok.Value;
+
+@Value
+public class StockUpdateOutcome {
+
+    InventoryItem item;
+    Throwable error;
+
+    public static StockUpdateOutcome success(InventoryItem item) {
+        return new StockUpdateOutcome(item, null);
+    }
+
+    public static StockUpdateOutcome failure(Throwable error) {
+        return new StockUpdateOutcome(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+}
@@ -2,6 +2,6 @@ package com.meli.distributed_inventory_management_service.domain.model;
 
 public enum UpdateType {
 
-    PURCHASE, SALE, RESTOCK, ADJUSTMENT, TRANSFER
+    PURCHASE, SALE, RESTOCK, ADJUSTMENT, TRANSFER, RESERVE, RELEASE, COMMIT
 
 }
@@ -1,9 +1,15 @@
 package com.meli.distributed_inventory_management_service.domain.repository;
 
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import com.meli.distributed_inventory_management_service.domain.model.StockKey;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
+import com.meli.distributed_inventory_management_service.domain.model.VersionedWrite;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface InventoryRepository {
 
     Flux<InventoryItem> findAll();
@@ -12,10 +18,22 @@ public interface InventoryRepository {
 
     Mono<InventoryItem> findByProductAndStore(String productId, String storeId);
 
+    /**
+     * Available stock of an item, never below zero, read without loading the item. Empty when the
+     * item does not exist.
+     */
+    Mono<Integer> findAvailableStock(String productId, String storeId);
+
     Flux<InventoryItem> findByStore(String storeId);
 
     Flux<InventoryItem> findByProduct(String productId);
 
+    /**
+     * Reads at most {@code limit} items in (storeId, productId, id) order, strictly after the cursor
+     * when one is given. A null store or product means no filter on it.
+     */
+    Flux<InventoryItem> findPage(String storeId, String productId, PageCursor after, int limit);
+
     Mono<InventoryItem> save(InventoryItem item);
 
     Mono<Boolean> delete(String id);
@@ -24,4 +42,30 @@ public interface InventoryRepository {
 
     Mono<InventoryItem> updateWithVersionCheckNative(InventoryItem item, Long expectedVersion);
 
+    Flux<InventoryItem> findAllByProductAndStore(List<StockKey> keys);
+
+    /**
+     * Sends every write as one batched statement. Emits the persisted item of each write whose
+     * expected version still matched; writes that lost a version race are left out.
+     */
+    Flux<InventoryItem> updateAllWithVersionCheck(List<VersionedWrite> writes);
+
+    Mono<InventoryItem> reserveStockIfAvailable(String productId, String storeId, Integer quantity);
+
+    Mono<InventoryItem> releaseReservedStockIfHeld(String productId, String storeId, Integer quantity);
+
+    /**
+     * Reserves every line in one transaction or none of them; fails with {@link IllegalStateException}
+     * naming the lines that lack available stock.
+     */
+    Mono<List<InventoryItem>> reserveStockLines(List<StockLine> lines);
+
+    Mono<List<InventoryItem>> releaseReservedStockLines(List<StockLine> lines);
+
+    /**
+     * Turns reserved stock into a sale for every line: both current and reserved stock drop by the
+     * line quantity, all lines or none.
+     */
+    Mono<List<InventoryItem>> commitReservedStockLines(List<StockLine> lines);
+
 }
@@ -0,0 +1,144 @@
+package com.meli.distributed_inventory_management_service.domain.retry;
+
+import com.meli.distributed_inventory_management_service.domain.exception.ConcurrentUpdateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.TransientDataAccessException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Re-subscribes a read-modify-write when it loses a version race or hits a transient data access
+ * failure. Each operation has its own {@link RetryPolicy}; delays use full jitter. Retries are also
+ * limited per (productId, storeId) within a one-second window, so a single hot SKU cannot keep
+ * the database busy with retries. When a retry is refused the last failure is propagated as is.
+ */
+public class ContentionRetry {
+
+    private static final String METRIC_PREFIX = "inventory.retry";
+    private static final String OPERATION_TAG = "operation";
+    private static final long BUDGET_WINDOW_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final int MAX_TRACKED_KEYS = 10_000;
+
+    private final Map<RetryOperation, RetryPolicy> policies;
+    private final int retriesPerKeyPerSecond;
+    private final Map<BudgetKey, BudgetWindow> budgets = new ConcurrentHashMap<>();
+    private final Map<RetryOperation, Counter> retryCounters = new EnumMap<>(RetryOperation.class);
+    private final Map<RetryOperation, Counter> recoveredCounters = new EnumMap<>(RetryOperation.class);
+    private final Map<RetryOperation, Counter> exhaustedCounters = new EnumMap<>(RetryOperation.class);
+    private final Map<RetryOperation, Counter> budgetRejectedCounters = new EnumMap<>(RetryOperation.class);
+    private final Map<RetryOperation, DistributionSummary> retriesPerRequest = new EnumMap<>(RetryOperation.class);
+
+    public ContentionRetry(Map<RetryOperation, RetryPolicy> policies, int retriesPerKeyPerSecond,
+                           MeterRegistry meterRegistry) {
+        this.policies = new EnumMap<>(policies);
+        this.retriesPerKeyPerSecond = retriesPerKeyPerSecond;
+        for (RetryOperation operation : RetryOperation.values()) {
+            retryCounters.put(operation, counter(meterRegistry, "attempts", operation,
+                    "Retries issued after a contention failure"));
+            recoveredCounters.put(operation, counter(meterRegistry, "recovered", operation,
+                    "Operations that succeeded after at least one retry"));
+            exhaustedCounters.put(operation, counter(meterRegistry, "exhausted", operation,
+                    "Operations that failed after using all their attempts"));
+            budgetRejectedCounters.put(operation, counter(meterRegistry, "budget.rejected", operation,
+                    "Retries refused because the key used up its retry budget"));
+            retriesPerRequest.put(operation, DistributionSummary.builder(METRIC_PREFIX + ".per.request")
+                    .tag(OPERATION_TAG, operation.getPropertyKey())
+                    .description("Retries each operation needed, recorded when it succeeds or gives up")
+                    .register(meterRegistry));
+        }
+    }
+
+    public static ContentionRetry uniform(RetryPolicy policy, int retriesPerKeyPerSecond, MeterRegistry meterRegistry) {
+        Map<RetryOperation, RetryPolicy> policies = new EnumMap<>(RetryOperation.class);
+        for (RetryOperation operation : RetryOperation.values()) {
+            policies.put(operation, policy);
+        }
+        return new ContentionRetry(policies, retriesPerKeyPerSecond, meterRegistry);
+    }
+
+    public <T> Mono<T> execute(RetryOperation operation, String productId, String storeId,
+                               Supplier<Mono<T>> attempt) {
+        RetryPolicy policy = policies.get(operation);
+        BudgetKey key = new BudgetKey(productId, storeId);
+        return Mono.defer(() -> {
+            AtomicInteger retries = new AtomicInteger();
+            return Mono.defer(attempt)
+                    .retryWhen(Retry.from(signals -> signals.concatMap(signal ->
+                            nextBackoff(operation, policy, key, signal.failure(), retries))))
+                    .doOnSuccess(value -> {
+                        if (retries.get() > 0) {
+                            recoveredCounters.get(operation).increment();
+                        }
+                    })
+                    .doOnTerminate(() -> retriesPerRequest.get(operation).record(retries.get()));
+        });
+    }
+
+    public static boolean isContention(Throwable failure) {
+        return failure instanceof ConcurrentUpdateException || failure instanceof TransientDataAccessException;
+    }
+
+    private Mono<Long> nextBackoff(RetryOperation operation, RetryPolicy policy, BudgetKey key,
+                                   Throwable failure, AtomicInteger retries) {
+        if (!isContention(failure)) {
+            return Mono.error(failure);
+        }
+        if (retries.get() + 1 >= policy.getMaxAttempts()) {
+            exhaustedCounters.get(operation).increment();
+            return Mono.error(failure);
+        }
+        if (!tryAcquireBudget(key)) {
+            budgetRejectedCounters.get(operation).increment();
+            return Mono.error(failure);
+        }
+        long bound = policy.backoffBoundMillis(retries.getAndIncrement());
+        retryCounters.get(operation).increment();
+        return Mono.delay(Duration.ofMillis(ThreadLocalRandom.current().nextLong(bound + 1)));
+    }
+
+    private boolean tryAcquireBudget(BudgetKey key) {
+        long now = System.nanoTime();
+        BudgetWindow window = budgets.compute(key, (ignored, current) ->
+                current == null || current.isExpired(now) ? new BudgetWindow(now) : current);
+        if (budgets.size() > MAX_TRACKED_KEYS) {
+            budgets.values().removeIf(expired -> expired.isExpired(now));
+        }
+        return window.used.incrementAndGet() <= retriesPerKeyPerSecond;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, RetryOperation operation,
+                                   String description) {
+        return Counter.builder(METRIC_PREFIX + "." + name)
+                .tag(OPERATION_TAG, operation.getPropertyKey())
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private record BudgetKey(String productId, String storeId) {
+    }
+
+    private static final class BudgetWindow {
+
+        private final long startedAt;
+        private final AtomicInteger used = new AtomicInteger();
+
+        private BudgetWindow(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - startedAt >= BUDGET_WINDOW_NANOS;
+        }
+    }
+
+}
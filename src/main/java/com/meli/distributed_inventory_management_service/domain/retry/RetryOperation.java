@@ -0,0 +1,17 @@
+package com.meli.distributed_inventory_management_service.domain.retry;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RetryOperation {
+
+    STOCK_UPDATE("stock-update"),
+    COMBINED_STOCK_UPDATE("combined-stock-update"),
+    STOCK_RESERVE("stock-reserve"),
+    STOCK_RELEASE("stock-release");
+
+    private final String propertyKey;
+
+}
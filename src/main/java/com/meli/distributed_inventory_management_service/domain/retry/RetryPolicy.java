@@ -0,0 +1,26 @@
+package com.meli.distributed_inventory_management_service.domain.retry;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+@Value
+@Builder
+public class RetryPolicy {
+
+    int maxAttempts;
+    Duration baseDelay;
+    Duration maxDelay;
+    double multiplier;
+
+    /**
+     * Upper bound of the backoff before the given retry (0-based): {@code baseDelay * multiplier^retry},
+     * capped at {@code maxDelay}. The actual delay is drawn uniformly from [0, bound].
+     */
+    public long backoffBoundMillis(long retry) {
+        double bound = baseDelay.toMillis() * Math.pow(multiplier, retry);
+        return (long) Math.min(bound, maxDelay.toMillis());
+    }
+
+}
@@ -1,39 +1,213 @@
 package com.meli.distributed_inventory_management_service.domain.service;
 
 import com.meli.distributed_inventory_management_service.domain.exception.ConcurrentUpdateException;
+import com.meli.distributed_inventory_management_service.domain.exception.StockShortageException;
+import com.meli.distributed_inventory_management_service.domain.hotkey.HotKeyTracker;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.StockDelta;
+import com.meli.distributed_inventory_management_service.domain.model.StockKernel;
+import com.meli.distributed_inventory_management_service.domain.model.StockKey;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
+import com.meli.distributed_inventory_management_service.domain.model.StockUpdateOutcome;
 import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+import com.meli.distributed_inventory_management_service.domain.model.VersionedWrite;
 import com.meli.distributed_inventory_management_service.domain.repository.InventoryRepository;
+import com.meli.distributed_inventory_management_service.domain.retry.ContentionRetry;
+import com.meli.distributed_inventory_management_service.domain.retry.RetryOperation;
 import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 public class InventoryDomainService {
 
-    private static final int DELAY = 100;
-    private static final int MAX_ATTEMPTS = 5;
     private static final int MAX_AVAILABLE_STOCK = 1000;
-    private static final int MAX_DELAY = 1000;
     private static final int MIN_AVAILABLE_STOCK = 0;
-    private static final int MULTIPLIER = 2;
     private static final long VERSION_DEFAULT = 0L;
+    private static final String QUANTITY_MUST_BE_POSITIVE = "Quantity must be positive";
+    private static final int BATCH_FALLBACK_CONCURRENCY = 8;
+    private static final String LINES_REQUIRED = "At least one stock line is required";
 
     private final InventoryRepository inventoryRepository;
+    private final ShardedMutationExecutor mutationExecutor;
+    private final ContentionRetry contentionRetry;
+    private final StockMutationListener mutationListener;
+    private final StockOperationMetrics metrics;
+    private final HotKeyTracker hotKeys;
 
-    public InventoryDomainService(InventoryRepository inventoryRepository) {
+    public InventoryDomainService(InventoryRepository inventoryRepository, ShardedMutationExecutor mutationExecutor,
+                                  ContentionRetry contentionRetry, StockMutationListener mutationListener,
+                                  StockOperationMetrics metrics, HotKeyTracker hotKeys) {
         this.inventoryRepository = inventoryRepository;
+        this.mutationExecutor = mutationExecutor;
+        this.contentionRetry = contentionRetry;
+        this.mutationListener = mutationListener;
+        this.metrics = metrics;
+        this.hotKeys = hotKeys;
     }
 
-    @Retryable(
-            retryFor = {OptimisticLockingFailureException.class},
-            maxAttempts = MAX_ATTEMPTS,
-            backoff = @Backoff(delay = DELAY, multiplier = MULTIPLIER, maxDelay = MAX_DELAY)
-    )
     public Mono<InventoryItem> updateStockWithRetry(String productId, String storeId,
                                                     Integer quantity, UpdateType updateType) {
+        return contentionRetry.execute(RetryOperation.STOCK_UPDATE, productId, storeId,
+                        () -> mutationExecutor.execute(productId, storeId,
+                                () -> applyStockUpdate(productId, storeId, quantity, updateType))
+                                .transform(metrics.countingConflicts(StockOperation.UPDATE))
+                                .transform(hotKeys.countingConflicts(productId, storeId)))
+                .doOnNext(item -> onMutation(item, quantity, updateType))
+                .transform(metrics.timed(StockOperation.UPDATE));
+    }
+
+    /**
+     * Folds several deltas for the same item into one versioned write. Each delta is validated
+     * against the stock left by the deltas accepted before it; a rejected delta gets its own
+     * failure outcome and does not affect the others. Outcomes keep the order of {@code deltas}.
+     */
+    public Mono<List<StockUpdateOutcome>> applyStockUpdates(String productId, String storeId,
+                                                            List<StockDelta> deltas) {
+        return contentionRetry.execute(RetryOperation.COMBINED_STOCK_UPDATE, productId, storeId,
+                        () -> mutationExecutor.execute(productId, storeId,
+                                () -> foldStockUpdates(productId, storeId, deltas))
+                                .transform(metrics.countingConflicts(StockOperation.COMBINED_UPDATE))
+                                .transform(hotKeys.countingConflicts(productId, storeId)))
+                .doOnNext(outcomes -> {
+                    notifyOutcomes(deltas, outcomes);
+                    metrics.countShortages(StockOperation.COMBINED_UPDATE, outcomes);
+                })
+                .transform(metrics.timed(StockOperation.COMBINED_UPDATE));
+    }
+
+    /**
+     * Applies the deltas of many items with one read and one batched versioned write. Each key is
+     * folded like {@link #applyStockUpdates}. Keys that do not exist yet, or whose write loses a
+     * version race, fall back to {@link #applyStockUpdates}, which creates and retries them one by one.
+     */
+    public Mono<Map<StockKey, List<StockUpdateOutcome>>> applyStockUpdateBatch(Map<StockKey, List<StockDelta>> deltasByKey) {
+        return inventoryRepository.findAllByProductAndStore(new ArrayList<>(deltasByKey.keySet()))
+                .concatMap(existingItem -> {
+                    StockKey key = new StockKey(existingItem.getProductId(), existingItem.getStoreId());
+                    return fold(existingItem, deltasByKey.get(key)).map(folded -> Map.entry(key, folded));
+                })
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .flatMap(foldedByKey -> inventoryRepository.updateAllWithVersionCheck(foldedByKey.values().stream()
+                                .filter(folded -> folded.accepted() > 0)
+                                .map(folded -> new VersionedWrite(folded.item(), folded.original().getVersion()))
+                                .toList())
+                        .collectMap(item -> new StockKey(item.getProductId(), item.getStoreId()))
+                        .flatMapMany(written -> Flux.fromIterable(deltasByKey.entrySet())
+                                .flatMap(entry -> {
+                                    FoldedUpdate folded = foldedByKey.get(entry.getKey());
+                                    if (folded != null && folded.accepted() == 0) {
+                                        List<StockUpdateOutcome> outcomes = toOutcomes(folded.original(), folded.rejections());
+                                        metrics.countShortages(StockOperation.BATCH_UPDATE, outcomes);
+                                        return Mono.just(Map.entry(entry.getKey(), outcomes));
+                                    }
+                                    if (folded != null && written.containsKey(entry.getKey())) {
+                                        List<StockUpdateOutcome> outcomes = toOutcomes(written.get(entry.getKey()), folded.rejections());
+                                        notifyOutcomes(entry.getValue(), outcomes);
+                                        metrics.countShortages(StockOperation.BATCH_UPDATE, outcomes);
+                                        return Mono.just(Map.entry(entry.getKey(), outcomes));
+                                    }
+                                    if (folded != null) {
+                                        metrics.conflict(StockOperation.BATCH_UPDATE);
+                                        hotKeys.conflict(entry.getKey().getProductId(), entry.getKey().getStoreId());
+                                    }
+                                    return applyStockUpdates(entry.getKey().getProductId(), entry.getKey().getStoreId(), entry.getValue())
+                                            .onErrorResume(error -> Mono.just(failures(entry.getValue().size(), error)))
+                                            .map(outcomes -> Map.entry(entry.getKey(), outcomes));
+                                }, BATCH_FALLBACK_CONCURRENCY))
+                        .collectMap(Map.Entry::getKey, Map.Entry::getValue))
+                .transform(metrics.timed(StockOperation.BATCH_UPDATE));
+    }
+
+    public Mono<InventoryItem> reserveStock(String productId, String storeId, Integer quantity) {
+        if (quantity == null || quantity <= MIN_AVAILABLE_STOCK) {
+            return Mono.error(new IllegalArgumentException(QUANTITY_MUST_BE_POSITIVE));
+        }
+        return contentionRetry.execute(RetryOperation.STOCK_RESERVE, productId, storeId,
+                        () -> mutationExecutor.execute(productId, storeId,
+                                () -> inventoryRepository.reserveStockIfAvailable(productId, storeId, quantity)
+                                        .switchIfEmpty(Mono.defer(() -> rejectReservation(productId, storeId, quantity))))
+                                .transform(metrics.countingConflicts(StockOperation.RESERVE))
+                                .transform(hotKeys.countingConflicts(productId, storeId)))
+                .doOnNext(item -> onMutation(item, quantity, UpdateType.RESERVE))
+                .transform(metrics.timed(StockOperation.RESERVE));
+    }
+
+    public Mono<InventoryItem> releaseReservedStock(String productId, String storeId, Integer quantity) {
+        if (quantity == null || quantity <= MIN_AVAILABLE_STOCK) {
+            return Mono.error(new IllegalArgumentException(QUANTITY_MUST_BE_POSITIVE));
+        }
+        return contentionRetry.execute(RetryOperation.STOCK_RELEASE, productId, storeId,
+                        () -> mutationExecutor.execute(productId, storeId,
+                                () -> inventoryRepository.releaseReservedStockIfHeld(productId, storeId, quantity)
+                                        .switchIfEmpty(Mono.defer(() -> rejectRelease(productId, storeId, quantity))))
+                                .transform(metrics.countingConflicts(StockOperation.RELEASE))
+                                .transform(hotKeys.countingConflicts(productId, storeId)))
+                .doOnNext(item -> onMutation(item, quantity, UpdateType.RELEASE))
+                .transform(metrics.timed(StockOperation.RELEASE));
+    }
+
+    /**
+     * Reserves every line or none. The lines span several keys, so they run as one database
+     * transaction instead of going through the per-key executor and contention retry.
+     */
+    public Mono<List<InventoryItem>> reserveStockLines(List<StockLine> lines) {
+        return validateLines(lines).then(Mono.defer(() -> inventoryRepository.reserveStockLines(lines)))
+                .doOnNext(items -> notifyLines(lines, items, UpdateType.RESERVE))
+                .transform(metrics.timed(StockOperation.RESERVE_LINES));
+    }
+
+    public Mono<List<InventoryItem>> releaseReservedStockLines(List<StockLine> lines) {
+        return validateLines(lines).then(Mono.defer(() -> inventoryRepository.releaseReservedStockLines(lines)))
+                .doOnNext(items -> notifyLines(lines, items, UpdateType.RELEASE))
+                .transform(metrics.timed(StockOperation.RELEASE_LINES));
+    }
+
+    public Mono<List<InventoryItem>> commitReservedStockLines(List<StockLine> lines) {
+        return validateLines(lines).then(Mono.defer(() -> inventoryRepository.commitReservedStockLines(lines)))
+                .doOnNext(items -> notifyLines(lines, items, UpdateType.COMMIT))
+                .transform(metrics.timed(StockOperation.COMMIT_LINES));
+    }
+
+    public Mono<Integer> getAvailableStock(String productId, String storeId) {
+        return inventoryRepository.findAvailableStock(productId, storeId)
+                .defaultIfEmpty(MIN_AVAILABLE_STOCK);
+    }
+
+    private static Mono<Void> validateLines(List<StockLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            return Mono.error(new IllegalArgumentException(LINES_REQUIRED));
+        }
+        for (StockLine line : lines) {
+            if (line.getQuantity() == null || line.getQuantity() <= MIN_AVAILABLE_STOCK) {
+                return Mono.error(new IllegalArgumentException(QUANTITY_MUST_BE_POSITIVE));
+            }
+        }
+        return Mono.empty();
+    }
+
+    private Mono<InventoryItem> rejectReservation(String productId, String storeId, Integer quantity) {
+        return inventoryRepository.findByProductAndStore(productId, storeId)
+                .flatMap(InventoryItem::getAvailableStock)
+                .flatMap(available -> Mono.error(new StockShortageException(
+                        String.format("Insufficient stock. Available: %d, Requested: %d", available, quantity))));
+    }
+
+    private Mono<InventoryItem> rejectRelease(String productId, String storeId, Integer quantity) {
+        return inventoryRepository.findByProductAndStore(productId, storeId)
+                .flatMap(item -> Mono.error(new StockShortageException(
+                        String.format("Cannot release more than reserved. Reserved: %d, Requested: %d",
+                                item.getReservedStock(), quantity))));
+    }
+
+    private Mono<InventoryItem> applyStockUpdate(String productId, String storeId,
+                                                 Integer quantity, UpdateType updateType) {
         return inventoryRepository.findByProductAndStore(productId, storeId)
                 .switchIfEmpty(Mono.defer(() -> createNewInventoryItem(productId, storeId)))
                 .flatMap(existingItem -> existingItem.updateStock(quantity, updateType)
@@ -47,38 +221,97 @@ public class InventoryDomainService {
                         ));
     }
 
-    @Retryable(
-            retryFor = {OptimisticLockingFailureException.class},
-            maxAttempts = MAX_ATTEMPTS,
-            backoff = @Backoff(delay = DELAY, multiplier = MULTIPLIER)
-    )
-    public Mono<InventoryItem> reserveStock(String productId, String storeId, Integer quantity) {
+    private Mono<List<StockUpdateOutcome>> foldStockUpdates(String productId, String storeId,
+                                                            List<StockDelta> deltas) {
         return inventoryRepository.findByProductAndStore(productId, storeId)
-                .flatMap(item -> item.reserveStock(quantity))
-                .flatMap(inventoryRepository::save)
-                .onErrorMap(OptimisticLockingFailureException.class, ex ->
-                        new ConcurrentUpdateException(productId, storeId, null, null)
-                );
-    }
-
-    @Retryable(
-            retryFor = {OptimisticLockingFailureException.class},
-            maxAttempts = MAX_ATTEMPTS,
-            backoff = @Backoff(delay = DELAY)
-    )
-    public Mono<InventoryItem> releaseReservedStock(String productId, String storeId, Integer quantity) {
-        return inventoryRepository.findByProductAndStore(productId, storeId)
-                .flatMap(item -> item.releaseReservedStock(quantity))
-                .flatMap(inventoryRepository::save)
-                .onErrorMap(OptimisticLockingFailureException.class, ex ->
-                        new ConcurrentUpdateException(productId, storeId, null, null)
-                );
+                .switchIfEmpty(Mono.defer(() -> createNewInventoryItem(productId, storeId)))
+                .flatMap(existingItem -> fold(existingItem, deltas)
+                        .flatMap(folded -> (folded.accepted() == 0
+                                ? Mono.just(existingItem)
+                                : inventoryRepository.updateWithVersionCheckNative(folded.item(), existingItem.getVersion()))
+                                .map(persisted -> toOutcomes(persisted, folded.rejections())))
+                        .onErrorMap(OptimisticLockingFailureException.class, ex ->
+                                new ConcurrentUpdateException(
+                                        productId, storeId,
+                                        existingItem.getVersion(),
+                                        null
+                                )));
     }
 
-    public Mono<Integer> getAvailableStock(String productId, String storeId) {
-        return inventoryRepository.findByProductAndStore(productId, storeId)
-                .flatMap(InventoryItem::getAvailableStock)
-                .defaultIfEmpty(MIN_AVAILABLE_STOCK);
+    /**
+     * Folds the deltas on primitives through {@link StockKernel}, so only the final item and the
+     * rejections are allocated, and the item is stamped once however many deltas it absorbed.
+     */
+    private static Mono<FoldedUpdate> fold(InventoryItem existingItem, List<StockDelta> deltas) {
+        return Mono.fromCallable(() -> {
+            int currentStock = existingItem.getCurrentStock();
+            int maximumStockLevel = existingItem.maximumStockLevelOrNone();
+            Throwable[] rejections = new Throwable[deltas.size()];
+            int accepted = 0;
+            for (int index = 0; index < deltas.size(); index++) {
+                StockDelta delta = deltas.get(index);
+                long result = StockKernel.update(currentStock, maximumStockLevel,
+                        delta.getQuantity(), delta.getUpdateType());
+                if (StockKernel.isOk(result)) {
+                    currentStock = StockKernel.value(result);
+                    accepted++;
+                } else {
+                    rejections[index] = existingItem.rejection(result, delta.getQuantity());
+                }
+            }
+            InventoryItem folded = accepted == 0
+                    ? existingItem
+                    : existingItem.copyWithStock(currentStock, existingItem.getReservedStock(), accepted);
+            return new FoldedUpdate(existingItem, folded, rejections, accepted);
+        });
+    }
+
+    private static List<StockUpdateOutcome> toOutcomes(InventoryItem persisted, Throwable[] rejections) {
+        List<StockUpdateOutcome> outcomes = new ArrayList<>(rejections.length);
+        for (Throwable rejection : rejections) {
+            outcomes.add(rejection == null
+                    ? StockUpdateOutcome.success(persisted)
+                    : StockUpdateOutcome.failure(rejection));
+        }
+        return outcomes;
+    }
+
+    private void notifyOutcomes(List<StockDelta> deltas, List<StockUpdateOutcome> outcomes) {
+        for (int i = 0; i < deltas.size(); i++) {
+            if (outcomes.get(i).isSuccess()) {
+                onMutation(outcomes.get(i).getItem(),
+                        deltas.get(i).getQuantity(), deltas.get(i).getUpdateType());
+            }
+        }
+    }
+
+    private void notifyLines(List<StockLine> lines, List<InventoryItem> items, UpdateType updateType) {
+        Map<StockKey, InventoryItem> itemsByKey = new HashMap<>();
+        for (InventoryItem item : items) {
+            itemsByKey.put(new StockKey(item.getProductId(), item.getStoreId()), item);
+        }
+        for (StockLine line : lines) {
+            InventoryItem item = itemsByKey.get(new StockKey(line.getProductId(), line.getStoreId()));
+            if (item != null) {
+                onMutation(item, line.getQuantity(), updateType);
+            }
+        }
+    }
+
+    private void onMutation(InventoryItem item, Integer quantity, UpdateType updateType) {
+        hotKeys.mutation(item.getProductId(), item.getStoreId());
+        mutationListener.onStockMutation(item, quantity, updateType);
+    }
+
+    private static List<StockUpdateOutcome> failures(int count, Throwable error) {
+        List<StockUpdateOutcome> outcomes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            outcomes.add(StockUpdateOutcome.failure(error));
+        }
+        return outcomes;
+    }
+
+    private record FoldedUpdate(InventoryItem original, InventoryItem item, Throwable[] rejections, long accepted) {
     }
 
     private Mono<InventoryItem> createNewInventoryItem(String productId, String storeId) {
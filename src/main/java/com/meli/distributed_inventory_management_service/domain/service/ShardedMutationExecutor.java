@@ -0,0 +1,135 @@
+package com.meli.distributed_inventory_management_service.domain.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Optional single-writer execution for inventory mutations. Each (productId, storeId) is hashed
+ * onto one of N shards; a shard runs its mutations one at a time on its own single-threaded
+ * worker, so two mutations of the same row never race on the version check within this instance.
+ * Reads do not go through the executor.
+ * <p>
+ * A shard holds at most {@code mailbox-capacity} waiting mutations and rejects new ones with a
+ * {@link RejectedExecutionException} beyond that. Each mutation gets {@code task-timeout} to finish;
+ * one that takes longer fails with a {@link java.util.concurrent.TimeoutException} so the shard
+ * moves on to the next. A mutation whose caller cancelled before its turn is skipped.
+ */
+@Component
+public class ShardedMutationExecutor implements DisposableBean {
+
+    private static final Duration EMIT_CONTENTION_TIMEOUT = Duration.ofSeconds(1);
+    private static final int DEFAULT_SHARDS = 0;
+    private static final int DEFAULT_MAILBOX_CAPACITY = 1024;
+    private static final Duration DEFAULT_TASK_TIMEOUT = Duration.ofSeconds(5);
+
+    private final boolean enabled;
+    private final List<Shard> shards;
+
+    public ShardedMutationExecutor(@Value("${inventory.sharded-execution.enabled:false}") boolean enabled,
+                                   @Value("${inventory.sharded-execution.shards:0}") int shardCount,
+                                   @Value("${inventory.sharded-execution.mailbox-capacity:1024}") int mailboxCapacity,
+                                   @Value("${inventory.sharded-execution.task-timeout:5s}") Duration taskTimeout) {
+        this.enabled = enabled;
+        this.shards = new ArrayList<>();
+        if (enabled) {
+            int count = shardCount > DEFAULT_SHARDS ? shardCount : Runtime.getRuntime().availableProcessors();
+            for (int index = 0; index < count; index++) {
+                shards.add(new Shard(index, mailboxCapacity, taskTimeout));
+            }
+        }
+    }
+
+    public static ShardedMutationExecutor disabled() {
+        return new ShardedMutationExecutor(false, DEFAULT_SHARDS, DEFAULT_MAILBOX_CAPACITY, DEFAULT_TASK_TIMEOUT);
+    }
+
+    public <T> Mono<T> execute(String productId, String storeId, Supplier<Mono<T>> mutation) {
+        if (!enabled) {
+            return Mono.defer(mutation);
+        }
+        return Mono.defer(() -> shardFor(productId, storeId).submit(mutation));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    @Override
+    public void destroy() {
+        shards.forEach(Shard::dispose);
+    }
+
+    private Shard shardFor(String productId, String storeId) {
+        return shards.get(Math.floorMod(Objects.hash(productId, storeId), shards.size()));
+    }
+
+    private static final class Shard {
+
+        private final Scheduler worker;
+        private final Sinks.Many<Mono<Void>> mailbox;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final int capacity;
+        private final Duration taskTimeout;
+
+        private Shard(int index, int capacity, Duration taskTimeout) {
+            this.capacity = capacity;
+            this.taskTimeout = taskTimeout;
+            this.worker = Schedulers.newSingle("inventory-shard-" + index);
+            this.mailbox = Sinks.many().unicast().onBackpressureBuffer(Queues.<Mono<Void>>unboundedMultiproducer().get());
+            mailbox.asFlux()
+                    .publishOn(worker)
+                    .concatMap(task -> task, 1)
+                    .subscribe();
+        }
+
+        private <T> Mono<T> submit(Supplier<Mono<T>> mutation) {
+            if (waiting.incrementAndGet() > capacity) {
+                waiting.decrementAndGet();
+                return Mono.error(new RejectedExecutionException("Shard mailbox is full"));
+            }
+            Sinks.One<T> result = Sinks.one();
+            AtomicBoolean cancelled = new AtomicBoolean();
+            Mono<Void> task = Mono.defer(() -> {
+                        waiting.decrementAndGet();
+                        return cancelled.get() ? Mono.<T>empty() : Mono.defer(mutation).timeout(taskTimeout);
+                    })
+                    .doOnNext(result::tryEmitValue)
+                    .doOnError(result::tryEmitError)
+                    .doOnSuccess(value -> {
+                        if (value == null) {
+                            result.tryEmitEmpty();
+                        }
+                    })
+                    .then()
+                    .onErrorResume(ex -> Mono.empty());
+            mailbox.emitNext(task, Sinks.EmitFailureHandler.busyLooping(EMIT_CONTENTION_TIMEOUT));
+            return result.asMono()
+                    .doOnCancel(() -> cancelled.set(true));
+        }
+
+        private void dispose() {
+            mailbox.tryEmitComplete();
+            worker.dispose();
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.meli.distributed_inventory_management_service.domain.service;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+
+/**
+ * Notified by {@link InventoryDomainService} after each successful stock mutation, once per
+ * applied quantity. Called on the request path, so implementations must not block.
+ */
+@FunctionalInterface
+public interface StockMutationListener {
+
+    StockMutationListener NOOP = (item, quantity, updateType) -> {
+    };
+
+    void onStockMutation(InventoryItem item, Integer quantity, UpdateType updateType);
+
+}
@@ -0,0 +1,24 @@
+package com.meli.distributed_inventory_management_service.domain.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The stock mutations {@link InventoryDomainService} exposes, as they are tagged in its metrics.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StockOperation {
+
+    UPDATE("update"),
+    COMBINED_UPDATE("combined-update"),
+    BATCH_UPDATE("batch-update"),
+    RESERVE("reserve"),
+    RELEASE("release"),
+    RESERVE_LINES("reserve-lines"),
+    RELEASE_LINES("release-lines"),
+    COMMIT_LINES("commit-lines");
+
+    private final String tagValue;
+
+}
@@ -0,0 +1,180 @@
+package com.meli.distributed_inventory_management_service.domain.service;
+
+import com.meli.distributed_inventory_management_service.domain.exception.ConcurrentUpdateException;
+import com.meli.distributed_inventory_management_service.domain.exception.NegativeStockException;
+import com.meli.distributed_inventory_management_service.domain.exception.StockShortageException;
+import com.meli.distributed_inventory_management_service.domain.model.StockUpdateOutcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Timers and counters of the stock write path, tagged by {@link StockOperation}:
+ * <ul>
+ *     <li>{@code inventory.stock.operation}, a timer per operation and outcome;</li>
+ *     <li>{@code inventory.stock.conflicts}, attempts that lost an optimistic-lock race, retried
+ *     or not;</li>
+ *     <li>{@code inventory.stock.insufficient}, changes rejected for lack of stock: reservations
+ *     beyond the available stock, releases beyond the reserved stock and sales beyond the current
+ *     stock, one per rejected delta of a combined or batched update.</li>
+ * </ul>
+ * Every meter is registered up front and looked up by ordinal, so recording is a clock read and
+ * an increment, with no tag building on the request path.
+ */
+@Component
+public class StockOperationMetrics {
+
+    private static final String METRIC_PREFIX = "inventory.stock";
+    private static final String OPERATION_TAG = "operation";
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final boolean enabled;
+    private final Timer[][] timers;
+    private final Counter[] conflicts;
+    private final Counter[] insufficient;
+
+    public StockOperationMetrics(MeterRegistry meterRegistry) {
+        this.enabled = meterRegistry != null;
+        StockOperation[] operations = StockOperation.values();
+        Outcome[] outcomes = Outcome.values();
+        this.timers = new Timer[operations.length][outcomes.length];
+        this.conflicts = new Counter[operations.length];
+        this.insufficient = new Counter[operations.length];
+        if (!enabled) {
+            return;
+        }
+        for (StockOperation operation : operations) {
+            for (Outcome outcome : outcomes) {
+                timers[operation.ordinal()][outcome.ordinal()] = Timer.builder(METRIC_PREFIX + ".operation")
+                        .tag(OPERATION_TAG, operation.getTagValue())
+                        .tag(OUTCOME_TAG, outcome.tagValue)
+                        .description("Stock operations by outcome, from subscription to completion")
+                        .register(meterRegistry);
+            }
+            conflicts[operation.ordinal()] = Counter.builder(METRIC_PREFIX + ".conflicts")
+                    .tag(OPERATION_TAG, operation.getTagValue())
+                    .description("Attempts that lost an optimistic-lock race")
+                    .register(meterRegistry);
+            insufficient[operation.ordinal()] = Counter.builder(METRIC_PREFIX + ".insufficient")
+                    .tag(OPERATION_TAG, operation.getTagValue())
+                    .description("Changes rejected for lack of available, reserved or on-hand stock")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Records nothing and leaves the instrumented publishers untouched.
+     */
+    public static StockOperationMetrics disabled() {
+        return new StockOperationMetrics(null);
+    }
+
+    /**
+     * Times the operation from subscription and tags it with how it ended; apply it with
+     * {@code transform}. Cancelled operations are not recorded.
+     */
+    public <T> Function<Mono<T>, Mono<T>> timed(StockOperation operation) {
+        if (!enabled) {
+            return Function.identity();
+        }
+        Timer[] byOutcome = timers[operation.ordinal()];
+        Counter shortages = insufficient[operation.ordinal()];
+        return mono -> Mono.defer(() -> {
+            long started = System.nanoTime();
+            return mono.doOnEach(signal -> {
+                if (signal.isOnNext()) {
+                    return;
+                }
+                Outcome outcome = signal.isOnError() ? Outcome.of(signal.getThrowable()) : Outcome.SUCCESS;
+                if (outcome == Outcome.INSUFFICIENT_STOCK) {
+                    shortages.increment();
+                }
+                byOutcome[outcome.ordinal()].record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            });
+        });
+    }
+
+    /**
+     * Counts the version races lost by one attempt. Apply it to the attempt, inside the retry, so
+     * races that a retry later recovers from are counted too.
+     */
+    public <T> Function<Mono<T>, Mono<T>> countingConflicts(StockOperation operation) {
+        if (!enabled) {
+            return Function.identity();
+        }
+        Counter counter = conflicts[operation.ordinal()];
+        return attempt -> attempt.doOnError(error -> {
+            if (Outcome.of(error) == Outcome.CONFLICT) {
+                counter.increment();
+            }
+        });
+    }
+
+    /**
+     * Counts a version race that was lost without an error, such as a key of a batched write.
+     */
+    public void conflict(StockOperation operation) {
+        if (enabled) {
+            conflicts[operation.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Counts the shortages reported as outcomes instead of failing the operation, one per
+     * rejected delta.
+     */
+    public void countShortages(StockOperation operation, List<StockUpdateOutcome> outcomes) {
+        if (!enabled) {
+            return;
+        }
+        for (StockUpdateOutcome outcome : outcomes) {
+            if (Outcome.isShortage(outcome.getError())) {
+                insufficient[operation.ordinal()].increment();
+            }
+        }
+    }
+
+    private enum Outcome {
+
+        SUCCESS("success"),
+        CONFLICT("conflict"),
+        INSUFFICIENT_STOCK("insufficient-stock"),
+        REJECTED("rejected"),
+        INVALID("invalid"),
+        ERROR("error");
+
+        private final String tagValue;
+
+        Outcome(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        private static Outcome of(Throwable error) {
+            if (error instanceof ConcurrentUpdateException || error instanceof OptimisticLockingFailureException) {
+                return CONFLICT;
+            }
+            if (isShortage(error)) {
+                return INSUFFICIENT_STOCK;
+            }
+            if (error instanceof IllegalArgumentException) {
+                return INVALID;
+            }
+            if (error instanceof IllegalStateException) {
+                return REJECTED;
+            }
+            return ERROR;
+        }
+
+        private static boolean isShortage(Throwable error) {
+            return error instanceof StockShortageException || error instanceof NegativeStockException;
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.meli.distributed_inventory_management_service.infrastructure.config.database;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * The connection pool a query runs on. Queries run on {@link #WRITE} unless the subscriber context
+ * says otherwise; list and scan queries opt into {@link #READ} with
+ * {@code .contextWrite(ConnectionRoute.READ.context())}, so they cannot take the connections that
+ * mutations wait for.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ConnectionRoute {
+
+    READ("read"),
+    WRITE("write");
+
+    private final String propertyKey;
+
+    public Context context() {
+        return Context.of(ConnectionRoute.class, this);
+    }
+
+    static ConnectionRoute of(ContextView context) {
+        return context.getOrDefault(ConnectionRoute.class, WRITE);
+    }
+
+}
@@ -1,18 +1,82 @@
 package com.meli.distributed_inventory_management_service.infrastructure.config.database;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
 import org.springframework.r2dbc.core.DatabaseClient;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.*;
+
 @Configuration
 @EnableR2dbcAuditing
 public class R2dbcConfig {
 
+    private static final String POOL_PROPERTY_PREFIX = "inventory.db.pool.";
+    private static final String REPLICA_PROPERTY_PREFIX = "inventory.db.replica.";
+    private static final String REPLICA_NAME_PREFIX = "replica-";
+
+    /**
+     * One pool per {@link ConnectionRoute} over the {@code spring.r2dbc} database, each sized by
+     * {@code inventory.db.pool.<route>.*}. Replaces the single pool Spring Boot would create. With
+     * {@code inventory.db.replica.enabled}, each of {@code inventory.db.replica.urls} becomes a
+     * replica with a pool sized like the read pool.
+     */
+    @Bean
+    public ReadWriteConnectionFactory connectionFactory(Environment environment, MeterRegistry meterRegistry) {
+        Map<ConnectionRoute, ConnectionPool> pools = new EnumMap<>(ConnectionRoute.class);
+        for (ConnectionRoute route : ConnectionRoute.values()) {
+            pools.put(route, pool(environment, environment.getRequiredProperty("spring.r2dbc.url"), route,
+                    route.getPropertyKey()));
+        }
+        List<Replica> replicas = new ArrayList<>();
+        if (environment.getProperty(REPLICA_PROPERTY_PREFIX + "enabled", Boolean.class, false)) {
+            String[] urls = environment.getProperty(REPLICA_PROPERTY_PREFIX + "urls", String[].class, new String[0]);
+            for (String url : urls) {
+                if (!url.isBlank()) {
+                    String name = REPLICA_NAME_PREFIX + (replicas.size() + 1);
+                    replicas.add(new Replica(name, pool(environment, url.trim(), ConnectionRoute.READ, name)));
+                }
+            }
+        }
+        Duration maxStaleness = environment.getProperty(REPLICA_PROPERTY_PREFIX + "max-staleness", Duration.class,
+                Duration.ofMillis(REPLICA_MAX_STALENESS));
+        return new ReadWriteConnectionFactory(pools, replicas, maxStaleness, meterRegistry);
+    }
+
     @Bean
     public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
         return DatabaseClient.create(connectionFactory);
     }
 
+    private static ConnectionPool pool(Environment environment, String url, ConnectionRoute sizing, String name) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, environment.getProperty("spring.r2dbc.username", ""))
+                .option(ConnectionFactoryOptions.PASSWORD, environment.getProperty("spring.r2dbc.password", ""))
+                .build();
+        String prefix = POOL_PROPERTY_PREFIX + sizing.getPropertyKey();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name(name)
+                .initialSize(environment.getProperty(prefix + ".initial-size", Integer.class, POOL_INITIAL_SIZE))
+                .maxSize(environment.getProperty(prefix + ".max-size", Integer.class, POOL_MAX_SIZE))
+                .maxAcquireTime(environment.getProperty(prefix + ".max-acquire-time", Duration.class,
+                        Duration.ofMillis(POOL_MAX_ACQUIRE_TIME)))
+                .maxIdleTime(environment.getProperty(prefix + ".max-idle-time", Duration.class,
+                        Duration.ofMinutes(POOL_MAX_IDLE_TIME_MINUTES)))
+                .build());
+    }
+
 }
@@ -0,0 +1,196 @@
+package com.meli.distributed_inventory_management_service.infrastructure.config.database;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * Routes each connection request to the pool named by the {@link ConnectionRoute} in the
+ * subscriber context, writes by default. A transaction keeps the connection it started with, so
+ * everything inside a write transaction stays on the write pool.
+ * <p>
+ * With replicas configured, reads go to them in turn, skipping any replica whose snapshot is older
+ * than the staleness bound or, when the context carries a {@link ReplicationClock} version, that
+ * has not applied it yet. When no replica qualifies the read falls back to the primary's read pool
+ * and {@code inventory.db.replica.fallback} counts it by reason.
+ * <p>
+ * Per pool it publishes the time spent waiting for a connection ({@code inventory.db.pool.acquire},
+ * tagged by outcome, so acquire timeouts show as {@code failed}) and gauges of acquired, idle and
+ * pending connections, the pool size and {@code inventory.db.pool.utilization}, the share of the
+ * pool's maximum size in use.
+ */
+public class ReadWriteConnectionFactory extends AbstractRoutingConnectionFactory implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "inventory.db.pool";
+    private static final String REPLICA_METRIC_PREFIX = "inventory.db.replica";
+    private static final String POOL_TAG = "pool";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String REPLICA_TAG = "replica";
+    private static final String REASON_TAG = "reason";
+
+    private final Map<ConnectionRoute, Target> primary = new EnumMap<>(ConnectionRoute.class);
+    private final List<Target> replicas = new ArrayList<>();
+    private final long maxStalenessNanos;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter staleFallbacks;
+    private final Counter behindFallbacks;
+
+    public ReadWriteConnectionFactory(Map<ConnectionRoute, ConnectionPool> pools, MeterRegistry meterRegistry) {
+        this(pools, List.of(), Duration.ZERO, meterRegistry);
+    }
+
+    public ReadWriteConnectionFactory(Map<ConnectionRoute, ConnectionPool> pools, List<Replica> replicas,
+                                      Duration maxStaleness, MeterRegistry meterRegistry) {
+        setTargetConnectionFactories(new EnumMap<>(pools));
+        setDefaultTargetConnectionFactory(pools.get(ConnectionRoute.WRITE));
+        initialize();
+        for (ConnectionRoute route : ConnectionRoute.values()) {
+            primary.put(route, target(meterRegistry, route.getPropertyKey(), pools.get(route), null));
+        }
+        for (Replica replica : replicas) {
+            this.replicas.add(target(meterRegistry, replica.getName(), replica.getPool(), replica));
+            Gauge.builder(REPLICA_METRIC_PREFIX + ".lag", replica, ReadWriteConnectionFactory::lagSeconds)
+                    .tag(REPLICA_TAG, replica.getName())
+                    .description("Age of the primary snapshot the replica reflects")
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.staleFallbacks = fallbackCounter(meterRegistry, "stale");
+        this.behindFallbacks = fallbackCounter(meterRegistry, "behind-write-version");
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> Mono.just(ConnectionRoute.of(context)));
+    }
+
+    @Override
+    protected Mono<ConnectionFactory> determineTargetConnectionFactory() {
+        return Mono.deferContextual(context -> Mono.just(select(context).pool()));
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.deferContextual(context -> {
+            Target target = select(context);
+            long started = System.nanoTime();
+            return target.pool().create()
+                    .doOnEach(signal -> {
+                        if (signal.isOnNext()) {
+                            target.acquired().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                        } else if (signal.isOnError()) {
+                            target.failed().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                        }
+                    });
+        });
+    }
+
+    public ConnectionPool getPool(ConnectionRoute route) {
+        return primary.get(route).pool();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas.stream().map(Target::replica).toList();
+    }
+
+    @Override
+    public void destroy() {
+        primary.values().forEach(target -> target.pool().dispose());
+        replicas.forEach(target -> target.pool().dispose());
+    }
+
+    private Target select(ContextView context) {
+        ConnectionRoute route = ConnectionRoute.of(context);
+        if (route == ConnectionRoute.WRITE || replicas.isEmpty()) {
+            return primary.get(route);
+        }
+        long minVersion = ReplicationClock.minVersion(context);
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        boolean anyFresh = false;
+        for (int i = 0; i < replicas.size(); i++) {
+            Target candidate = replicas.get((start + i) % replicas.size());
+            if (candidate.replica().isFresh(maxStalenessNanos)) {
+                anyFresh = true;
+                if (candidate.replica().hasApplied(minVersion)) {
+                    return candidate;
+                }
+            }
+        }
+        (anyFresh ? behindFallbacks : staleFallbacks).increment();
+        return primary.get(ConnectionRoute.READ);
+    }
+
+    private static Target target(MeterRegistry meterRegistry, String name, ConnectionPool pool, Replica replica) {
+        gauge(meterRegistry, name, pool, "acquired", "Connections in use", PoolMetrics::acquiredSize);
+        gauge(meterRegistry, name, pool, "idle", "Connections open and idle", PoolMetrics::idleSize);
+        gauge(meterRegistry, name, pool, "pending", "Requests waiting for a connection",
+                PoolMetrics::pendingAcquireSize);
+        gauge(meterRegistry, name, pool, "max", "Maximum connections of the pool", PoolMetrics::getMaxAllocatedSize);
+        Gauge.builder(METRIC_PREFIX + ".utilization", pool, ReadWriteConnectionFactory::utilization)
+                .tag(POOL_TAG, name)
+                .description("Share of the pool's maximum size in use")
+                .register(meterRegistry);
+        return new Target(pool, replica, acquireTimer(meterRegistry, name, "acquired"),
+                acquireTimer(meterRegistry, name, "failed"));
+    }
+
+    private static double utilization(ConnectionPool pool) {
+        return pool.getMetrics()
+                .map(metrics -> metrics.getMaxAllocatedSize() == 0
+                        ? 0.0
+                        : (double) metrics.acquiredSize() / metrics.getMaxAllocatedSize())
+                .orElse(0.0);
+    }
+
+    private static double lagSeconds(Replica replica) {
+        long lag = replica.lagNanos();
+        return lag == Long.MAX_VALUE ? Double.NaN : lag / 1e9;
+    }
+
+    private static Timer acquireTimer(MeterRegistry meterRegistry, String pool, String outcome) {
+        return Timer.builder(METRIC_PREFIX + ".acquire")
+                .tag(POOL_TAG, pool)
+                .tag(OUTCOME_TAG, outcome)
+                .description("Time spent waiting for a pooled connection")
+                .register(meterRegistry);
+    }
+
+    private static Counter fallbackCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(REPLICA_METRIC_PREFIX + ".fallback")
+                .tag(REASON_TAG, reason)
+                .description("Reads sent to the primary because no replica was fresh enough")
+                .register(meterRegistry);
+    }
+
+    private static void gauge(MeterRegistry meterRegistry, String pool, ConnectionPool measured, String name,
+                              String description, ToIntFunction<PoolMetrics> value) {
+        Gauge.builder(METRIC_PREFIX + "." + name, measured,
+                        connectionPool -> connectionPool.getMetrics().map(value::applyAsInt).orElse(0))
+                .tag(POOL_TAG, pool)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private record Target(ConnectionPool pool, Replica replica, Timer acquired, Timer failed) {
+    }
+
+}
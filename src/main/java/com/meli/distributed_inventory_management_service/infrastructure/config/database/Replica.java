@@ -0,0 +1,59 @@
+package com.meli.distributed_inventory_management_service.infrastructure.config.database;
+
+import io.r2dbc.pool.ConnectionPool;
+import lombok.Getter;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A read replica and how far it has caught up: the {@link ReplicationClock} version and the time
+ * of the primary snapshot it was last refreshed from. Until its first refresh it serves nothing.
+ */
+@Getter
+public class Replica {
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final String name;
+    private final ConnectionPool pool;
+    private final LongSupplier nanoClock;
+    private volatile long appliedVersion;
+    private volatile long snapshotNanos = NEVER;
+
+    public Replica(String name, ConnectionPool pool) {
+        this(name, pool, System::nanoTime);
+    }
+
+    Replica(String name, ConnectionPool pool, LongSupplier nanoClock) {
+        this.name = name;
+        this.pool = pool;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Records a refresh from a primary snapshot taken at {@code snapshotNanos}, when the clock was at
+     * {@code version}.
+     */
+    public void applied(long version, long snapshotNanos) {
+        this.appliedVersion = version;
+        this.snapshotNanos = snapshotNanos;
+    }
+
+    /**
+     * Nanoseconds since the snapshot this replica reflects, or {@link Long#MAX_VALUE} before the first
+     * refresh.
+     */
+    public long lagNanos() {
+        long snapshot = snapshotNanos;
+        return snapshot == NEVER ? Long.MAX_VALUE : nanoClock.getAsLong() - snapshot;
+    }
+
+    boolean isFresh(long maxStalenessNanos) {
+        return lagNanos() <= maxStalenessNanos;
+    }
+
+    boolean hasApplied(long minVersion) {
+        return appliedVersion >= minVersion;
+    }
+
+}
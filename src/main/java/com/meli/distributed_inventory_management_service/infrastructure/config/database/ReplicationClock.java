@@ -0,0 +1,49 @@
+package com.meli.distributed_inventory_management_service.infrastructure.config.database;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logical clock that orders completed writes against replica refreshes. A caller that finished a
+ * write takes the next version with {@link #advance()}; a refresh reads {@link #current()} before
+ * it copies the primary, so a replica refreshed at version {@code v} holds every write whose
+ * version is at most {@code v}. Reads that must see the caller's own writes carry that version in
+ * the subscriber context with {@link #readingAfter(long)}.
+ */
+@Component
+public class ReplicationClock {
+
+    private static final String MIN_VERSION_KEY = ReplicationClock.class.getName() + ".minVersion";
+
+    private final boolean enabled;
+    private final AtomicLong version = new AtomicLong();
+
+    public ReplicationClock(@Value("${inventory.db.replica.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long advance() {
+        return version.incrementAndGet();
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    public static Context readingAfter(long version) {
+        return Context.of(MIN_VERSION_KEY, version);
+    }
+
+    static long minVersion(ContextView context) {
+        return context.getOrDefault(MIN_VERSION_KEY, 0L);
+    }
+
+}
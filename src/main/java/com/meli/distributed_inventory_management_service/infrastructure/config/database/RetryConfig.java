@@ -1,9 +1,41 @@
 package com.meli.distributed_inventory_management_service.infrastructure.config.database;
 
+import com.meli.distributed_inventory_management_service.domain.retry.ContentionRetry;
+import com.meli.distributed_inventory_management_service.domain.retry.RetryOperation;
+import com.meli.distributed_inventory_management_service.domain.retry.RetryPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.*;
 
 @Configuration
-@EnableRetry
 public class RetryConfig {
-}
\ No newline at end of file
+
+    private static final String RETRY_PROPERTY_PREFIX = "inventory.retry.";
+
+    @Bean
+    public ContentionRetry contentionRetry(Environment environment, MeterRegistry meterRegistry) {
+        Map<RetryOperation, RetryPolicy> policies = new EnumMap<>(RetryOperation.class);
+        for (RetryOperation operation : RetryOperation.values()) {
+            String prefix = RETRY_PROPERTY_PREFIX + operation.getPropertyKey();
+            policies.put(operation, RetryPolicy.builder()
+                    .maxAttempts(environment.getProperty(prefix + ".max-attempts", Integer.class, RETRY_MAX_ATTEMPTS))
+                    .baseDelay(environment.getProperty(prefix + ".base-delay", Duration.class,
+                            Duration.ofMillis(RETRY_DELAY)))
+                    .maxDelay(environment.getProperty(prefix + ".max-delay", Duration.class,
+                            Duration.ofMillis(RETRY_MAX_DELAY)))
+                    .multiplier(environment.getProperty(prefix + ".multiplier", Double.class, (double) RETRY_MULTIPLIER))
+                    .build());
+        }
+        int retriesPerKey = environment.getProperty(RETRY_PROPERTY_PREFIX + "budget.retries-per-key-per-second",
+                Integer.class, RETRY_BUDGET_PER_KEY_PER_SECOND);
+        return new ContentionRetry(policies, retriesPerKey, meterRegistry);
+    }
+
+}
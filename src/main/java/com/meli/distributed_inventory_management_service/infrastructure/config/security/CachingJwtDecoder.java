@@ -0,0 +1,108 @@
+package com.meli.distributed_inventory_management_service.infrastructure.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Verifies HS256 tokens with the parser cached by {@link JwtUtil} and remembers the tokens it has
+ * verified. The cache is bounded, keyed by the SHA-256 of the token so entries do not grow with
+ * the token length, and each entry expires at the token's {@code exp}, so a cached token is never
+ * accepted after the parser would have rejected it. A hit is also checked against the presented
+ * token before it is returned.
+ */
+public class CachingJwtDecoder implements ReactiveJwtDecoder {
+
+    public static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private static final String ISSUED_AT = "iat";
+    private static final String EXPIRES_AT = "exp";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Cache<TokenHash, Jwt> verifiedTokens;
+
+    public CachingJwtDecoder(JwtUtil jwtUtil, boolean enabled, long maximumSize,
+                             ObjectProvider<MeterRegistry> meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<TokenHash, Jwt>creating((hash, jwt) ->
+                        Duration.between(Instant.now(), jwt.getExpiresAt())))
+                .recordStats()
+                .build();
+        if (meterRegistry != null) {
+            meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, verifiedTokens, CACHE_NAME));
+        }
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) {
+        try {
+            if (!enabled) {
+                return Mono.just(verify(token));
+            }
+            TokenHash hash = TokenHash.of(token);
+            Jwt cached = verifiedTokens.getIfPresent(hash);
+            if (cached != null && cached.getTokenValue().equals(token)) {
+                return Mono.just(cached);
+            }
+            Jwt jwt = verify(token);
+            verifiedTokens.put(hash, jwt);
+            return Mono.just(jwt);
+        } catch (Exception e) {
+            return Mono.error(new RuntimeException("Token validation failed: " + e.getMessage(), e));
+        }
+    }
+
+    long cachedTokens() {
+        return verifiedTokens.estimatedSize();
+    }
+
+    private Jwt verify(String token) {
+        Claims claims = jwtUtil.getParser()
+                .parseClaimsJws(token)
+                .getBody();
+
+        Instant issuedAt = Instant.ofEpochSecond(claims.get(ISSUED_AT, Integer.class));
+        Instant expiresAt = Instant.ofEpochSecond(claims.get(EXPIRES_AT, Integer.class));
+
+        return Jwt.withTokenValue(token)
+                .subject(claims.getSubject())
+                .header("alg", "HS256")
+                .issuedAt(issuedAt)
+                .expiresAt(expiresAt)
+                .claims(c -> claims.forEach((key, value) -> {
+                    if (!ISSUED_AT.equals(key) && !EXPIRES_AT.equals(key)) {
+                        c.put(key, value);
+                    }
+                }))
+                .build();
+    }
+
+    private record TokenHash(long first, long second, long third, long fourth) {
+
+        private static TokenHash of(String token) throws NoSuchAlgorithmException {
+            ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenHash(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+    }
+
+}
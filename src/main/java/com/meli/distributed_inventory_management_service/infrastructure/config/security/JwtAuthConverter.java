@@ -11,14 +11,25 @@ import reactor.core.publisher.Mono;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+/**
+ * Maps the {@code roles} claim to authorities. Tokens carry one of a handful of role lists, so the
+ * authorities of each list are built once and shared; the memo stops growing after
+ * {@value #MAX_MEMOIZED_ROLE_LISTS} distinct lists.
+ */
 @Component
 public class JwtAuthConverter implements Converter<Jwt, Mono<AbstractAuthenticationToken>> {
 
     private static final String ROLE_PREFIX = "ROLE_";
     private static final String ROLES_CLAIM = "roles";
     private static final String DEFAULT_ROLE = "ROLE_USER";
+    private static final int MAX_MEMOIZED_ROLE_LISTS = 256;
+    private static final List<GrantedAuthority> DEFAULT_AUTHORITIES = List.of(new SimpleGrantedAuthority(DEFAULT_ROLE));
+
+    private final Map<List<String>, List<GrantedAuthority>> authoritiesByRoles = new ConcurrentHashMap<>();
 
     @Override
     public Mono<AbstractAuthenticationToken> convert(Jwt jwt) {
@@ -29,10 +40,22 @@ public class JwtAuthConverter implements Converter<Jwt, Mono<AbstractAuthenticat
     private Collection<GrantedAuthority> extractAuthorities(Jwt jwt) {
         List<String> roles = jwt.getClaimAsStringList(ROLES_CLAIM);
         if (roles != null && !roles.isEmpty()) {
-            return roles.stream()
-                    .map(role -> new SimpleGrantedAuthority(ROLE_PREFIX + role.toUpperCase()))
-                    .collect(Collectors.toList());
+            List<GrantedAuthority> memoized = authoritiesByRoles.get(roles);
+            if (memoized != null) {
+                return memoized;
+            }
+            List<GrantedAuthority> authorities = toAuthorities(roles);
+            if (authoritiesByRoles.size() < MAX_MEMOIZED_ROLE_LISTS) {
+                authoritiesByRoles.putIfAbsent(List.copyOf(roles), authorities);
+            }
+            return authorities;
         }
-        return List.of(new SimpleGrantedAuthority(DEFAULT_ROLE));
+        return DEFAULT_AUTHORITIES;
+    }
+
+    private static List<GrantedAuthority> toAuthorities(List<String> roles) {
+        return roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(ROLE_PREFIX + role.toUpperCase()))
+                .collect(Collectors.toUnmodifiableList());
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.meli.distributed_inventory_management_service.infrastructure.config.
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -27,7 +28,38 @@ public class JwtUtil {
     @Value("${jwt.expiration:3600000}")
     private Long expiration;
 
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
+    /**
+     * The HMAC key derived from the secret, built on first use and reused: deriving it copies and
+     * validates the secret every time.
+     */
     SecretKey getSigningKey() {
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = deriveSigningKey();
+            signingKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * A parser bound to the signing key, built on first use. jjwt parsers are immutable and
+     * thread-safe, so one instance serves every request.
+     */
+    JwtParser getParser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build();
+            parser = current;
+        }
+        return current;
+    }
+
+    private SecretKey deriveSigningKey() {
         byte[] keyBytes = secret.getBytes();
         if (keyBytes.length < DEFAULT_BYTES) {
             byte[] paddedKey = new byte[DEFAULT_BYTES];
@@ -49,10 +81,7 @@ public class JwtUtil {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            getParser().parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -60,9 +89,7 @@ public class JwtUtil {
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        Claims claims = getParser()
                 .parseClaimsJws(token)
                 .getBody();
         return claims.getSubject();
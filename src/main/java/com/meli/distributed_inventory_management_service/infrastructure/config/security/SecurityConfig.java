@@ -1,18 +1,15 @@
 package com.meli.distributed_inventory_management_service.infrastructure.config.security;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
-import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
 import org.springframework.security.web.server.SecurityWebFilterChain;
-import reactor.core.publisher.Mono;
-
-import java.time.Instant;
 
 @Configuration
 @EnableWebFluxSecurity
@@ -36,37 +33,11 @@ public class SecurityConfig {
     }
 
     @Bean
-    public ReactiveJwtDecoder reactiveJwtDecoder() {
-        return token -> {
-            try {
-                Claims claims = Jwts.parserBuilder()
-                        .setSigningKey(jwtUtil.getSigningKey())
-                        .build()
-                        .parseClaimsJws(token)
-                        .getBody();
-
-                Instant issuedAt = Instant.ofEpochSecond(claims.get("iat", Integer.class));
-                Instant expiresAt = Instant.ofEpochSecond(claims.get("exp", Integer.class));
-
-                Jwt jwt = Jwt.withTokenValue(token)
-                        .subject(claims.getSubject())
-                        .header("alg", "HS256")
-                        .issuedAt(issuedAt)
-                        .expiresAt(expiresAt)
-                        .claims(c -> {
-                            claims.forEach((key, value) -> {
-                                if (!"iat".equals(key) && !"exp".equals(key)) {
-                                    c.put(key, value);
-                                }
-                            });
-                        })
-                        .build();
-
-                return Mono.just(jwt);
-            } catch (Exception e) {
-                return Mono.error(new RuntimeException("Token validation failed: " + e.getMessage(), e));
-            }
-        };
+    public ReactiveJwtDecoder reactiveJwtDecoder(
+            @Value("${jwt.verified-token-cache.enabled:true}") boolean cacheEnabled,
+            @Value("${jwt.verified-token-cache.maximum-size:10000}") long cacheMaximumSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new CachingJwtDecoder(jwtUtil, cacheEnabled, cacheMaximumSize, meterRegistry);
     }
 
     @Bean
@@ -2,6 +2,7 @@ package com.meli.distributed_inventory_management_service.infrastructure.persist
 
 import com.meli.distributed_inventory_management_service.application.port.InventoryRepositoryPort;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import com.meli.distributed_inventory_management_service.domain.repository.InventoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -44,6 +45,11 @@ public class InventoryRepositoryAdapter implements InventoryRepositoryPort {
         return inventoryRepository.findByProduct(productId);
     }
 
+    @Override
+    public Flux<InventoryItem> findPage(String storeId, String productId, PageCursor after, int limit) {
+        return inventoryRepository.findPage(storeId, productId, after, limit);
+    }
+
     @Override
     public Mono<Boolean> deleteById(String id) {
         return inventoryRepository.delete(id);
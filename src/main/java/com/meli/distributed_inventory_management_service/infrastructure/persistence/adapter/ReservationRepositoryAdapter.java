@@ -0,0 +1,113 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.adapter;
+
+import com.meli.distributed_inventory_management_service.application.port.ReservationRepositoryPort;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.ConnectionRoute;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.entity.ReservationEntity;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.mapper.PersistenceReservationMapper;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.ReactiveReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stores reservations in the {@code reservations} table. Status changes are a single guarded UPDATE
+ * that only moves PENDING or RESERVED rows, so of two nodes changing the same reservation only one
+ * gets the row back; when the guard does not match, nothing is emitted. That exclusion only holds
+ * for callers that make the status change before they touch stock and act on its result.
+ */
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class ReservationRepositoryAdapter implements ReservationRepositoryPort {
+
+    private final ReactiveReservationRepository reservationRepository;
+    private final PersistenceReservationMapper persistenceReservationMapper;
+
+    @Override
+    public Mono<Reservation> save(Reservation reservation) {
+        return reservationRepository.upsert(persistenceReservationMapper.toEntity(reservation))
+                .thenReturn(reservation);
+    }
+
+    @Override
+    public Mono<Reservation> findById(String reservationId) {
+        return reservationRepository.findById(reservationId)
+                .map(persistenceReservationMapper::toDomain);
+    }
+
+    @Override
+    public Flux<Reservation> findAll() {
+        return reservationRepository.findAll()
+                .map(persistenceReservationMapper::toDomain)
+                .contextWrite(ConnectionRoute.READ.context());
+    }
+
+    @Override
+    public Flux<Reservation> findPage(PageCursor after, int limit) {
+        Flux<ReservationEntity> page = after == null
+                ? reservationRepository.findFirstPage(limit)
+                : reservationRepository.findPageAfter(after.getStoreId(), after.getProductId(), after.getId(), limit);
+        return page.map(persistenceReservationMapper::toDomain)
+                .contextWrite(ConnectionRoute.READ.context());
+    }
+
+    @Override
+    public Flux<Reservation> findByStatus(String status) {
+        return reservationRepository.findByStatus(status)
+                .map(persistenceReservationMapper::toDomain);
+    }
+
+    @Override
+    public Flux<Reservation> findByProductAndStore(String productId, String storeId) {
+        return reservationRepository.findByProductIdAndStoreId(productId, storeId)
+                .map(persistenceReservationMapper::toDomain);
+    }
+
+    @Override
+    public Mono<Reservation> updateStatus(String reservationId, String status) {
+        return reservationRepository.updateStatusIfActive(reservationId, status)
+                .map(persistenceReservationMapper::toDomain);
+    }
+
+    @Override
+    public Mono<Reservation> restoreStatus(String reservationId, String expectedStatus, String status) {
+        return reservationRepository.updateStatusIfCurrent(reservationId, expectedStatus, status)
+                .map(persistenceReservationMapper::toDomain);
+    }
+
+    @Override
+    public Flux<Reservation> findByGroupId(String groupId) {
+        return reservationRepository.findByGroupId(groupId)
+                .map(persistenceReservationMapper::toDomain);
+    }
+
+    @Override
+    public Flux<Reservation> findByCorrelationId(String correlationId) {
+        return reservationRepository.findByCorrelationId(correlationId)
+                .map(persistenceReservationMapper::toDomain);
+    }
+
+    @Override
+    public Flux<Reservation> updateGroupStatus(String groupId, String status) {
+        return reservationRepository.updateGroupStatusIfActive(groupId, status)
+                .map(persistenceReservationMapper::toDomain);
+    }
+
+    @Override
+    public Flux<Reservation> findExpiredReservations() {
+        return reservationRepository.findActiveExpiredBefore(LocalDateTime.now())
+                .map(persistenceReservationMapper::toDomain);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String reservationId) {
+        return reservationRepository.existsById(reservationId);
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded in-process cache of inventory items keyed by (productId, storeId). Size-based eviction
+ * uses Caffeine's W-TinyLFU policy. Entries are refreshed by the repository after every committed
+ * write and never replaced by an older version, so a slow read cannot overwrite a newer write.
+ * Entries also expire after a fixed time to bound staleness against writes made by other instances.
+ * <p>
+ * Writes made inside a transaction use {@link #putAfterCommit} and {@link #invalidateAfterCommit},
+ * so a rolled-back write never reaches the cache and a delete drops the entry only once other
+ * readers can no longer see the row. Entries are also indexed by item ID, so
+ * {@link #invalidateById} drops one entry without scanning the cache.
+ */
+@Component
+public class InventoryNearCache {
+
+    public static final String CACHE_NAME = "inventory.near-cache";
+
+    private final boolean enabled;
+    private final Cache<CacheKey, InventoryItem> cache;
+    private final Map<String, CacheKey> keysById = new ConcurrentHashMap<>();
+
+    public InventoryNearCache(@Value("${inventory.cache.enabled:true}") boolean enabled,
+                              @Value("${inventory.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${inventory.cache.expire-after-write:30s}") Duration expireAfterWrite,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .evictionListener((CacheKey key, InventoryItem item, RemovalCause cause) -> unindex(key, item))
+                .recordStats()
+                .build();
+        if (meterRegistry != null) {
+            meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+        }
+    }
+
+    public static InventoryNearCache disabled() {
+        return new InventoryNearCache(false, 0, Duration.ZERO, null);
+    }
+
+    public InventoryItem get(String productId, String storeId) {
+        if (!enabled) {
+            return null;
+        }
+        return cache.getIfPresent(new CacheKey(productId, storeId));
+    }
+
+    public InventoryItem put(InventoryItem item) {
+        if (enabled && item != null && item.getProductId() != null && item.getStoreId() != null) {
+            CacheKey key = new CacheKey(item.getProductId(), item.getStoreId());
+            cache.asMap().merge(key, item,
+                    (current, incoming) -> isNotOlder(incoming, current) ? incoming : current);
+            if (item.getId() != null) {
+                keysById.put(item.getId(), key);
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Caches the item once the surrounding transaction commits; without a transaction it is cached
+     * right away.
+     */
+    public Mono<InventoryItem> putAfterCommit(InventoryItem item) {
+        return afterCommit(() -> put(item)).thenReturn(item);
+    }
+
+    public Mono<List<InventoryItem>> putAllAfterCommit(List<InventoryItem> items) {
+        return afterCommit(() -> items.forEach(this::put)).thenReturn(items);
+    }
+
+    public void invalidate(String productId, String storeId) {
+        if (enabled) {
+            CacheKey key = new CacheKey(productId, storeId);
+            unindex(key, cache.asMap().remove(key));
+        }
+    }
+
+    public void invalidateById(String id) {
+        if (enabled) {
+            CacheKey key = keysById.remove(id);
+            if (key != null) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    public Mono<Void> invalidateAfterCommit(String id) {
+        return afterCommit(() -> invalidateById(id));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        keysById.clear();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private Mono<Void> afterCommit(Runnable action) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(synchronizations -> {
+                    if (!synchronizations.isSynchronizationActive()) {
+                        return Mono.fromRunnable(action);
+                    }
+                    synchronizations.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.fromRunnable(action);
+                        }
+                    });
+                    return Mono.empty();
+                })
+                .onErrorResume(NoTransactionException.class, ignored -> Mono.fromRunnable(action))
+                .then();
+    }
+
+    private void unindex(CacheKey key, InventoryItem item) {
+        if (item != null && item.getId() != null) {
+            keysById.remove(item.getId(), key);
+        }
+    }
+
+    private static boolean isNotOlder(InventoryItem incoming, InventoryItem current) {
+        return incoming.getVersion() == null || current.getVersion() == null
+                || incoming.getVersion() >= current.getVersion();
+    }
+
+    private record CacheKey(String productId, String storeId) {
+    }
+
+}
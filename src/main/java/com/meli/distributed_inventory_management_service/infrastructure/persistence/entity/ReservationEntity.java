@@ -0,0 +1,30 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("reservations")
+public class ReservationEntity {
+
+    @Id
+    private String reservationId;
+    private String productId;
+    private String storeId;
+    private Integer quantity;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private String correlationId;
+    private String groupId;
+
+}
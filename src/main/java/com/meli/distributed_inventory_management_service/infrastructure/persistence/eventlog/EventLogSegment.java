@@ -0,0 +1,126 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.eventlog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One segment file of the event log. The file name is the log offset of its first byte, so a global
+ * offset maps to a segment and a position inside it. Appends are made by the log's single writer;
+ * reads use positional reads and may run concurrently with them.
+ */
+final class EventLogSegment implements AutoCloseable {
+
+    static final String SUFFIX = ".log";
+
+    private final Path path;
+    private final long baseOffset;
+    private final FileChannel channel;
+    private volatile long size;
+    private volatile long lastAppendMillis;
+
+    private EventLogSegment(Path path, long baseOffset, FileChannel channel, long size, long lastAppendMillis) {
+        this.path = path;
+        this.baseOffset = baseOffset;
+        this.channel = channel;
+        this.size = size;
+        this.lastAppendMillis = lastAppendMillis;
+    }
+
+    static EventLogSegment create(Path directory, long baseOffset) throws IOException {
+        Path path = directory.resolve(fileName(baseOffset));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new EventLogSegment(path, baseOffset, channel, 0, System.currentTimeMillis());
+    }
+
+    static EventLogSegment open(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        long baseOffset = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new EventLogSegment(path, baseOffset, channel, channel.size(),
+                Files.getLastModifiedTime(path).toMillis());
+    }
+
+    static String fileName(long baseOffset) {
+        return String.format("%020d%s", baseOffset, SUFFIX);
+    }
+
+    /**
+     * Appends the buffer's remaining bytes and returns the global offset they were written at.
+     */
+    long append(ByteBuffer buffer) throws IOException {
+        long position = size;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        long offset = baseOffset + size;
+        size = position;
+        lastAppendMillis = System.currentTimeMillis();
+        return offset;
+    }
+
+    /**
+     * Reads {@code length} bytes starting at the position inside this segment.
+     */
+    ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of segment " + path);
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Maps the current contents read-only, for the startup scan.
+     */
+    MappedByteBuffer map() throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    void truncate(long newSize) throws IOException {
+        channel.truncate(newSize);
+        size = newSize;
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    boolean contains(long offset) {
+        return offset >= baseOffset && offset < baseOffset + size;
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    long size() {
+        return size;
+    }
+
+    long endOffset() {
+        return baseOffset + size;
+    }
+
+    long lastAppendMillis() {
+        return lastAppendMillis;
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
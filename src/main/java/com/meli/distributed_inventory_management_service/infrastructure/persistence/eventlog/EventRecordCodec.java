@@ -0,0 +1,144 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.eventlog;
+
+import com.meli.distributed_inventory_management_service.domain.model.EventStatus;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryUpdateEvent;
+import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary layout of one event log record: {@code [int payloadLength][int crc32c][payload]}. The
+ * payload starts with a format version and holds every event field; strings and enum names are
+ * length-prefixed UTF-8 with -1 for null.
+ */
+final class EventRecordCodec {
+
+    static final int HEADER_SIZE = Integer.BYTES * 2;
+    static final int MAX_RECORD_SIZE = 1 << 20;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private EventRecordCodec() {
+    }
+
+    /**
+     * Writes the full record (header and payload) for the event at the buffer's position.
+     */
+    static void encode(InventoryUpdateEvent event, ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.position(start + HEADER_SIZE);
+        buffer.put(FORMAT_VERSION);
+        putString(buffer, event.getEventId());
+        putString(buffer, event.getProductId());
+        putString(buffer, event.getStoreId());
+        buffer.put((byte) (event.getQuantity() == null ? 0 : 1));
+        buffer.putInt(event.getQuantity() == null ? 0 : event.getQuantity());
+        putString(buffer, event.getUpdateType() == null ? null : event.getUpdateType().name());
+        putString(buffer, event.getSource());
+        putString(buffer, event.getCorrelationId());
+        putTimestamp(buffer, event.getTimestamp());
+        putString(buffer, event.getStatus() == null ? null : event.getStatus().name());
+        putString(buffer, event.getErrorDetails());
+        int payloadLength = buffer.position() - start - HEADER_SIZE;
+        buffer.putInt(start, payloadLength);
+        buffer.putInt(start + Integer.BYTES, checksum(buffer, start + HEADER_SIZE, payloadLength));
+    }
+
+    static InventoryUpdateEvent decode(ByteBuffer payload) {
+        byte version = payload.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported event record version: " + version);
+        }
+        String eventId = getString(payload);
+        String productId = getString(payload);
+        String storeId = getString(payload);
+        boolean hasQuantity = payload.get() == 1;
+        int quantity = payload.getInt();
+        String updateType = getString(payload);
+        String source = getString(payload);
+        String correlationId = getString(payload);
+        LocalDateTime timestamp = getTimestamp(payload);
+        String status = getString(payload);
+        String errorDetails = getString(payload);
+        return InventoryUpdateEvent.builder()
+                .eventId(eventId)
+                .productId(productId)
+                .storeId(storeId)
+                .quantity(hasQuantity ? quantity : null)
+                .updateType(updateType == null ? null : UpdateType.valueOf(updateType))
+                .source(source)
+                .correlationId(correlationId)
+                .timestamp(timestamp)
+                .status(status == null ? null : EventStatus.valueOf(status))
+                .errorDetails(errorDetails)
+                .build();
+    }
+
+    /**
+     * Upper bound of the encoded record size, used to size the write buffer.
+     */
+    static int maxEncodedSize(InventoryUpdateEvent event) {
+        return HEADER_SIZE + 1 + Integer.BYTES + 1 + Long.BYTES + Integer.BYTES
+                + maxStringSize(event.getEventId())
+                + maxStringSize(event.getProductId())
+                + maxStringSize(event.getStoreId())
+                + maxStringSize(event.getUpdateType() == null ? null : event.getUpdateType().name())
+                + maxStringSize(event.getSource())
+                + maxStringSize(event.getCorrelationId())
+                + maxStringSize(event.getStatus() == null ? null : event.getStatus().name())
+                + maxStringSize(event.getErrorDetails());
+    }
+
+    static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().limit(offset + length).position(offset));
+        return (int) crc.getValue();
+    }
+
+    private static int maxStringSize(String value) {
+        return Integer.BYTES + (value == null ? 0 : value.length() * 3);
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putTimestamp(ByteBuffer buffer, LocalDateTime timestamp) {
+        if (timestamp == null) {
+            buffer.putLong(NULL_TIMESTAMP);
+            buffer.putInt(0);
+            return;
+        }
+        buffer.putLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(timestamp.getNano());
+    }
+
+    private static LocalDateTime getTimestamp(ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        return seconds == NULL_TIMESTAMP ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+}
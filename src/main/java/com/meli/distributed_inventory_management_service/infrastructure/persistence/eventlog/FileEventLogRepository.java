@@ -0,0 +1,370 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.eventlog;
+
+import com.meli.distributed_inventory_management_service.application.port.EventRepositoryPort;
+import com.meli.distributed_inventory_management_service.application.port.impl.EventIndex;
+import com.meli.distributed_inventory_management_service.domain.model.EventStatus;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryUpdateEvent;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, file-backed event store enabled with the {@code event-log} profile. Events are
+ * written as checksummed records to segment files through a {@link java.nio.channels.FileChannel};
+ * a status change appends a new record for the event instead of rewriting the old one. An in-memory
+ * index maps each event ID to the offset of its latest record, and reads go to the file. Status and
+ * correlation lookups use an {@link EventIndex} kept next to it, so they read only matching records.
+ * <p>
+ * A new segment is started when the active one would exceed the segment size. When a segment is
+ * rolled, closed segments whose last append is older than the retention are deleted, together with
+ * the index entries that point into them; each segment keeps the IDs of the events whose latest
+ * record it holds, so deleting it only visits those. At startup the segments are memory-mapped and
+ * scanned to rebuild the index; a torn record at the end of the last segment is truncated.
+ * <p>
+ * Appends run on a dedicated single writer thread, never on the caller's, and are serialized by a
+ * lock shared with shutdown. {@link #saveAll} writes a batch with as few writes as the buffer
+ * allows. With {@code force-on-append} every append or batch also waits for the fsync.
+ */
+@Component
+@Profile("event-log")
+public class FileEventLogRepository implements EventRepositoryPort, DisposableBean {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final Duration retention;
+    private final boolean forceOnAppend;
+    private final NavigableMap<Long, EventLogSegment> segments = new ConcurrentSkipListMap<>();
+    private final Map<String, IndexEntry> offsetIndex = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> idsBySegment = new ConcurrentHashMap<>();
+    private final EventIndex eventIndex = new EventIndex();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Scheduler writer = Schedulers.newSingle("event-log-writer", true);
+    private ByteBuffer writeBuffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+    private EventLogSegment active;
+
+    public FileEventLogRepository(@Value("${inventory.event-log.directory:data/event-log}") String directory,
+                                  @Value("${inventory.event-log.segment-size:64MB}") DataSize segmentSize,
+                                  @Value("${inventory.event-log.retention:7d}") Duration retention,
+                                  @Value("${inventory.event-log.force-on-append:false}") boolean forceOnAppend) {
+        if (segmentSize.toBytes() <= 0 || segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Event log segment size must be between 1 byte and 2GB");
+        }
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize.toBytes();
+        this.retention = retention;
+        this.forceOnAppend = forceOnAppend;
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot open event log at " + this.directory, e);
+        }
+    }
+
+    @Override
+    public Mono<InventoryUpdateEvent> save(InventoryUpdateEvent event) {
+        return Mono.fromCallable(() -> {
+            writeLock.lock();
+            try {
+                appendAllLocked(List.of(event));
+                return event;
+            } finally {
+                writeLock.unlock();
+            }
+        }).subscribeOn(writer);
+    }
+
+    @Override
+    public Flux<InventoryUpdateEvent> saveAll(List<InventoryUpdateEvent> events) {
+        return Mono.fromCallable(() -> {
+            writeLock.lock();
+            try {
+                appendAllLocked(events);
+                return events;
+            } finally {
+                writeLock.unlock();
+            }
+        }).subscribeOn(writer).flatMapIterable(saved -> saved);
+    }
+
+    @Override
+    public Mono<InventoryUpdateEvent> findById(String eventId) {
+        return Mono.fromCallable(() -> {
+            IndexEntry entry = offsetIndex.get(eventId);
+            return entry == null ? null : read(entry.offset());
+        });
+    }
+
+    @Override
+    public Flux<InventoryUpdateEvent> findAll() {
+        return Flux.defer(() -> Flux.fromIterable(offsetIndex.values()))
+                .mapNotNull(entry -> read(entry.offset()));
+    }
+
+    @Override
+    public Flux<InventoryUpdateEvent> findPage(PageCursor after, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(eventIndex.positionsAfter(after)))
+                .concatMapIterable(position -> {
+                    IndexEntry entry = offsetIndex.get(position.getId());
+                    return entry != null && position.equals(entry.position()) ? List.of(entry) : List.of();
+                })
+                .take(limit)
+                .mapNotNull(entry -> read(entry.offset()));
+    }
+
+    @Override
+    public Flux<InventoryUpdateEvent> findByStatus(String status) {
+        EventStatus eventStatus = EventIndex.parseStatus(status);
+        return lookup(eventIndex.idsWithStatus(eventStatus), entry -> entry.status() == eventStatus);
+    }
+
+    @Override
+    public Mono<InventoryUpdateEvent> updateStatus(String eventId, String status, String errorDetails) {
+        return Mono.fromCallable(() -> {
+            writeLock.lock();
+            try {
+                IndexEntry entry = offsetIndex.get(eventId);
+                InventoryUpdateEvent existingEvent = entry == null ? null : read(entry.offset());
+                if (existingEvent == null) {
+                    return null;
+                }
+                InventoryUpdateEvent updatedEvent = errorDetails != null
+                        ? existingEvent.withError(errorDetails)
+                        : existingEvent.withStatus(EventStatus.valueOf(status));
+                appendAllLocked(List.of(updatedEvent));
+                return updatedEvent;
+            } finally {
+                writeLock.unlock();
+            }
+        }).subscribeOn(writer);
+    }
+
+    @Override
+    public Flux<InventoryUpdateEvent> findByCorrelationId(String correlationId) {
+        return lookup(eventIndex.idsWithCorrelationId(correlationId),
+                entry -> correlationId.equals(entry.correlationId()));
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        writeLock.lock();
+        try {
+            active.force();
+            for (EventLogSegment segment : segments.values()) {
+                segment.close();
+            }
+        } finally {
+            writeLock.unlock();
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Encodes the events back to back into the write buffer and writes each filled buffer with one
+     * call. When the next record would not fit in the active segment, the buffered records are
+     * written first and the segment is rolled. With {@code force-on-append} the batch is synced once.
+     */
+    private void appendAllLocked(List<InventoryUpdateEvent> events) throws IOException {
+        for (InventoryUpdateEvent event : events) {
+            if (EventRecordCodec.maxEncodedSize(event) > EventRecordCodec.MAX_RECORD_SIZE) {
+                throw new IllegalArgumentException("Event too large for the event log: " + event.getEventId());
+            }
+        }
+        int[] starts = new int[events.size()];
+        int next = 0;
+        while (next < events.size()) {
+            int batchStart = next;
+            writeBuffer.clear();
+            while (next < events.size()) {
+                InventoryUpdateEvent event = events.get(next);
+                int maxSize = EventRecordCodec.maxEncodedSize(event);
+                if (writeBuffer.remaining() < maxSize) {
+                    if (next > batchStart) {
+                        break;
+                    }
+                    writeBuffer = ByteBuffer.allocateDirect(Integer.highestOneBit(maxSize) << 1);
+                }
+                int start = writeBuffer.position();
+                EventRecordCodec.encode(event, writeBuffer);
+                if (active.size() + writeBuffer.position() > segmentSize) {
+                    if (start > 0) {
+                        writeBuffer.position(start);
+                        break;
+                    }
+                    if (active.size() > 0) {
+                        roll();
+                    }
+                }
+                starts[next++] = start;
+            }
+            writeBuffer.flip();
+            long baseOffset = active.append(writeBuffer);
+            for (int i = batchStart; i < next; i++) {
+                index(events.get(i), baseOffset + starts[i]);
+            }
+        }
+        if (forceOnAppend) {
+            active.force();
+        }
+    }
+
+    /**
+     * Points the event at its latest record. The offset entry is replaced before the secondary
+     * indexes move, and lookups re-check the entry, so a reader never sees the event under a stale key.
+     */
+    private void index(InventoryUpdateEvent event, long offset) {
+        PageCursor position = EventIndex.positionOf(event);
+        IndexEntry previous = offsetIndex.put(event.getEventId(),
+                new IndexEntry(offset, event.getStatus(), event.getCorrelationId(), position));
+        long segment = segments.floorKey(offset);
+        idsBySegment.computeIfAbsent(segment, ignored -> ConcurrentHashMap.newKeySet()).add(event.getEventId());
+        if (previous != null) {
+            long previousSegment = segments.floorKey(previous.offset());
+            Set<String> previousIds = idsBySegment.get(previousSegment);
+            if (previousSegment != segment && previousIds != null) {
+                previousIds.remove(event.getEventId());
+            }
+        }
+        if (previous == null || !position.equals(previous.position())) {
+            eventIndex.addPosition(position);
+            if (previous != null) {
+                eventIndex.removePosition(previous.position());
+            }
+        }
+        eventIndex.move(event.getEventId(),
+                previous == null ? null : previous.status(),
+                previous == null ? null : previous.correlationId(),
+                event.getStatus(),
+                event.getCorrelationId());
+    }
+
+    private Flux<InventoryUpdateEvent> lookup(Set<String> eventIds, Predicate<IndexEntry> matches) {
+        return Flux.defer(() -> Flux.fromIterable(eventIds))
+                .mapNotNull(offsetIndex::get)
+                .filter(matches)
+                .mapNotNull(entry -> read(entry.offset()));
+    }
+
+    private void roll() throws IOException {
+        active.force();
+        active = EventLogSegment.create(directory, active.endOffset());
+        segments.put(active.baseOffset(), active);
+        applyRetention();
+    }
+
+    private void applyRetention() throws IOException {
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        for (EventLogSegment segment : segments.values()) {
+            if (segment == active || segment.lastAppendMillis() >= cutoff) {
+                break;
+            }
+            segments.remove(segment.baseOffset());
+            for (String eventId : idsBySegment.getOrDefault(segment.baseOffset(), Set.of())) {
+                IndexEntry entry = offsetIndex.get(eventId);
+                if (entry != null && segment.contains(entry.offset()) && offsetIndex.remove(eventId, entry)) {
+                    eventIndex.remove(eventId, entry.status(), entry.correlationId());
+                    eventIndex.removePosition(entry.position());
+                }
+            }
+            idsBySegment.remove(segment.baseOffset());
+            segment.delete();
+        }
+    }
+
+    private InventoryUpdateEvent read(long offset) {
+        Map.Entry<Long, EventLogSegment> entry = segments.floorEntry(offset);
+        if (entry == null || !entry.getValue().contains(offset)) {
+            return null;
+        }
+        EventLogSegment segment = entry.getValue();
+        long position = offset - segment.baseOffset();
+        try {
+            int length = segment.read(position, Integer.BYTES).getInt();
+            return EventRecordCodec.decode(segment.read(position + EventRecordCodec.HEADER_SIZE, length));
+        } catch (ClosedChannelException e) {
+            // The segment was removed by retention after the offset was looked up.
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(EventLogSegment.SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            EventLogSegment segment = EventLogSegment.open(files.get(i));
+            segments.put(segment.baseOffset(), segment);
+            scan(segment, i == files.size() - 1);
+        }
+        if (segments.isEmpty()) {
+            EventLogSegment first = EventLogSegment.create(directory, 0);
+            segments.put(first.baseOffset(), first);
+        }
+        active = segments.lastEntry().getValue();
+    }
+
+    /**
+     * Indexes every valid record of the segment, stopping at the first torn or corrupt one. On the
+     * last segment the file is truncated there so new appends follow the last valid record.
+     */
+    private void scan(EventLogSegment segment, boolean last) throws IOException {
+        MappedByteBuffer mapped = segment.map();
+        long size = segment.size();
+        int position = 0;
+        while (position + EventRecordCodec.HEADER_SIZE <= size) {
+            int length = mapped.getInt(position);
+            int checksum = mapped.getInt(position + Integer.BYTES);
+            int payloadStart = position + EventRecordCodec.HEADER_SIZE;
+            if (length <= 0 || length > EventRecordCodec.MAX_RECORD_SIZE || payloadStart + (long) length > size
+                    || EventRecordCodec.checksum(mapped, payloadStart, length) != checksum) {
+                break;
+            }
+            InventoryUpdateEvent event = EventRecordCodec.decode(mapped.slice(payloadStart, length));
+            index(event, segment.baseOffset() + position);
+            position = payloadStart + length;
+        }
+        if (last && position < size) {
+            segment.truncate(position);
+        }
+    }
+
+    private record IndexEntry(long offset, EventStatus status, String correlationId, PageCursor position) {
+    }
+
+}
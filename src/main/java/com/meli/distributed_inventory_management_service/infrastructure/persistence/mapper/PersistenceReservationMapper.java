@@ -0,0 +1,20 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.mapper;
+
+import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.entity.ReservationEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.NullValueCheckStrategy;
+import org.mapstruct.NullValueMappingStrategy;
+
+@Mapper(
+        componentModel = "spring",
+        nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS,
+        nullValueMappingStrategy = NullValueMappingStrategy.RETURN_NULL
+)
+public interface PersistenceReservationMapper {
+
+    ReservationEntity toEntity(Reservation domain);
+
+    Reservation toDomain(ReservationEntity entity);
+
+}
@@ -0,0 +1,82 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meli.distributed_inventory_management_service.application.port.InventoryChangePublisherPort;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * File stand-in for a message broker, selected with the {@code outbox-file} profile. Each batch is
+ * appended to one file as newline-delimited JSON, one change per line, so tests can read back
+ * exactly what the relay delivered and in which order.
+ */
+@Component
+@Profile("outbox-file")
+public class FileInventoryChangePublisher implements InventoryChangePublisherPort {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileInventoryChangePublisher(ObjectMapper objectMapper,
+                                        @Value("${inventory.outbox.file:./data/outbox/changes.ndjson}") String file) {
+        this.objectMapper = objectMapper;
+        this.file = Path.of(file);
+    }
+
+    @Override
+    public Mono<Void> publish(List<InventoryChange> changes) {
+        return Mono.<Void>fromRunnable(() -> append(changes))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public List<InventoryChange> readAll() {
+        try {
+            if (!Files.exists(file)) {
+                return List.of();
+            }
+            return Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                    .map(this::fromJson)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized void append(List<InventoryChange> changes) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (InventoryChange change : changes) {
+                lines.append(objectMapper.writeValueAsString(change)).append('\n');
+            }
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private InventoryChange fromJson(String line) {
+        try {
+            return objectMapper.readValue(line, InventoryChange.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed outbox line: " + line, e);
+        }
+    }
+
+}
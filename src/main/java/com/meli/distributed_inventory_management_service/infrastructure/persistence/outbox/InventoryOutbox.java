@@ -0,0 +1,93 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.outbox;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChangeType;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes the outbox rows of an inventory write. It goes through the same {@link DatabaseClient} as
+ * the repository, so when called from a transactional repository method the rows are inserted on
+ * the transaction's connection and commit or roll back together with the inventory update.
+ */
+@Component
+public class InventoryOutbox {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO inventory_outbox
+                (aggregate_id, product_id, store_id, change_type, current_stock, reserved_stock, version, created_at)
+            VALUES ($1, $2, $3, $4, $5, $6, $7, $8)
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final boolean enabled;
+
+    public InventoryOutbox(DatabaseClient databaseClient,
+                           @Value("${inventory.outbox.enabled:true}") boolean enabled) {
+        this.databaseClient = databaseClient;
+        this.enabled = enabled;
+    }
+
+    public static InventoryOutbox disabled() {
+        return new InventoryOutbox(null, false);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Inserts one row per item with one batched statement.
+     */
+    public Mono<Void> append(List<InventoryItem> items, InventoryChangeType changeType) {
+        if (!enabled || items.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.inConnectionMany(connection -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    Statement statement = connection.createStatement(INSERT_SQL);
+                    for (int i = 0; i < items.size(); i++) {
+                        InventoryItem item = items.get(i);
+                        if (i > 0) {
+                            statement.add();
+                        }
+                        statement.bind(0, item.getId())
+                                .bind(1, item.getProductId())
+                                .bind(2, item.getStoreId())
+                                .bind(3, changeType.name())
+                                .bind(4, item.getCurrentStock())
+                                .bind(5, item.getReservedStock())
+                                .bind(6, item.getVersion())
+                                .bind(7, now);
+                    }
+                    return Flux.from(statement.execute())
+                            .concatMap(Result::getRowsUpdated);
+                })
+                .then();
+    }
+
+    public Mono<Void> appendDeleted(String aggregateId) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return databaseClient.sql("""
+                        INSERT INTO inventory_outbox (aggregate_id, change_type, created_at)
+                        VALUES (:aggregateId, :changeType, :createdAt)
+                        """)
+                .bind("aggregateId", aggregateId)
+                .bind("changeType", InventoryChangeType.ITEM_DELETED.name())
+                .bind("createdAt", LocalDateTime.now())
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.outbox;
+
+import com.meli.distributed_inventory_management_service.application.port.InventoryChangePublisherPort;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChange;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChangeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains the inventory outbox to the {@link InventoryChangePublisherPort}. Every tick it reads the
+ * oldest rows with {@code ORDER BY id LIMIT n}, publishes them as one batch and deletes exactly the
+ * published IDs, repeating while batches come back full. Delivery is at least once: rows are only
+ * deleted after the publisher succeeds, so a crash in between republishes them. The relay does not
+ * keep an {@code id > last} cursor because IDs are assigned at insert and a slower transaction can
+ * commit a lower ID after a higher one was relayed; reading from the head of the table picks it up.
+ */
+@Component
+public class OutboxRelay implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "inventory.outbox";
+    private static final String SELECT_SQL = """
+            SELECT id, aggregate_id, product_id, store_id, change_type, current_stock, reserved_stock, version, created_at
+            FROM inventory_outbox
+            ORDER BY id
+            LIMIT :limit
+            """;
+    private static final String DELETE_SQL = "DELETE FROM inventory_outbox WHERE id IN (:ids)";
+
+    private final DatabaseClient databaseClient;
+    private final InventoryChangePublisherPort publisher;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Scheduler scheduler;
+    private final Counter relayedCounter;
+    private final Counter publishFailedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer lagTimer;
+    private volatile Disposable relay;
+
+    public OutboxRelay(DatabaseClient databaseClient,
+                       InventoryChangePublisherPort publisher,
+                       MeterRegistry meterRegistry,
+                       @Value("${inventory.outbox.enabled:true}") boolean enabled,
+                       @Value("${inventory.outbox.poll-interval:100ms}") Duration pollInterval,
+                       @Value("${inventory.outbox.batch-size:500}") int batchSize) {
+        this.databaseClient = databaseClient;
+        this.publisher = publisher;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.scheduler = Schedulers.newSingle("inventory-outbox-relay", true);
+        this.relayedCounter = Counter.builder(METRIC_PREFIX + ".relayed")
+                .description("Outbox rows published and deleted by the relay")
+                .register(meterRegistry);
+        this.publishFailedCounter = Counter.builder(METRIC_PREFIX + ".publish.failed")
+                .description("Outbox batches the publisher rejected; their rows are retried on the next tick")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                .description("Rows read from the outbox per relay batch")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder(METRIC_PREFIX + ".lag")
+                .description("Time from the outbox insert to the publication of a row")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        relay = Flux.interval(pollInterval, scheduler)
+                .onBackpressureDrop()
+                .concatMap(ignored -> drain(), 1)
+                .subscribe();
+    }
+
+    /**
+     * Relays full batches until the outbox holds less than one batch and emits the number of rows
+     * relayed. A publisher failure stops this drain and leaves the rows for the next one.
+     */
+    public Mono<Long> drain() {
+        return relayBatch()
+                .expand(relayed -> relayed == batchSize ? relayBatch() : Mono.empty())
+                .reduce(0L, Long::sum)
+                .onErrorResume(error -> {
+                    publishFailedCounter.increment();
+                    return Mono.just(0L);
+                });
+    }
+
+    @Override
+    public void destroy() {
+        if (relay != null) {
+            relay.dispose();
+        }
+        scheduler.dispose();
+    }
+
+    private Mono<Long> relayBatch() {
+        return databaseClient.sql(SELECT_SQL)
+                .bind("limit", batchSize)
+                .map((row, metadata) -> toChange(row))
+                .all()
+                .collectList()
+                .flatMap(batch -> {
+                    batchSizeSummary.record(batch.size());
+                    if (batch.isEmpty()) {
+                        return Mono.just(0L);
+                    }
+                    return publisher.publish(batch)
+                            .then(Mono.defer(() -> delete(batch)))
+                            .doOnNext(deleted -> record(batch))
+                            .thenReturn((long) batch.size());
+                });
+    }
+
+    private Mono<Long> delete(List<InventoryChange> batch) {
+        return databaseClient.sql(DELETE_SQL)
+                .bind("ids", batch.stream().map(InventoryChange::getSequence).toList())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private void record(List<InventoryChange> batch) {
+        relayedCounter.increment(batch.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (InventoryChange change : batch) {
+            lagTimer.record(Duration.between(change.getCreatedAt(), now));
+        }
+    }
+
+    private static InventoryChange toChange(Row row) {
+        return InventoryChange.builder()
+                .sequence(row.get("id", Long.class))
+                .aggregateId(row.get("aggregate_id", String.class))
+                .productId(row.get("product_id", String.class))
+                .storeId(row.get("store_id", String.class))
+                .changeType(InventoryChangeType.valueOf(row.get("change_type", String.class)))
+                .currentStock(row.get("current_stock", Integer.class))
+                .reservedStock(row.get("reserved_stock", Integer.class))
+                .version(row.get("version", Long.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .build();
+    }
+
+}
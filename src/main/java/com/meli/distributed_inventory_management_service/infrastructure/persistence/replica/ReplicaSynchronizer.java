@@ -0,0 +1,201 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.replica;
+
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.ConnectionRoute;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.ReadWriteConnectionFactory;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.Replica;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.ReplicationClock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Stand-in for database replication, enabled with {@code inventory.db.replica.enabled}. Every
+ * {@code sync-interval} it reads the replicated tables from the primary and replaces their
+ * contents on each replica in one replica transaction, so readers of a replica see either the old
+ * or the new copy. Before reading it takes the {@link ReplicationClock} version; every write that
+ * took a version up to that one had committed, so the copy contains it and the replica is marked
+ * as applied up to that version. A failed refresh leaves the replica at its previous snapshot,
+ * where it ages past the staleness bound and reads fall back to the primary.
+ * <p>
+ * Each table is read with its own query, so the tables of one copy are not a single consistent
+ * snapshot of the primary; they are each at least as new as the recorded version.
+ */
+@Component
+public class ReplicaSynchronizer implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "inventory.db.replica";
+    private static final List<String> TABLES = List.of("inventory_items", "reservations");
+
+    private final ReadWriteConnectionFactory connectionFactory;
+    private final ReplicationClock clock;
+    private final boolean enabled;
+    private final Duration syncInterval;
+    private final Scheduler scheduler;
+    private final Timer refreshTimer;
+    private final Counter refreshFailedCounter;
+    private volatile Disposable synchronizer;
+
+    public ReplicaSynchronizer(ReadWriteConnectionFactory connectionFactory,
+                               ReplicationClock clock,
+                               MeterRegistry meterRegistry,
+                               @Value("${inventory.db.replica.enabled:false}") boolean enabled,
+                               @Value("${inventory.db.replica.sync-interval:250ms}") Duration syncInterval) {
+        this.connectionFactory = connectionFactory;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.syncInterval = syncInterval;
+        this.scheduler = Schedulers.newSingle("inventory-replica-sync", true);
+        this.refreshTimer = Timer.builder(METRIC_PREFIX + ".refresh")
+                .description("Time to copy the primary to every replica")
+                .register(meterRegistry);
+        this.refreshFailedCounter = Counter.builder(METRIC_PREFIX + ".refresh.failed")
+                .description("Refreshes that failed; the replicas keep their previous snapshot")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || connectionFactory.getReplicas().isEmpty()) {
+            return;
+        }
+        synchronizer = initialize()
+                .thenMany(Flux.interval(Duration.ZERO, syncInterval, scheduler))
+                .onBackpressureDrop()
+                .concatMap(ignored -> refresh(), 1)
+                .subscribe();
+    }
+
+    /**
+     * Creates the schema on every replica.
+     */
+    public Mono<Void> initialize() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("schema.sql"));
+        return Flux.fromIterable(connectionFactory.getReplicas())
+                .concatMap(replica -> populator.populate(replica.getPool()))
+                .then();
+    }
+
+    /**
+     * Copies the primary to every replica once. A failure is counted and completes empty.
+     */
+    public Mono<Void> refresh() {
+        return Mono.defer(() -> {
+                    long started = System.nanoTime();
+                    long version = clock.current();
+                    DatabaseClient primary = DatabaseClient.create(connectionFactory.getPool(ConnectionRoute.READ));
+                    return Flux.fromIterable(TABLES)
+                            .concatMap(table -> read(primary, table))
+                            .collectList()
+                            .flatMapMany(tables -> Flux.fromIterable(connectionFactory.getReplicas())
+                                    .concatMap(replica -> apply(replica, tables)
+                                            .doOnSuccess(ignored -> replica.applied(version, started))))
+                            .then()
+                            .doOnSuccess(ignored -> refreshTimer.record(System.nanoTime() - started,
+                                    TimeUnit.NANOSECONDS));
+                })
+                .onErrorResume(error -> {
+                    refreshFailedCounter.increment();
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public void destroy() {
+        if (synchronizer != null) {
+            synchronizer.dispose();
+        }
+        scheduler.dispose();
+    }
+
+    private static Mono<TableCopy> read(DatabaseClient primary, String table) {
+        return primary.sql("SELECT * FROM " + table)
+                .map(ReplicaSynchronizer::toRow)
+                .all()
+                .collectList()
+                .map(rows -> new TableCopy(table, rows));
+    }
+
+    private static Mono<Void> apply(Replica replica, List<TableCopy> tables) {
+        DatabaseClient client = DatabaseClient.create(replica.getPool());
+        TransactionalOperator transaction = TransactionalOperator.create(new R2dbcTransactionManager(replica.getPool()));
+        return Flux.fromIterable(tables)
+                .concatMap(table -> client.sql("DELETE FROM " + table.name())
+                        .fetch()
+                        .rowsUpdated()
+                        .then(insert(client, table)))
+                .then()
+                .as(transaction::transactional);
+    }
+
+    private static Mono<Void> insert(DatabaseClient client, TableCopy table) {
+        if (table.rows().isEmpty()) {
+            return Mono.empty();
+        }
+        List<ColumnMetadata> columns = table.rows().get(0).columns();
+        String sql = "INSERT INTO " + table.name()
+                + " (" + columns.stream().map(ColumnMetadata::getName).collect(Collectors.joining(", "))
+                + ") VALUES (" + IntStream.rangeClosed(1, columns.size()).mapToObj(i -> "$" + i)
+                .collect(Collectors.joining(", ")) + ")";
+        return client.inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(sql);
+                    for (int r = 0; r < table.rows().size(); r++) {
+                        if (r > 0) {
+                            statement.add();
+                        }
+                        Object[] values = table.rows().get(r).values();
+                        for (int c = 0; c < values.length; c++) {
+                            if (values[c] == null) {
+                                statement.bindNull(c, columns.get(c).getJavaType());
+                            } else {
+                                statement.bind(c, values[c]);
+                            }
+                        }
+                    }
+                    return Flux.from(statement.execute())
+                            .concatMap(Result::getRowsUpdated);
+                })
+                .then();
+    }
+
+    private static CopiedRow toRow(Row row, RowMetadata metadata) {
+        List<? extends ColumnMetadata> columns = metadata.getColumnMetadatas();
+        Object[] values = new Object[columns.size()];
+        for (int c = 0; c < values.length; c++) {
+            values[c] = row.get(c);
+        }
+        return new CopiedRow(List.copyOf(columns), values);
+    }
+
+    private record TableCopy(String name, List<CopiedRow> rows) {
+    }
+
+    private record CopiedRow(List<ColumnMetadata> columns, Object[] values) {
+    }
+
+}
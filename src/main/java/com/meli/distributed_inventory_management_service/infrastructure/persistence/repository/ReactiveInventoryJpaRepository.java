@@ -32,6 +32,26 @@ public interface ReactiveInventoryJpaRepository extends ReactiveCrudRepository<I
     @Query("UPDATE inventory_items SET reserved_stock = reserved_stock - :quantity, version = version + 1 WHERE id = :id AND version = :version")
     Mono<Integer> releaseReservedStockWithVersion(String id, Integer quantity, Long version);
 
+    @Query("""
+            SELECT * FROM FINAL TABLE (
+                UPDATE inventory_items
+                SET reserved_stock = reserved_stock + :quantity, version = version + 1,
+                    last_updated = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP
+                WHERE product_id = :productId AND store_id = :storeId
+                  AND current_stock - reserved_stock >= :quantity
+            )""")
+    Mono<InventoryEntity> reserveStockIfAvailable(String productId, String storeId, Integer quantity);
+
+    @Query("""
+            SELECT * FROM FINAL TABLE (
+                UPDATE inventory_items
+                SET reserved_stock = reserved_stock - :quantity, version = version + 1,
+                    last_updated = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP
+                WHERE product_id = :productId AND store_id = :storeId
+                  AND reserved_stock >= :quantity
+            )""")
+    Mono<InventoryEntity> releaseReservedStockIfHeld(String productId, String storeId, Integer quantity);
+
     @Query("SELECT COUNT(*) FROM inventory_items WHERE store_id = :storeId AND current_stock > maximum_stock_level")
     Mono<Integer> countOverstockItems(String storeId);
 
@@ -0,0 +1,70 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.repository;
+
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.entity.ReservationEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface ReactiveReservationRepository extends ReactiveCrudRepository<ReservationEntity, String> {
+
+    Flux<ReservationEntity> findByStatus(String status);
+
+    Flux<ReservationEntity> findByProductIdAndStoreId(String productId, String storeId);
+
+    Flux<ReservationEntity> findByGroupId(String groupId);
+
+    Flux<ReservationEntity> findByCorrelationId(String correlationId);
+
+    @Query("SELECT * FROM reservations ORDER BY store_id, product_id, reservation_id LIMIT :limit")
+    Flux<ReservationEntity> findFirstPage(int limit);
+
+    @Query("""
+            SELECT * FROM reservations
+            WHERE store_id >= :storeId
+              AND (store_id > :storeId OR product_id > :productId
+                   OR (product_id = :productId AND reservation_id > :reservationId))
+            ORDER BY store_id, product_id, reservation_id
+            LIMIT :limit
+            """)
+    Flux<ReservationEntity> findPageAfter(String storeId, String productId, String reservationId, int limit);
+
+    @Modifying
+    @Query("""
+            MERGE INTO reservations (reservation_id, product_id, store_id, quantity, status, created_at, expires_at,
+                correlation_id, group_id)
+            KEY (reservation_id)
+            VALUES (:#{#entity.reservationId}, :#{#entity.productId}, :#{#entity.storeId}, :#{#entity.quantity},
+                :#{#entity.status}, :#{#entity.createdAt}, :#{#entity.expiresAt}, :#{#entity.correlationId},
+                :#{#entity.groupId})
+            """)
+    Mono<Integer> upsert(ReservationEntity entity);
+
+    @Query("""
+            SELECT * FROM FINAL TABLE (
+                UPDATE reservations SET status = :status
+                WHERE reservation_id = :reservationId AND status IN ('PENDING', 'RESERVED')
+            )""")
+    Mono<ReservationEntity> updateStatusIfActive(String reservationId, String status);
+
+    @Query("""
+            SELECT * FROM FINAL TABLE (
+                UPDATE reservations SET status = :status
+                WHERE reservation_id = :reservationId AND status = :expectedStatus
+            )""")
+    Mono<ReservationEntity> updateStatusIfCurrent(String reservationId, String expectedStatus, String status);
+
+    @Query("""
+            SELECT * FROM FINAL TABLE (
+                UPDATE reservations SET status = :status
+                WHERE group_id = :groupId AND status IN ('PENDING', 'RESERVED')
+            )""")
+    Flux<ReservationEntity> updateGroupStatusIfActive(String groupId, String status);
+
+    @Query("SELECT * FROM reservations WHERE status IN ('PENDING', 'RESERVED') AND expires_at < :now")
+    Flux<ReservationEntity> findActiveExpiredBefore(LocalDateTime now);
+
+}
@@ -1,69 +1,203 @@
 package com.meli.distributed_inventory_management_service.infrastructure.persistence.repository;
 
 import com.meli.distributed_inventory_management_service.domain.exception.ConcurrentUpdateException;
+import com.meli.distributed_inventory_management_service.domain.exception.StockShortageException;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChangeType;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import com.meli.distributed_inventory_management_service.domain.model.StockKey;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
+import com.meli.distributed_inventory_management_service.domain.model.VersionedWrite;
 import com.meli.distributed_inventory_management_service.domain.repository.InventoryRepository;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.ConnectionRoute;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.cache.InventoryNearCache;
 import com.meli.distributed_inventory_management_service.infrastructure.persistence.entity.InventoryEntity;
 import com.meli.distributed_inventory_management_service.infrastructure.persistence.mapper.PersistenceInventoryMapper;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.outbox.InventoryOutbox;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 @Repository
 @RequiredArgsConstructor
 public class SpringDataInventoryRepository implements InventoryRepository {
 
     private static final int errorNumberOfRowsUpdated = 0;
+    private static final String AVAILABLE_STOCK_SQL = """
+            SELECT GREATEST(current_stock - reserved_stock, 0) FROM inventory_items
+            WHERE product_id = :productId AND store_id = :storeId
+            """;
+    private static final String ITEM_ID_PREFIX = "INV_";
+    private static final String INSERT_SQL = """
+            INSERT INTO inventory_items (id, product_id, store_id, current_stock, reserved_stock,
+                minimum_stock_level, maximum_stock_level, last_updated, version)
+            VALUES (:id, :productId, :storeId, :currentStock, :reservedStock, :minimumStockLevel,
+                :maximumStockLevel, :lastUpdated, :version)
+            """;
+    private static final Comparator<StockLine> LOCK_ORDER = Comparator
+            .comparing(StockLine::getStoreId)
+            .thenComparing(StockLine::getProductId);
     private final ReactiveInventoryJpaRepository jpaRepository;
     private final DatabaseClient databaseClient;
     private final PersistenceInventoryMapper persistenceInventoryMapper;
+    private final InventoryNearCache nearCache;
+    private final InventoryOutbox outbox;
+    private final VersionedWriteMetrics versionedWriteMetrics;
 
     @Override
     public Flux<InventoryItem> findAll() {
         return jpaRepository.findAll()
-                .map(persistenceInventoryMapper::toDomain);
+                .map(persistenceInventoryMapper::toDomain)
+                .contextWrite(ConnectionRoute.READ.context());
     }
 
     @Override
     public Mono<InventoryItem> findById(String id) {
         return jpaRepository.findById(id)
-                .map(persistenceInventoryMapper::toDomain);
+                .map(persistenceInventoryMapper::toDomain)
+                .map(nearCache::put);
     }
 
     @Override
     public Mono<InventoryItem> findByProductAndStore(String productId, String storeId) {
-        return jpaRepository.findByProductIdAndStoreId(productId, storeId)
-                .map(persistenceInventoryMapper::toDomain);
+        return Mono.defer(() -> {
+            InventoryItem cached = nearCache.get(productId, storeId);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return jpaRepository.findByProductIdAndStoreId(productId, storeId)
+                    .map(persistenceInventoryMapper::toDomain)
+                    .map(nearCache::put);
+        });
+    }
+
+    /**
+     * Reads only the clamped difference of the two stock columns, so no entity or domain item is
+     * built. A near cache hit still answers without a round trip.
+     */
+    @Override
+    public Mono<Integer> findAvailableStock(String productId, String storeId) {
+        return Mono.defer(() -> {
+            InventoryItem cached = nearCache.get(productId, storeId);
+            if (cached != null) {
+                return Mono.just(Math.max(cached.getCurrentStock() - cached.getReservedStock(), 0));
+            }
+            return databaseClient.sql(AVAILABLE_STOCK_SQL)
+                    .bind("productId", productId)
+                    .bind("storeId", storeId)
+                    .map((row, metadata) -> row.get(0, Integer.class))
+                    .one()
+                    .contextWrite(ConnectionRoute.READ.context());
+        });
     }
 
     @Override
     public Flux<InventoryItem> findByStore(String storeId) {
         return jpaRepository.findByStoreId(storeId)
-                .map(persistenceInventoryMapper::toDomain);
+                .map(persistenceInventoryMapper::toDomain)
+                .contextWrite(ConnectionRoute.READ.context());
     }
 
     @Override
     public Flux<InventoryItem> findByProduct(String productId) {
         return jpaRepository.findByProductId(productId)
-                .map(persistenceInventoryMapper::toDomain);
+                .map(persistenceInventoryMapper::toDomain)
+                .contextWrite(ConnectionRoute.READ.context());
     }
 
+    /**
+     * Keyset page in (store_id, product_id, id) order. With a store filter the seek runs on the
+     * (store_id, product_id) index, with a product filter on the (product_id, store_id) unique key;
+     * the leading {@code >=} on the first ordering column is what lets the seek use the index.
+     */
+    @Override
+    public Flux<InventoryItem> findPage(String storeId, String productId, PageCursor after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        if (storeId != null) {
+            conditions.add("store_id = :storeId");
+        }
+        if (productId != null) {
+            conditions.add("product_id = :productId");
+        }
+        if (after != null) {
+            if (storeId == null && productId == null) {
+                conditions.add("store_id >= :afterStore AND (store_id > :afterStore"
+                        + " OR product_id > :afterProduct OR (product_id = :afterProduct AND id > :afterId))");
+            } else if (productId == null) {
+                conditions.add("product_id >= :afterProduct AND (product_id > :afterProduct OR id > :afterId)");
+            } else if (storeId == null) {
+                conditions.add("store_id >= :afterStore AND (store_id > :afterStore OR id > :afterId)");
+            } else {
+                conditions.add("id > :afterId");
+            }
+        }
+        String sql = "SELECT * FROM inventory_items"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY store_id, product_id, id LIMIT :limit";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql).bind("limit", limit);
+        if (storeId != null) {
+            spec = spec.bind("storeId", storeId);
+        }
+        if (productId != null) {
+            spec = spec.bind("productId", productId);
+        }
+        if (after != null) {
+            if (storeId == null) {
+                spec = spec.bind("afterStore", after.getStoreId());
+            }
+            if (productId == null) {
+                spec = spec.bind("afterProduct", after.getProductId());
+            }
+            spec = spec.bind("afterId", after.getId());
+        }
+        return spec.map((row, metadata) -> toEntity(row))
+                .all()
+                .map(persistenceInventoryMapper::toDomain)
+                .contextWrite(ConnectionRoute.READ.context());
+    }
+
+    /**
+     * Items without an ID are new: they get a generated one and are inserted explicitly, because
+     * Spring Data would take their non-null version for an existing row and issue an UPDATE.
+     */
     @Override
     @Transactional
     public Mono<InventoryItem> save(InventoryItem item) {
         InventoryEntity entity = persistenceInventoryMapper.toEntity(item);
-        return jpaRepository.save(entity)
-                .map(persistenceInventoryMapper::toDomain);
+        Mono<InventoryEntity> persisted = entity.getId() == null
+                ? insert(entity)
+                : jpaRepository.save(entity);
+        return persisted
+                .map(persistenceInventoryMapper::toDomain)
+                .flatMap(saved -> appendOutbox(saved, InventoryChangeType.STOCK_SAVED))
+                .flatMap(nearCache::putAfterCommit);
     }
 
     @Override
     @Transactional
     public Mono<Boolean> delete(String id) {
         return jpaRepository.deleteById(id)
+                .then(outbox.appendDeleted(id))
+                .then(nearCache.invalidateAfterCommit(id))
                 .then(Mono.just(true))
                 .onErrorReturn(false);
     }
@@ -99,7 +233,9 @@ public class SpringDataInventoryRepository implements InventoryRepository {
                 .fetch()
                 .rowsUpdated()
                 .flatMap(rowsUpdated -> {
+                    versionedWriteMetrics.single(rowsUpdated != errorNumberOfRowsUpdated);
                     if (rowsUpdated == errorNumberOfRowsUpdated) {
+                        nearCache.invalidate(item.getProductId(), item.getStoreId());
                         return Mono.error(new OptimisticLockingFailureException(
                                 "Concurrent update detected for item: " + item.getId() +
                                         ". Expected version: " + expectedVersion
@@ -107,28 +243,287 @@ public class SpringDataInventoryRepository implements InventoryRepository {
                     }
                     return jpaRepository.findById(item.getId());
                 })
+                .map(persistenceInventoryMapper::toDomain)
+                .flatMap(updated -> appendOutbox(updated, InventoryChangeType.STOCK_UPDATED))
+                .flatMap(nearCache::putAfterCommit);
+    }
+
+    @Override
+    public Flux<InventoryItem> findAllByProductAndStore(List<StockKey> keys) {
+        if (keys.isEmpty()) {
+            return Flux.empty();
+        }
+        StringBuilder match = new StringBuilder();
+        for (int i = 0; i < keys.size(); i++) {
+            match.append(i == 0 ? "" : " OR ")
+                    .append("(product_id = :p").append(i).append(" AND store_id = :s").append(i).append(')');
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("SELECT * FROM inventory_items WHERE " + match);
+        for (int i = 0; i < keys.size(); i++) {
+            spec = spec.bind("p" + i, keys.get(i).getProductId())
+                    .bind("s" + i, keys.get(i).getStoreId());
+        }
+        return spec.map((row, metadata) -> toEntity(row))
+                .all()
                 .map(persistenceInventoryMapper::toDomain);
     }
 
+    @Override
+    @Transactional
+    public Flux<InventoryItem> updateAllWithVersionCheck(List<VersionedWrite> writes) {
+        if (writes.isEmpty()) {
+            return Flux.empty();
+        }
+        String updateSql = """
+                UPDATE inventory_items
+                SET current_stock = $1,
+                    reserved_stock = $2,
+                    minimum_stock_level = $3,
+                    maximum_stock_level = $4,
+                    last_updated = $5,
+                    version = version + 1,
+                    updated_at = CURRENT_TIMESTAMP
+                WHERE id = $6 AND version = $7
+                """;
+
+        return databaseClient.inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(updateSql);
+                    for (int i = 0; i < writes.size(); i++) {
+                        InventoryItem item = writes.get(i).getItem();
+                        if (i > 0) {
+                            statement.add();
+                        }
+                        statement.bind(0, item.getCurrentStock())
+                                .bind(1, item.getReservedStock())
+                                .bind(2, item.getMinimumStockLevel())
+                                .bind(3, item.getMaximumStockLevel())
+                                .bind(4, item.getLastUpdated())
+                                .bind(5, item.getId())
+                                .bind(6, writes.get(i).getExpectedVersion());
+                    }
+                    return Flux.from(statement.execute())
+                            .concatMap(Result::getRowsUpdated);
+                })
+                .index()
+                .concatMap(updated -> {
+                    VersionedWrite write = writes.get(updated.getT1().intValue());
+                    InventoryItem item = write.getItem();
+                    versionedWriteMetrics.batch(updated.getT2() != errorNumberOfRowsUpdated);
+                    if (updated.getT2() == errorNumberOfRowsUpdated) {
+                        nearCache.invalidate(item.getProductId(), item.getStoreId());
+                        return Mono.empty();
+                    }
+                    return Mono.just(InventoryItem.builder()
+                            .id(item.getId())
+                            .productId(item.getProductId())
+                            .storeId(item.getStoreId())
+                            .currentStock(item.getCurrentStock())
+                            .reservedStock(item.getReservedStock())
+                            .minimumStockLevel(item.getMinimumStockLevel())
+                            .maximumStockLevel(item.getMaximumStockLevel())
+                            .lastUpdated(item.getLastUpdated())
+                            .version(write.getExpectedVersion() + 1)
+                            .build());
+                })
+                .collectList()
+                .flatMapMany(updated -> outbox.append(updated, InventoryChangeType.STOCK_UPDATED)
+                        .then(nearCache.putAllAfterCommit(updated))
+                        .flatMapIterable(items -> items));
+    }
+
+    @Override
+    @Transactional
+    public Mono<InventoryItem> reserveStockIfAvailable(String productId, String storeId, Integer quantity) {
+        return jpaRepository.reserveStockIfAvailable(productId, storeId, quantity)
+                .map(persistenceInventoryMapper::toDomain)
+                .flatMap(reserved -> appendOutbox(reserved, InventoryChangeType.STOCK_RESERVED))
+                .flatMap(nearCache::putAfterCommit)
+                .switchIfEmpty(Mono.fromRunnable(() -> nearCache.invalidate(productId, storeId)));
+    }
+
+    @Override
+    @Transactional
+    public Mono<InventoryItem> releaseReservedStockIfHeld(String productId, String storeId, Integer quantity) {
+        return jpaRepository.releaseReservedStockIfHeld(productId, storeId, quantity)
+                .map(persistenceInventoryMapper::toDomain)
+                .flatMap(released -> appendOutbox(released, InventoryChangeType.STOCK_RELEASED))
+                .flatMap(nearCache::putAfterCommit)
+                .switchIfEmpty(Mono.fromRunnable(() -> nearCache.invalidate(productId, storeId)));
+    }
+
+    @Override
+    @Transactional
+    public Mono<List<InventoryItem>> reserveStockLines(List<StockLine> lines) {
+        return updateStockLines(lines,
+                "reserved_stock = reserved_stock + %1$s",
+                "current_stock - reserved_stock >= :q%1$d",
+                "Insufficient available stock for lines: ",
+                InventoryChangeType.STOCK_RESERVED);
+    }
+
+    @Override
+    @Transactional
+    public Mono<List<InventoryItem>> releaseReservedStockLines(List<StockLine> lines) {
+        return updateStockLines(lines,
+                "reserved_stock = reserved_stock - %1$s",
+                "reserved_stock >= :q%1$d",
+                "Insufficient reserved stock for lines: ",
+                InventoryChangeType.STOCK_RELEASED);
+    }
+
+    @Override
+    @Transactional
+    public Mono<List<InventoryItem>> commitReservedStockLines(List<StockLine> lines) {
+        return updateStockLines(lines,
+                "current_stock = current_stock - %1$s, reserved_stock = reserved_stock - %1$s",
+                "reserved_stock >= :q%1$d AND current_stock >= :q%1$d",
+                "Insufficient reserved stock for lines: ",
+                InventoryChangeType.STOCK_COMMITTED);
+    }
+
+    /**
+     * Locks the rows of every line in (store_id, product_id) order, so two carts touching the same
+     * SKUs cannot deadlock, then applies all lines with one guarded multi-row UPDATE. If any guard
+     * fails the whole statement is rolled back by throwing from inside the transaction, together
+     * with the outbox rows, which are only written once every line has been applied.
+     */
+    private Mono<List<InventoryItem>> updateStockLines(List<StockLine> lines, String setTemplate,
+                                                       String guardTemplate, String failureMessage,
+                                                       InventoryChangeType changeType) {
+        List<StockLine> ordered = mergeAndOrder(lines);
+        StringBuilder match = new StringBuilder();
+        StringBuilder guarded = new StringBuilder();
+        StringBuilder quantity = new StringBuilder("CASE");
+        for (int i = 0; i < ordered.size(); i++) {
+            String key = "(product_id = :p" + i + " AND store_id = :s" + i + ")";
+            match.append(i == 0 ? "" : " OR ").append(key);
+            guarded.append(i == 0 ? "" : " OR ")
+                    .append('(').append(key).append(" AND ").append(String.format(guardTemplate, i)).append(')');
+            quantity.append(" WHEN ").append(key).append(" THEN :q").append(i);
+        }
+        quantity.append(" END");
+
+        String lockSql = "SELECT id FROM inventory_items WHERE " + match
+                + " ORDER BY store_id, product_id FOR UPDATE";
+        String updateSql = "SELECT * FROM FINAL TABLE (UPDATE inventory_items SET "
+                + String.format(setTemplate, quantity)
+                + ", version = version + 1, last_updated = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP"
+                + " WHERE " + guarded + ")";
+
+        return bindLines(databaseClient.sql(lockSql), ordered, false)
+                .fetch()
+                .all()
+                .then(bindLines(databaseClient.sql(updateSql), ordered, true)
+                        .map((row, metadata) -> toEntity(row))
+                        .all()
+                        .map(persistenceInventoryMapper::toDomain)
+                        .collectList())
+                .flatMap(updated -> {
+                    if (updated.size() < ordered.size()) {
+                        ordered.forEach(line -> nearCache.invalidate(line.getProductId(), line.getStoreId()));
+                        return Mono.error(new StockShortageException(failureMessage + missingKeys(ordered, updated)));
+                    }
+                    return outbox.append(updated, changeType)
+                            .then(nearCache.putAllAfterCommit(updated));
+                });
+    }
+
+    private Mono<InventoryEntity> insert(InventoryEntity entity) {
+        String id = ITEM_ID_PREFIX + UUID.randomUUID();
+        return databaseClient.sql(INSERT_SQL)
+                .bind("id", id)
+                .bind("productId", entity.getProductId())
+                .bind("storeId", entity.getStoreId())
+                .bind("currentStock", entity.getCurrentStock())
+                .bind("reservedStock", entity.getReservedStock())
+                .bind("minimumStockLevel", Parameter.fromOrEmpty(entity.getMinimumStockLevel(), Integer.class))
+                .bind("maximumStockLevel", Parameter.fromOrEmpty(entity.getMaximumStockLevel(), Integer.class))
+                .bind("lastUpdated", entity.getLastUpdated())
+                .bind("version", entity.getVersion() == null ? 0L : entity.getVersion())
+                .fetch()
+                .rowsUpdated()
+                .then(Mono.defer(() -> jpaRepository.findById(id)));
+    }
+
+    private Mono<InventoryItem> appendOutbox(InventoryItem item, InventoryChangeType changeType) {
+        return outbox.append(List.of(item), changeType)
+                .thenReturn(item);
+    }
+
+    private static List<StockLine> mergeAndOrder(List<StockLine> lines) {
+        Map<List<String>, Integer> quantities = new LinkedHashMap<>();
+        for (StockLine line : lines) {
+            quantities.merge(List.of(line.getProductId(), line.getStoreId()), line.getQuantity(), Integer::sum);
+        }
+        List<StockLine> merged = new ArrayList<>(quantities.size());
+        quantities.forEach((key, quantity) -> merged.add(new StockLine(key.get(0), key.get(1), quantity)));
+        merged.sort(LOCK_ORDER);
+        return merged;
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindLines(DatabaseClient.GenericExecuteSpec spec,
+                                                               List<StockLine> lines, boolean withQuantities) {
+        for (int i = 0; i < lines.size(); i++) {
+            StockLine line = lines.get(i);
+            spec = spec.bind("p" + i, line.getProductId())
+                    .bind("s" + i, line.getStoreId());
+            if (withQuantities) {
+                spec = spec.bind("q" + i, line.getQuantity());
+            }
+        }
+        return spec;
+    }
+
+    private static String missingKeys(List<StockLine> lines, List<InventoryItem> updated) {
+        Set<String> applied = updated.stream()
+                .map(item -> item.getProductId() + "@" + item.getStoreId())
+                .collect(Collectors.toSet());
+        return lines.stream()
+                .map(line -> line.getProductId() + "@" + line.getStoreId())
+                .filter(key -> !applied.contains(key))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static InventoryEntity toEntity(Row row) {
+        return InventoryEntity.builder()
+                .id(row.get("id", String.class))
+                .productId(row.get("product_id", String.class))
+                .storeId(row.get("store_id", String.class))
+                .currentStock(row.get("current_stock", Integer.class))
+                .reservedStock(row.get("reserved_stock", Integer.class))
+                .minimumStockLevel(row.get("minimum_stock_level", Integer.class))
+                .maximumStockLevel(row.get("maximum_stock_level", Integer.class))
+                .lastUpdated(row.get("last_updated", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+
     public Mono<Integer> updateStockWithVersion(String id, Integer newStock, Long version) {
-        return jpaRepository.updateStockWithVersion(id, newStock, version);
+        return jpaRepository.updateStockWithVersion(id, newStock, version)
+                .doOnSuccess(ignored -> nearCache.invalidateById(id));
     }
 
     public Flux<InventoryItem> findLowStockItems(String storeId, Integer threshold) {
         return jpaRepository.findLowStockItems(storeId, threshold)
-                .map(persistenceInventoryMapper::toDomain);
+                .map(persistenceInventoryMapper::toDomain)
+                .contextWrite(ConnectionRoute.READ.context());
     }
 
     public Mono<Integer> reserveStockWithVersion(String id, Integer quantity, Long version) {
-        return jpaRepository.reserveStockWithVersion(id, quantity, version);
+        return jpaRepository.reserveStockWithVersion(id, quantity, version)
+                .doOnSuccess(ignored -> nearCache.invalidateById(id));
     }
 
     public Mono<Integer> releaseReservedStockWithVersion(String id, Integer quantity, Long version) {
-        return jpaRepository.releaseReservedStockWithVersion(id, quantity, version);
+        return jpaRepository.releaseReservedStockWithVersion(id, quantity, version)
+                .doOnSuccess(ignored -> nearCache.invalidateById(id));
     }
 
     public Mono<Integer> countOverstockItems(String storeId) {
-        return jpaRepository.countOverstockItems(storeId);
+        return jpaRepository.countOverstockItems(storeId)
+                .contextWrite(ConnectionRoute.READ.context());
     }
 
     @Transactional
@@ -0,0 +1,63 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the rows of version-checked updates that were written and the ones whose version guard
+ * rejected them, as {@code inventory.repository.versioned.writes} tagged by statement
+ * ({@code single} or {@code batch}) and result ({@code updated} or {@code rejected}). Without a
+ * meter registry nothing is counted.
+ */
+@Component
+public class VersionedWriteMetrics {
+
+    private static final String METRIC_NAME = "inventory.repository.versioned.writes";
+    private static final String STATEMENT_TAG = "statement";
+    private static final String RESULT_TAG = "result";
+
+    private final Counter singleUpdated;
+    private final Counter singleRejected;
+    private final Counter batchUpdated;
+    private final Counter batchRejected;
+
+    public VersionedWriteMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry == null ? null : meterRegistry.getIfAvailable();
+        this.singleUpdated = counter(registry, "single", "updated");
+        this.singleRejected = counter(registry, "single", "rejected");
+        this.batchUpdated = counter(registry, "batch", "updated");
+        this.batchRejected = counter(registry, "batch", "rejected");
+    }
+
+    public static VersionedWriteMetrics disabled() {
+        return new VersionedWriteMetrics(null);
+    }
+
+    public void single(boolean updated) {
+        increment(updated ? singleUpdated : singleRejected);
+    }
+
+    public void batch(boolean updated) {
+        increment(updated ? batchUpdated : batchRejected);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String statement, String result) {
+        if (registry == null) {
+            return null;
+        }
+        return Counter.builder(METRIC_NAME)
+                .tag(STATEMENT_TAG, statement)
+                .tag(RESULT_TAG, result)
+                .description("Rows of version-checked updates, written or rejected by the version guard")
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.meli.distributed_inventory_management_service.infrastructure.web.actuator;
+
+import com.meli.distributed_inventory_management_service.domain.hotkey.HotKey;
+import com.meli.distributed_inventory_management_service.domain.hotkey.HotKeyTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/hotkeys}: the most mutated and the most contended (productId, storeId) keys
+ * of the current window, as tracked by {@link HotKeyTracker}. {@code ?limit=} shortens both lists;
+ * without it the whole top-K is returned.
+ */
+@Component
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeysEndpoint {
+
+    private final HotKeyTracker hotKeyTracker;
+
+    @ReadOperation
+    public HotKeysReport hotKeys(@Nullable Integer limit) {
+        int size = limit == null || limit <= 0 ? hotKeyTracker.getTopK() : limit;
+        return new HotKeysReport(hotKeyTracker.isEnabled(), hotKeyTracker.getWindow().toString(),
+                hotKeyTracker.hottest(size), hotKeyTracker.mostContended(size));
+    }
+
+    public record HotKeysReport(boolean enabled, String window, List<HotKey> hottest, List<HotKey> mostContended) {
+    }
+
+}
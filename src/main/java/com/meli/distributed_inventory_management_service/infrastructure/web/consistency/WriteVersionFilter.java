@@ -0,0 +1,62 @@
+package com.meli.distributed_inventory_management_service.infrastructure.web.consistency;
+
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.ReplicationClock;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-your-writes over replicas. A response to a write carries the version of that write in the
+ * {@value #WRITE_VERSION_HEADER} header, taken when the response starts and so after the write
+ * committed; a read that sends the highest version it was given back in the same header is only
+ * served by a replica that has applied it, otherwise by the primary. Reads without the header
+ * accept any replica within the staleness bound. A streamed response starts before its last
+ * write, so its version only covers the writes made until then.
+ * <p>
+ * Does nothing unless replicas are enabled.
+ */
+@Component
+public class WriteVersionFilter implements WebFilter {
+
+    public static final String WRITE_VERSION_HEADER = "X-Write-Version";
+
+    private final ReplicationClock clock;
+
+    public WriteVersionFilter(ReplicationClock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!clock.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        HttpMethod method = exchange.getRequest().getMethod();
+        if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)) {
+            String version = exchange.getRequest().getHeaders().getFirst(WRITE_VERSION_HEADER);
+            if (version == null || version.isBlank()) {
+                return chain.filter(exchange);
+            }
+            return Mono.fromSupplier(() -> parse(version))
+                    .flatMap(minVersion -> chain.filter(exchange)
+                            .contextWrite(ReplicationClock.readingAfter(minVersion)));
+        }
+        exchange.getResponse().beforeCommit(() -> Mono.fromRunnable(() -> exchange.getResponse().getHeaders()
+                .set(WRITE_VERSION_HEADER, Long.toString(clock.advance()))));
+        return chain.filter(exchange);
+    }
+
+    private static long parse(String version) {
+        try {
+            return Long.parseLong(version.trim());
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid " + WRITE_VERSION_HEADER + " header", e);
+        }
+    }
+
+}
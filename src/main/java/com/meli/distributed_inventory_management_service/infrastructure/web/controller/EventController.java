@@ -2,6 +2,8 @@ package com.meli.distributed_inventory_management_service.infrastructure.web.con
 
 import com.meli.distributed_inventory_management_service.application.dto.inventory.EventResponseDTO;
 import com.meli.distributed_inventory_management_service.application.service.EventApplicationService;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import com.meli.distributed_inventory_management_service.infrastructure.web.pagination.KeysetPagination;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,6 +17,8 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/inventory/events")
 @RequiredArgsConstructor
@@ -22,14 +26,23 @@ import reactor.core.publisher.Mono;
 public class EventController {
 
     private final EventApplicationService eventApplicationService;
+    private final KeysetPagination keysetPagination;
 
     @GetMapping
-    @Operation(summary = "Get all events", description = "Retrieves a list of all inventory events")
+    @Operation(summary = "Get all events",
+            description = "Retrieves a page of inventory events ordered by store, product and event ID")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved events list",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = EventResponseDTO.class)))
-    public Flux<EventResponseDTO> getAllEvents() {
-        return eventApplicationService.getAllEvents();
+    public Mono<ResponseEntity<List<EventResponseDTO>>> getAllEvents(
+            @Parameter(description = "Page size (default 100, capped at 1000)", example = "100")
+            @RequestParam(required = false) Integer limit,
+
+            @Parameter(description = "Opaque cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String after) {
+
+        return keysetPagination.page(limit, after, eventApplicationService::getEventsPage,
+                event -> PageCursor.of(event.storeId(), event.productId(), event.eventId()));
     }
 
     @GetMapping("/{eventId}")
@@ -1,10 +1,13 @@
 package com.meli.distributed_inventory_management_service.infrastructure.web.controller;
 
+import com.meli.distributed_inventory_management_service.application.dto.inventory.BulkStockUpdateResultDTO;
 import com.meli.distributed_inventory_management_service.application.dto.inventory.InventoryRequestDTO;
 import com.meli.distributed_inventory_management_service.application.dto.inventory.InventoryResponseDTO;
 import com.meli.distributed_inventory_management_service.application.dto.inventory.StockUpdateRequestDTO;
 import com.meli.distributed_inventory_management_service.application.service.InventoryApplicationService;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import com.meli.distributed_inventory_management_service.infrastructure.web.mapper.WebInventoryMapper;
+import com.meli.distributed_inventory_management_service.infrastructure.web.pagination.KeysetPagination;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,11 +20,15 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/inventory")
 @RequiredArgsConstructor
@@ -31,15 +38,50 @@ public class InventoryController {
 
     private final InventoryApplicationService inventoryApplicationService;
     private final WebInventoryMapper webInventoryMapper;
+    private final KeysetPagination keysetPagination;
 
     @GetMapping
-    @Operation(summary = "Obtener todo el inventario", description = "Retorna todos los items de inventario del sistema")
+    @Operation(summary = "Obtener todo el inventario",
+            description = "Retorna una página de items de inventario ordenada por tienda, producto e ID")
     @ApiResponse(responseCode = "200", description = "Inventario obtenido exitosamente",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = InventoryResponseDTO.class)))
-    public Flux<InventoryResponseDTO> getAllInventory() {
-        return inventoryApplicationService.getAllInventory()
-                .map(webInventoryMapper::toResponseDTO);
+    public Mono<ResponseEntity<List<InventoryResponseDTO>>> getAllInventory(
+            @Parameter(description = "Tamaño de página (por defecto 100, máximo 1000)", example = "100")
+            @RequestParam(required = false) Integer limit,
+
+            @Parameter(description = "Cursor opaco devuelto en la cabecera X-Next-Cursor de la página anterior")
+            @RequestParam(required = false) String after) {
+
+        return keysetPagination.page(limit, after,
+                (cursor, size) -> inventoryApplicationService.getAllInventory(cursor, size)
+                        .map(webInventoryMapper::toResponseDTO),
+                InventoryController::positionOf);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Suscribirse a cambios de inventario",
+            description = "Emite por SSE el estado de cada item de inventario que cambia, filtrable por tienda y producto. "
+                    + "Asume una sola instancia: con varias, cada una solo emite los cambios que releva su outbox")
+    @ApiResponse(responseCode = "200", description = "Suscripción establecida")
+    public Flux<ServerSentEvent<InventoryResponseDTO>> streamInventory(
+            @Parameter(description = "ID de la tienda", example = "store-1")
+            @RequestParam(required = false) String storeId,
+
+            @Parameter(description = "ID del producto", example = "prod-1")
+            @RequestParam(required = false) String productId) {
+
+        Flux<ServerSentEvent<InventoryResponseDTO>> changes = inventoryApplicationService
+                .streamInventoryChanges(storeId, productId)
+                .map(change -> ServerSentEvent.<InventoryResponseDTO>builder()
+                        .id(String.valueOf(change.getSequence()))
+                        .event(change.getChangeType().name())
+                        .data(webInventoryMapper.toResponseDTO(change))
+                        .build());
+        Flux<ServerSentEvent<InventoryResponseDTO>> heartbeats = Flux
+                .interval(inventoryApplicationService.getStreamHeartbeatInterval())
+                .map(tick -> ServerSentEvent.<InventoryResponseDTO>builder().comment("heartbeat").build());
+        return changes.publish(shared -> Flux.merge(shared, heartbeats.takeUntilOther(shared.then())));
     }
 
     @GetMapping("/{id}")
@@ -61,23 +103,39 @@ public class InventoryController {
     @GetMapping("/store/{storeId}")
     @Operation(summary = "Obtener inventario por tienda", description = "Retorna todos los items de inventario de una tienda específica")
     @ApiResponse(responseCode = "200", description = "Inventario de la tienda obtenido exitosamente")
-    public Flux<InventoryResponseDTO> getInventoryByStore(
+    public Mono<ResponseEntity<List<InventoryResponseDTO>>> getInventoryByStore(
             @Parameter(description = "ID de la tienda", example = "store-1")
-            @PathVariable String storeId) {
+            @PathVariable String storeId,
+
+            @Parameter(description = "Tamaño de página (por defecto 100, máximo 1000)", example = "100")
+            @RequestParam(required = false) Integer limit,
+
+            @Parameter(description = "Cursor opaco devuelto en la cabecera X-Next-Cursor de la página anterior")
+            @RequestParam(required = false) String after) {
 
-        return inventoryApplicationService.getInventoryByStore(storeId)
-                .map(webInventoryMapper::toResponseDTO);
+        return keysetPagination.page(limit, after,
+                (cursor, size) -> inventoryApplicationService.getInventoryByStore(storeId, cursor, size)
+                        .map(webInventoryMapper::toResponseDTO),
+                InventoryController::positionOf);
     }
 
     @GetMapping("/product/{productId}")
     @Operation(summary = "Obtener inventario por producto", description = "Retorna todos los items de inventario de un producto específico")
     @ApiResponse(responseCode = "200", description = "Inventario del producto obtenido exitosamente")
-    public Flux<InventoryResponseDTO> getInventoryByProduct(
+    public Mono<ResponseEntity<List<InventoryResponseDTO>>> getInventoryByProduct(
             @Parameter(description = "ID del producto", example = "prod-1")
-            @PathVariable String productId) {
+            @PathVariable String productId,
+
+            @Parameter(description = "Tamaño de página (por defecto 100, máximo 1000)", example = "100")
+            @RequestParam(required = false) Integer limit,
+
+            @Parameter(description = "Cursor opaco devuelto en la cabecera X-Next-Cursor de la página anterior")
+            @RequestParam(required = false) String after) {
 
-        return inventoryApplicationService.getInventoryByProduct(productId)
-                .map(webInventoryMapper::toResponseDTO);
+        return keysetPagination.page(limit, after,
+                (cursor, size) -> inventoryApplicationService.getInventoryByProduct(productId, cursor, size)
+                        .map(webInventoryMapper::toResponseDTO),
+                InventoryController::positionOf);
     }
 
     @PostMapping
@@ -141,6 +199,25 @@ public class InventoryController {
                 .onErrorResume(error -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build()));
     }
 
+    @PostMapping(value = "/stock/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Actualizar stock masivamente",
+            description = "Recibe actualizaciones de stock en NDJSON, las aplica en lotes y devuelve un resultado por línea")
+    @ApiResponse(responseCode = "200", description = "Resultados por línea en NDJSON",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = BulkStockUpdateResultDTO.class)))
+    public Flux<BulkStockUpdateResultDTO> bulkUpdateStock(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Una actualización de stock por línea",
+                    required = true,
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = StockUpdateRequestDTO.class))
+            )
+            @RequestBody Flux<StockUpdateRequestDTO> requests) {
+
+        return inventoryApplicationService.bulkUpdateStock(requests);
+    }
+
     @PostMapping("/{productId}/{storeId}/reserve")
     @Operation(summary = "Reservar stock", description = "Reserva una cantidad específica de stock de un producto en una tienda")
     @ApiResponses({
@@ -246,4 +323,8 @@ public class InventoryController {
                         ResponseEntity.noContent().build() :
                         ResponseEntity.notFound().build());
     }
-}
\ No newline at end of file
+
+    private static PageCursor positionOf(InventoryResponseDTO item) {
+        return PageCursor.of(item.storeId(), item.productId(), item.id());
+    }
+}
@@ -1,8 +1,12 @@
 package com.meli.distributed_inventory_management_service.infrastructure.web.controller;
 
+import com.meli.distributed_inventory_management_service.application.dto.inventory.BatchReservationRequestDTO;
+import com.meli.distributed_inventory_management_service.application.dto.inventory.BatchReservationResponseDTO;
 import com.meli.distributed_inventory_management_service.application.dto.inventory.ReservationRequestDTO;
 import com.meli.distributed_inventory_management_service.application.dto.inventory.ReservationResponseDTO;
 import com.meli.distributed_inventory_management_service.application.service.ReservationApplicationService;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import com.meli.distributed_inventory_management_service.infrastructure.web.pagination.KeysetPagination;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,9 +19,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/inventory/reservations")
 @RequiredArgsConstructor
@@ -25,6 +30,7 @@ import reactor.core.publisher.Mono;
 public class ReservationController {
 
     private final ReservationApplicationService reservationApplicationService;
+    private final KeysetPagination keysetPagination;
 
     @PostMapping
     @Operation(summary = "Create reservation", description = "Creates a new inventory reservation")
@@ -52,6 +58,94 @@ public class ReservationController {
                 .onErrorResume(error -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build()));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create batch reservation",
+            description = "Reserves every line of a cart in one transaction; if any line lacks stock nothing is reserved")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All lines successfully reserved",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchReservationResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "409", description = "At least one line has insufficient stock"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Mono<ResponseEntity<BatchReservationResponseDTO>> createBatchReservation(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Cart lines to reserve", required = true,
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchReservationRequestDTO.class)))
+            @Valid @RequestBody BatchReservationRequestDTO request) {
+
+        return reservationApplicationService.createBatchReservation(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response))
+                .onErrorResume(IllegalArgumentException.class,
+                        error -> Mono.just(ResponseEntity.badRequest().build()))
+                .onErrorResume(IllegalStateException.class,
+                        error -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build()))
+                .onErrorResume(error -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build()));
+    }
+
+    @PatchMapping("/batch/{groupId}/confirm")
+    @Operation(summary = "Confirm batch reservation", description = "Confirms every reservation of a group as a sale")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation group successfully confirmed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchReservationResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Reservation group not found"),
+            @ApiResponse(responseCode = "409", description = "Reservation group cannot be confirmed"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Mono<ResponseEntity<BatchReservationResponseDTO>> confirmBatchReservation(
+            @Parameter(description = "ID of the reservation group to confirm", required = true, example = "GRP_12345")
+            @PathVariable String groupId) {
+
+        return reservationApplicationService.confirmBatchReservation(groupId)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class,
+                        error -> Mono.just(ResponseEntity.notFound().build()))
+                .onErrorResume(IllegalStateException.class,
+                        error -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build()))
+                .onErrorResume(error -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build()));
+    }
+
+    @DeleteMapping("/batch/{groupId}")
+    @Operation(summary = "Release batch reservation", description = "Releases every reservation of a group")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Reservation group successfully released"),
+            @ApiResponse(responseCode = "404", description = "Reservation group not found"),
+            @ApiResponse(responseCode = "409", description = "Reservation group cannot be released"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Mono<ResponseEntity<Void>> releaseBatchReservation(
+            @Parameter(description = "ID of the reservation group to release", required = true, example = "GRP_12345")
+            @PathVariable String groupId) {
+
+        return reservationApplicationService.releaseBatchReservation(groupId)
+                .map(response -> ResponseEntity.noContent().<Void>build())
+                .onErrorResume(IllegalArgumentException.class,
+                        error -> Mono.just(ResponseEntity.notFound().build()))
+                .onErrorResume(IllegalStateException.class,
+                        error -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build()))
+                .onErrorResume(error -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build()));
+    }
+
+    @GetMapping("/batch/{groupId}")
+    @Operation(summary = "Get batch reservation", description = "Retrieves every reservation of a group")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved reservation group",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchReservationResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Reservation group not found")
+    })
+    public Mono<ResponseEntity<BatchReservationResponseDTO>> getBatchReservation(
+            @Parameter(description = "ID of the reservation group to retrieve", required = true, example = "GRP_12345")
+            @PathVariable String groupId) {
+
+        return reservationApplicationService.getBatchReservation(groupId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
     @PatchMapping("/{reservationId}/confirm")
     @Operation(summary = "Confirm reservation", description = "Confirms a pending reservation")
     @ApiResponses(value = {
@@ -114,12 +208,21 @@ public class ReservationController {
     }
 
     @GetMapping
-    @Operation(summary = "Get all reservations", description = "Retrieves a list of all reservations")
+    @Operation(summary = "Get all reservations",
+            description = "Retrieves a page of reservations ordered by store, product and reservation ID")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved reservations list",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = ReservationResponseDTO.class)))
-    public Flux<ReservationResponseDTO> getAllReservations() {
-        return reservationApplicationService.getAllReservations();
+    public Mono<ResponseEntity<List<ReservationResponseDTO>>> getAllReservations(
+            @Parameter(description = "Page size (default 100, capped at 1000)", example = "100")
+            @RequestParam(required = false) Integer limit,
+
+            @Parameter(description = "Opaque cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String after) {
+
+        return keysetPagination.page(limit, after, reservationApplicationService::getReservationsPage,
+                reservation -> PageCursor.of(reservation.storeId(), reservation.productId(),
+                        reservation.reservationId()));
     }
 
     @GetMapping("/{reservationId}/validate")
@@ -1,6 +1,7 @@
 package com.meli.distributed_inventory_management_service.infrastructure.web.mapper;
 
 import com.meli.distributed_inventory_management_service.application.dto.inventory.InventoryResponseDTO;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChange;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -19,4 +20,12 @@ public interface WebInventoryMapper {
     @Mapping(source = "version", target = "version")
     InventoryResponseDTO toResponseDTO(InventoryItem inventoryItem);
 
+    @Mapping(source = "aggregateId", target = "id")
+    @Mapping(source = "createdAt", target = "lastUpdated")
+    @Mapping(source = "createdAt", target = "updatedAt")
+    @Mapping(target = "minimumStockLevel", ignore = true)
+    @Mapping(target = "maximumStockLevel", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    InventoryResponseDTO toResponseDTO(InventoryChange inventoryChange);
+
 }
\ No newline at end of file
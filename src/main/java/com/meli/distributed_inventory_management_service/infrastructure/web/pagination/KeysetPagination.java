@@ -0,0 +1,77 @@
+package com.meli.distributed_inventory_management_service.infrastructure.web.pagination;
+
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Turns the {@code limit} and {@code after} query parameters of a list endpoint into a keyset
+ * query and its response. The body stays a JSON array of at most {@code limit} rows; one extra row
+ * is read to know whether more exist, and if so the cursor of the last returned row is sent in the
+ * {@value #NEXT_CURSOR_HEADER} header. A missing limit means the default page size and larger
+ * limits are capped at the maximum.
+ */
+@Component
+public class KeysetPagination {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public KeysetPagination(@Value("${inventory.pagination.default-limit:100}") int defaultLimit,
+                            @Value("${inventory.pagination.max-limit:1000}") int maxLimit) {
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public <T> Mono<ResponseEntity<List<T>>> page(Integer limit, String after,
+                                                  BiFunction<PageCursor, Integer, Flux<T>> query,
+                                                  Function<T, PageCursor> position) {
+        return Mono.defer(() -> {
+            int pageSize = resolveLimit(limit);
+            return query.apply(decode(after), pageSize + 1)
+                    .collectList()
+                    .map(rows -> {
+                        if (rows.size() <= pageSize) {
+                            return ResponseEntity.ok(rows);
+                        }
+                        List<T> page = rows.subList(0, pageSize);
+                        return ResponseEntity.ok()
+                                .header(NEXT_CURSOR_HEADER, position.apply(page.get(pageSize - 1)).encode())
+                                .body(page);
+                    });
+        });
+    }
+
+    int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be positive");
+        }
+        return Math.min(limit, maxLimit);
+    }
+
+    private static PageCursor decode(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        try {
+            return PageCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page cursor", e);
+        }
+    }
+
+}
@@ -15,4 +15,35 @@ CREATE TABLE IF NOT EXISTS inventory_items (
 
 CREATE INDEX IF NOT EXISTS idx_inventory_store ON inventory_items(store_id);
 CREATE INDEX IF NOT EXISTS idx_inventory_product ON inventory_items(product_id);
-CREATE INDEX IF NOT EXISTS idx_inventory_version ON inventory_items(version);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_inventory_version ON inventory_items(version);
+CREATE INDEX IF NOT EXISTS idx_inventory_store_product ON inventory_items(store_id, product_id);
+
+CREATE TABLE IF NOT EXISTS reservations (
+    reservation_id VARCHAR(255) PRIMARY KEY,
+    product_id VARCHAR(255) NOT NULL,
+    store_id VARCHAR(255) NOT NULL,
+    quantity INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    correlation_id VARCHAR(255),
+    group_id VARCHAR(255)
+);
+
+CREATE INDEX IF NOT EXISTS idx_reservation_status_expires ON reservations(status, expires_at);
+CREATE INDEX IF NOT EXISTS idx_reservation_product_store ON reservations(product_id, store_id);
+CREATE INDEX IF NOT EXISTS idx_reservation_correlation ON reservations(correlation_id);
+CREATE INDEX IF NOT EXISTS idx_reservation_group ON reservations(group_id);
+CREATE INDEX IF NOT EXISTS idx_reservation_store_product ON reservations(store_id, product_id, reservation_id);
+
+CREATE TABLE IF NOT EXISTS inventory_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    aggregate_id VARCHAR(255) NOT NULL,
+    product_id VARCHAR(255),
+    store_id VARCHAR(255),
+    change_type VARCHAR(30) NOT NULL,
+    current_stock INT,
+    reserved_stock INT,
+    version BIGINT,
+    created_at TIMESTAMP NOT NULL
+);
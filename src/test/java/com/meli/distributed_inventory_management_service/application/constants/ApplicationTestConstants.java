@@ -8,6 +8,9 @@ public class ApplicationTestConstants {
     public static final String STORE_ID = "store-test-1";
     public static final Integer QUANTITY = 10;
     public static final String CORRELATION_ID = "corr-123456";
+    public static final String GROUP_ID = "GRP_123456";
+    public static final String SECOND_RESERVATION_ID = "RES_654321";
+    public static final String SECOND_PRODUCT_ID = "prod-test-2";
     public static final String RESERVATION_STATUS_RESERVED = "RESERVED";
     public static final String RESERVATION_STATUS_CONFIRMED = "CONFIRMED";
     public static final String RESERVATION_STATUS_RELEASED = "RELEASED";
@@ -48,6 +48,15 @@ public class ApplicationInventoryMother {
                 .build();
     }
 
+    public static Reservation createGroupReservation(String reservationId, String productId, String status) {
+        return basicReservation()
+                .reservationId(reservationId)
+                .productId(productId)
+                .status(status)
+                .groupId(ApplicationTestConstants.GROUP_ID)
+                .build();
+    }
+
     // Event Object Mother
     public static InventoryUpdateEvent.InventoryUpdateEventBuilder basicEvent() {
         return InventoryUpdateEvent.builder()
@@ -4,6 +4,7 @@ import com.meli.distributed_inventory_management_service.application.constants.A
 import com.meli.distributed_inventory_management_service.application.mother.ApplicationInventoryMother;
 import com.meli.distributed_inventory_management_service.domain.model.EventStatus;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryUpdateEvent;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,19 +14,23 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 @ExtendWith(MockitoExtension.class)
 class EventRepositoryPortImplTest {
 
+    private static final int MAX_EVENTS = 100;
+
     private EventRepositoryPortImpl eventRepositoryPort;
 
     private InventoryUpdateEvent testEvent;
 
     @BeforeEach
     void setUp() {
-        eventRepositoryPort = new EventRepositoryPortImpl();
+        eventRepositoryPort = new EventRepositoryPortImpl(MAX_EVENTS);
         testEvent = ApplicationInventoryMother.basicEvent().build();
     }
 
@@ -169,4 +174,80 @@ class EventRepositoryPortImplTest {
                 .assertNext(event -> assertEquals(ApplicationTestConstants.CORRELATION_ID, event.getCorrelationId()))
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should move an event between status indexes when its status changes")
+    void shouldReindexStatusOnUpdate() {
+        // Arrange
+        eventRepositoryPort.save(testEvent).block();
+
+        // Act
+        eventRepositoryPort.updateStatus(testEvent.getEventId(), EventStatus.FAILED.name(),
+                ApplicationTestConstants.ERROR_MESSAGE).block();
+
+        // Assert
+        StepVerifier.create(eventRepositoryPort.findByStatus(EventStatus.PENDING.name()))
+                .verifyComplete();
+        StepVerifier.create(eventRepositoryPort.findByStatus(EventStatus.FAILED.name()))
+                .assertNext(event -> assertEquals(testEvent.getEventId(), event.getEventId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return empty for a status that does not exist")
+    void shouldReturnEmptyForUnknownStatus() {
+        // Arrange
+        eventRepositoryPort.save(testEvent).block();
+
+        // Act
+        Flux<InventoryUpdateEvent> result = eventRepositoryPort.findByStatus("UNKNOWN");
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should page events in store, product and event ID order after a cursor")
+    void shouldPageAfterCursor() {
+        // Arrange
+        for (String id : List.of("event-3", "event-1", "event-2")) {
+            eventRepositoryPort.save(ApplicationInventoryMother.basicEvent().eventId(id).build()).block();
+        }
+
+        // Act
+        Flux<InventoryUpdateEvent> result = eventRepositoryPort.findPage(
+                PageCursor.of(testEvent.getStoreId(), testEvent.getProductId(), "event-1"), 1);
+
+        // Assert
+        StepVerifier.create(result.map(InventoryUpdateEvent::getEventId))
+                .expectNext("event-2")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should keep at most the configured number of events, evicting the oldest from every index")
+    void shouldEvictOldestEventsBeyondMaxEvents() {
+        // Arrange
+        EventRepositoryPortImpl boundedStore = new EventRepositoryPortImpl(2);
+        for (String id : List.of("event-1", "event-2", "event-3")) {
+            boundedStore.save(ApplicationInventoryMother.basicEvent().eventId(id).build()).block();
+        }
+
+        // Act
+        Flux<InventoryUpdateEvent> all = boundedStore.findAll();
+
+        // Assert
+        StepVerifier.create(all.map(InventoryUpdateEvent::getEventId).collectList())
+                .assertNext(ids -> assertEquals(List.of("event-2", "event-3"), ids.stream().sorted().toList()))
+                .verifyComplete();
+        StepVerifier.create(boundedStore.findById("event-1"))
+                .verifyComplete();
+        StepVerifier.create(boundedStore.findPage(null, 10).map(InventoryUpdateEvent::getEventId))
+                .expectNext("event-2", "event-3")
+                .verifyComplete();
+        StepVerifier.create(boundedStore.findByStatus(testEvent.getStatus().name()))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+}
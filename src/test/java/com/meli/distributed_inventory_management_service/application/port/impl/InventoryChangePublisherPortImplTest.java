@@ -0,0 +1,55 @@
+package com.meli.distributed_inventory_management_service.application.port.impl;
+
+import com.meli.distributed_inventory_management_service.application.service.InventoryChangeFeed;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChange;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+class InventoryChangePublisherPortImplTest {
+
+    private InventoryChangeFeed feed;
+    private InventoryChangePublisherPortImpl publisher;
+
+    @BeforeEach
+    void setUp() {
+        feed = new InventoryChangeFeed(new SimpleMeterRegistry(), 16, Duration.ofSeconds(15));
+        publisher = new InventoryChangePublisherPortImpl(feed);
+    }
+
+    @Test
+    @DisplayName("Should deliver published changes in order to current feed subscribers")
+    void shouldDeliverToSubscribers() {
+        // Arrange
+        List<InventoryChange> changes = List.of(change(1L), change(2L));
+
+        // Act & Assert
+        StepVerifier.create(feed.stream(null, null).take(2))
+                .then(() -> publisher.publish(changes).block())
+                .expectNext(changes.get(0), changes.get(1))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should complete a publish when nobody is subscribed")
+    void shouldCompleteWithoutSubscribers() {
+        // Act & Assert
+        StepVerifier.create(publisher.publish(List.of(change(1L))))
+                .verifyComplete();
+    }
+
+    private static InventoryChange change(Long sequence) {
+        return InventoryChange.builder()
+                .sequence(sequence)
+                .aggregateId("item-1")
+                .changeType(InventoryChangeType.STOCK_UPDATED)
+                .build();
+    }
+
+}
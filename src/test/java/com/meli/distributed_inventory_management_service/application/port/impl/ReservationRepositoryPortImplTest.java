@@ -0,0 +1,143 @@
+package com.meli.distributed_inventory_management_service.application.port.impl;
+
+import com.meli.distributed_inventory_management_service.application.constants.ApplicationTestConstants;
+import com.meli.distributed_inventory_management_service.application.mother.ApplicationInventoryMother;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReservationRepositoryPortImplTest {
+
+    private ReservationRepositoryPortImpl reservationRepositoryPort;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepositoryPort = new ReservationRepositoryPortImpl();
+    }
+
+    @Test
+    @DisplayName("Should move an active reservation to the requested status")
+    void shouldUpdateStatusOfActiveReservation() {
+        // Arrange
+        reservationRepositoryPort.save(ApplicationInventoryMother.createValidReservation()).block();
+
+        // Act
+        Mono<Reservation> result = reservationRepositoryPort.updateStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_CONFIRMED);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(reservation -> assertEquals(STATUS_CONFIRMED, reservation.getStatus()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not change a reservation that already reached a final status")
+    void shouldNotUpdateFinalReservation() {
+        // Arrange
+        reservationRepositoryPort.save(ApplicationInventoryMother.createReservationWithStatus(STATUS_CONFIRMED)).block();
+
+        // Act
+        Mono<Reservation> result = reservationRepositoryPort.updateStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_RELEASED);
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+        StepVerifier.create(reservationRepositoryPort.findById(ApplicationTestConstants.RESERVATION_ID))
+                .assertNext(reservation -> assertEquals(STATUS_CONFIRMED, reservation.getStatus()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should move a reservation between status index entries when its status changes")
+    void shouldReindexStatusOnUpdate() {
+        // Arrange
+        reservationRepositoryPort.save(ApplicationInventoryMother.createReservationWithStatus(STATUS_RESERVED)).block();
+
+        // Act
+        reservationRepositoryPort.updateStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_EXPIRED).block();
+
+        // Assert
+        StepVerifier.create(reservationRepositoryPort.findByStatus(STATUS_RESERVED))
+                .verifyComplete();
+        StepVerifier.create(reservationRepositoryPort.findByStatus(STATUS_EXPIRED))
+                .assertNext(reservation -> assertEquals(ApplicationTestConstants.RESERVATION_ID, reservation.getReservationId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return only the reservations of the requested product and store")
+    void shouldFindByProductAndStoreFromIndex() {
+        // Arrange
+        reservationRepositoryPort.save(ApplicationInventoryMother.createGroupReservation(
+                ApplicationTestConstants.RESERVATION_ID, ApplicationTestConstants.PRODUCT_ID, STATUS_RESERVED)).block();
+        reservationRepositoryPort.save(ApplicationInventoryMother.createGroupReservation(
+                ApplicationTestConstants.SECOND_RESERVATION_ID, ApplicationTestConstants.SECOND_PRODUCT_ID, STATUS_RESERVED)).block();
+
+        // Act
+        Flux<Reservation> result = reservationRepositoryPort.findByProductAndStore(
+                ApplicationTestConstants.SECOND_PRODUCT_ID, ApplicationTestConstants.STORE_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(reservation -> assertEquals(ApplicationTestConstants.SECOND_RESERVATION_ID, reservation.getReservationId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should drop the old index keys when a reservation is saved again with new values")
+    void shouldReindexOnOverwrite() {
+        // Arrange
+        reservationRepositoryPort.save(ApplicationInventoryMother.createValidReservation()).block();
+        Reservation moved = ApplicationInventoryMother.basicReservation()
+                .productId(ApplicationTestConstants.SECOND_PRODUCT_ID)
+                .correlationId(ApplicationTestConstants.NON_EXISTENT_ID)
+                .build();
+
+        // Act
+        reservationRepositoryPort.save(moved).block();
+
+        // Assert
+        StepVerifier.create(reservationRepositoryPort.findByProductAndStore(
+                        ApplicationTestConstants.PRODUCT_ID, ApplicationTestConstants.STORE_ID))
+                .verifyComplete();
+        StepVerifier.create(reservationRepositoryPort.findByCorrelationId(ApplicationTestConstants.CORRELATION_ID))
+                .verifyComplete();
+        StepVerifier.create(reservationRepositoryPort.findByCorrelationId(ApplicationTestConstants.NON_EXISTENT_ID))
+                .expectNext(moved)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should page reservations in store, product and ID order after a cursor")
+    void shouldPageAfterCursor() {
+        // Arrange
+        for (String id : List.of("res-3", "res-1", "res-2")) {
+            reservationRepositoryPort.save(ApplicationInventoryMother.basicReservation().reservationId(id).build()).block();
+        }
+        reservationRepositoryPort.save(ApplicationInventoryMother.basicReservation()
+                .reservationId("res-0").storeId("a-store").build()).block();
+
+        // Act
+        Flux<Reservation> firstPage = reservationRepositoryPort.findPage(null, 2);
+        Flux<Reservation> secondPage = reservationRepositoryPort.findPage(PageCursor.of(
+                ApplicationTestConstants.STORE_ID, ApplicationTestConstants.PRODUCT_ID, "res-1"), 2);
+
+        // Assert
+        StepVerifier.create(firstPage.map(Reservation::getReservationId))
+                .expectNext("res-0", "res-1")
+                .verifyComplete();
+        StepVerifier.create(secondPage.map(Reservation::getReservationId))
+                .expectNext("res-2", "res-3")
+                .verifyComplete();
+    }
+}
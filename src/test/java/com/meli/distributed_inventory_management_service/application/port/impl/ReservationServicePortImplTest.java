@@ -4,6 +4,7 @@ import com.meli.distributed_inventory_management_service.application.constants.A
 import com.meli.distributed_inventory_management_service.application.mother.ApplicationInventoryMother;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
 import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
 import com.meli.distributed_inventory_management_service.domain.service.InventoryDomainService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,9 +16,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.RESERVATION_PREFIX;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -91,6 +97,27 @@ class ReservationServicePortImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should confirm a reservation by committing its reserved stock")
+    void shouldConfirmReservationByCommittingReservedStock() {
+        // Arrange
+        when(reservationRepositoryPort.findById(anyString()))
+                .thenReturn(Mono.just(validReservation));
+        when(inventoryDomainService.commitReservedStockLines(List.of(new StockLine(validReservation.getProductId(),
+                validReservation.getStoreId(), validReservation.getQuantity()))))
+                .thenReturn(Mono.just(List.of(inventoryItem)));
+
+        // Act
+        Mono<InventoryItem> result = reservationServicePort.confirmReservation(ApplicationTestConstants.RESERVATION_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(inventoryItem)
+                .verifyComplete();
+
+        verify(inventoryDomainService, never()).updateStockWithRetry(anyString(), anyString(), anyInt(), any());
+    }
+
     @Test
     @DisplayName("Should return error when releasing non-existent reservation")
     void shouldReturnErrorWhenReleasingNonExistentReservation() {
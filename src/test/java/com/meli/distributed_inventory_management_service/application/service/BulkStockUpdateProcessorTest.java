@@ -0,0 +1,186 @@
+package com.meli.distributed_inventory_management_service.application.service;
+
+import com.meli.distributed_inventory_management_service.application.constants.ApplicationTestConstants;
+import com.meli.distributed_inventory_management_service.application.dto.inventory.BulkStockUpdateResultDTO;
+import com.meli.distributed_inventory_management_service.application.dto.inventory.StockUpdateRequestDTO;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItemMother;
+import com.meli.distributed_inventory_management_service.domain.model.StockDelta;
+import com.meli.distributed_inventory_management_service.domain.model.StockKey;
+import com.meli.distributed_inventory_management_service.domain.model.StockUpdateOutcome;
+import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+import com.meli.distributed_inventory_management_service.domain.service.InventoryDomainService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkStockUpdateProcessorTest {
+
+    private static final int CHUNK_SIZE = 10;
+    private static final Duration MAX_WAIT = Duration.ofMillis(50);
+    private static final int CONCURRENCY = 2;
+
+    @Mock
+    private InventoryDomainService inventoryDomainService;
+
+    private BulkStockUpdateProcessor processor;
+    private InventoryItem inventoryItem;
+    private StockKey key;
+
+    @BeforeEach
+    void setUp() {
+        processor = new BulkStockUpdateProcessor(inventoryDomainService,
+                Validation.buildDefaultValidatorFactory().getValidator(), CHUNK_SIZE, MAX_WAIT, CONCURRENCY);
+        inventoryItem = InventoryItemMother.basicItem();
+        key = new StockKey(ApplicationTestConstants.PRODUCT_ID, ApplicationTestConstants.STORE_ID);
+    }
+
+    @Test
+    @DisplayName("Should group lines of a chunk by key and emit one result per line in input order")
+    @SuppressWarnings("unchecked")
+    void shouldGroupChunkByKeyAndKeepLineOrder() {
+        // Arrange
+        IllegalArgumentException rejection = new IllegalArgumentException("Stock cannot be negative");
+        when(inventoryDomainService.applyStockUpdateBatch(anyMap()))
+                .thenReturn(Mono.just(Map.of(key, List.of(
+                        StockUpdateOutcome.success(inventoryItem),
+                        StockUpdateOutcome.failure(rejection)))));
+
+        // Act
+        Flux<BulkStockUpdateResultDTO> result = processor.process(Flux.just(
+                request(ApplicationTestConstants.PRODUCT_ID, 5, UpdateType.PURCHASE),
+                request(ApplicationTestConstants.PRODUCT_ID, 500, UpdateType.SALE)));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(line -> {
+                    assertEquals(1, line.line());
+                    assertTrue(line.success());
+                    assertEquals(inventoryItem.getCurrentStock(), line.currentStock());
+                })
+                .assertNext(line -> {
+                    assertEquals(2, line.line());
+                    assertFalse(line.success());
+                    assertEquals(rejection.getMessage(), line.error());
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<Map<StockKey, List<StockDelta>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(inventoryDomainService).applyStockUpdateBatch(captor.capture());
+        assertEquals(2, captor.getValue().get(key).size());
+    }
+
+    @Test
+    @DisplayName("Should report invalid lines without sending them to the domain service")
+    void shouldRejectInvalidLinesWithoutWriting() {
+        // Act
+        Flux<BulkStockUpdateResultDTO> result = processor.process(Flux.just(
+                request("", 5, UpdateType.PURCHASE),
+                request(ApplicationTestConstants.PRODUCT_ID, 0, UpdateType.PURCHASE)));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(line -> assertFalse(line.success()))
+                .assertNext(line -> assertFalse(line.success()))
+                .verifyComplete();
+
+        verifyNoInteractions(inventoryDomainService);
+    }
+
+    @Test
+    @DisplayName("Should split the stream into bounded chunks")
+    void shouldSplitStreamIntoChunks() {
+        // Arrange
+        when(inventoryDomainService.applyStockUpdateBatch(anyMap()))
+                .thenAnswer(invocation -> {
+                    Map<StockKey, List<StockDelta>> deltas = invocation.getArgument(0);
+                    return Mono.just(Map.of(key, deltas.get(key).stream()
+                            .map(delta -> StockUpdateOutcome.success(inventoryItem))
+                            .toList()));
+                });
+
+        // Act
+        Flux<BulkStockUpdateResultDTO> result = processor.process(Flux.range(0, CHUNK_SIZE * 3)
+                .map(index -> request(ApplicationTestConstants.PRODUCT_ID, 1, UpdateType.PURCHASE)));
+
+        // Assert
+        StepVerifier.create(result.map(BulkStockUpdateResultDTO::line).collectList())
+                .assertNext(lines -> assertEquals(CHUNK_SIZE * 3, lines.size()))
+                .verifyComplete();
+
+        verify(inventoryDomainService, times(3)).applyStockUpdateBatch(anyMap());
+    }
+
+    @Test
+    @DisplayName("Should hold back timed-out chunks while every chunk slot is busy on a slow write")
+    void shouldKeepBackpressureWhenWritesAreSlowerThanMaxWait() {
+        // Arrange
+        when(inventoryDomainService.applyStockUpdateBatch(anyMap()))
+                .thenAnswer(invocation -> {
+                    Map<StockKey, List<StockDelta>> deltas = invocation.getArgument(0);
+                    return Mono.delay(Duration.ofSeconds(1))
+                            .thenReturn(Map.of(key, deltas.get(key).stream()
+                                    .map(delta -> StockUpdateOutcome.success(inventoryItem))
+                                    .toList()));
+                });
+        int lines = CHUNK_SIZE * 20;
+
+        // Act & Assert
+        StepVerifier.withVirtualTime(() -> processor.process(Flux.range(0, lines)
+                                .map(index -> request(ApplicationTestConstants.PRODUCT_ID, 1, UpdateType.PURCHASE))
+                                .delayElements(MAX_WAIT.dividedBy(5)))
+                        .map(BulkStockUpdateResultDTO::line))
+                .thenAwait(Duration.ofMinutes(1))
+                .expectNextSequence(LongStream.rangeClosed(1, lines).boxed().toList())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should turn a failed chunk write into failed results and keep streaming")
+    void shouldReportFailedChunkAsLineFailures() {
+        // Arrange
+        when(inventoryDomainService.applyStockUpdateBatch(anyMap()))
+                .thenReturn(Mono.error(new IllegalStateException(ApplicationTestConstants.ERROR_MESSAGE)));
+
+        // Act
+        Flux<BulkStockUpdateResultDTO> result = processor.process(Flux.just(
+                request(ApplicationTestConstants.PRODUCT_ID, 5, UpdateType.PURCHASE)));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(line -> {
+                    assertFalse(line.success());
+                    assertEquals(ApplicationTestConstants.ERROR_MESSAGE, line.error());
+                })
+                .verifyComplete();
+    }
+
+    private static StockUpdateRequestDTO request(String productId, Integer quantity, UpdateType updateType) {
+        return StockUpdateRequestDTO.builder()
+                .productId(productId)
+                .storeId(ApplicationTestConstants.STORE_ID)
+                .quantity(quantity)
+                .updateType(updateType)
+                .correlationId(ApplicationTestConstants.CORRELATION_ID)
+                .build();
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.meli.distributed_inventory_management_service.application.service;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChange;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChangeType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InventoryChangeFeedTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private MeterRegistry meterRegistry;
+    private InventoryChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        feed = new InventoryChangeFeed(meterRegistry, BUFFER_SIZE, Duration.ofSeconds(15));
+    }
+
+    @Test
+    @DisplayName("Should only emit changes matching the store and product filters")
+    void shouldFilterByStoreAndProduct() {
+        // Arrange
+        InventoryChange match = change(1L, "prod-1", "store-1");
+        InventoryChange otherProduct = change(2L, "prod-2", "store-1");
+        InventoryChange otherStore = change(3L, "prod-1", "store-2");
+
+        // Act & Assert
+        StepVerifier.create(feed.stream("store-1", "prod-1").take(1))
+                .then(() -> feed.publish(List.of(otherProduct, otherStore, match)))
+                .expectNext(match)
+                .expectComplete()
+                .verify(TIMEOUT);
+        StepVerifier.create(feed.stream("store-1", null).take(2))
+                .then(() -> feed.publish(List.of(otherStore, otherProduct, match)))
+                .expectNext(otherProduct, match)
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer overflows without affecting the others")
+    void shouldDropSlowSubscriber() {
+        // Arrange
+        List<InventoryChange> burst = IntStream.rangeClosed(1, BUFFER_SIZE + 1)
+                .mapToObj(i -> change((long) i, "prod-1", "store-1"))
+                .toList();
+
+        // Act & Assert
+        StepVerifier.create(feed.stream(null, null), 0)
+                .then(() -> feed.publish(burst))
+                .then(() -> {
+                    assertEquals(1.0, meterRegistry.get("inventory.stream.dropped").counter().count());
+                    assertEquals(0, feed.getSubscriberCount());
+                })
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextSequence(burst.subList(0, BUFFER_SIZE))
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        StepVerifier.create(feed.stream(null, null).take(BUFFER_SIZE + 1))
+                .then(() -> feed.publish(burst))
+                .expectNextSequence(burst)
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertEquals(0, feed.getSubscriberCount());
+    }
+
+    private static InventoryChange change(Long sequence, String productId, String storeId) {
+        return InventoryChange.builder()
+                .sequence(sequence)
+                .aggregateId("item-" + sequence)
+                .productId(productId)
+                .storeId(storeId)
+                .changeType(InventoryChangeType.STOCK_UPDATED)
+                .currentStock(10)
+                .reservedStock(0)
+                .version(sequence)
+                .build();
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.meli.distributed_inventory_management_service.application.service;
+
+import com.meli.distributed_inventory_management_service.application.port.EventRepositoryPort;
+import com.meli.distributed_inventory_management_service.domain.model.EventStatus;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItemMother;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryUpdateEvent;
+import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.meli.distributed_inventory_management_service.application.service.InventoryEventRecorder.OverflowPolicy.DROP_NEWEST;
+import static com.meli.distributed_inventory_management_service.application.service.InventoryEventRecorder.OverflowPolicy.DROP_OLDEST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryEventRecorderTest {
+
+    private static final int CAPACITY = 3;
+    private static final int BATCH_SIZE = 2;
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(50);
+
+    @Mock
+    private EventRepositoryPort eventRepositoryPort;
+
+    private MeterRegistry meterRegistry;
+    private InventoryItem item;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        item = InventoryItemMother.basicItem();
+    }
+
+    @Test
+    @DisplayName("Should save queued mutations in batches of at most the batch size")
+    @SuppressWarnings("unchecked")
+    void shouldFlushInBatches() {
+        // Arrange
+        InventoryEventRecorder recorder = recorder(DROP_NEWEST);
+        when(eventRepositoryPort.saveAll(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable((List<InventoryUpdateEvent>) invocation.getArgument(0)));
+        recorder.onStockMutation(item, 5, UpdateType.SALE);
+        recorder.onStockMutation(item, 3, UpdateType.RESERVE);
+        recorder.onStockMutation(item, 3, UpdateType.RELEASE);
+
+        // Act
+        Mono<Long> result = recorder.flush();
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(3L)
+                .verifyComplete();
+
+        ArgumentCaptor<List<InventoryUpdateEvent>> batches = ArgumentCaptor.forClass(List.class);
+        verify(eventRepositoryPort, times(2)).saveAll(batches.capture());
+        assertEquals(2, batches.getAllValues().get(0).size());
+        InventoryUpdateEvent first = batches.getAllValues().get(0).get(0);
+        assertEquals(item.getProductId(), first.getProductId());
+        assertEquals(UpdateType.SALE, first.getUpdateType());
+        assertEquals(EventStatus.PROCESSED, first.getStatus());
+        assertEquals(0, recorder.getQueueDepth());
+        assertEquals(3.0, meterRegistry.get("inventory.events.recorded").counter().count());
+        assertEquals(2L, meterRegistry.get("inventory.events.flush").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should drop new mutations when the queue is full and the policy is drop-newest")
+    @SuppressWarnings("unchecked")
+    void shouldDropNewestOnOverflow() {
+        // Arrange
+        InventoryEventRecorder recorder = recorder(DROP_NEWEST);
+        ArgumentCaptor<List<InventoryUpdateEvent>> batches = ArgumentCaptor.forClass(List.class);
+        when(eventRepositoryPort.saveAll(batches.capture()))
+                .thenAnswer(invocation -> Flux.fromIterable((List<InventoryUpdateEvent>) invocation.getArgument(0)));
+
+        // Act
+        for (int quantity = 1; quantity <= CAPACITY + 2; quantity++) {
+            recorder.onStockMutation(item, quantity, UpdateType.SALE);
+        }
+        recorder.flush().block();
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("inventory.events.dropped").counter().count());
+        assertEquals(List.of(1, 2, 3), batches.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(InventoryUpdateEvent::getQuantity)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest mutations when the queue is full and the policy is drop-oldest")
+    @SuppressWarnings("unchecked")
+    void shouldDropOldestOnOverflow() {
+        // Arrange
+        InventoryEventRecorder recorder = recorder(DROP_OLDEST);
+        ArgumentCaptor<List<InventoryUpdateEvent>> batches = ArgumentCaptor.forClass(List.class);
+        when(eventRepositoryPort.saveAll(batches.capture()))
+                .thenAnswer(invocation -> Flux.fromIterable((List<InventoryUpdateEvent>) invocation.getArgument(0)));
+
+        // Act
+        for (int quantity = 1; quantity <= CAPACITY + 2; quantity++) {
+            recorder.onStockMutation(item, quantity, UpdateType.SALE);
+        }
+        recorder.flush().block();
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("inventory.events.dropped").counter().count());
+        assertEquals(List.of(3, 4, 5), batches.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(InventoryUpdateEvent::getQuantity)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Should account for every mutation when producers evict while the writer drains")
+    @SuppressWarnings("unchecked")
+    void shouldAccountForEveryMutationUnderConcurrentEviction() throws InterruptedException {
+        // Arrange
+        InventoryEventRecorder recorder = recorder(DROP_OLDEST);
+        when(eventRepositoryPort.saveAll(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable((List<InventoryUpdateEvent>) invocation.getArgument(0)));
+        int producers = 4;
+        int mutationsPerProducer = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // Act
+        for (int p = 0; p < producers; p++) {
+            executor.execute(() -> {
+                for (int i = 0; i < mutationsPerProducer; i++) {
+                    recorder.onStockMutation(item, 1, UpdateType.SALE);
+                }
+                done.countDown();
+            });
+        }
+        long saved = 0;
+        while (done.getCount() > 0) {
+            saved += recorder.flush().block();
+        }
+        saved += recorder.flush().block();
+        executor.shutdown();
+
+        // Assert
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(0, recorder.getQueueDepth());
+        assertEquals((double) producers * mutationsPerProducer,
+                saved + meterRegistry.get("inventory.events.dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should count a failed batch and keep flushing the next ones")
+    void shouldCountFailedBatch() {
+        // Arrange
+        InventoryEventRecorder recorder = recorder(DROP_NEWEST);
+        when(eventRepositoryPort.saveAll(anyList()))
+                .thenReturn(Flux.error(new IllegalStateException("disk full")))
+                .thenReturn(Flux.just(mock(InventoryUpdateEvent.class)));
+        recorder.onStockMutation(item, 1, UpdateType.SALE);
+        recorder.onStockMutation(item, 2, UpdateType.SALE);
+        recorder.onStockMutation(item, 3, UpdateType.SALE);
+
+        // Act
+        Mono<Long> result = recorder.flush();
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(1L)
+                .verifyComplete();
+
+        assertEquals(2.0, meterRegistry.get("inventory.events.flush.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should ignore mutations when recording is disabled")
+    void shouldIgnoreMutationsWhenDisabled() {
+        // Arrange
+        InventoryEventRecorder recorder = new InventoryEventRecorder(eventRepositoryPort, meterRegistry,
+                false, CAPACITY, BATCH_SIZE, FLUSH_INTERVAL, DROP_NEWEST);
+
+        // Act
+        recorder.onStockMutation(item, 1, UpdateType.SALE);
+
+        // Assert
+        assertEquals(0, recorder.getQueueDepth());
+        verifyNoInteractions(eventRepositoryPort);
+    }
+
+    private InventoryEventRecorder recorder(InventoryEventRecorder.OverflowPolicy overflowPolicy) {
+        return new InventoryEventRecorder(eventRepositoryPort, meterRegistry,
+                true, CAPACITY, BATCH_SIZE, FLUSH_INTERVAL, overflowPolicy);
+    }
+
+}
@@ -0,0 +1,230 @@
+package com.meli.distributed_inventory_management_service.application.service;
+
+import com.meli.distributed_inventory_management_service.application.constants.ApplicationTestConstants;
+import com.meli.distributed_inventory_management_service.application.mother.ApplicationInventoryMother;
+import com.meli.distributed_inventory_management_service.application.port.ReservationRepositoryPort;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItemMother;
+import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import com.meli.distributed_inventory_management_service.domain.service.InventoryDomainService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.STATUS_EXPIRED;
+import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.STATUS_RESERVED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExpirySchedulerTest {
+
+    private static final Duration TICK = Duration.ofSeconds(1);
+    private static final int MAX_BATCH_SIZE = 100;
+
+    @Mock
+    private ReservationRepositoryPort reservationRepositoryPort;
+
+    @Mock
+    private InventoryDomainService inventoryDomainService;
+
+    private MeterRegistry meterRegistry;
+    private ReservationExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new ReservationExpiryScheduler(reservationRepositoryPort, inventoryDomainService,
+                meterRegistry, true, TICK, MAX_BATCH_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.destroy();
+    }
+
+    @Test
+    @DisplayName("Should release due reservations of the same SKU with a single stock release")
+    void shouldReleaseDueReservationsBatchedPerSku() {
+        // Arrange
+        Reservation first = expiredReservation(ApplicationTestConstants.RESERVATION_ID);
+        Reservation second = expiredReservation(ApplicationTestConstants.SECOND_RESERVATION_ID);
+        scheduler.schedule(first);
+        scheduler.schedule(second);
+        when(reservationRepositoryPort.updateStatus(anyString(), eq(STATUS_EXPIRED)))
+                .thenAnswer(invocation -> Mono.just(first.markAsExpired()));
+        when(inventoryDomainService.releaseReservedStock(ApplicationTestConstants.PRODUCT_ID,
+                ApplicationTestConstants.STORE_ID, ApplicationTestConstants.QUANTITY * 2))
+                .thenReturn(Mono.just(InventoryItemMother.basicItem()));
+
+        // Act
+        Mono<Integer> result = scheduler.expireDue();
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(2)
+                .verifyComplete();
+
+        verify(inventoryDomainService, times(1)).releaseReservedStock(anyString(), anyString(), anyInt());
+        assertEquals(0, scheduler.getScheduledCount());
+        assertEquals(2.0, meterRegistry.get("inventory.reservation.expiry.expired").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should skip reservations that were confirmed or released before their expiry")
+    void shouldSkipReservationsNoLongerActive() {
+        // Arrange
+        scheduler.schedule(expiredReservation(ApplicationTestConstants.RESERVATION_ID));
+        when(reservationRepositoryPort.updateStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_EXPIRED))
+                .thenReturn(Mono.empty());
+
+        // Act
+        Mono<Integer> result = scheduler.expireDue();
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(inventoryDomainService, never()).releaseReservedStock(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should leave reservations that are not due yet in the queue")
+    void shouldNotTouchReservationsNotDue() {
+        // Arrange
+        scheduler.schedule(ApplicationInventoryMother.basicReservation()
+                .status(STATUS_RESERVED)
+                .expiresAt(LocalDateTime.now().plusMinutes(15))
+                .build());
+
+        // Act
+        Mono<Integer> result = scheduler.expireDue();
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(0)
+                .verifyComplete();
+
+        assertEquals(1, scheduler.getScheduledCount());
+        verifyNoInteractions(reservationRepositoryPort, inventoryDomainService);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the queue from reserved reservations in the store")
+    void shouldRebuildFromStore() {
+        // Arrange
+        when(reservationRepositoryPort.findByStatus(STATUS_RESERVED))
+                .thenReturn(Flux.just(expiredReservation(ApplicationTestConstants.RESERVATION_ID),
+                        expiredReservation(ApplicationTestConstants.SECOND_RESERVATION_ID)));
+
+        // Act
+        Mono<Void> result = scheduler.rebuild();
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        assertEquals(2, scheduler.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("Should queue a reservation again when its claim fails and still expire the others")
+    void shouldRequeueFailedClaim() {
+        // Arrange
+        Reservation failing = expiredReservation(ApplicationTestConstants.RESERVATION_ID);
+        Reservation other = expiredReservation(ApplicationTestConstants.SECOND_RESERVATION_ID);
+        scheduler.schedule(failing);
+        scheduler.schedule(other);
+        when(reservationRepositoryPort.updateStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_EXPIRED))
+                .thenReturn(Mono.error(new IllegalStateException(ApplicationTestConstants.ERROR_MESSAGE)));
+        when(reservationRepositoryPort.updateStatus(ApplicationTestConstants.SECOND_RESERVATION_ID, STATUS_EXPIRED))
+                .thenReturn(Mono.just(other.markAsExpired()));
+        when(inventoryDomainService.releaseReservedStock(ApplicationTestConstants.PRODUCT_ID,
+                ApplicationTestConstants.STORE_ID, ApplicationTestConstants.QUANTITY))
+                .thenReturn(Mono.just(InventoryItemMother.basicItem()));
+
+        // Act
+        Mono<Integer> result = scheduler.expireDue();
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(1)
+                .verifyComplete();
+
+        assertEquals(1, scheduler.getScheduledCount());
+        assertEquals(1.0, meterRegistry.get("inventory.reservation.expiry.claim.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should retry only the stock release of reservations already expired on a later tick")
+    void shouldRetryFailedReleaseWithoutClaimingAgain() {
+        // Arrange
+        scheduler.destroy();
+        scheduler = new ReservationExpiryScheduler(reservationRepositoryPort, inventoryDomainService,
+                new SimpleMeterRegistry(), true, Duration.ZERO, MAX_BATCH_SIZE);
+        Reservation reservation = expiredReservation(ApplicationTestConstants.RESERVATION_ID);
+        scheduler.schedule(reservation);
+        when(reservationRepositoryPort.updateStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_EXPIRED))
+                .thenReturn(Mono.just(reservation.markAsExpired()));
+        when(inventoryDomainService.releaseReservedStock(ApplicationTestConstants.PRODUCT_ID,
+                ApplicationTestConstants.STORE_ID, ApplicationTestConstants.QUANTITY))
+                .thenReturn(Mono.error(new IllegalStateException(ApplicationTestConstants.ERROR_MESSAGE)))
+                .thenReturn(Mono.just(InventoryItemMother.basicItem()));
+
+        // Act
+        Integer failedTick = scheduler.expireDue().block();
+        Integer retriedTick = scheduler.expireDue().block();
+
+        // Assert
+        assertEquals(0, failedTick);
+        assertEquals(1, retriedTick);
+        assertEquals(0, scheduler.getScheduledCount());
+        verify(reservationRepositoryPort, times(1)).updateStatus(anyString(), anyString());
+        verify(inventoryDomainService, times(2)).releaseReservedStock(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should count a failed stock release without failing the tick")
+    void shouldCountFailedRelease() {
+        // Arrange
+        Reservation reservation = expiredReservation(ApplicationTestConstants.RESERVATION_ID);
+        scheduler.schedule(reservation);
+        when(reservationRepositoryPort.updateStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_EXPIRED))
+                .thenReturn(Mono.just(reservation.markAsExpired()));
+        when(inventoryDomainService.releaseReservedStock(anyString(), anyString(), anyInt()))
+                .thenReturn(Mono.error(new IllegalStateException(ApplicationTestConstants.ERROR_MESSAGE)));
+
+        // Act
+        Mono<Integer> result = scheduler.expireDue();
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(0)
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("inventory.reservation.expiry.release.failed").counter().count());
+        assertEquals(1, scheduler.getScheduledCount());
+    }
+
+    private static Reservation expiredReservation(String reservationId) {
+        return ApplicationInventoryMother.basicReservation()
+                .reservationId(reservationId)
+                .status(STATUS_RESERVED)
+                .expiresAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.meli.distributed_inventory_management_service.application.service;
+
+import com.meli.distributed_inventory_management_service.application.constants.ApplicationTestConstants;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItemMother;
+import com.meli.distributed_inventory_management_service.domain.model.StockDelta;
+import com.meli.distributed_inventory_management_service.domain.model.StockUpdateOutcome;
+import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+import com.meli.distributed_inventory_management_service.domain.service.InventoryDomainService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockUpdateCombinerTest {
+
+    private static final Duration LONG_WINDOW = Duration.ofSeconds(10);
+    private static final Duration SHORT_WINDOW = Duration.ofMillis(50);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Mock
+    private InventoryDomainService inventoryDomainService;
+
+    private InventoryItem inventoryItem;
+
+    @BeforeEach
+    void setUp() {
+        inventoryItem = InventoryItemMother.basicItem();
+    }
+
+    @Test
+    @DisplayName("Should combine updates within the window and fan out per-request outcomes")
+    void shouldCombineUpdatesWithinWindow() {
+        // Arrange
+        StockUpdateCombiner combiner = combiner(true, SHORT_WINDOW, 64);
+        IllegalArgumentException rejection = new IllegalArgumentException("Stock cannot be negative");
+        when(inventoryDomainService.applyStockUpdates(anyString(), anyString(), anyList()))
+                .thenReturn(Mono.just(List.of(
+                        StockUpdateOutcome.success(inventoryItem),
+                        StockUpdateOutcome.failure(rejection))));
+
+        // Act
+        Mono<InventoryItem> accepted = combiner.updateStock(
+                ApplicationTestConstants.PRODUCT_ID, ApplicationTestConstants.STORE_ID, 5, UpdateType.SALE).cache();
+        Mono<InventoryItem> rejected = combiner.updateStock(
+                ApplicationTestConstants.PRODUCT_ID, ApplicationTestConstants.STORE_ID, 500, UpdateType.SALE);
+        accepted.subscribe();
+
+        // Assert
+        StepVerifier.create(rejected)
+                .expectErrorMatches(error -> error == rejection)
+                .verify(TIMEOUT);
+        StepVerifier.create(accepted)
+                .expectNext(inventoryItem)
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StockDelta>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(inventoryDomainService, times(1)).applyStockUpdates(
+                eq(ApplicationTestConstants.PRODUCT_ID), eq(ApplicationTestConstants.STORE_ID), deltas.capture());
+        assertEquals(List.of(new StockDelta(5, UpdateType.SALE), new StockDelta(500, UpdateType.SALE)), deltas.getValue());
+        assertEquals(2.0, combiner.getCombineRatio());
+    }
+
+    @Test
+    @DisplayName("Should flush as soon as the batch is full without waiting for the window")
+    void shouldFlushWhenBatchIsFull() {
+        // Arrange
+        StockUpdateCombiner combiner = combiner(true, LONG_WINDOW, 1);
+        when(inventoryDomainService.applyStockUpdates(anyString(), anyString(), anyList()))
+                .thenReturn(Mono.just(List.of(StockUpdateOutcome.success(inventoryItem))));
+
+        // Act
+        Mono<InventoryItem> result = combiner.updateStock(
+                ApplicationTestConstants.PRODUCT_ID, ApplicationTestConstants.STORE_ID, 5, UpdateType.PURCHASE);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(inventoryItem)
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Should propagate a failed combined write to every waiting caller")
+    void shouldPropagateWriteFailureToEveryCaller() {
+        // Arrange
+        StockUpdateCombiner combiner = combiner(true, SHORT_WINDOW, 64);
+        IllegalStateException failure = new IllegalStateException("Database unavailable");
+        when(inventoryDomainService.applyStockUpdates(anyString(), anyString(), anyList()))
+                .thenReturn(Mono.error(failure));
+
+        // Act
+        Mono<InventoryItem> first = combiner.updateStock(
+                ApplicationTestConstants.PRODUCT_ID, ApplicationTestConstants.STORE_ID, 5, UpdateType.PURCHASE).cache();
+        Mono<InventoryItem> second = combiner.updateStock(
+                ApplicationTestConstants.PRODUCT_ID, ApplicationTestConstants.STORE_ID, 3, UpdateType.PURCHASE);
+        first.subscribe(item -> { }, error -> { });
+
+        // Assert
+        StepVerifier.create(second)
+                .expectErrorMatches(error -> error == failure)
+                .verify(TIMEOUT);
+        StepVerifier.create(first)
+                .expectErrorMatches(error -> error == failure)
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Should delegate directly to the domain service when combining is disabled")
+    void shouldDelegateWhenDisabled() {
+        // Arrange
+        StockUpdateCombiner combiner = combiner(false, SHORT_WINDOW, 64);
+        when(inventoryDomainService.updateStockWithRetry(anyString(), anyString(), any(), any()))
+                .thenReturn(Mono.just(inventoryItem));
+
+        // Act
+        Mono<InventoryItem> result = combiner.updateStock(
+                ApplicationTestConstants.PRODUCT_ID, ApplicationTestConstants.STORE_ID, 5, UpdateType.PURCHASE);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(inventoryItem)
+                .verifyComplete();
+
+        verify(inventoryDomainService, never()).applyStockUpdates(anyString(), anyString(), anyList());
+    }
+
+    private StockUpdateCombiner combiner(boolean enabled, Duration window, int maxBatchSize) {
+        return new StockUpdateCombiner(inventoryDomainService, new SimpleMeterRegistry(), enabled, window, maxBatchSize);
+    }
+
+}
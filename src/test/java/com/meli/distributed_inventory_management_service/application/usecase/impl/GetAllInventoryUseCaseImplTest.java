@@ -1,6 +1,8 @@
 package com.meli.distributed_inventory_management_service.application.usecase.impl;
 
+import com.meli.distributed_inventory_management_service.application.constants.ApplicationTestConstants;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -44,4 +46,21 @@ class GetAllInventoryUseCaseImplTest {
                 .expectNext(inventoryItem)
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should read a keyset page of all inventory")
+    void shouldGetInventoryPage() {
+        // Arrange
+        PageCursor after = PageCursor.of(ApplicationTestConstants.STORE_ID, ApplicationTestConstants.PRODUCT_ID, "item-0");
+        when(inventoryRepositoryPort.findPage(null, null, after, 10))
+                .thenReturn(Flux.just(inventoryItem));
+
+        // Act
+        Flux<InventoryItem> result = getAllInventoryUseCase.execute(after, 10);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(inventoryItem)
+                .verifyComplete();
+    }
+}
@@ -2,6 +2,7 @@ package com.meli.distributed_inventory_management_service.application.usecase.im
 
 import com.meli.distributed_inventory_management_service.application.constants.ApplicationTestConstants;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -61,4 +62,21 @@ class GetInventoryByProductUseCaseImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should read a keyset page of the product's inventory")
+    void shouldGetInventoryPageByProduct() {
+        // Arrange
+        PageCursor after = PageCursor.of(ApplicationTestConstants.STORE_ID, ApplicationTestConstants.PRODUCT_ID, "item-0");
+        when(inventoryRepositoryPort.findPage(null, ApplicationTestConstants.PRODUCT_ID, after, 10))
+                .thenReturn(Flux.just(inventoryItem));
+
+        // Act
+        Flux<InventoryItem> result = getInventoryByProductUseCase.execute(ApplicationTestConstants.PRODUCT_ID, after, 10);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(inventoryItem)
+                .verifyComplete();
+    }
+}
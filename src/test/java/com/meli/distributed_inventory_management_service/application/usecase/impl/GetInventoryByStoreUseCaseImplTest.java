@@ -2,6 +2,7 @@ package com.meli.distributed_inventory_management_service.application.usecase.im
 
 import com.meli.distributed_inventory_management_service.application.constants.ApplicationTestConstants;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,4 +47,21 @@ class GetInventoryByStoreUseCaseImplTest {
                 .expectNext(inventoryItem)
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should read a keyset page of the store's inventory")
+    void shouldGetInventoryPageByStore() {
+        // Arrange
+        PageCursor after = PageCursor.of(ApplicationTestConstants.STORE_ID, ApplicationTestConstants.PRODUCT_ID, "item-0");
+        when(inventoryRepositoryPort.findPage(ApplicationTestConstants.STORE_ID, null, after, 10))
+                .thenReturn(Flux.just(inventoryItem));
+
+        // Act
+        Flux<InventoryItem> result = getInventoryByStoreUseCase.execute(ApplicationTestConstants.STORE_ID, after, 10);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(inventoryItem)
+                .verifyComplete();
+    }
+}
@@ -1,10 +1,12 @@
 package com.meli.distributed_inventory_management_service.application.usecase.impl;
 
 import com.meli.distributed_inventory_management_service.application.constants.ApplicationTestConstants;
+import com.meli.distributed_inventory_management_service.application.dto.inventory.BatchReservationResponseDTO;
 import com.meli.distributed_inventory_management_service.application.dto.inventory.ReservationResponseDTO;
 import com.meli.distributed_inventory_management_service.application.mother.ApplicationInventoryMother;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
 import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,13 +14,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +38,9 @@ class ReservationUseCaseImplTest {
     @Mock
     private com.meli.distributed_inventory_management_service.application.port.ReservationRepositoryPort reservationRepositoryPort;
 
+    @Mock
+    private com.meli.distributed_inventory_management_service.application.service.ReservationExpiryScheduler reservationExpiryScheduler;
+
     @InjectMocks
     private ReservationUseCaseImpl reservationUseCase;
 
@@ -141,6 +152,52 @@ class ReservationUseCaseImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should not touch stock when another caller claimed the reservation first")
+    void shouldNotConfirmStockWhenClaimIsLost() {
+        // Arrange
+        Reservation reserved = ApplicationInventoryMother.createReservationWithStatus(STATUS_RESERVED);
+        when(reservationRepositoryPort.findById(anyString()))
+                .thenReturn(Mono.just(reserved));
+        when(reservationRepositoryPort.updateStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_CONFIRMED))
+                .thenReturn(Mono.empty());
+
+        // Act
+        Mono<ReservationResponseDTO> result = reservationUseCase.confirmReservation(ApplicationTestConstants.RESERVATION_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(reservationServicePort, never()).confirmReservation(anyString());
+    }
+
+    @Test
+    @DisplayName("Should give the claim back and reschedule expiry when releasing the stock fails")
+    void shouldRestoreStatusWhenReleaseStockFails() {
+        // Arrange
+        Reservation reserved = ApplicationInventoryMother.createReservationWithStatus(STATUS_RESERVED);
+        when(reservationRepositoryPort.findById(anyString()))
+                .thenReturn(Mono.just(reserved));
+        when(reservationRepositoryPort.updateStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_RELEASED))
+                .thenReturn(Mono.just(reserved.release()));
+        when(reservationServicePort.releaseReservation(ApplicationTestConstants.RESERVATION_ID))
+                .thenReturn(Mono.error(new IllegalStateException(ApplicationTestConstants.ERROR_MESSAGE)));
+        when(reservationRepositoryPort.restoreStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_RELEASED, STATUS_RESERVED))
+                .thenReturn(Mono.just(reserved));
+
+        // Act
+        Mono<ReservationResponseDTO> result = reservationUseCase.releaseReservation(ApplicationTestConstants.RESERVATION_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMessage(ApplicationTestConstants.ERROR_MESSAGE)
+                .verify();
+
+        verify(reservationExpiryScheduler).schedule(reserved);
+    }
+
     @Test
     @DisplayName("Should validate reservation as true for confirmable reservation")
     void shouldValidateReservationAsTrueForConfirmableReservation() {
@@ -261,4 +318,188 @@ class ReservationUseCaseImplTest {
                 .verify();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should create one reservation per line sharing a group id after the stock is held")
+    void shouldCreateBatchReservation() {
+        // Arrange
+        List<StockLine> lines = List.of(
+                new StockLine(ApplicationTestConstants.PRODUCT_ID, ApplicationTestConstants.STORE_ID, ApplicationTestConstants.QUANTITY),
+                new StockLine(ApplicationTestConstants.SECOND_PRODUCT_ID, ApplicationTestConstants.STORE_ID, ApplicationTestConstants.QUANTITY));
+        when(reservationServicePort.generateReservationGroupId())
+                .thenReturn(Mono.just(ApplicationTestConstants.GROUP_ID));
+        when(reservationServicePort.reserveStockLines(lines))
+                .thenReturn(Mono.just(List.of(inventoryItem)));
+        when(reservationServicePort.generateReservationId())
+                .thenReturn(Mono.just(ApplicationTestConstants.RESERVATION_ID))
+                .thenReturn(Mono.just(ApplicationTestConstants.SECOND_RESERVATION_ID));
+        when(reservationRepositoryPort.save(any(Reservation.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act
+        Mono<BatchReservationResponseDTO> result = reservationUseCase.createBatchReservation(
+                lines, ApplicationTestConstants.CORRELATION_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(ApplicationTestConstants.GROUP_ID, response.groupId());
+                    assertEquals(STATUS_RESERVED, response.status());
+                    assertEquals(2, response.reservations().size());
+                    assertEquals(ApplicationTestConstants.SECOND_PRODUCT_ID, response.reservations().get(1).productId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not store any reservation when a batch line lacks stock")
+    void shouldNotStoreReservationsWhenBatchStockFails() {
+        // Arrange
+        List<StockLine> lines = List.of(
+                new StockLine(ApplicationTestConstants.PRODUCT_ID, ApplicationTestConstants.STORE_ID, ApplicationTestConstants.QUANTITY));
+        when(reservationServicePort.generateReservationGroupId())
+                .thenReturn(Mono.just(ApplicationTestConstants.GROUP_ID));
+        when(reservationServicePort.reserveStockLines(lines))
+                .thenReturn(Mono.error(new IllegalStateException(ApplicationTestConstants.ERROR_MESSAGE)));
+
+        // Act
+        Mono<BatchReservationResponseDTO> result = reservationUseCase.createBatchReservation(
+                lines, ApplicationTestConstants.CORRELATION_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(reservationRepositoryPort, never()).save(any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("Should release the stored rows and the held stock when storing a batch fails")
+    void shouldReleaseHeldStockWhenStoringBatchFails() {
+        // Arrange
+        List<StockLine> lines = List.of(
+                new StockLine(ApplicationTestConstants.PRODUCT_ID, ApplicationTestConstants.STORE_ID, ApplicationTestConstants.QUANTITY),
+                new StockLine(ApplicationTestConstants.SECOND_PRODUCT_ID, ApplicationTestConstants.STORE_ID, ApplicationTestConstants.QUANTITY));
+        when(reservationServicePort.generateReservationGroupId())
+                .thenReturn(Mono.just(ApplicationTestConstants.GROUP_ID));
+        when(reservationServicePort.reserveStockLines(lines))
+                .thenReturn(Mono.just(List.of(inventoryItem)));
+        when(reservationServicePort.generateReservationId())
+                .thenReturn(Mono.just(ApplicationTestConstants.RESERVATION_ID))
+                .thenReturn(Mono.just(ApplicationTestConstants.SECOND_RESERVATION_ID));
+        when(reservationRepositoryPort.save(any(Reservation.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)))
+                .thenReturn(Mono.error(new IllegalStateException(ApplicationTestConstants.ERROR_MESSAGE)));
+        when(reservationRepositoryPort.updateGroupStatus(ApplicationTestConstants.GROUP_ID, STATUS_RELEASED))
+                .thenReturn(Flux.empty());
+        when(reservationServicePort.releaseStockLines(lines))
+                .thenReturn(Mono.just(List.of(inventoryItem)));
+
+        // Act
+        Mono<BatchReservationResponseDTO> result = reservationUseCase.createBatchReservation(
+                lines, ApplicationTestConstants.CORRELATION_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMessage(ApplicationTestConstants.ERROR_MESSAGE)
+                .verify();
+
+        verify(reservationRepositoryPort).updateGroupStatus(ApplicationTestConstants.GROUP_ID, STATUS_RELEASED);
+        verify(reservationServicePort).releaseStockLines(lines);
+        verify(reservationExpiryScheduler, never()).schedule(any());
+    }
+
+    @Test
+    @DisplayName("Should confirm every reservation of a group as one unit")
+    void shouldConfirmBatchReservation() {
+        // Arrange
+        Reservation first = ApplicationInventoryMother.createGroupReservation(
+                ApplicationTestConstants.RESERVATION_ID, ApplicationTestConstants.PRODUCT_ID, STATUS_RESERVED);
+        Reservation second = ApplicationInventoryMother.createGroupReservation(
+                ApplicationTestConstants.SECOND_RESERVATION_ID, ApplicationTestConstants.SECOND_PRODUCT_ID, STATUS_RESERVED);
+        when(reservationRepositoryPort.findByGroupId(ApplicationTestConstants.GROUP_ID))
+                .thenReturn(Flux.just(first, second));
+        when(reservationServicePort.confirmReservations(List.of(first, second)))
+                .thenReturn(Mono.just(List.of(inventoryItem)));
+        when(reservationRepositoryPort.updateGroupStatus(ApplicationTestConstants.GROUP_ID, STATUS_CONFIRMED))
+                .thenReturn(Flux.just(first.confirm(), second.confirm()));
+
+        // Act
+        Mono<BatchReservationResponseDTO> result = reservationUseCase.confirmBatchReservation(ApplicationTestConstants.GROUP_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(STATUS_CONFIRMED, response.status());
+                    assertTrue(response.reservations().stream().allMatch(r -> STATUS_CONFIRMED.equals(r.status())));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should give back the group claims and keep the stock when another caller took one reservation")
+    void shouldRestoreGroupWhenClaimIsPartial() {
+        // Arrange
+        Reservation first = ApplicationInventoryMother.createGroupReservation(
+                ApplicationTestConstants.RESERVATION_ID, ApplicationTestConstants.PRODUCT_ID, STATUS_RESERVED);
+        Reservation second = ApplicationInventoryMother.createGroupReservation(
+                ApplicationTestConstants.SECOND_RESERVATION_ID, ApplicationTestConstants.SECOND_PRODUCT_ID, STATUS_RESERVED);
+        when(reservationRepositoryPort.findByGroupId(ApplicationTestConstants.GROUP_ID))
+                .thenReturn(Flux.just(first, second));
+        when(reservationRepositoryPort.updateGroupStatus(ApplicationTestConstants.GROUP_ID, STATUS_CONFIRMED))
+                .thenReturn(Flux.just(first.confirm()));
+        when(reservationRepositoryPort.restoreStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_CONFIRMED, STATUS_RESERVED))
+                .thenReturn(Mono.just(first));
+
+        // Act
+        Mono<BatchReservationResponseDTO> result = reservationUseCase.confirmBatchReservation(ApplicationTestConstants.GROUP_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(reservationServicePort, never()).confirmReservations(any());
+        verify(reservationRepositoryPort, never())
+                .restoreStatus(ApplicationTestConstants.SECOND_RESERVATION_ID, STATUS_CONFIRMED, STATUS_RESERVED);
+    }
+
+    @Test
+    @DisplayName("Should refuse to release a group when one of its reservations is already confirmed")
+    void shouldRejectBatchReleaseWhenAnyReservationIsConfirmed() {
+        // Arrange
+        Reservation reserved = ApplicationInventoryMother.createGroupReservation(
+                ApplicationTestConstants.RESERVATION_ID, ApplicationTestConstants.PRODUCT_ID, STATUS_RESERVED);
+        Reservation confirmed = ApplicationInventoryMother.createGroupReservation(
+                ApplicationTestConstants.SECOND_RESERVATION_ID, ApplicationTestConstants.SECOND_PRODUCT_ID, STATUS_CONFIRMED);
+        when(reservationRepositoryPort.findByGroupId(ApplicationTestConstants.GROUP_ID))
+                .thenReturn(Flux.just(reserved, confirmed));
+
+        // Act
+        Mono<BatchReservationResponseDTO> result = reservationUseCase.releaseBatchReservation(ApplicationTestConstants.GROUP_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(reservationServicePort, never()).releaseReservations(any());
+    }
+
+    @Test
+    @DisplayName("Should return not found error when the reservation group does not exist")
+    void shouldRejectUnknownReservationGroup() {
+        // Arrange
+        when(reservationRepositoryPort.findByGroupId(ApplicationTestConstants.NON_EXISTENT_ID))
+                .thenReturn(Flux.empty());
+
+        // Act
+        Mono<BatchReservationResponseDTO> result = reservationUseCase.confirmBatchReservation(ApplicationTestConstants.NON_EXISTENT_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.meli.distributed_inventory_management_service.domain.hotkey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingHeavyHittersTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+    private static final int BUCKETS = 6;
+    private static final String STORE_ID = "store-hot";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Should rank the heavy hitters first among more keys than the top-K holds")
+    void shouldRankHeavyHittersFirst() {
+        // Arrange
+        SlidingHeavyHitters heavyHitters = heavyHitters(4);
+
+        // Act
+        for (int round = 0; round < 200; round++) {
+            heavyHitters.record("prod-hot", STORE_ID);
+            if (round % 2 == 0) {
+                heavyHitters.record("prod-warm", STORE_ID);
+            }
+            heavyHitters.record("prod-cold-" + round, STORE_ID);
+        }
+
+        // Assert
+        List<HotKey> top = heavyHitters.top(2);
+        assertEquals(2, top.size());
+        assertEquals("prod-hot", top.get(0).getProductId());
+        assertTrue(top.get(0).getCount() >= 200);
+        assertEquals("prod-warm", top.get(1).getProductId());
+        assertTrue(top.get(1).getCount() >= 100);
+    }
+
+    @Test
+    @DisplayName("Should keep counts of buckets inside the window and drop them once they leave it")
+    void shouldSlideTheWindow() {
+        // Arrange
+        SlidingHeavyHitters heavyHitters = heavyHitters(4);
+        heavyHitters.record("prod-early", STORE_ID);
+        heavyHitters.record("prod-early", STORE_ID);
+
+        // Act
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        heavyHitters.record("prod-late", STORE_ID);
+        List<HotKey> halfway = heavyHitters.top(10);
+        clock.addAndGet(Duration.ofSeconds(40).toNanos());
+        List<HotKey> afterWindow = heavyHitters.top(10);
+
+        // Assert
+        assertEquals(List.of(new HotKey("prod-early", STORE_ID, 2), new HotKey("prod-late", STORE_ID, 1)), halfway);
+        assertEquals(List.of(new HotKey("prod-late", STORE_ID, 1)), afterWindow);
+    }
+
+    @Test
+    @DisplayName("Should clear a bucket reused by a later lap of the ring")
+    void shouldClearReusedBucket() {
+        // Arrange
+        SlidingHeavyHitters heavyHitters = heavyHitters(4);
+        heavyHitters.record("prod-old", STORE_ID);
+
+        // Act
+        clock.addAndGet(WINDOW.toNanos());
+        heavyHitters.record("prod-new", STORE_ID);
+
+        // Assert
+        assertEquals(List.of(new HotKey("prod-new", STORE_ID, 1)), heavyHitters.top(10));
+    }
+
+    @Test
+    @DisplayName("Should not lose counts recorded concurrently")
+    void shouldCountConcurrentRecords() throws Exception {
+        // Arrange
+        SlidingHeavyHitters heavyHitters = heavyHitters(8);
+        int threads = 4;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            int offset = thread;
+            futures.add(executor.submit(() -> {
+                for (int index = 0; index < perThread; index++) {
+                    heavyHitters.record("prod-shared", STORE_ID);
+                    heavyHitters.record("prod-" + offset + "-" + (index % 50), STORE_ID);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        HotKey hottest = heavyHitters.top(1).get(0);
+        assertEquals("prod-shared", hottest.getProductId());
+        assertTrue(hottest.getCount() >= (long) threads * perThread);
+    }
+
+    @Test
+    @DisplayName("Should report nothing when tracking is disabled")
+    void shouldReportNothingWhenDisabled() {
+        // Arrange
+        HotKeyTracker tracker = HotKeyTracker.disabled();
+
+        // Act
+        tracker.mutation("prod-any", STORE_ID);
+        tracker.conflict("prod-any", STORE_ID);
+
+        // Assert
+        assertTrue(tracker.hottest(10).isEmpty());
+        assertTrue(tracker.mostContended(10).isEmpty());
+    }
+
+    private SlidingHeavyHitters heavyHitters(int capacity) {
+        return new SlidingHeavyHitters(WINDOW, BUCKETS, 256, 4, capacity, clock::get);
+    }
+
+}
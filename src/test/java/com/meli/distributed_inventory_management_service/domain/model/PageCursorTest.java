@@ -0,0 +1,47 @@
+package com.meli.distributed_inventory_management_service.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageCursorTest {
+
+    @Test
+    @DisplayName("Should decode an encoded cursor back to the same position")
+    void shouldRoundTrip() {
+        // Arrange
+        PageCursor cursor = PageCursor.of("store-1", "prod-1", "item-1");
+
+        // Act
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that was not produced by encode")
+    void shouldRejectForeignCursor() {
+        // Arrange
+        String foreign = Base64.getUrlEncoder().encodeToString("store-1".getBytes());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(foreign));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not base64!"));
+    }
+
+    @Test
+    @DisplayName("Should order positions by store, then product, then ID")
+    void shouldOrderByStoreProductAndId() {
+        // Assert
+        assertTrue(PageCursor.of("a", "z", "z").compareTo(PageCursor.of("b", "a", "a")) < 0);
+        assertTrue(PageCursor.of("a", "a", "z").compareTo(PageCursor.of("a", "b", "a")) < 0);
+        assertTrue(PageCursor.of("a", "a", "a").compareTo(PageCursor.of("a", "a", "b")) < 0);
+    }
+
+}
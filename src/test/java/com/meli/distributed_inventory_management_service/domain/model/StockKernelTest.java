@@ -0,0 +1,75 @@
+package com.meli.distributed_inventory_management_service.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockKernelTest {
+
+    @Test
+    @DisplayName("Should clamp available stock at zero and require positive availability to fulfill")
+    void shouldComputeAvailability() {
+        // Act & Assert
+        assertEquals(80, StockKernel.available(100, 20));
+        assertEquals(0, StockKernel.available(5, 8));
+        assertTrue(StockKernel.canFulfill(100, 50, 50));
+        assertFalse(StockKernel.canFulfill(100, 95, 6));
+        assertFalse(StockKernel.canFulfill(10, 10, 0));
+    }
+
+    @Test
+    @DisplayName("Should return the new reserved stock or the available stock of a rejected reservation")
+    void shouldReserve() {
+        // Act
+        long accepted = StockKernel.reserve(100, 10, 20);
+        long insufficient = StockKernel.reserve(100, 95, 6);
+        long invalid = StockKernel.reserve(100, 10, 0);
+
+        // Assert
+        assertTrue(StockKernel.isOk(accepted));
+        assertEquals(30, StockKernel.value(accepted));
+        assertEquals(StockKernel.INSUFFICIENT_STOCK, StockKernel.code(insufficient));
+        assertEquals(5, StockKernel.value(insufficient));
+        assertEquals(StockKernel.INVALID_QUANTITY, StockKernel.code(invalid));
+    }
+
+    @Test
+    @DisplayName("Should return the new reserved stock or the reserved stock of a rejected release")
+    void shouldRelease() {
+        // Act
+        long accepted = StockKernel.release(10, 4);
+        long insufficient = StockKernel.release(3, 4);
+
+        // Assert
+        assertTrue(StockKernel.isOk(accepted));
+        assertEquals(6, StockKernel.value(accepted));
+        assertEquals(StockKernel.INSUFFICIENT_RESERVED, StockKernel.code(insufficient));
+        assertEquals(3, StockKernel.value(insufficient));
+    }
+
+    @Test
+    @DisplayName("Should apply each update type and reject negative, oversized or unsupported updates")
+    void shouldUpdate() {
+        // Act & Assert
+        assertEquals(15, StockKernel.value(StockKernel.update(10, 100, 5, UpdateType.PURCHASE)));
+        assertEquals(8, StockKernel.value(StockKernel.update(10, 100, -2, UpdateType.ADJUSTMENT)));
+        assertEquals(7, StockKernel.value(StockKernel.update(10, 100, 3, UpdateType.SALE)));
+        assertEquals(40, StockKernel.value(StockKernel.update(10, 100, 40, UpdateType.RESTOCK)));
+
+        long negative = StockKernel.update(10, 100, 11, UpdateType.SALE);
+        assertEquals(StockKernel.NEGATIVE_STOCK, StockKernel.code(negative));
+        assertEquals(-1, StockKernel.value(negative));
+
+        long aboveMaximum = StockKernel.update(90, 100, 20, UpdateType.PURCHASE);
+        assertEquals(StockKernel.ABOVE_MAXIMUM, StockKernel.code(aboveMaximum));
+        assertEquals(110, StockKernel.value(aboveMaximum));
+
+        assertEquals(StockKernel.INVALID_TYPE, StockKernel.code(StockKernel.update(10, 100, 1, UpdateType.TRANSFER)));
+        assertTrue(StockKernel.isOk(StockKernel.update(Integer.MAX_VALUE - 1, StockKernel.NO_MAXIMUM, 1,
+                UpdateType.PURCHASE)));
+        assertEquals(StockKernel.ABOVE_MAXIMUM, StockKernel.code(StockKernel.update(Integer.MAX_VALUE,
+                StockKernel.NO_MAXIMUM, 1, UpdateType.PURCHASE)));
+    }
+
+}
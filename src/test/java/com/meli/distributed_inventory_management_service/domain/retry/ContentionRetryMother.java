@@ -0,0 +1,31 @@
+package com.meli.distributed_inventory_management_service.domain.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+
+public class ContentionRetryMother {
+
+    public static final int MAX_ATTEMPTS = 3;
+    public static final int RETRY_BUDGET = 50;
+    public static final int MULTIPLIER = 2;
+
+    public static RetryPolicy immediatePolicy(int maxAttempts) {
+        return RetryPolicy.builder()
+                .maxAttempts(maxAttempts)
+                .baseDelay(Duration.ZERO)
+                .maxDelay(Duration.ZERO)
+                .multiplier(MULTIPLIER)
+                .build();
+    }
+
+    public static ContentionRetry immediate() {
+        return immediate(new SimpleMeterRegistry(), RETRY_BUDGET);
+    }
+
+    public static ContentionRetry immediate(MeterRegistry meterRegistry, int retryBudget) {
+        return ContentionRetry.uniform(immediatePolicy(MAX_ATTEMPTS), retryBudget, meterRegistry);
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.meli.distributed_inventory_management_service.domain.retry;
+
+import com.meli.distributed_inventory_management_service.domain.exception.ConcurrentUpdateException;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.mapper.MapperTestConstants;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.meli.distributed_inventory_management_service.domain.retry.ContentionRetryMother.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentionRetryTest {
+
+    private static final String OPERATION = RetryOperation.STOCK_UPDATE.getPropertyKey();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should re-subscribe the operation after a version conflict")
+    void shouldRetryAfterConflict() {
+        // Arrange
+        ContentionRetry retry = immediate(meterRegistry, RETRY_BUDGET);
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        // Act
+        Mono<String> result = retry.execute(RetryOperation.STOCK_UPDATE,
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                () -> subscriptions.incrementAndGet() == 1
+                        ? Mono.error(conflict())
+                        : Mono.just("updated"));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext("updated")
+                .verifyComplete();
+        assertEquals(2, subscriptions.get());
+        assertEquals(1.0, counter("attempts"));
+        assertEquals(1.0, counter("recovered"));
+        assertEquals(1, retriesPerRequest().count());
+        assertEquals(1.0, retriesPerRequest().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should propagate the last conflict once every attempt is used")
+    void shouldPropagateConflictWhenAttemptsAreExhausted() {
+        // Arrange
+        ContentionRetry retry = immediate(meterRegistry, RETRY_BUDGET);
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        // Act
+        Mono<String> result = retry.execute(RetryOperation.STOCK_UPDATE,
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                () -> {
+                    subscriptions.incrementAndGet();
+                    return Mono.error(new OptimisticLockingFailureException("Concurrent update"));
+                });
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+        assertEquals(MAX_ATTEMPTS, subscriptions.get());
+        assertEquals(1.0, counter("exhausted"));
+        assertEquals(1, retriesPerRequest().count());
+        assertEquals(MAX_ATTEMPTS - 1, retriesPerRequest().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should not retry validation failures")
+    void shouldNotRetryValidationFailures() {
+        // Arrange
+        ContentionRetry retry = immediate(meterRegistry, RETRY_BUDGET);
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        // Act
+        Mono<String> result = retry.execute(RetryOperation.STOCK_UPDATE,
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                () -> {
+                    subscriptions.incrementAndGet();
+                    return Mono.error(new IllegalArgumentException("Stock cannot be negative"));
+                });
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    @DisplayName("Should stop retrying a key once its retry budget is used up")
+    void shouldStopRetryingWhenBudgetIsUsedUp() {
+        // Arrange
+        ContentionRetry retry = immediate(meterRegistry, 1);
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        // Act
+        Mono<String> result = retry.execute(RetryOperation.STOCK_UPDATE,
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                () -> {
+                    subscriptions.incrementAndGet();
+                    return Mono.error(conflict());
+                });
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(ConcurrentUpdateException.class)
+                .verify();
+        assertEquals(2, subscriptions.get());
+        assertEquals(1.0, counter("budget.rejected"));
+    }
+
+    @Test
+    @DisplayName("Should cap the jitter bound at the maximum delay")
+    void shouldCapBackoffBoundAtMaxDelay() {
+        // Arrange
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(MAX_ATTEMPTS)
+                .baseDelay(Duration.ofMillis(10))
+                .maxDelay(Duration.ofMillis(50))
+                .multiplier(MULTIPLIER)
+                .build();
+
+        // Act & Assert
+        assertEquals(10, policy.backoffBoundMillis(0));
+        assertEquals(40, policy.backoffBoundMillis(2));
+        assertEquals(50, policy.backoffBoundMillis(10));
+        assertTrue(policy.backoffBoundMillis(100) <= 50);
+    }
+
+    private ConcurrentUpdateException conflict() {
+        return new ConcurrentUpdateException(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 1L, null);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get("inventory.retry." + name).tag("operation", OPERATION).counter().count();
+    }
+
+    private DistributionSummary retriesPerRequest() {
+        return meterRegistry.get("inventory.retry.per.request").tag("operation", OPERATION).summary();
+    }
+
+}
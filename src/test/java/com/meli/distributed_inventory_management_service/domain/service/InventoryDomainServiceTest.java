@@ -1,24 +1,41 @@
 package com.meli.distributed_inventory_management_service.domain.service;
 
 import com.meli.distributed_inventory_management_service.domain.exception.ConcurrentUpdateException;
+import com.meli.distributed_inventory_management_service.domain.exception.StockShortageException;
+import com.meli.distributed_inventory_management_service.domain.hotkey.HotKey;
+import com.meli.distributed_inventory_management_service.domain.hotkey.HotKeyTracker;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.StockDelta;
+import com.meli.distributed_inventory_management_service.domain.model.StockKey;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
+import com.meli.distributed_inventory_management_service.domain.model.StockUpdateOutcome;
 import com.meli.distributed_inventory_management_service.domain.model.UpdateType;
+import com.meli.distributed_inventory_management_service.domain.model.VersionedWrite;
 import com.meli.distributed_inventory_management_service.domain.repository.InventoryRepository;
+import com.meli.distributed_inventory_management_service.domain.retry.ContentionRetryMother;
 import com.meli.distributed_inventory_management_service.infrastructure.persistence.mapper.MapperTestConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
 import static com.meli.distributed_inventory_management_service.domain.model.InventoryItemMother.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -28,13 +45,18 @@ class InventoryDomainServiceTest {
     @Mock
     private InventoryRepository inventoryRepository;
 
-    @InjectMocks
+    @Mock
+    private StockMutationListener mutationListener;
+
     private InventoryDomainService inventoryDomainService;
 
     private InventoryItem existingItem;
 
     @BeforeEach
     void setUp() {
+        inventoryDomainService = new InventoryDomainService(inventoryRepository, ShardedMutationExecutor.disabled(),
+                ContentionRetryMother.immediate(), mutationListener, StockOperationMetrics.disabled(),
+                HotKeyTracker.disabled());
         existingItem = basicItem();
     }
 
@@ -108,26 +130,51 @@ class InventoryDomainServiceTest {
     }
 
     @Test
-    @DisplayName("Should get available stock when item exists")
-    void shouldGetAvailableStockWhenItemExists() {
+    @DisplayName("Should re-read and re-apply the update after a version conflict")
+    void shouldRetryUpdateAfterVersionConflict() {
         // Arrange
         when(inventoryRepository.findByProductAndStore(any(), any()))
                 .thenReturn(Mono.just(existingItem));
+        when(inventoryRepository.updateWithVersionCheckNative(any(), any()))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("Concurrent update")))
+                .thenReturn(Mono.just(existingItem));
+
+        // Act
+        Mono<InventoryItem> result = inventoryDomainService.updateStockWithRetry(
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 50, UpdateType.PURCHASE);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(existingItem)
+                .verifyComplete();
+
+        verify(inventoryRepository, times(2)).findByProductAndStore(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID);
+        verify(inventoryRepository, times(2)).updateWithVersionCheckNative(any(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("Should get available stock when item exists")
+    void shouldGetAvailableStockWhenItemExists() {
+        // Arrange
+        when(inventoryRepository.findAvailableStock(any(), any()))
+                .thenReturn(Mono.just(90));
 
         // Act
         Mono<Integer> result = inventoryDomainService.getAvailableStock(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID);
 
         // Assert
         StepVerifier.create(result)
-                .expectNext(90) // 100 current - 10 reserved
+                .expectNext(90)
                 .verifyComplete();
+
+        verify(inventoryRepository, never()).findByProductAndStore(any(), any());
     }
 
     @Test
     @DisplayName("Should return zero available stock when item does not exist")
     void shouldReturnZeroAvailableStockWhenItemNotExists() {
         // Arrange
-        when(inventoryRepository.findByProductAndStore(any(), any()))
+        when(inventoryRepository.findAvailableStock(any(), any()))
                 .thenReturn(Mono.empty());
 
         // Act
@@ -139,4 +186,373 @@ class InventoryDomainServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should reserve stock with a single guarded update")
+    void shouldReserveStockWithGuardedUpdate() {
+        // Arrange
+        InventoryItem reservedItem = withStock(100, 30);
+        when(inventoryRepository.reserveStockIfAvailable(any(), any(), any()))
+                .thenReturn(Mono.just(reservedItem));
+
+        // Act
+        Mono<InventoryItem> result = inventoryDomainService.reserveStock(
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 20);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(reservedItem)
+                .verifyComplete();
+
+        verify(inventoryRepository).reserveStockIfAvailable(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 20);
+        verify(inventoryRepository, never()).findByProductAndStore(any(), any());
+        verify(inventoryRepository, never()).save(any());
+        verify(mutationListener).onStockMutation(reservedItem, 20, UpdateType.RESERVE);
+    }
+
+    @Test
+    @DisplayName("Should reject reservation when guarded update matches no row")
+    void shouldRejectReservationWhenStockIsInsufficient() {
+        // Arrange
+        when(inventoryRepository.reserveStockIfAvailable(any(), any(), any()))
+                .thenReturn(Mono.empty());
+        when(inventoryRepository.findByProductAndStore(any(), any()))
+                .thenReturn(Mono.just(existingItem));
+
+        // Act
+        Mono<InventoryItem> result = inventoryDomainService.reserveStock(
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 500);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(error -> error instanceof IllegalStateException
+                        && error.getMessage().equals("Insufficient stock. Available: 90, Requested: 500"))
+                .verify();
+
+        verifyNoInteractions(mutationListener);
+    }
+
+    @Test
+    @DisplayName("Should return empty reservation when item does not exist")
+    void shouldReturnEmptyReservationWhenItemNotExists() {
+        // Arrange
+        when(inventoryRepository.reserveStockIfAvailable(any(), any(), any()))
+                .thenReturn(Mono.empty());
+        when(inventoryRepository.findByProductAndStore(any(), any()))
+                .thenReturn(Mono.empty());
+
+        // Act
+        Mono<InventoryItem> result = inventoryDomainService.reserveStock(
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 5);
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject non positive reservation without touching the repository")
+    void shouldRejectNonPositiveReservation() {
+        // Act
+        Mono<InventoryItem> result = inventoryDomainService.reserveStock(
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 0);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(inventoryRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject release when more than reserved is requested")
+    void shouldRejectReleaseWhenMoreThanReserved() {
+        // Arrange
+        when(inventoryRepository.releaseReservedStockIfHeld(any(), any(), any()))
+                .thenReturn(Mono.empty());
+        when(inventoryRepository.findByProductAndStore(any(), any()))
+                .thenReturn(Mono.just(existingItem));
+
+        // Act
+        Mono<InventoryItem> result = inventoryDomainService.releaseReservedStock(
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 50);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(error -> error instanceof IllegalStateException
+                        && error.getMessage().equals("Cannot release more than reserved. Reserved: 10, Requested: 50"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should fold combined deltas into one write and reject only the invalid delta")
+    void shouldFoldCombinedDeltasIntoOneWrite() {
+        // Arrange
+        InventoryItem item = withStock(10, 0);
+        when(inventoryRepository.findByProductAndStore(any(), any())).thenReturn(Mono.just(item));
+        when(inventoryRepository.updateWithVersionCheckNative(any(), eq(item.getVersion())))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        List<StockDelta> deltas = List.of(
+                new StockDelta(4, UpdateType.SALE),
+                new StockDelta(20, UpdateType.SALE),
+                new StockDelta(5, UpdateType.PURCHASE));
+
+        // Act
+        Mono<List<StockUpdateOutcome>> result = inventoryDomainService.applyStockUpdates(
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, deltas);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(outcomes -> {
+                    assertTrue(outcomes.get(0).isSuccess());
+                    assertFalse(outcomes.get(1).isSuccess());
+                    assertEquals("Stock cannot be negative", outcomes.get(1).getError().getMessage());
+                    assertTrue(outcomes.get(2).isSuccess());
+                    assertEquals(11, outcomes.get(2).getItem().getCurrentStock());
+                })
+                .verifyComplete();
+
+        verify(inventoryRepository, times(1)).updateWithVersionCheckNative(any(), eq(item.getVersion()));
+        verify(mutationListener).onStockMutation(any(), eq(4), eq(UpdateType.SALE));
+        verify(mutationListener).onStockMutation(any(), eq(5), eq(UpdateType.PURCHASE));
+        verify(mutationListener, never()).onStockMutation(any(), eq(20), any());
+    }
+
+    @Test
+    @DisplayName("Should skip the write when every combined delta is rejected")
+    void shouldSkipWriteWhenEveryDeltaIsRejected() {
+        // Arrange
+        when(inventoryRepository.findByProductAndStore(any(), any())).thenReturn(Mono.just(withStock(1, 0)));
+
+        // Act
+        Mono<List<StockUpdateOutcome>> result = inventoryDomainService.applyStockUpdates(
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                List.of(new StockDelta(2, UpdateType.SALE)));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(outcomes -> assertFalse(outcomes.get(0).isSuccess()))
+                .verifyComplete();
+
+        verify(inventoryRepository, never()).updateWithVersionCheckNative(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reserve every stock line through one repository call")
+    void shouldReserveStockLinesInOneCall() {
+        // Arrange
+        List<StockLine> lines = List.of(
+                new StockLine(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 2),
+                new StockLine("other-product", MapperTestConstants.STORE_ID, 3));
+        when(inventoryRepository.reserveStockLines(lines)).thenReturn(Mono.just(List.of(existingItem)));
+
+        // Act
+        Mono<List<InventoryItem>> result = inventoryDomainService.reserveStockLines(lines);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(List.of(existingItem))
+                .verifyComplete();
+
+        verify(inventoryRepository).reserveStockLines(lines);
+    }
+
+    @Test
+    @DisplayName("Should reject stock lines with a non positive quantity without touching the repository")
+    void shouldRejectNonPositiveStockLine() {
+        // Arrange
+        List<StockLine> lines = List.of(
+                new StockLine(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 2),
+                new StockLine("other-product", MapperTestConstants.STORE_ID, 0));
+
+        // Act
+        Mono<List<InventoryItem>> result = inventoryDomainService.reserveStockLines(lines);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(inventoryRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty list of stock lines")
+    void shouldRejectEmptyStockLines() {
+        // Act
+        Mono<List<InventoryItem>> result = inventoryDomainService.commitReservedStockLines(List.of());
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(inventoryRepository);
+    }
+
+    @Test
+    @DisplayName("Should write every existing key of a batch with one batched versioned update")
+    void shouldWriteBatchWithOneBatchedUpdate() {
+        // Arrange
+        StockKey key = new StockKey(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID);
+        when(inventoryRepository.findAllByProductAndStore(List.of(key))).thenReturn(Flux.just(existingItem));
+        when(inventoryRepository.updateAllWithVersionCheck(anyList()))
+                .thenAnswer(invocation -> {
+                    List<VersionedWrite> writes = invocation.getArgument(0);
+                    return Flux.fromIterable(writes).map(VersionedWrite::getItem);
+                });
+
+        // Act
+        Mono<Map<StockKey, List<StockUpdateOutcome>>> result = inventoryDomainService.applyStockUpdateBatch(Map.of(key, List.of(
+                new StockDelta(20, UpdateType.PURCHASE),
+                new StockDelta(5, UpdateType.SALE))));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(outcomes -> {
+                    assertEquals(2, outcomes.get(key).size());
+                    assertEquals(DEFAULT_CURRENT_STOCK + 15, outcomes.get(key).get(1).getItem().getCurrentStock());
+                })
+                .verifyComplete();
+
+        verify(inventoryRepository).updateAllWithVersionCheck(argThat(writes -> writes.size() == 1
+                && DEFAULT_VERSION.equals(writes.get(0).getExpectedVersion())));
+        verify(inventoryRepository, never()).updateWithVersionCheckNative(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fall back to a single-key update when the batched write loses a version race")
+    void shouldFallBackWhenBatchedWriteLosesRace() {
+        // Arrange
+        StockKey key = new StockKey(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID);
+        InventoryItem persisted = withStock(DEFAULT_CURRENT_STOCK + 20, DEFAULT_RESERVED_STOCK);
+        when(inventoryRepository.findAllByProductAndStore(List.of(key))).thenReturn(Flux.just(existingItem));
+        when(inventoryRepository.updateAllWithVersionCheck(anyList())).thenReturn(Flux.empty());
+        when(inventoryRepository.findByProductAndStore(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID))
+                .thenReturn(Mono.just(existingItem));
+        when(inventoryRepository.updateWithVersionCheckNative(any(), eq(DEFAULT_VERSION)))
+                .thenReturn(Mono.just(persisted));
+
+        // Act
+        Mono<Map<StockKey, List<StockUpdateOutcome>>> result = inventoryDomainService.applyStockUpdateBatch(Map.of(key, List.of(
+                new StockDelta(20, UpdateType.PURCHASE))));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(outcomes -> assertEquals(persisted, outcomes.get(key).get(0).getItem()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should time a rejected reservation as insufficient stock")
+    void shouldRecordInsufficientStockReservation() {
+        // Arrange
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InventoryDomainService instrumented = instrumented(meterRegistry);
+        when(inventoryRepository.reserveStockIfAvailable(any(), any(), any()))
+                .thenReturn(Mono.empty());
+        when(inventoryRepository.findByProductAndStore(any(), any()))
+                .thenReturn(Mono.just(existingItem));
+
+        // Act
+        Mono<InventoryItem> result = instrumented.reserveStock(
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 500);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(StockShortageException.class)
+                .verify();
+
+        assertEquals(1, meterRegistry.get("inventory.stock.operation")
+                .tags("operation", "reserve", "outcome", "insufficient-stock").timer().count());
+        assertEquals(1.0, meterRegistry.get("inventory.stock.insufficient")
+                .tag("operation", "reserve").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should count every lost version race, including the ones a retry recovers from")
+    void shouldCountRecoveredConflicts() {
+        // Arrange
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InventoryDomainService instrumented = instrumented(meterRegistry);
+        when(inventoryRepository.findByProductAndStore(any(), any()))
+                .thenReturn(Mono.just(existingItem));
+        when(inventoryRepository.updateWithVersionCheckNative(any(), any()))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("Concurrent update")))
+                .thenReturn(Mono.just(existingItem));
+
+        // Act
+        Mono<InventoryItem> result = instrumented.updateStockWithRetry(
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 50, UpdateType.PURCHASE);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(existingItem)
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("inventory.stock.conflicts")
+                .tag("operation", "update").counter().count());
+        assertEquals(1, meterRegistry.get("inventory.stock.operation")
+                .tags("operation", "update", "outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should count a combined delta rejected for lack of stock without failing the operation")
+    void shouldCountRejectedCombinedDeltas() {
+        // Arrange
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InventoryDomainService instrumented = instrumented(meterRegistry);
+        when(inventoryRepository.findByProductAndStore(any(), any())).thenReturn(Mono.just(withStock(1, 0)));
+
+        // Act
+        Mono<List<StockUpdateOutcome>> result = instrumented.applyStockUpdates(
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                List.of(new StockDelta(2, UpdateType.SALE)));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(outcomes -> assertFalse(outcomes.get(0).isSuccess()))
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("inventory.stock.insufficient")
+                .tag("operation", "combined-update").counter().count());
+        assertEquals(1, meterRegistry.get("inventory.stock.operation")
+                .tags("operation", "combined-update", "outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should track the mutated key and the key that lost a version race")
+    void shouldTrackHotAndContendedKeys() {
+        // Arrange
+        HotKeyTracker hotKeys = new HotKeyTracker(true, 8, Duration.ofMinutes(1), 6, 64, 4);
+        InventoryDomainService tracked = new InventoryDomainService(inventoryRepository,
+                ShardedMutationExecutor.disabled(), ContentionRetryMother.immediate(), mutationListener,
+                StockOperationMetrics.disabled(), hotKeys);
+        when(inventoryRepository.findByProductAndStore(any(), any()))
+                .thenReturn(Mono.just(existingItem));
+        when(inventoryRepository.updateWithVersionCheckNative(any(), any()))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("Concurrent update")))
+                .thenReturn(Mono.just(existingItem));
+
+        // Act
+        Mono<InventoryItem> result = tracked.updateStockWithRetry(
+                MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 50, UpdateType.PURCHASE);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(existingItem)
+                .verifyComplete();
+
+        HotKey expected = new HotKey(existingItem.getProductId(), existingItem.getStoreId(), 1);
+        assertEquals(List.of(expected), hotKeys.hottest(10));
+        assertEquals(List.of(new HotKey(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID, 1)),
+                hotKeys.mostContended(10));
+    }
+
+    private InventoryDomainService instrumented(MeterRegistry meterRegistry) {
+        return new InventoryDomainService(inventoryRepository, ShardedMutationExecutor.disabled(),
+                ContentionRetryMother.immediate(), mutationListener, new StockOperationMetrics(meterRegistry),
+                HotKeyTracker.disabled());
+    }
+
 }
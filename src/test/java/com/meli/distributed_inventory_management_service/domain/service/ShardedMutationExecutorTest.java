@@ -0,0 +1,178 @@
+package com.meli.distributed_inventory_management_service.domain.service;
+
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.mapper.MapperTestConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedMutationExecutorTest {
+
+    private static final int SHARDS = 4;
+    private static final int MUTATIONS = 20;
+    private static final Duration MUTATION_DURATION = Duration.ofMillis(5);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final int MAILBOX_CAPACITY = 2;
+    private static final Duration TASK_TIMEOUT = Duration.ofMillis(500);
+
+    private final ShardedMutationExecutor executor = new ShardedMutationExecutor(true, SHARDS, MUTATIONS,
+            TASK_TIMEOUT);
+    private final ShardedMutationExecutor bounded = new ShardedMutationExecutor(true, 1, MAILBOX_CAPACITY,
+            TASK_TIMEOUT);
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+        bounded.destroy();
+    }
+
+    @Test
+    @DisplayName("Should run mutations for the same key one at a time")
+    void shouldSerializeMutationsForSameKey() {
+        // Arrange
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        // Act
+        Flux<Integer> results = Flux.range(0, MUTATIONS)
+                .flatMap(index -> executor.execute(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                        () -> Mono.fromCallable(() -> {
+                                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                                    return index;
+                                })
+                                .delayElement(MUTATION_DURATION)
+                                .doOnNext(value -> inFlight.decrementAndGet())));
+
+        // Assert
+        StepVerifier.create(results)
+                .expectNextCount(MUTATIONS)
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertEquals(1, maxInFlight.get());
+    }
+
+    @Test
+    @DisplayName("Should propagate the mutation error and keep the shard running")
+    void shouldPropagateErrorAndKeepShardRunning() {
+        // Arrange
+        IllegalStateException failure = new IllegalStateException("Insufficient stock");
+
+        // Act
+        Mono<Integer> failed = executor.execute(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                () -> Mono.error(failure));
+        Mono<Integer> next = executor.execute(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                () -> Mono.just(1));
+
+        // Assert
+        StepVerifier.create(failed)
+                .expectErrorMatches(error -> error == failure)
+                .verify(TIMEOUT);
+        StepVerifier.create(next)
+                .expectNext(1)
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Should time out a stalled mutation without blocking the ones behind it")
+    void shouldTimeOutStalledMutation() {
+        // Act
+        Mono<Integer> stalled = executor.execute(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                Mono::never);
+        Mono<Integer> next = executor.execute(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                () -> Mono.just(1));
+
+        // Assert
+        StepVerifier.create(stalled)
+                .expectError(TimeoutException.class)
+                .verify(TIMEOUT);
+        StepVerifier.create(next)
+                .expectNext(1)
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Should reject mutations beyond the mailbox capacity and skip cancelled ones")
+    void shouldRejectWhenMailboxIsFullAndSkipCancelled() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        Sinks.One<Integer> gate = Sinks.one();
+        AtomicBoolean cancelledRan = new AtomicBoolean();
+        CompletableFuture<Integer> blocking = bounded.execute(MapperTestConstants.PRODUCT_ID,
+                MapperTestConstants.STORE_ID, () -> {
+                    started.countDown();
+                    return gate.asMono();
+                }).toFuture();
+        assertTrue(started.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        bounded.execute(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                () -> Mono.fromCallable(() -> {
+                    cancelledRan.set(true);
+                    return 1;
+                })).subscribe().dispose();
+        CompletableFuture<Integer> queued = bounded.execute(MapperTestConstants.PRODUCT_ID,
+                MapperTestConstants.STORE_ID, () -> Mono.just(2)).toFuture();
+
+        // Act
+        Mono<Integer> rejected = bounded.execute(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                () -> Mono.just(3));
+
+        // Assert
+        StepVerifier.create(rejected)
+                .expectError(RejectedExecutionException.class)
+                .verify(TIMEOUT);
+        gate.tryEmitValue(0);
+        assertEquals(0, blocking.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        assertEquals(2, queued.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        assertFalse(cancelledRan.get());
+    }
+
+    @Test
+    @DisplayName("Should complete empty when the mutation finds nothing")
+    void shouldCompleteEmptyMutation() {
+        // Act
+        Mono<Integer> result = executor.execute(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                Mono::empty);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertTrue(executor.isEnabled());
+        assertEquals(SHARDS, executor.getShardCount());
+    }
+
+    @Test
+    @DisplayName("Should run the mutation directly when sharded execution is disabled")
+    void shouldRunDirectlyWhenDisabled() {
+        // Arrange
+        ShardedMutationExecutor disabled = ShardedMutationExecutor.disabled();
+
+        // Act
+        Mono<Integer> result = disabled.execute(MapperTestConstants.PRODUCT_ID, MapperTestConstants.STORE_ID,
+                () -> Mono.just(1));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(1)
+                .verifyComplete();
+        assertFalse(disabled.isEnabled());
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.meli.distributed_inventory_management_service.infrastructure.config.database;
+
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.cache.InventoryNearCache;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.outbox.InventoryOutbox;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.SpringDataInventoryRepository;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.VersionedWriteMetrics;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Beans a {@code @DataR2dbcTest} needs to run {@link SpringDataInventoryRepository} against H2.
+ */
+@TestConfiguration
+@Import({SpringDataInventoryRepository.class, TestPersistenceMapperConfig.class, InventoryNearCache.class,
+        VersionedWriteMetrics.class, InventoryOutbox.class})
+public class InventoryRepositorySliceConfig {
+}
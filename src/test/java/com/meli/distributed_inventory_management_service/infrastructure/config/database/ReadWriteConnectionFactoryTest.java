@@ -0,0 +1,181 @@
+package com.meli.distributed_inventory_management_service.infrastructure.config.database;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReadWriteConnectionFactory Unit Tests")
+class ReadWriteConnectionFactoryTest {
+
+    private static final int MAX_SIZE = 2;
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(1);
+
+    private MeterRegistry meterRegistry;
+    private ConnectionFactory database;
+    private ReadWriteConnectionFactory connectionFactory;
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        database = ConnectionFactories.get("r2dbc:h2:mem:///pool-" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        connectionFactory = new ReadWriteConnectionFactory(primaryPools(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("Should serve connections from the write pool unless the context asks for a read")
+    void shouldRouteByContext() {
+        // Act
+        Connection write = Mono.from(connectionFactory.create()).block();
+        Connection read = Mono.from(connectionFactory.create())
+                .contextWrite(ConnectionRoute.READ.context())
+                .block();
+
+        // Assert
+        assertEquals(1, acquired(ConnectionRoute.WRITE));
+        assertEquals(1, acquired(ConnectionRoute.READ));
+        assertEquals(0.5, meterRegistry.get("inventory.db.pool.utilization").tag("pool", "read").gauge().value());
+        assertEquals(1, meterRegistry.get("inventory.db.pool.acquire")
+                .tags("pool", "read", "outcome", "acquired").timer().count());
+
+        Mono.from(write.close()).block();
+        Mono.from(read.close()).block();
+        assertEquals(0, acquired(ConnectionRoute.WRITE));
+        assertEquals(0, acquired(ConnectionRoute.READ));
+    }
+
+    @Test
+    @DisplayName("Should time out reads on an exhausted read pool while writes still get connections")
+    void shouldIsolateExhaustedReadPool() {
+        // Arrange
+        for (int i = 0; i < MAX_SIZE; i++) {
+            Mono.from(connectionFactory.create()).contextWrite(ConnectionRoute.READ.context()).block();
+        }
+
+        // Act & Assert
+        StepVerifier.create(Mono.from(connectionFactory.create()).contextWrite(ConnectionRoute.READ.context()))
+                .expectError()
+                .verify();
+        StepVerifier.create(Mono.from(connectionFactory.create()))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertEquals(1.0, meterRegistry.get("inventory.db.pool.utilization").tag("pool", "read").gauge().value());
+        assertEquals(1, meterRegistry.get("inventory.db.pool.acquire")
+                .tags("pool", "read", "outcome", "failed").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should serve reads from a replica within the staleness bound")
+    void shouldServeReadsFromFreshReplica() {
+        // Arrange
+        Replica replica = withReplica();
+        replica.applied(1, nanoClock.get());
+        nanoClock.addAndGet(MAX_STALENESS.toNanos());
+
+        // Act
+        Mono.from(connectionFactory.create()).contextWrite(ConnectionRoute.READ.context()).block();
+        Mono.from(connectionFactory.create()).block();
+
+        // Assert
+        assertEquals(1, replica.getPool().getMetrics().orElseThrow().acquiredSize());
+        assertEquals(0, acquired(ConnectionRoute.READ));
+        assertEquals(1, acquired(ConnectionRoute.WRITE));
+    }
+
+    @Test
+    @DisplayName("Should send reads to the primary's read pool when the replica is stale or never refreshed")
+    void shouldFallBackFromStaleReplica() {
+        // Arrange
+        Replica replica = withReplica();
+        Mono.from(connectionFactory.create()).contextWrite(ConnectionRoute.READ.context()).block();
+        replica.applied(1, nanoClock.get());
+        nanoClock.addAndGet(MAX_STALENESS.toNanos() + 1);
+
+        // Act
+        Mono.from(connectionFactory.create()).contextWrite(ConnectionRoute.READ.context()).block();
+
+        // Assert
+        assertEquals(0, replica.getPool().getMetrics().orElseThrow().acquiredSize());
+        assertEquals(2, acquired(ConnectionRoute.READ));
+        assertEquals(2, meterRegistry.get("inventory.db.replica.fallback").tag("reason", "stale").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep a caller's reads on the primary until the replica has applied its write")
+    void shouldReadYourWrites() {
+        // Arrange
+        Replica replica = withReplica();
+        replica.applied(3, nanoClock.get());
+
+        // Act
+        Mono.from(connectionFactory.create())
+                .contextWrite(ConnectionRoute.READ.context())
+                .contextWrite(ReplicationClock.readingAfter(4))
+                .block();
+        Mono.from(connectionFactory.create())
+                .contextWrite(ConnectionRoute.READ.context())
+                .contextWrite(ReplicationClock.readingAfter(3))
+                .block();
+
+        // Assert
+        assertEquals(1, acquired(ConnectionRoute.READ));
+        assertEquals(1, replica.getPool().getMetrics().orElseThrow().acquiredSize());
+        assertEquals(1, meterRegistry.get("inventory.db.replica.fallback")
+                .tag("reason", "behind-write-version").counter().count());
+    }
+
+    private Replica withReplica() {
+        connectionFactory.destroy();
+        meterRegistry = new SimpleMeterRegistry();
+        Replica replica = new Replica("replica-1", pool(database, "replica-1"), nanoClock::get);
+        connectionFactory = new ReadWriteConnectionFactory(primaryPools(), List.of(replica), MAX_STALENESS,
+                meterRegistry);
+        return replica;
+    }
+
+    private Map<ConnectionRoute, ConnectionPool> primaryPools() {
+        Map<ConnectionRoute, ConnectionPool> pools = new EnumMap<>(ConnectionRoute.class);
+        for (ConnectionRoute route : ConnectionRoute.values()) {
+            pools.put(route, pool(database, route.getPropertyKey()));
+        }
+        return pools;
+    }
+
+    private static ConnectionPool pool(ConnectionFactory database, String name) {
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(database)
+                .name(name)
+                .initialSize(0)
+                .maxSize(MAX_SIZE)
+                .maxAcquireTime(Duration.ofSeconds(1))
+                .build());
+    }
+
+    private int acquired(ConnectionRoute route) {
+        return connectionFactory.getPool(route).getMetrics().orElseThrow().acquiredSize();
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.meli.distributed_inventory_management_service.infrastructure.config.database;
 
 import com.meli.distributed_inventory_management_service.infrastructure.persistence.mapper.PersistenceInventoryMapper;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.mapper.PersistenceReservationMapper;
 import org.mapstruct.factory.Mappers;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,4 +14,9 @@ public class TestPersistenceMapperConfig {
         return Mappers.getMapper(PersistenceInventoryMapper.class);
     }
 
+    @Bean
+    public PersistenceReservationMapper persistenceReservationMapper() {
+        return Mappers.getMapper(PersistenceReservationMapper.class);
+    }
+
 }
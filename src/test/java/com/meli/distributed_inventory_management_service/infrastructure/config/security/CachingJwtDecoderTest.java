@@ -0,0 +1,110 @@
+package com.meli.distributed_inventory_management_service.infrastructure.config.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CachingJwtDecoder Unit Tests")
+class CachingJwtDecoderTest {
+
+    private static final long MAXIMUM_SIZE = 100;
+
+    private JwtUtil jwtUtil;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SecurityTestConstants.TEST_JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", SecurityTestConstants.TEST_JWT_EXPIRATION);
+        decoder = new CachingJwtDecoder(jwtUtil, true, MAXIMUM_SIZE, null);
+    }
+
+    @Test
+    @DisplayName("Should decode a valid token into its subject, roles and expiry")
+    void shouldDecodeValidToken() {
+        // Arrange
+        String token = JwtObjectMother.createAdminToken();
+
+        // Act & Assert
+        StepVerifier.create(decoder.decode(token))
+                .assertNext(jwt -> {
+                    assertEquals(SecurityTestConstants.TEST_ADMIN_USERNAME, jwt.getSubject());
+                    assertEquals(List.of(SecurityTestConstants.ROLE_ADMIN, SecurityTestConstants.ROLE_USER),
+                            jwt.getClaimAsStringList("roles"));
+                    assertNotNull(jwt.getExpiresAt());
+                    assertEquals(token, jwt.getTokenValue());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve repeated requests from the cache")
+    void shouldServeRepeatedTokenFromCache() {
+        // Arrange
+        String token = JwtObjectMother.createValidToken();
+        Jwt first = decoder.decode(token).block();
+
+        // Act
+        Jwt second = decoder.decode(token).block();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, decoder.cachedTokens());
+    }
+
+    @Test
+    @DisplayName("Should reject a tampered token even when the original is cached")
+    void shouldRejectTamperedTokenWhenOriginalIsCached() {
+        // Arrange
+        String token = JwtObjectMother.createValidToken();
+        decoder.decode(token).block();
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char flipped = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, signatureStart) + flipped + token.substring(signatureStart + 1);
+
+        // Act & Assert
+        StepVerifier.create(decoder.decode(tampered))
+                .expectError(RuntimeException.class)
+                .verify();
+        assertEquals(1, decoder.cachedTokens());
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token without caching it")
+    void shouldRejectExpiredToken() {
+        // Arrange
+        String token = JwtObjectMother.createExpiredToken();
+
+        // Act & Assert
+        StepVerifier.create(decoder.decode(token))
+                .expectError(RuntimeException.class)
+                .verify();
+        assertEquals(0, decoder.cachedTokens());
+    }
+
+    @Test
+    @DisplayName("Should verify every request when the cache is disabled")
+    void shouldNotCacheWhenDisabled() {
+        // Arrange
+        CachingJwtDecoder uncached = new CachingJwtDecoder(jwtUtil, false, MAXIMUM_SIZE, null);
+        String token = JwtObjectMother.createValidToken();
+
+        // Act
+        Jwt first = uncached.decode(token).block();
+        Jwt second = uncached.decode(token).block();
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals(first.getSubject(), second.getSubject());
+        assertEquals(0, uncached.cachedTokens());
+    }
+
+}
@@ -104,4 +104,23 @@ class JwtAuthConverterTest {
         // Act & Assert
         assertThrows(NullPointerException.class, () -> jwtAuthConverter.convert(null));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should share the authorities of tokens with the same roles")
+    void shouldShareAuthoritiesOfSameRoles() {
+        // Arrange
+        Jwt sameRolesJwt = Jwt.withTokenValue(JwtObjectMother.createValidToken())
+                .header(HEADER_ALG, HEADER_ALG_VALUE)
+                .claim(HEADER_SUB, SecurityTestConstants.TEST_ADMIN_USERNAME)
+                .claim(HEADER_ROLES, List.of(SecurityTestConstants.ROLE_USER))
+                .build();
+
+        // Act
+        AbstractAuthenticationToken first = jwtAuthConverter.convert(validJwt).block();
+        AbstractAuthenticationToken second = jwtAuthConverter.convert(sameRolesJwt).block();
+
+        // Assert
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+        assertSame(first.getAuthorities().iterator().next(), second.getAuthorities().iterator().next());
+    }
+}
@@ -0,0 +1,172 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.adapter;
+
+import com.meli.distributed_inventory_management_service.application.constants.ApplicationTestConstants;
+import com.meli.distributed_inventory_management_service.application.mother.ApplicationInventoryMother;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import com.meli.distributed_inventory_management_service.domain.model.Reservation;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.TestPersistenceMapperConfig;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.ReactiveReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.meli.distributed_inventory_management_service.application.constants.ApplicationConstants.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataR2dbcTest
+@Import({ReservationRepositoryAdapter.class, TestPersistenceMapperConfig.class})
+@ActiveProfiles("test")
+class ReservationRepositoryAdapterIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private ReservationRepositoryAdapter adapter;
+
+    @Autowired
+    private ReactiveReservationRepository reservationRepository;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll().block(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Should insert a new reservation and overwrite it when saved again")
+    void shouldUpsertReservation() {
+        // Arrange
+        Reservation pending = ApplicationInventoryMother.createReservationWithStatus(STATUS_PENDING);
+        Reservation reserved = ApplicationInventoryMother.createReservationWithStatus(STATUS_RESERVED);
+
+        // Act
+        Mono<Reservation> result = adapter.save(pending)
+                .then(adapter.save(reserved))
+                .then(adapter.findById(ApplicationTestConstants.RESERVATION_ID));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(reservation -> {
+                    assertEquals(STATUS_RESERVED, reservation.getStatus());
+                    assertEquals(ApplicationTestConstants.QUANTITY, reservation.getQuantity());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should update status with a guarded update only while the reservation is active")
+    void shouldGuardStatusUpdate() {
+        // Arrange
+        adapter.save(ApplicationInventoryMother.createValidReservation()).block(TIMEOUT);
+
+        // Act
+        Mono<Reservation> confirmed = adapter.updateStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_CONFIRMED);
+        Mono<Reservation> releasedAfterConfirm = adapter.updateStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_RELEASED);
+
+        // Assert
+        StepVerifier.create(confirmed)
+                .assertNext(reservation -> assertEquals(STATUS_CONFIRMED, reservation.getStatus()))
+                .verifyComplete();
+        StepVerifier.create(releasedAfterConfirm)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should restore a claimed status only while the reservation is still in it")
+    void shouldRestoreClaimedStatus() {
+        // Arrange
+        adapter.save(ApplicationInventoryMother.createValidReservation()).block(TIMEOUT);
+        adapter.updateStatus(ApplicationTestConstants.RESERVATION_ID, STATUS_CONFIRMED).block(TIMEOUT);
+
+        // Act
+        Mono<Reservation> fromReleased = adapter.restoreStatus(
+                ApplicationTestConstants.RESERVATION_ID, STATUS_RELEASED, STATUS_RESERVED);
+        Mono<Reservation> fromConfirmed = adapter.restoreStatus(
+                ApplicationTestConstants.RESERVATION_ID, STATUS_CONFIRMED, STATUS_RESERVED);
+
+        // Assert
+        StepVerifier.create(fromReleased)
+                .verifyComplete();
+        StepVerifier.create(fromConfirmed)
+                .assertNext(reservation -> assertEquals(STATUS_RESERVED, reservation.getStatus()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should find only active reservations whose expiry has passed")
+    void shouldFindExpiredActiveReservations() {
+        // Arrange
+        adapter.save(ApplicationInventoryMother.createExpiredReservation()).block(TIMEOUT);
+        adapter.save(ApplicationInventoryMother.basicReservation()
+                .reservationId(ApplicationTestConstants.SECOND_RESERVATION_ID)
+                .status(STATUS_CONFIRMED)
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build()).block(TIMEOUT);
+
+        // Act
+        Mono<List<Reservation>> result = adapter.findExpiredReservations().collectList();
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(reservations -> {
+                    assertEquals(1, reservations.size());
+                    assertEquals(ApplicationTestConstants.RESERVATION_ID, reservations.get(0).getReservationId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should move every active reservation of a group in one update")
+    void shouldUpdateGroupStatus() {
+        // Arrange
+        adapter.save(ApplicationInventoryMother.createGroupReservation(ApplicationTestConstants.RESERVATION_ID,
+                ApplicationTestConstants.PRODUCT_ID, STATUS_RESERVED)).block(TIMEOUT);
+        adapter.save(ApplicationInventoryMother.createGroupReservation(ApplicationTestConstants.SECOND_RESERVATION_ID,
+                ApplicationTestConstants.SECOND_PRODUCT_ID, STATUS_RESERVED)).block(TIMEOUT);
+
+        // Act
+        Mono<List<Reservation>> result = adapter.updateGroupStatus(ApplicationTestConstants.GROUP_ID, STATUS_RELEASED)
+                .collectList();
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(reservations -> {
+                    assertEquals(2, reservations.size());
+                    reservations.forEach(reservation -> assertEquals(STATUS_RELEASED, reservation.getStatus()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should read keyset pages in store, product and reservation ID order")
+    void shouldPageAfterCursor() {
+        // Arrange
+        for (String id : List.of("res-3", "res-1", "res-2")) {
+            adapter.save(ApplicationInventoryMother.basicReservation().reservationId(id).build()).block(TIMEOUT);
+        }
+
+        // Act
+        Flux<Reservation> firstPage = adapter.findPage(null, 2);
+        Flux<Reservation> secondPage = adapter.findPage(PageCursor.of(
+                ApplicationTestConstants.STORE_ID, ApplicationTestConstants.PRODUCT_ID, "res-2"), 2);
+
+        // Assert
+        StepVerifier.create(firstPage.map(Reservation::getReservationId))
+                .expectNext("res-1", "res-2")
+                .verifyComplete();
+        StepVerifier.create(secondPage.map(Reservation::getReservationId))
+                .expectNext("res-3")
+                .verifyComplete();
+    }
+
+}
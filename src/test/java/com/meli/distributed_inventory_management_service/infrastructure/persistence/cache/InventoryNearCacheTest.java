@@ -0,0 +1,160 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.cache;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItemMother;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.meli.distributed_inventory_management_service.domain.model.InventoryItemMother.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryNearCacheTest {
+
+    private static final long MAXIMUM_SIZE = 100;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(1);
+
+    private MeterRegistry meterRegistry;
+    private InventoryNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        nearCache = new InventoryNearCache(true, MAXIMUM_SIZE, EXPIRE_AFTER_WRITE,
+                beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    @DisplayName("Should return the cached item for its product and store")
+    void shouldReturnCachedItem() {
+        // Arrange
+        InventoryItem item = basicItem();
+
+        // Act
+        nearCache.put(item);
+
+        // Assert
+        assertEquals(item, nearCache.get(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID));
+        assertNull(nearCache.get(DEFAULT_PRODUCT_ID, "other-store"));
+    }
+
+    @Test
+    @DisplayName("Should keep the newer version when an older item is put afterwards")
+    void shouldNotReplaceNewerVersionWithOlder() {
+        // Arrange
+        InventoryItem newer = withVersion(5L);
+        InventoryItem older = withVersion(4L);
+
+        // Act
+        nearCache.put(newer);
+        nearCache.put(older);
+
+        // Assert
+        assertEquals(5L, nearCache.get(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID).getVersion());
+    }
+
+    @Test
+    @DisplayName("Should drop the entry when invalidated by item id")
+    void shouldInvalidateById() {
+        // Arrange
+        nearCache.put(basicItem());
+
+        // Act
+        nearCache.invalidateById(DEFAULT_ID);
+
+        // Assert
+        assertNull(nearCache.get(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID));
+    }
+
+    @Test
+    @DisplayName("Should cache a transactional write only once its transaction commits")
+    void shouldPutOnlyAfterCommit() {
+        // Arrange
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///near-cache-" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        TransactionalOperator transaction = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+        InventoryItem item = basicItem();
+
+        // Act
+        Mono<InventoryItem> rolledBack = nearCache.putAfterCommit(item)
+                .doOnNext(ignored -> assertNull(nearCache.get(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID)))
+                .then(Mono.<InventoryItem>error(new IllegalStateException("rollback")))
+                .as(transaction::transactional);
+        Mono<InventoryItem> committed = nearCache.putAfterCommit(item)
+                .as(transaction::transactional);
+
+        // Assert
+        StepVerifier.create(rolledBack)
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertNull(nearCache.get(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID));
+
+        StepVerifier.create(committed)
+                .expectNext(item)
+                .verifyComplete();
+        assertEquals(item, nearCache.get(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID));
+    }
+
+    @Test
+    @DisplayName("Should not drop an entry cached again for another item id")
+    void shouldInvalidateByIdOnlyTheIndexedEntry() {
+        // Arrange
+        nearCache.put(basicItem());
+        nearCache.invalidate(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID);
+        InventoryItem recreated = basic().id("recreated-id").build();
+        nearCache.put(recreated);
+
+        // Act
+        nearCache.invalidateById(DEFAULT_ID);
+
+        // Assert
+        assertEquals(recreated, nearCache.get(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID));
+    }
+
+    @Test
+    @DisplayName("Should publish hit and miss counts as cache metrics")
+    void shouldPublishHitAndMissMetrics() {
+        // Arrange
+        nearCache.put(basicItem());
+
+        // Act
+        nearCache.get(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID);
+        nearCache.get(DEFAULT_PRODUCT_ID, "other-store");
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", InventoryNearCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", InventoryNearCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", InventoryNearCache.CACHE_NAME).meter());
+    }
+
+    @Test
+    @DisplayName("Should ignore puts and lookups when disabled")
+    void shouldBypassWhenDisabled() {
+        // Arrange
+        InventoryNearCache disabled = InventoryNearCache.disabled();
+
+        // Act
+        disabled.put(InventoryItemMother.basicItem());
+
+        // Assert
+        assertNull(disabled.get(DEFAULT_PRODUCT_ID, DEFAULT_STORE_ID));
+        assertEquals(0, disabled.size());
+    }
+
+}
@@ -0,0 +1,263 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.eventlog;
+
+import com.meli.distributed_inventory_management_service.application.constants.ApplicationTestConstants;
+import com.meli.distributed_inventory_management_service.application.mother.ApplicationInventoryMother;
+import com.meli.distributed_inventory_management_service.domain.model.EventStatus;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryUpdateEvent;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileEventLogRepositoryTest {
+
+    private static final DataSize SEGMENT_SIZE = DataSize.ofKilobytes(64);
+    private static final DataSize SMALL_SEGMENT_SIZE = DataSize.ofBytes(512);
+    private static final Duration RETENTION = Duration.ofDays(1);
+
+    @TempDir
+    Path directory;
+
+    private FileEventLogRepository repository;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (repository != null) {
+            repository.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should read back every field of a saved event")
+    void shouldRoundTripEvent() {
+        // Arrange
+        repository = open(SEGMENT_SIZE);
+        InventoryUpdateEvent event = ApplicationInventoryMother.basicEvent().build();
+
+        // Act
+        Mono<InventoryUpdateEvent> result = repository.save(event)
+                .then(repository.findById(ApplicationTestConstants.EVENT_ID));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(event)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should append status changes and rebuild the latest state after reopening")
+    void shouldAppendStatusChangeAndRecover() throws IOException {
+        // Arrange
+        repository = open(SEGMENT_SIZE);
+        repository.save(ApplicationInventoryMother.basicEvent().build()).block();
+        long sizeAfterSave = logSize();
+
+        // Act
+        repository.updateStatus(ApplicationTestConstants.EVENT_ID, EventStatus.PROCESSED.name(), null).block();
+        long sizeAfterUpdate = logSize();
+        repository.destroy();
+        repository = open(SEGMENT_SIZE);
+
+        // Assert
+        assertTrue(sizeAfterUpdate > sizeAfterSave);
+        StepVerifier.create(repository.findById(ApplicationTestConstants.EVENT_ID))
+                .assertNext(event -> assertEquals(EventStatus.PROCESSED, event.getStatus()))
+                .verifyComplete();
+        StepVerifier.create(repository.findByStatus(EventStatus.PENDING.name()))
+                .verifyComplete();
+        StepVerifier.create(repository.findByStatus(EventStatus.PROCESSED.name()))
+                .assertNext(event -> assertEquals(ApplicationTestConstants.EVENT_ID, event.getEventId()))
+                .verifyComplete();
+        StepVerifier.create(repository.findByCorrelationId(ApplicationTestConstants.CORRELATION_ID))
+                .assertNext(event -> assertEquals(EventStatus.PROCESSED, event.getStatus()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should roll to a new segment when the active one is full")
+    void shouldRollSegments() {
+        // Arrange
+        repository = open(SMALL_SEGMENT_SIZE);
+
+        // Act
+        saveEvents(20);
+
+        // Assert
+        assertTrue(repository.segmentCount() > 1);
+        StepVerifier.create(repository.findAll().count())
+                .expectNext(20L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should write a batch across segment rolls and recover every event of it")
+    void shouldSaveBatchAcrossSegments() throws IOException {
+        // Arrange
+        repository = open(SMALL_SEGMENT_SIZE);
+        List<InventoryUpdateEvent> events = IntStream.range(0, 20)
+                .mapToObj(i -> ApplicationInventoryMother.basicEvent().eventId("event-" + i).build())
+                .toList();
+
+        // Act
+        repository.saveAll(events).blockLast();
+        repository.destroy();
+        repository = open(SMALL_SEGMENT_SIZE);
+
+        // Assert
+        assertTrue(repository.segmentCount() > 1);
+        for (InventoryUpdateEvent event : events) {
+            StepVerifier.create(repository.findById(event.getEventId()))
+                    .expectNext(event)
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    @DisplayName("Should delete segments older than the retention when a segment is rolled")
+    void shouldApplyRetentionOnRoll() throws IOException {
+        // Arrange
+        repository = open(SMALL_SEGMENT_SIZE);
+        saveEvents(20);
+        repository.destroy();
+        for (Path segment : segmentFiles()) {
+            Files.setLastModifiedTime(segment, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        }
+        repository = open(SMALL_SEGMENT_SIZE);
+
+        // Act
+        saveEvents(20);
+
+        // Assert
+        assertFalse(Files.exists(directory.resolve(EventLogSegment.fileName(0))));
+        StepVerifier.create(repository.findById("event-0"))
+                .assertNext(event -> assertEquals(EventStatus.PENDING, event.getStatus()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should drop the index entries of events whose latest record was in a deleted segment")
+    void shouldForgetEventsOfDeletedSegments() throws IOException {
+        // Arrange
+        repository = open(SMALL_SEGMENT_SIZE);
+        saveEvents(20);
+        repository.destroy();
+        for (Path segment : segmentFiles()) {
+            Files.setLastModifiedTime(segment, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        }
+        repository = open(SMALL_SEGMENT_SIZE);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            repository.save(ApplicationInventoryMother.basicEvent().eventId("new-event-" + i).build()).block();
+        }
+
+        // Assert
+        StepVerifier.create(repository.findById("event-0"))
+                .verifyComplete();
+        StepVerifier.create(repository.findByStatus(EventStatus.PENDING.name())
+                        .filter(event -> !event.getEventId().startsWith("new-"))
+                        .count())
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should append on the writer thread instead of the caller's")
+    void shouldAppendOnWriterThread() {
+        // Arrange
+        repository = open(SEGMENT_SIZE);
+
+        // Act
+        Mono<String> result = repository.save(ApplicationInventoryMother.basicEvent().build())
+                .map(saved -> Thread.currentThread().getName());
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(thread -> assertTrue(thread.startsWith("event-log-writer")))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should truncate a torn record at the end of the log when reopening")
+    void shouldTruncateTornTail() throws IOException {
+        // Arrange
+        repository = open(SEGMENT_SIZE);
+        saveEvents(2);
+        repository.destroy();
+        long validSize = logSize();
+        Files.write(segmentFiles().get(0), new byte[]{0, 0, 0, 64, 1, 2}, StandardOpenOption.APPEND);
+
+        // Act
+        repository = open(SEGMENT_SIZE);
+
+        // Assert
+        assertEquals(validSize, logSize());
+        StepVerifier.create(repository.findAll().count())
+                .expectNext(2L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should rebuild keyset page order after reopening")
+    void shouldPageAfterReopening() throws IOException {
+        // Arrange
+        repository = open(SEGMENT_SIZE);
+        saveEvents(5);
+        repository.updateStatus("event-1", EventStatus.PROCESSED.name(), null).block();
+        repository.destroy();
+        repository = open(SEGMENT_SIZE);
+        InventoryUpdateEvent first = ApplicationInventoryMother.basicEvent().build();
+
+        // Act
+        Flux<InventoryUpdateEvent> result = repository.findPage(
+                PageCursor.of(first.getStoreId(), first.getProductId(), "event-0"), 2);
+
+        // Assert
+        StepVerifier.create(result.map(InventoryUpdateEvent::getEventId))
+                .expectNext("event-1", "event-2")
+                .verifyComplete();
+    }
+
+    private FileEventLogRepository open(DataSize segmentSize) {
+        return new FileEventLogRepository(directory.toString(), segmentSize, RETENTION, false);
+    }
+
+    private void saveEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            repository.save(ApplicationInventoryMother.basicEvent().eventId("event-" + i).build()).block();
+        }
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private long logSize() throws IOException {
+        long size = 0;
+        for (Path segment : segmentFiles()) {
+            size += Files.size(segment);
+        }
+        return size;
+    }
+
+}
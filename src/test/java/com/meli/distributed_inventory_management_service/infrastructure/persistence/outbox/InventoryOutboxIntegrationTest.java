@@ -0,0 +1,153 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meli.distributed_inventory_management_service.application.port.InventoryChangePublisherPort;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChange;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryChangeType;
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.InventoryRepositorySliceConfig;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.InventoryFixtures;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.SpringDataInventoryRepository;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.TestDataFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataR2dbcTest
+@Import(InventoryRepositorySliceConfig.class)
+@ActiveProfiles("test")
+class InventoryOutboxIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String PRODUCT_ID = "outbox-prod";
+    private static final String STORE_ID = "outbox-store";
+    private static final String OTHER_PRODUCT_ID = "outbox-prod-2";
+    private static final int BATCH_SIZE = 2;
+
+    @Autowired
+    private SpringDataInventoryRepository repository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @TempDir
+    Path directory;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        databaseClient.sql("DELETE FROM inventory_outbox").fetch().rowsUpdated().block(TIMEOUT);
+        InventoryFixtures fixtures = new InventoryFixtures(databaseClient);
+        fixtures.deleteByStore(STORE_ID);
+        fixtures.insert(
+                TestDataFactory.createInventoryEntity("outbox-item-1", PRODUCT_ID, STORE_ID, 10, 0),
+                TestDataFactory.createInventoryEntity("outbox-item-2", OTHER_PRODUCT_ID, STORE_ID, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Should write an outbox row in the same transaction as a successful reservation")
+    void shouldWriteOutboxRowWithUpdate() {
+        // Act
+        InventoryItem reserved = repository.reserveStockIfAvailable(PRODUCT_ID, STORE_ID, 3).block(TIMEOUT);
+
+        // Assert
+        List<InventoryChange> changes = relay(new FileInventoryChangePublisher(new ObjectMapper().findAndRegisterModules(),
+                directory.resolve("changes.ndjson").toString()));
+        assertEquals(1, changes.size());
+        assertEquals(InventoryChangeType.STOCK_RESERVED, changes.get(0).getChangeType());
+        assertEquals(reserved.getVersion(), changes.get(0).getVersion());
+        assertEquals(3, changes.get(0).getReservedStock());
+    }
+
+    @Test
+    @DisplayName("Should roll back the outbox rows together with a rejected multi-line reservation")
+    void shouldRollBackOutboxWithRejectedLines() {
+        // Act
+        Mono<List<InventoryItem>> result = repository.reserveStockLines(List.of(
+                new StockLine(PRODUCT_ID, STORE_ID, 2),
+                new StockLine(OTHER_PRODUCT_ID, STORE_ID, 5)));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalStateException.class)
+                .verify(TIMEOUT);
+        assertEquals(0L, outboxSize());
+        StepVerifier.create(repository.findById("outbox-item-1"))
+                .assertNext(item -> assertEquals(0, item.getReservedStock()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should publish the outbox in id order in batches and delete what was published")
+    void shouldRelayInBatches() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            repository.reserveStockIfAvailable(PRODUCT_ID, STORE_ID, 1).block(TIMEOUT);
+        }
+        FileInventoryChangePublisher publisher = new FileInventoryChangePublisher(
+                new ObjectMapper().findAndRegisterModules(), directory.resolve("changes.ndjson").toString());
+
+        // Act
+        List<InventoryChange> changes = relay(publisher);
+
+        // Assert
+        assertEquals(List.of(1, 2, 3, 4, 5), changes.stream().map(InventoryChange::getReservedStock).toList());
+        assertEquals(0L, outboxSize());
+        assertEquals(5.0, meterRegistry.get("inventory.outbox.relayed").counter().count());
+        assertEquals(3L, meterRegistry.get("inventory.outbox.batch.size").summary().count());
+        assertEquals(5L, meterRegistry.get("inventory.outbox.lag").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should keep the outbox rows when the publisher fails")
+    void shouldKeepRowsWhenPublisherFails() {
+        // Arrange
+        repository.reserveStockIfAvailable(PRODUCT_ID, STORE_ID, 1).block(TIMEOUT);
+        InventoryChangePublisherPort failing = changes -> Mono.error(new IllegalStateException("broker down"));
+        OutboxRelay relay = new OutboxRelay(databaseClient, failing, meterRegistry, true, TIMEOUT, BATCH_SIZE);
+
+        // Act
+        Mono<Long> result = relay.drain();
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(0L)
+                .verifyComplete();
+        assertEquals(1L, outboxSize());
+        assertEquals(1.0, meterRegistry.get("inventory.outbox.publish.failed").counter().count());
+    }
+
+    private List<InventoryChange> relay(FileInventoryChangePublisher publisher) {
+        OutboxRelay relay = new OutboxRelay(databaseClient, publisher, meterRegistry, true, TIMEOUT, BATCH_SIZE);
+        relay.drain().block(TIMEOUT);
+        relay.destroy();
+        return publisher.readAll();
+    }
+
+    private long outboxSize() {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM inventory_outbox")
+                .map((row, metadata) -> row.get("total", Long.class))
+                .one()
+                .block(TIMEOUT);
+    }
+
+}
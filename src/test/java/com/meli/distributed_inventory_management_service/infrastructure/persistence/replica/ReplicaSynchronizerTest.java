@@ -0,0 +1,153 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.replica;
+
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.ConnectionRoute;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.ReadWriteConnectionFactory;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.Replica;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.ReplicationClock;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.entity.InventoryEntity;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.InventoryFixtures;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.repository.TestDataFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReplicaSynchronizer Unit Tests")
+class ReplicaSynchronizerTest {
+
+    private static final String PRODUCT_ID = "PROD-REPLICA";
+    private static final String STORE_ID = "STORE-REPLICA";
+    private static final String STOCK_SQL = "SELECT current_stock FROM inventory_items WHERE product_id = :productId";
+
+    private ReplicationClock clock;
+    private ReadWriteConnectionFactory connectionFactory;
+    private ReplicaSynchronizer synchronizer;
+    private DatabaseClient primary;
+    private DatabaseClient replicaClient;
+    private DatabaseClient routed;
+    private Replica replica;
+
+    @BeforeEach
+    void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        String suffix = UUID.randomUUID().toString();
+        ConnectionPool primaryPool = pool("r2dbc:h2:mem:///primary-" + suffix + "?options=DB_CLOSE_DELAY=-1");
+        Map<ConnectionRoute, ConnectionPool> pools = new EnumMap<>(ConnectionRoute.class);
+        pools.put(ConnectionRoute.WRITE, primaryPool);
+        pools.put(ConnectionRoute.READ, pool("r2dbc:h2:mem:///primary-" + suffix + "?options=DB_CLOSE_DELAY=-1"));
+        replica = new Replica("replica-1", pool("r2dbc:h2:mem:///replica-" + suffix + "?options=DB_CLOSE_DELAY=-1"));
+        connectionFactory = new ReadWriteConnectionFactory(pools, List.of(replica), Duration.ofMinutes(1),
+                meterRegistry);
+        clock = new ReplicationClock(true);
+        synchronizer = new ReplicaSynchronizer(connectionFactory, clock, meterRegistry, true, Duration.ofSeconds(1));
+
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(primaryPool).block();
+        synchronizer.initialize().block();
+        primary = DatabaseClient.create(primaryPool);
+        replicaClient = DatabaseClient.create(replica.getPool());
+        routed = DatabaseClient.create(connectionFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        synchronizer.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("Should copy the primary's rows to the replica and record the version it applied")
+    void shouldCopyPrimaryToReplica() {
+        // Arrange
+        insertItem(10);
+        long version = clock.advance();
+
+        // Act
+        synchronizer.refresh().block();
+
+        // Assert
+        assertEquals(10, stock(replicaClient, 0));
+        assertEquals(version, replica.getAppliedVersion());
+        assertTrue(replica.lagNanos() < Duration.ofMinutes(1).toNanos());
+    }
+
+    @Test
+    @DisplayName("Should replace the replica's rows, removing those deleted on the primary")
+    void shouldReplaceReplicaRows() {
+        // Arrange
+        insertItem(10);
+        synchronizer.refresh().block();
+        primary.sql("DELETE FROM inventory_items").fetch().rowsUpdated().block();
+
+        // Act
+        synchronizer.refresh().block();
+
+        // Assert
+        assertEquals(0L, replicaClient.sql("SELECT COUNT(*) FROM inventory_items")
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one()
+                .block());
+    }
+
+    @Test
+    @DisplayName("Should serve a routed read from the stale replica unless it carries the caller's newer write")
+    void shouldReadOwnWriteFromPrimaryUntilReplicated() {
+        // Arrange
+        insertItem(10);
+        synchronizer.refresh().block();
+        primary.sql("UPDATE inventory_items SET current_stock = 25").fetch().rowsUpdated().block();
+        long written = clock.advance();
+
+        // Act
+        int anyReplica = stock(routed, 0);
+        int ownWrite = stock(routed, written);
+        synchronizer.refresh().block();
+        int replicated = stock(routed, written);
+
+        // Assert
+        assertEquals(10, anyReplica);
+        assertEquals(25, ownWrite);
+        assertEquals(25, replicated);
+        assertEquals(25, stock(replicaClient, 0));
+    }
+
+    private void insertItem(int stock) {
+        InventoryEntity entity = TestDataFactory.createInventoryEntity("INV_" + UUID.randomUUID(), PRODUCT_ID,
+                STORE_ID, stock, 0);
+        entity.setMinimumStockLevel(null);
+        new InventoryFixtures(primary).insert(entity);
+    }
+
+    private static int stock(DatabaseClient client, long minVersion) {
+        return client.sql(STOCK_SQL)
+                .bind("productId", PRODUCT_ID)
+                .map((row, metadata) -> row.get(0, Integer.class))
+                .one()
+                .contextWrite(ConnectionRoute.READ.context())
+                .contextWrite(ReplicationClock.readingAfter(minVersion))
+                .block();
+    }
+
+    private static ConnectionPool pool(String url) {
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(url))
+                .maxSize(2)
+                .maxAcquireTime(Duration.ofSeconds(5))
+                .build());
+    }
+
+}
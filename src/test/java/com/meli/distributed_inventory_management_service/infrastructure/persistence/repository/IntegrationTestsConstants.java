@@ -10,6 +10,7 @@ public class IntegrationTestsConstants {
     public static final String NATIVE_PRODUCT_ID = "native-prod-1";
     public static final String NATIVE_STORE_ID = "native-store-1";
     public static final String DIFFERENT_STORE_ID = "different-store";
+    public static final String BATCH_PRODUCT_ID = "native-prod-2";
     public static final String LOW_STOCK_ITEM_ID = "low-stock-item";
     public static final String OVERSTOCK_ITEM_ID = "overstock-item";
     // Stock values
@@ -0,0 +1,52 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.repository;
+
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.entity.InventoryEntity;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+
+import java.time.Duration;
+import java.util.List;
+
+public class InventoryFixtures {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String INSERT_SQL = """
+            INSERT INTO inventory_items (id, product_id, store_id, current_stock, reserved_stock,
+                minimum_stock_level, maximum_stock_level, last_updated, version)
+            VALUES (:id, :productId, :storeId, :currentStock, :reservedStock, :minimumStockLevel,
+                :maximumStockLevel, :lastUpdated, :version)
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public InventoryFixtures(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public void insert(InventoryEntity... entities) {
+        for (InventoryEntity entity : entities) {
+            databaseClient.sql(INSERT_SQL)
+                    .bind("id", entity.getId())
+                    .bind("productId", entity.getProductId())
+                    .bind("storeId", entity.getStoreId())
+                    .bind("currentStock", entity.getCurrentStock())
+                    .bind("reservedStock", entity.getReservedStock())
+                    .bind("minimumStockLevel", Parameter.fromOrEmpty(entity.getMinimumStockLevel(), Integer.class))
+                    .bind("maximumStockLevel", Parameter.fromOrEmpty(entity.getMaximumStockLevel(), Integer.class))
+                    .bind("lastUpdated", entity.getLastUpdated())
+                    .bind("version", entity.getVersion())
+                    .fetch()
+                    .rowsUpdated()
+                    .block(TIMEOUT);
+        }
+    }
+
+    public void deleteByStore(String... storeIds) {
+        databaseClient.sql("DELETE FROM inventory_items WHERE store_id IN (:storeIds)")
+                .bind("storeIds", List.of(storeIds))
+                .fetch()
+                .rowsUpdated()
+                .block(TIMEOUT);
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.repository;
+
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.InventoryRepositorySliceConfig;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.cache.InventoryNearCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DataR2dbcTest
+@Import(InventoryRepositorySliceConfig.class)
+@ActiveProfiles("test")
+class SpringDataInventoryRepositoryAvailabilityTest {
+
+    private static final String STORE_ID = "zz-available-store";
+
+    @Autowired
+    private SpringDataInventoryRepository repository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private InventoryNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        InventoryFixtures fixtures = new InventoryFixtures(databaseClient);
+        fixtures.deleteByStore(STORE_ID);
+        nearCache.invalidateAll();
+        fixtures.insert(
+                TestDataFactory.createInventoryEntity("available-1", "prod-in-stock", STORE_ID, 40, 15),
+                TestDataFactory.createInventoryEntity("available-2", "prod-oversold", STORE_ID, 5, 8));
+    }
+
+    @Test
+    @DisplayName("Should read current minus reserved stock without loading the item")
+    void shouldReadAvailableStock() {
+        // Act
+        Mono<Integer> result = repository.findAvailableStock("prod-in-stock", STORE_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(25)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should clamp available stock at zero when more is reserved than in stock")
+    void shouldClampAvailableStockAtZero() {
+        // Act
+        Mono<Integer> result = repository.findAvailableStock("prod-oversold", STORE_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(0)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should complete empty when the item does not exist")
+    void shouldCompleteEmptyForMissingItem() {
+        // Act
+        Mono<Integer> result = repository.findAvailableStock("prod-missing", STORE_ID);
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.repository;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.InventoryRepositorySliceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataR2dbcTest
+@Import(InventoryRepositorySliceConfig.class)
+@ActiveProfiles("test")
+class SpringDataInventoryRepositoryCreateTest {
+
+    private static final String STORE_ID = "zz-create-store";
+
+    @Autowired
+    private SpringDataInventoryRepository repository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        new InventoryFixtures(databaseClient).deleteByStore(STORE_ID);
+    }
+
+    @Test
+    @DisplayName("Should insert an item without ID under a generated ID and read it back")
+    void shouldInsertItemWithoutId() {
+        // Arrange
+        InventoryItem newItem = InventoryItem.builder()
+                .productId("prod-new")
+                .storeId(STORE_ID)
+                .currentStock(25)
+                .reservedStock(0)
+                .minimumStockLevel(0)
+                .maximumStockLevel(1000)
+                .lastUpdated(LocalDateTime.now())
+                .version(0L)
+                .build();
+
+        // Act
+        Mono<InventoryItem> result = repository.save(newItem)
+                .flatMap(saved -> repository.findById(saved.getId()));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(saved -> {
+                    assertTrue(saved.getId().startsWith("INV_"));
+                    assertEquals("prod-new", saved.getProductId());
+                    assertEquals(25, saved.getCurrentStock());
+                    assertEquals(0L, saved.getVersion());
+                })
+                .verifyComplete();
+    }
+
+}
@@ -4,8 +4,10 @@ import com.meli.distributed_inventory_management_service.domain.model.InventoryI
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItemMother;
 import com.meli.distributed_inventory_management_service.infrastructure.config.database.TestContainersConfig;
 import com.meli.distributed_inventory_management_service.infrastructure.config.database.TestPersistenceMapperConfig;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.cache.InventoryNearCache;
 import com.meli.distributed_inventory_management_service.infrastructure.persistence.entity.InventoryEntity;
 import com.meli.distributed_inventory_management_service.infrastructure.persistence.entity.InventoryEntityMother;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.outbox.InventoryOutbox;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,7 +27,8 @@ import java.time.Duration;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataR2dbcTest
-@Import({TestContainersConfig.class, SpringDataInventoryRepository.class, TestPersistenceMapperConfig.class})
+@Import({TestContainersConfig.class, SpringDataInventoryRepository.class, TestPersistenceMapperConfig.class,
+        InventoryNearCache.class, VersionedWriteMetrics.class, InventoryOutbox.class})
 @ActiveProfiles("testcontainers")
 class SpringDataInventoryRepositoryIntegrationTest {
 
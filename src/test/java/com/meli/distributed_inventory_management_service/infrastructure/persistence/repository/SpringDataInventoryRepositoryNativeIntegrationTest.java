@@ -2,10 +2,14 @@ package com.meli.distributed_inventory_management_service.infrastructure.persist
 
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
 import com.meli.distributed_inventory_management_service.domain.model.InventoryItemMother;
+import com.meli.distributed_inventory_management_service.domain.model.StockLine;
+import com.meli.distributed_inventory_management_service.domain.model.VersionedWrite;
 import com.meli.distributed_inventory_management_service.infrastructure.config.database.TestContainersConfig;
 import com.meli.distributed_inventory_management_service.infrastructure.config.database.TestPersistenceMapperConfig;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.cache.InventoryNearCache;
 import com.meli.distributed_inventory_management_service.infrastructure.persistence.entity.InventoryEntity;
 import com.meli.distributed_inventory_management_service.infrastructure.persistence.entity.InventoryEntityMother;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.outbox.InventoryOutbox;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,11 +22,13 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @DataR2dbcTest
-@Import({TestContainersConfig.class, SpringDataInventoryRepository.class, TestPersistenceMapperConfig.class})
+@Import({TestContainersConfig.class, SpringDataInventoryRepository.class, TestPersistenceMapperConfig.class,
+        InventoryNearCache.class, VersionedWriteMetrics.class, InventoryOutbox.class})
 @ActiveProfiles("testcontainers")
 class SpringDataInventoryRepositoryNativeIntegrationTest {
 
@@ -105,4 +111,134 @@ class SpringDataInventoryRepositoryNativeIntegrationTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    @DisplayName("Should reserve stock with guarded update when available")
+    void shouldReserveStockWhenAvailable() {
+        // Act
+        Mono<InventoryItem> result = repository.reserveStockIfAvailable(
+                IntegrationTestsConstants.NATIVE_PRODUCT_ID,
+                IntegrationTestsConstants.NATIVE_STORE_ID,
+                IntegrationTestsConstants.QUANTITY_TO_RESERVE
+        );
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(item -> {
+                    assertEquals(IntegrationTestsConstants.INITIAL_RESERVED_STOCK
+                            + IntegrationTestsConstants.QUANTITY_TO_RESERVE, item.getReservedStock());
+                    assertEquals(testEntity.getVersion() + 1, item.getVersion());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not update any row when reservation exceeds available stock")
+    void shouldNotReserveStockWhenInsufficient() {
+        // Act
+        Mono<InventoryItem> result = repository.reserveStockIfAvailable(
+                IntegrationTestsConstants.NATIVE_PRODUCT_ID,
+                IntegrationTestsConstants.NATIVE_STORE_ID,
+                IntegrationTestsConstants.INITIAL_CURRENT_STOCK
+        );
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+        StepVerifier.create(jpaRepository.findById(IntegrationTestsConstants.NATIVE_TEST_ITEM_ID))
+                .assertNext(entity -> assertEquals(IntegrationTestsConstants.INITIAL_RESERVED_STOCK, entity.getReservedStock()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should release reserved stock with guarded update when held")
+    void shouldReleaseReservedStockWhenHeld() {
+        // Act
+        Mono<InventoryItem> result = repository.releaseReservedStockIfHeld(
+                IntegrationTestsConstants.NATIVE_PRODUCT_ID,
+                IntegrationTestsConstants.NATIVE_STORE_ID,
+                IntegrationTestsConstants.QUANTITY_TO_RELEASE
+        );
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(item -> assertEquals(IntegrationTestsConstants.INITIAL_RESERVED_STOCK
+                        - IntegrationTestsConstants.QUANTITY_TO_RELEASE, item.getReservedStock()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reserve every stock line with one guarded multi-row update")
+    void shouldReserveAllStockLines() {
+        // Arrange
+        jpaRepository.save(TestDataFactory.createInventoryEntity(IntegrationTestsConstants.BATCH_PRODUCT_ID,
+                        IntegrationTestsConstants.NATIVE_STORE_ID, IntegrationTestsConstants.INITIAL_CURRENT_STOCK, null))
+                .block(Duration.ofSeconds(IntegrationTestsConstants.TEST_TIMEOUT_SECONDS));
+        List<StockLine> lines = List.of(
+                new StockLine(IntegrationTestsConstants.NATIVE_PRODUCT_ID, IntegrationTestsConstants.NATIVE_STORE_ID,
+                        IntegrationTestsConstants.QUANTITY_TO_RESERVE),
+                new StockLine(IntegrationTestsConstants.BATCH_PRODUCT_ID, IntegrationTestsConstants.NATIVE_STORE_ID,
+                        IntegrationTestsConstants.QUANTITY_TO_RESERVE));
+
+        // Act
+        Mono<List<InventoryItem>> result = repository.reserveStockLines(lines);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(items -> {
+                    assertEquals(lines.size(), items.size());
+                    items.forEach(item -> assertEquals(IntegrationTestsConstants.INITIAL_RESERVED_STOCK
+                            + IntegrationTestsConstants.QUANTITY_TO_RESERVE, item.getReservedStock()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should roll back every stock line when one line lacks available stock")
+    void shouldRollBackAllStockLinesWhenOneFails() {
+        // Arrange
+        jpaRepository.save(TestDataFactory.createInventoryEntity(IntegrationTestsConstants.BATCH_PRODUCT_ID,
+                        IntegrationTestsConstants.NATIVE_STORE_ID, IntegrationTestsConstants.LOW_STOCK_VALUE, null))
+                .block(Duration.ofSeconds(IntegrationTestsConstants.TEST_TIMEOUT_SECONDS));
+        List<StockLine> lines = List.of(
+                new StockLine(IntegrationTestsConstants.NATIVE_PRODUCT_ID, IntegrationTestsConstants.NATIVE_STORE_ID,
+                        IntegrationTestsConstants.QUANTITY_TO_RESERVE),
+                new StockLine(IntegrationTestsConstants.BATCH_PRODUCT_ID, IntegrationTestsConstants.NATIVE_STORE_ID,
+                        IntegrationTestsConstants.INITIAL_CURRENT_STOCK));
+
+        // Act
+        Mono<List<InventoryItem>> result = repository.reserveStockLines(lines);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(jpaRepository.findById(IntegrationTestsConstants.NATIVE_TEST_ITEM_ID))
+                .assertNext(entity -> assertEquals(IntegrationTestsConstants.INITIAL_RESERVED_STOCK, entity.getReservedStock()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should apply matching writes of a batch and leave out the one with a stale version")
+    void shouldUpdateAllWithVersionCheck() {
+        // Arrange
+        InventoryItem updated = InventoryItemMother.createNativeTestItem(testEntity);
+
+        // Act
+        Mono<List<InventoryItem>> result = repository.updateAllWithVersionCheck(List.of(
+                        new VersionedWrite(updated, testEntity.getVersion()),
+                        new VersionedWrite(updated, testEntity.getVersion() + IntegrationTestsConstants.WRONG_VERSION_OFFSET)))
+                .collectList();
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(items -> {
+                    assertEquals(IntegrationTestsConstants.UNIT_EXPECT, items.size());
+                    assertEquals(testEntity.getVersion() + 1, items.get(0).getVersion());
+                })
+                .verifyComplete();
+        StepVerifier.create(jpaRepository.findById(IntegrationTestsConstants.NATIVE_TEST_ITEM_ID))
+                .assertNext(entity -> assertEquals(IntegrationTestsConstants.NATIVE_UPDATED_STOCK, entity.getCurrentStock()))
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,100 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.repository;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.cache.InventoryNearCache;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.entity.InventoryEntity;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.entity.InventoryEntityMother;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.mapper.PersistenceInventoryMapper;
+import com.meli.distributed_inventory_management_service.infrastructure.persistence.outbox.InventoryOutbox;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpringDataInventoryRepositoryNearCacheTest {
+
+    private static final long MAXIMUM_SIZE = 100;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(1);
+
+    @Mock
+    private ReactiveInventoryJpaRepository jpaRepository;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    private InventoryNearCache nearCache;
+    private SpringDataInventoryRepository repository;
+    private InventoryEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new InventoryNearCache(true, MAXIMUM_SIZE, EXPIRE_AFTER_WRITE,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        repository = new SpringDataInventoryRepository(jpaRepository, databaseClient,
+                Mappers.getMapper(PersistenceInventoryMapper.class), nearCache, InventoryOutbox.disabled(),
+                VersionedWriteMetrics.disabled());
+        entity = InventoryEntityMother.createDefaultTestEntity();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated product and store lookups from the near cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        // Arrange
+        when(jpaRepository.findByProductIdAndStoreId(IntegrationTestsConstants.TEST_PRODUCT_ID,
+                IntegrationTestsConstants.TEST_STORE_ID)).thenReturn(Mono.just(entity));
+
+        // Act
+        Mono<InventoryItem> first = repository.findByProductAndStore(
+                IntegrationTestsConstants.TEST_PRODUCT_ID, IntegrationTestsConstants.TEST_STORE_ID);
+        Mono<InventoryItem> second = repository.findByProductAndStore(
+                IntegrationTestsConstants.TEST_PRODUCT_ID, IntegrationTestsConstants.TEST_STORE_ID);
+
+        // Assert
+        StepVerifier.create(first.then(second))
+                .assertNext(item -> assertEquals(IntegrationTestsConstants.TEST_ITEM_ID, item.getId()))
+                .verifyComplete();
+
+        verify(jpaRepository, times(1)).findByProductIdAndStoreId(
+                IntegrationTestsConstants.TEST_PRODUCT_ID, IntegrationTestsConstants.TEST_STORE_ID);
+    }
+
+    @Test
+    @DisplayName("Should refresh the near cache with the row returned by a guarded reservation")
+    void shouldRefreshCacheAfterGuardedReservation() {
+        // Arrange
+        InventoryEntity reserved = InventoryEntityMother.createDefaultTestEntity();
+        reserved.setReservedStock(IntegrationTestsConstants.INITIAL_RESERVED_STOCK + IntegrationTestsConstants.QUANTITY_TO_RESERVE);
+        reserved.setVersion(IntegrationTestsConstants.INITIAL_VERSION + 1);
+        when(jpaRepository.reserveStockIfAvailable(IntegrationTestsConstants.TEST_PRODUCT_ID,
+                IntegrationTestsConstants.TEST_STORE_ID, IntegrationTestsConstants.QUANTITY_TO_RESERVE))
+                .thenReturn(Mono.just(reserved));
+
+        // Act
+        Mono<InventoryItem> result = repository.reserveStockIfAvailable(IntegrationTestsConstants.TEST_PRODUCT_ID,
+                        IntegrationTestsConstants.TEST_STORE_ID, IntegrationTestsConstants.QUANTITY_TO_RESERVE)
+                .then(repository.findByProductAndStore(
+                        IntegrationTestsConstants.TEST_PRODUCT_ID, IntegrationTestsConstants.TEST_STORE_ID));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(item -> assertEquals(reserved.getReservedStock(), item.getReservedStock()))
+                .verifyComplete();
+
+        verify(jpaRepository, never()).findByProductIdAndStoreId(any(), any());
+    }
+
+}
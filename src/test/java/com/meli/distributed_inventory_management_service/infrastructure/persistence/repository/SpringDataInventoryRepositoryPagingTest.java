@@ -0,0 +1,77 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.repository;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.InventoryRepositorySliceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@DataR2dbcTest
+@Import(InventoryRepositorySliceConfig.class)
+@ActiveProfiles("test")
+class SpringDataInventoryRepositoryPagingTest {
+
+    private static final String STORE_A = "zz-page-store-a";
+    private static final String STORE_B = "zz-page-store-b";
+
+    @Autowired
+    private SpringDataInventoryRepository repository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        InventoryFixtures fixtures = new InventoryFixtures(databaseClient);
+        fixtures.deleteByStore(STORE_A, STORE_B);
+        fixtures.insert(
+                TestDataFactory.createInventoryEntity("page-4", "prod-b", STORE_B, 10, 0),
+                TestDataFactory.createInventoryEntity("page-1", "prod-a", STORE_A, 10, 0),
+                TestDataFactory.createInventoryEntity("page-3", "prod-a", STORE_B, 10, 0),
+                TestDataFactory.createInventoryEntity("page-2", "prod-b", STORE_A, 10, 0));
+    }
+
+    @Test
+    @DisplayName("Should walk all items in store, product and ID order page by page")
+    void shouldPageAllItems() {
+        // Act
+        Flux<InventoryItem> firstPage = repository.findPage(null, null, PageCursor.of("zz-page", "", ""), 3);
+        Flux<InventoryItem> secondPage = repository.findPage(null, null,
+                PageCursor.of(STORE_B, "prod-a", "page-3"), 3);
+
+        // Assert
+        StepVerifier.create(firstPage.map(InventoryItem::getId))
+                .expectNext("page-1", "page-2", "page-3")
+                .verifyComplete();
+        StepVerifier.create(secondPage.map(InventoryItem::getId))
+                .expectNext("page-4")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should page within one store or one product after a cursor")
+    void shouldPageWithFilters() {
+        // Act
+        Flux<InventoryItem> storePage = repository.findPage(STORE_A, null,
+                PageCursor.of(STORE_A, "prod-a", "page-1"), 10);
+        Flux<InventoryItem> productPage = repository.findPage(null, "prod-b",
+                PageCursor.of(STORE_A, "prod-b", "page-2"), 10);
+
+        // Assert
+        StepVerifier.create(storePage.map(InventoryItem::getId))
+                .expectNext("page-2")
+                .verifyComplete();
+        StepVerifier.create(productPage.map(InventoryItem::getId))
+                .expectNext("page-4")
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.meli.distributed_inventory_management_service.infrastructure.persistence.repository;
+
+import com.meli.distributed_inventory_management_service.domain.model.InventoryItem;
+import com.meli.distributed_inventory_management_service.infrastructure.config.database.InventoryRepositorySliceConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataR2dbcTest
+@Import({InventoryRepositorySliceConfig.class, SpringDataInventoryRepositoryVersionCheckTest.MeterRegistryConfig.class})
+@ActiveProfiles("test")
+class SpringDataInventoryRepositoryVersionCheckTest {
+
+    private static final String ITEM_ID = "version-check-1";
+    private static final String STORE_ID = "version-check-store";
+    private static final String METRIC_NAME = "inventory.repository.versioned.writes";
+
+    @Autowired
+    private SpringDataInventoryRepository repository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        InventoryFixtures fixtures = new InventoryFixtures(databaseClient);
+        fixtures.deleteByStore(STORE_ID);
+        fixtures.insert(TestDataFactory.createInventoryEntity(ITEM_ID, "prod-version-check", STORE_ID, 10, 0));
+    }
+
+    @Test
+    @DisplayName("Should count a row written by a version-checked update")
+    void shouldCountUpdatedRow() {
+        // Arrange
+        double updatedBefore = count("updated");
+
+        // Act
+        Mono<InventoryItem> result = repository.updateWithVersionCheckNative(itemWithStock(12), 1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextCount(1)
+                .verifyComplete();
+        assertEquals(updatedBefore + 1, count("updated"));
+    }
+
+    @Test
+    @DisplayName("Should count a row rejected by the version guard")
+    void shouldCountRejectedRow() {
+        // Arrange
+        double rejectedBefore = count("rejected");
+
+        // Act
+        Mono<InventoryItem> result = repository.updateWithVersionCheckNative(itemWithStock(12), 7L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+        assertEquals(rejectedBefore + 1, count("rejected"));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(METRIC_NAME).tags("statement", "single", "result", result).counter().count();
+    }
+
+    private static InventoryItem itemWithStock(int currentStock) {
+        return InventoryItem.builder()
+                .id(ITEM_ID)
+                .productId("prod-version-check")
+                .storeId(STORE_ID)
+                .currentStock(currentStock)
+                .reservedStock(0)
+                .minimumStockLevel(0)
+                .maximumStockLevel(100)
+                .lastUpdated(LocalDateTime.now())
+                .version(1L)
+                .build();
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+}
@@ -46,4 +46,21 @@ public class TestDataFactory {
                 .build();
     }
 
+    public static InventoryEntity createInventoryEntity(String id, String productId, String storeId,
+                                                        Integer currentStock, Integer reservedStock) {
+        return InventoryEntity.builder()
+                .id(id)
+                .productId(productId)
+                .storeId(storeId)
+                .currentStock(currentStock)
+                .reservedStock(reservedStock)
+                .minimumStockLevel(5)
+                .maximumStockLevel(200)
+                .lastUpdated(LocalDateTime.now())
+                .version(TEST_VERSION)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
 }
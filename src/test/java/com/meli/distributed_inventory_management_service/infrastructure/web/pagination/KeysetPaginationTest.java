@@ -0,0 +1,106 @@
+package com.meli.distributed_inventory_management_service.infrastructure.web.pagination;
+
+import com.meli.distributed_inventory_management_service.domain.model.PageCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetPaginationTest {
+
+    private static final int DEFAULT_LIMIT = 3;
+    private static final int MAX_LIMIT = 5;
+    private static final List<String> ROWS = IntStream.range(0, 10).mapToObj(i -> "row-" + i).toList();
+
+    private KeysetPagination keysetPagination;
+    private List<Integer> requestedLimits;
+    private List<PageCursor> requestedCursors;
+
+    @BeforeEach
+    void setUp() {
+        keysetPagination = new KeysetPagination(DEFAULT_LIMIT, MAX_LIMIT);
+        requestedLimits = new ArrayList<>();
+        requestedCursors = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Should return a full page with the cursor of its last row when more rows exist")
+    void shouldReturnNextCursorWhenMoreRowsExist() {
+        // Act & Assert
+        StepVerifier.create(keysetPagination.page(null, null, this::query, KeysetPaginationTest::positionOf))
+                .assertNext(response -> {
+                    assertEquals(List.of("row-0", "row-1", "row-2"), response.getBody());
+                    assertEquals(positionOf("row-2").encode(),
+                            response.getHeaders().getFirst(KeysetPagination.NEXT_CURSOR_HEADER));
+                })
+                .verifyComplete();
+        assertEquals(List.of(DEFAULT_LIMIT + 1), requestedLimits);
+    }
+
+    @Test
+    @DisplayName("Should omit the cursor on the last page and pass the decoded cursor to the query")
+    void shouldOmitCursorOnLastPage() {
+        // Arrange
+        String after = positionOf("row-7").encode();
+
+        // Act & Assert
+        StepVerifier.create(keysetPagination.page(MAX_LIMIT, after, this::query, KeysetPaginationTest::positionOf))
+                .assertNext(response -> {
+                    assertEquals(List.of("row-8", "row-9"), response.getBody());
+                    assertNull(response.getHeaders().getFirst(KeysetPagination.NEXT_CURSOR_HEADER));
+                })
+                .verifyComplete();
+        assertEquals(List.of(positionOf("row-7")), requestedCursors);
+    }
+
+    @Test
+    @DisplayName("Should cap the page size at the maximum")
+    void shouldCapLimit() {
+        // Act
+        keysetPagination.page(MAX_LIMIT * 100, null, this::query, KeysetPaginationTest::positionOf).block();
+
+        // Assert
+        assertEquals(List.of(MAX_LIMIT + 1), requestedLimits);
+    }
+
+    @Test
+    @DisplayName("Should answer bad request for a non-positive limit or a malformed cursor")
+    void shouldRejectInvalidParameters() {
+        // Act & Assert
+        StepVerifier.create(keysetPagination.page(0, null, this::query, KeysetPaginationTest::positionOf))
+                .expectErrorSatisfies(error -> assertBadRequest(error))
+                .verify();
+        StepVerifier.create(keysetPagination.page(null, "%%%", this::query, KeysetPaginationTest::positionOf))
+                .expectErrorSatisfies(error -> assertBadRequest(error))
+                .verify();
+    }
+
+    private Flux<String> query(PageCursor after, int limit) {
+        requestedCursors.add(after);
+        requestedLimits.add(limit);
+        return Flux.fromIterable(ROWS)
+                .filter(row -> after == null || positionOf(row).compareTo(after) > 0)
+                .take(limit);
+    }
+
+    private static PageCursor positionOf(String row) {
+        return PageCursor.of("store", "product", row);
+    }
+
+    private static void assertBadRequest(Throwable error) {
+        assertTrue(error instanceof ResponseStatusException);
+        assertEquals(HttpStatus.BAD_REQUEST, ((ResponseStatusException) error).getStatusCode());
+    }
+
+}